@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the hot paths of {@link ArrayUtils}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArrayUtilsBenchmark {
+
+    @Param({"16", "1024"})
+    private int size;
+
+    private int[] ints;
+    private int[] moreInts;
+    private int[] toRemove;
+    private Integer[] boxed;
+    private String[] strings;
+    private String[] moreStrings;
+    private String[] stringsToRemove;
+
+    @Setup
+    public void setup() {
+        ints = new int[size];
+        moreInts = new int[size];
+        boxed = new Integer[size];
+        strings = new String[size];
+        moreStrings = new String[size];
+        for (int i = 0; i < size; i++) {
+            ints[i] = i;
+            moreInts[i] = size + i;
+            boxed[i] = Integer.valueOf(i);
+            strings[i] = String.valueOf(i);
+            moreStrings[i] = String.valueOf(size + i);
+        }
+        toRemove = new int[size / 4];
+        stringsToRemove = new String[size / 4];
+        for (int i = 0; i < toRemove.length; i++) {
+            toRemove[i] = i * 4;
+            stringsToRemove[i] = String.valueOf(i * 4);
+        }
+    }
+
+    @Benchmark
+    public int[] addAllInts() {
+        return ArrayUtils.addAll(ints, moreInts);
+    }
+
+    @Benchmark
+    public String[] addAllObjects() {
+        return ArrayUtils.addAll(strings, moreStrings);
+    }
+
+    @Benchmark
+    public int[] removeElementsInts() {
+        return ArrayUtils.removeElements(ints, toRemove);
+    }
+
+    @Benchmark
+    public String[] removeElementsObjects() {
+        return ArrayUtils.removeElements(strings, stringsToRemove);
+    }
+
+    @Benchmark
+    public int[] toPrimitive() {
+        return ArrayUtils.toPrimitive(boxed);
+    }
+
+    @Benchmark
+    public Integer[] toObject() {
+        return ArrayUtils.toObject(ints);
+    }
+}
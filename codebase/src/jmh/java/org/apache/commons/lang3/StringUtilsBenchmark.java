@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the hot paths of {@link StringUtils}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StringUtilsBenchmark {
+
+    @Param({"16", "1024"})
+    private int size;
+
+    private String text;
+    private String csv;
+    private Object[] tokens;
+    private String[] searchList;
+    private String[] replacementList;
+    private String[] needles;
+
+    @Setup
+    public void setup() {
+        final StringBuilder sb = new StringBuilder();
+        final StringBuilder csvBuilder = new StringBuilder();
+        tokens = new Object[size];
+        for (int i = 0; i < size; i++) {
+            final String word = "word" + i;
+            tokens[i] = word;
+            sb.append(word).append(' ');
+            if (i > 0) {
+                csvBuilder.append(',');
+            }
+            csvBuilder.append(word);
+        }
+        text = sb.toString();
+        csv = csvBuilder.toString();
+        searchList = new String[] {"word1", "word2", "word3", "word4", "word5"};
+        replacementList = new String[] {"one", "two", "three", "four", "five"};
+        needles = new String[] {"absent", "missing", "nowhere", "word" + (size - 1)};
+    }
+
+    @Benchmark
+    public String[] split() {
+        return StringUtils.split(csv, ',');
+    }
+
+    @Benchmark
+    public String[] splitSeparatorChars() {
+        return StringUtils.split(text, " ,");
+    }
+
+    @Benchmark
+    public String join() {
+        return StringUtils.join(tokens, ',');
+    }
+
+    @Benchmark
+    public String joinString() {
+        return StringUtils.join(tokens, ", ");
+    }
+
+    @Benchmark
+    public String replaceEach() {
+        return StringUtils.replaceEach(text, searchList, replacementList);
+    }
+
+    @Benchmark
+    public int indexOfAnyChars() {
+        return StringUtils.indexOfAny(text, '!', '?', ';');
+    }
+
+    @Benchmark
+    public int indexOfAnyStrings() {
+        return StringUtils.indexOfAny(text, needles);
+    }
+
+    @Benchmark
+    public int lastIndexOfAnyStrings() {
+        return StringUtils.lastIndexOfAny(text, needles);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.text.translate;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.StringEscapeUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the {@link CharSequenceTranslator}s published by
+ * {@link StringEscapeUtils}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StringEscapeBenchmark {
+
+    /** Percentage of characters in the input that need escaping. */
+    @Param({"0", "5", "50"})
+    private int escapePercent;
+
+    @Param({"4096"})
+    private int size;
+
+    private String plain;
+    private String html;
+    private String xml;
+    private String java;
+
+    @Setup
+    public void setup() {
+        final String special = "<>&\"'\u00e9\n\\";
+        final StringBuilder sb = new StringBuilder(size);
+        for (int i = 0; i < size; i++) {
+            if (i % 100 < escapePercent) {
+                sb.append(special.charAt(i % special.length()));
+            } else {
+                sb.append((char) ('a' + i % 26));
+            }
+        }
+        plain = sb.toString();
+        html = StringEscapeUtils.ESCAPE_HTML4.translate(plain);
+        xml = StringEscapeUtils.ESCAPE_XML.translate(plain);
+        java = StringEscapeUtils.ESCAPE_JAVA.translate(plain);
+    }
+
+    @Benchmark
+    public String escapeHtml4() {
+        return StringEscapeUtils.ESCAPE_HTML4.translate(plain);
+    }
+
+    @Benchmark
+    public String unescapeHtml4() {
+        return StringEscapeUtils.UNESCAPE_HTML4.translate(html);
+    }
+
+    @Benchmark
+    public String escapeXml() {
+        return StringEscapeUtils.ESCAPE_XML.translate(plain);
+    }
+
+    @Benchmark
+    public String unescapeXml() {
+        return StringEscapeUtils.UNESCAPE_XML.translate(xml);
+    }
+
+    @Benchmark
+    public String escapeJava() {
+        return StringEscapeUtils.ESCAPE_JAVA.translate(plain);
+    }
+
+    @Benchmark
+    public String unescapeJava() {
+        return StringEscapeUtils.UNESCAPE_JAVA.translate(java);
+    }
+
+    @Benchmark
+    public String escapeJson() {
+        return StringEscapeUtils.ESCAPE_JSON.translate(plain);
+    }
+
+    @Benchmark
+    public String escapeCsv() {
+        return StringEscapeUtils.ESCAPE_CSV.translate(plain);
+    }
+}
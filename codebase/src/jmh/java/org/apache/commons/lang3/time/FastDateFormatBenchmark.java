@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.time;
+
+import java.text.ParseException;
+import java.text.ParsePosition;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link FastDatePrinter#format(long)},
+ * {@link FastDateParser#parse(String)} and
+ * {@link FastDateParser#parseMillis(CharSequence, int, int)}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FastDateFormatBenchmark {
+
+    @Param({"yyyy-MM-dd'T'HH:mm:ss.SSSZ", "dd/MMM/yyyy:HH:mm:ss Z", "EEE, dd MMM yyyy HH:mm:ss zzz"})
+    private String pattern;
+
+    private FastDatePrinter printer;
+    private FastDatePrinter secondCachingPrinter;
+    private FastDateParser parser;
+    private long millis;
+    private Date date;
+    private String formatted;
+    private StringBuilder builder;
+    private char[] chars;
+
+    @Setup
+    public void setup() {
+        final TimeZone timeZone = TimeZone.getTimeZone("America/New_York");
+        printer = new FastDatePrinter(pattern, timeZone, Locale.US);
+        secondCachingPrinter = new FastDatePrinter(pattern, timeZone, Locale.US, true);
+        parser = new FastDateParser(pattern, timeZone, Locale.US);
+        millis = 1364819302123L;
+        date = new Date(millis);
+        formatted = printer.format(millis);
+        builder = new StringBuilder(printer.getMaxLengthEstimate());
+        chars = new char[printer.getMaxLengthEstimate() + 16];
+    }
+
+    @Benchmark
+    public String formatMillis() {
+        return printer.format(millis);
+    }
+
+    @Benchmark
+    public String formatDate() {
+        return printer.format(date);
+    }
+
+    @Benchmark
+    public StringBuffer formatToBuffer() {
+        return printer.format(millis, new StringBuffer(printer.getMaxLengthEstimate()));
+    }
+
+    @Benchmark
+    public StringBuilder formatToBuilder() {
+        builder.setLength(0);
+        return printer.format(millis, builder);
+    }
+
+    @Benchmark
+    public int formatToArray() {
+        return printer.format(millis, chars, 0);
+    }
+
+    @Benchmark
+    public int formatToArraySecondCached() {
+        // moves through the same second most of the time, as a log would
+        millis++;
+        return secondCachingPrinter.format(millis, chars, 0);
+    }
+
+    @Benchmark
+    public Date parse() throws ParseException {
+        return parser.parse(formatted);
+    }
+
+    @Benchmark
+    public Date parsePosition() {
+        return parser.parse(formatted, new ParsePosition(0));
+    }
+
+    @Benchmark
+    public long parseMillis() throws ParseException {
+        return parser.parseMillis(formatted, 0, formatted.length());
+    }
+}
@@ -16,14 +16,20 @@
  */
 package org.apache.commons.lang3;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 
 /**
@@ -37,6 +43,16 @@ import java.util.Map;
  * non-canonical method variants work with the JVM names, such as
  * {@code [I}. </p>
  *
+ * <p>The names and the superclasses and interfaces of each class are computed
+ * once and remembered. Those of classes loaded by the class loader of this
+ * library, or by a class loader delegating to it, are remembered in a
+ * {@link ClassValue}; those of the classes of the bootstrap class loader, which
+ * are never unloaded, in a map. The metadata of other classes is not remembered,
+ * as holding it in their {@code ClassValue} would keep the class loader of this
+ * library from being garbage collected. The classes found by
+ * {@link #getClass(ClassLoader, String, boolean)} are remembered for each class
+ * loader, both weakly referenced.</p>
+ *
  * @since 2.0
  * @version $Id$
  */
@@ -101,6 +117,46 @@ public class ClassUtils {
      */
     private static final Map<String, String> reverseAbbreviationMap = new HashMap<String, String>();
 
+    /**
+     * The class loader of this library.
+     */
+    private static final ClassLoader LIBRARY_LOADER = ClassUtils.class.getClassLoader();
+
+    /**
+     * The metadata of each class whose class loader is, or delegates to, the class loader
+     * of this library, computed on first use.
+     */
+    private static final ClassValue<ClassMetadata> METADATA = new ClassValue<ClassMetadata>() {
+        @Override
+        protected ClassMetadata computeValue(final Class<?> type) {
+            return new ClassMetadata(type);
+        }
+    };
+
+    /**
+     * The metadata of the classes of the bootstrap class loader, computed on first use.
+     */
+    private static final ConcurrentMap<Class<?>, ClassMetadata> BOOTSTRAP_METADATA =
+        new ConcurrentHashMap<Class<?>, ClassMetadata>();
+
+    /**
+     * The classes found by {@link #getClass(ClassLoader, String, boolean)}, by class loader and name.
+     * The class loaders are weakly referenced, and so are the classes, as each of them refers to its
+     * class loader.
+     */
+    private static final ConcurrentMap<LoaderKey, ClassNames> RESOLVED_CLASSES =
+        new ConcurrentHashMap<LoaderKey, ClassNames>();
+
+    /**
+     * The keys of {@link #RESOLVED_CLASSES} whose class loader has been garbage collected.
+     */
+    private static final ReferenceQueue<ClassLoader> COLLECTED_LOADERS = new ReferenceQueue<ClassLoader>();
+
+    /**
+     * The classes found by {@link #getClass(ClassLoader, String, boolean)} with the bootstrap class loader.
+     */
+    private static final ClassNames BOOTSTRAP_CLASSES = new ClassNames();
+
     /**
      * Add primitive type abbreviation to maps of abbreviations.
      *
@@ -168,7 +224,7 @@ public class ClassUtils {
         if (cls == null) {
             return StringUtils.EMPTY;
         }
-        return getShortClassName(cls.getName());
+        return metadata(cls).getShortClassName();
     }
 
     /**
@@ -273,7 +329,7 @@ public class ClassUtils {
         if (cls == null) {
             return StringUtils.EMPTY;
         }
-        return getPackageName(cls.getName());
+        return metadata(cls).getPackageName();
     }
 
     /**
@@ -319,13 +375,7 @@ public class ClassUtils {
         if (cls == null) {
             return null;
         }
-        final List<Class<?>> classes = new ArrayList<Class<?>>();
-        Class<?> superclass = cls.getSuperclass();
-        while (superclass != null) {
-            classes.add(superclass);
-            superclass = superclass.getSuperclass();
-        }
-        return classes;
+        return new ArrayList<Class<?>>(metadata(cls).getAllSuperclasses());
     }
 
     /**
@@ -345,11 +395,7 @@ public class ClassUtils {
         if (cls == null) {
             return null;
         }
-
-        final LinkedHashSet<Class<?>> interfacesFound = new LinkedHashSet<Class<?>>();
-        getAllInterfaces(cls, interfacesFound);
-
-        return new ArrayList<Class<?>>(interfacesFound);
+        return new ArrayList<Class<?>>(metadata(cls).getAllInterfaces());
     }
 
     /**
@@ -811,6 +857,48 @@ public class ClassUtils {
      */
     public static Class<?> getClass(
             final ClassLoader classLoader, final String className, final boolean initialize) throws ClassNotFoundException {
+        ClassNames names = classLoader == null ? BOOTSTRAP_CLASSES
+                : RESOLVED_CLASSES.get(new LoaderKey(classLoader, null));
+        if (names == null) {
+            names = addClassNames(classLoader);
+        }
+        Class<?> clazz = names.get(className, initialize);
+        if (clazz == null) {
+            clazz = findClass(classLoader, className, initialize);
+            names.put(className, clazz, initialize);
+        }
+        return clazz;
+    }
+
+    /**
+     * Adds the cache of classes found with a class loader, forgetting those of
+     * class loaders that have been garbage collected.
+     *
+     * @param classLoader  the class loader, not null
+     * @return the cache of the class loader, not null
+     */
+    private static ClassNames addClassNames(final ClassLoader classLoader) {
+        Reference<? extends ClassLoader> collected;
+        while ((collected = COLLECTED_LOADERS.poll()) != null) {
+            RESOLVED_CLASSES.remove(collected);
+        }
+        final ClassNames names = new ClassNames();
+        final ClassNames existing = RESOLVED_CLASSES.putIfAbsent(new LoaderKey(classLoader, COLLECTED_LOADERS), names);
+        return existing == null ? names : existing;
+    }
+
+    /**
+     * Loads the class that {@link #getClass(ClassLoader, String, boolean)} returns,
+     * without using the cache.
+     *
+     * @param classLoader  the class loader to use to load the class
+     * @param className  the class name
+     * @param initialize  whether the class must be initialized
+     * @return the class represented by {@code className} using the {@code classLoader}
+     * @throws ClassNotFoundException if the class is not found
+     */
+    private static Class<?> findClass(
+            final ClassLoader classLoader, final String className, final boolean initialize) throws ClassNotFoundException {
         try {
             Class<?> clazz;
             if (abbreviationMap.containsKey(className)) {
@@ -826,7 +914,7 @@ public class ClassUtils {
 
             if (lastDotIndex != -1) {
                 try {
-                    return getClass(classLoader, className.substring(0, lastDotIndex) +
+                    return findClass(classLoader, className.substring(0, lastDotIndex) +
                             INNER_CLASS_SEPARATOR_CHAR + className.substring(lastDotIndex + 1),
                             initialize);
                 } catch (final ClassNotFoundException ex2) { // NOPMD
@@ -1005,7 +1093,7 @@ public class ClassUtils {
         if (object == null) {
             return valueIfNull;
         }
-        return getShortCanonicalName(object.getClass().getName());
+        return getShortCanonicalName(object.getClass());
     }
 
     /**
@@ -1019,7 +1107,7 @@ public class ClassUtils {
         if (cls == null) {
             return StringUtils.EMPTY;
         }
-        return getShortCanonicalName(cls.getName());
+        return metadata(cls).getShortCanonicalName();
     }
 
     /**
@@ -1049,7 +1137,7 @@ public class ClassUtils {
         if (object == null) {
             return valueIfNull;
         }
-        return getPackageCanonicalName(object.getClass().getName());
+        return getPackageCanonicalName(object.getClass());
     }
 
     /**
@@ -1063,7 +1151,7 @@ public class ClassUtils {
         if (cls == null) {
             return StringUtils.EMPTY;
         }
-        return getPackageCanonicalName(cls.getName());
+        return metadata(cls).getPackageCanonicalName();
     }
 
     /**
@@ -1129,4 +1217,207 @@ public class ClassUtils {
         }
     }
 
+    // Caches
+    // ----------------------------------------------------------------------
+    /**
+     * <p>Gets the metadata of a class, remembered if that does not keep the
+     * class loader of this library from being garbage collected.</p>
+     *
+     * @param cls  the class, not null
+     * @return the metadata, not null
+     */
+    private static ClassMetadata metadata(final Class<?> cls) {
+        final ClassLoader loader = cls.getClassLoader();
+        if (loader == LIBRARY_LOADER || delegatesToLibrary(loader)) {
+            return METADATA.get(cls);
+        }
+        if (loader == null) {
+            ClassMetadata metadata = BOOTSTRAP_METADATA.get(cls);
+            if (metadata == null) {
+                metadata = new ClassMetadata(cls);
+                final ClassMetadata existing = BOOTSTRAP_METADATA.putIfAbsent(cls, metadata);
+                if (existing != null) {
+                    metadata = existing;
+                }
+            }
+            return metadata;
+        }
+        return new ClassMetadata(cls);
+    }
+
+    /**
+     * <p>Checks whether a class loader has the class loader of this library
+     * as an ancestor, so that its classes cannot outlive this library.</p>
+     *
+     * @param loader  the class loader, null for the bootstrap class loader
+     * @return true if the class loader delegates to this library's
+     */
+    private static boolean delegatesToLibrary(final ClassLoader loader) {
+        if (LIBRARY_LOADER == null) {
+            // loaded by the bootstrap class loader, which is never collected
+            return true;
+        }
+        try {
+            for (ClassLoader parent = loader; parent != null; parent = parent.getParent()) {
+                if (parent == LIBRARY_LOADER) {
+                    return true;
+                }
+            }
+        } catch (final SecurityException ex) { // NOPMD
+            // not allowed to find out, so do not remember
+        }
+        return false;
+    }
+
+    /**
+     * <p>The names and hierarchy of a class, each computed on first use.</p>
+     */
+    private static final class ClassMetadata {
+        private final Class<?> cls;
+        private volatile String shortClassName;
+        private volatile String packageName;
+        private volatile String shortCanonicalName;
+        private volatile String packageCanonicalName;
+        private volatile List<Class<?>> allSuperclasses;
+        private volatile List<Class<?>> allInterfaces;
+
+        ClassMetadata(final Class<?> cls) {
+            this.cls = cls;
+        }
+
+        String getShortClassName() {
+            String result = shortClassName;
+            if (result == null) {
+                result = ClassUtils.getShortClassName(cls.getName());
+                shortClassName = result;
+            }
+            return result;
+        }
+
+        String getPackageName() {
+            String result = packageName;
+            if (result == null) {
+                result = ClassUtils.getPackageName(cls.getName());
+                packageName = result;
+            }
+            return result;
+        }
+
+        String getShortCanonicalName() {
+            String result = shortCanonicalName;
+            if (result == null) {
+                result = ClassUtils.getShortCanonicalName(cls.getName());
+                shortCanonicalName = result;
+            }
+            return result;
+        }
+
+        String getPackageCanonicalName() {
+            String result = packageCanonicalName;
+            if (result == null) {
+                result = ClassUtils.getPackageCanonicalName(cls.getName());
+                packageCanonicalName = result;
+            }
+            return result;
+        }
+
+        /**
+         * @return the superclasses going up from the class, unmodifiable
+         */
+        List<Class<?>> getAllSuperclasses() {
+            List<Class<?>> result = allSuperclasses;
+            if (result == null) {
+                final List<Class<?>> classes = new ArrayList<Class<?>>();
+                Class<?> superclass = cls.getSuperclass();
+                while (superclass != null) {
+                    classes.add(superclass);
+                    superclass = superclass.getSuperclass();
+                }
+                result = Collections.unmodifiableList(classes);
+                allSuperclasses = result;
+            }
+            return result;
+        }
+
+        /**
+         * @return the interfaces in the order described by {@link ClassUtils#getAllInterfaces(Class)}, unmodifiable
+         */
+        List<Class<?>> getAllInterfaces() {
+            List<Class<?>> result = allInterfaces;
+            if (result == null) {
+                final LinkedHashSet<Class<?>> interfacesFound = new LinkedHashSet<Class<?>>();
+                ClassUtils.getAllInterfaces(cls, interfacesFound);
+                result = Collections.unmodifiableList(new ArrayList<Class<?>>(interfacesFound));
+                allInterfaces = result;
+            }
+            return result;
+        }
+    }
+
+    /**
+     * <p>The classes found by name through one class loader.</p>
+     */
+    private static final class ClassNames {
+        private final ConcurrentMap<String, Reference<Class<?>>> loaded =
+            new ConcurrentHashMap<String, Reference<Class<?>>>();
+        private final ConcurrentMap<String, Reference<Class<?>>> initialized =
+            new ConcurrentHashMap<String, Reference<Class<?>>>();
+
+        /**
+         * @param className  the name the class was requested by
+         * @param initialize  whether the class must have been initialized
+         * @return the class, null if it has not been found before
+         */
+        Class<?> get(final String className, final boolean initialize) {
+            Reference<Class<?>> ref = initialized.get(className);
+            if (ref == null && !initialize) {
+                ref = loaded.get(className);
+            }
+            return ref == null ? null : ref.get();
+        }
+
+        /**
+         * @param className  the name the class was requested by
+         * @param clazz  the class found
+         * @param initialize  whether the class has been initialized
+         */
+        void put(final String className, final Class<?> clazz, final boolean initialize) {
+            (initialize ? initialized : loaded).put(className, new WeakReference<Class<?>>(clazz));
+        }
+    }
+
+    /**
+     * <p>A weak reference to a class loader, comparing by identity, used as the
+     * key of the classes found through it.</p>
+     */
+    private static final class LoaderKey extends WeakReference<ClassLoader> {
+        private final int hashCode;
+
+        /**
+         * @param loader  the class loader, not null
+         * @param queue  the queue to enqueue the key on once the class loader is collected, null for none
+         */
+        LoaderKey(final ClassLoader loader, final ReferenceQueue<ClassLoader> queue) {
+            super(loader, queue);
+            this.hashCode = System.identityHashCode(loader);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof LoaderKey)) {
+                return false;
+            }
+            final ClassLoader loader = get();
+            return loader != null && loader == ((LoaderKey) obj).get();
+        }
+    }
+
 }
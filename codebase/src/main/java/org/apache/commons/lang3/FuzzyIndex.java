@@ -0,0 +1,624 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * <p>An index of strings for finding those close to a query by Levenshtein distance.</p>
+ *
+ * <p>The entries are held in a BK-tree: each entry below the root is placed
+ * under a parent according to its distance from it, so that a search can
+ * use the triangle inequality to skip every subtree that cannot hold a close
+ * enough entry. Distances are computed by
+ * {@link StringUtils#getLevenshteinDistance(CharSequence, CharSequence, int)},
+ * with a threshold so that distant entries are rejected early.</p>
+ *
+ * <pre>
+ * FuzzyIndex index = new FuzzyIndex(productNames);
+ * List&lt;FuzzyIndex.Match&gt; typos = index.findWithin("blue widgit", 2);
+ * List&lt;FuzzyIndex.Match&gt; closest = index.findNearest("blue widgit", 5);
+ * </pre>
+ *
+ * <p>A large index can be built on a {@code ForkJoinPool}, the subtrees
+ * being built in parallel, and many queries can be answered in parallel.
+ * Instances are immutable and thread-safe, so they can also be queried from
+ * any number of threads directly.</p>
+ *
+ * @since 3.2
+ * @version $Id$
+ */
+public final class FuzzyIndex {
+
+    /**
+     * The number of entries from which a subtree is built as a separate task.
+     */
+    private static final int PARALLEL_BUILD_THRESHOLD = 4096;
+
+    /**
+     * The number of queries answered by each task of a parallel query.
+     */
+    private static final int QUERY_BATCH_SIZE = 64;
+
+    /**
+     * The entries, in depth first order, each subtree taking a contiguous range.
+     */
+    private final String[] entries;
+    /**
+     * The index after the subtree of each entry.
+     */
+    private final int[] end;
+    /**
+     * The distance of each entry from its parent, ascending among siblings.
+     */
+    private final int[] edge;
+    /**
+     * The largest distance of a child of each entry from it, 0 if none.
+     */
+    private final int[] reach;
+
+    /**
+     * <p>Builds an index of a collection of strings.</p>
+     *
+     * <p>{@code null} entries are ignored, and each distinct entry is held once.</p>
+     *
+     * @param entries  the strings to index, not null
+     * @throws IllegalArgumentException if the collection is {@code null}
+     */
+    public FuzzyIndex(final Collection<? extends CharSequence> entries) {
+        this(entries, null, false);
+    }
+
+    /**
+     * <p>Builds an index of a collection of strings on a {@code ForkJoinPool}.</p>
+     *
+     * <p>{@code null} entries are ignored, and each distinct entry is held once.
+     * The index is the same as the one built by {@link #FuzzyIndex(Collection)}.</p>
+     *
+     * @param entries  the strings to index, not null
+     * @param pool  the pool to build on, null for the common pool
+     * @throws IllegalArgumentException if the collection is {@code null}
+     */
+    public FuzzyIndex(final Collection<? extends CharSequence> entries, final ForkJoinPool pool) {
+        this(entries, pool, true);
+    }
+
+    /**
+     * Builds an index.
+     *
+     * @param entries  the strings to index
+     * @param pool  the pool to build on, null for the common pool
+     * @param parallel  whether to build on the pool
+     */
+    private FuzzyIndex(final Collection<? extends CharSequence> entries, final ForkJoinPool pool,
+            final boolean parallel) {
+        if (entries == null) {
+            throw new IllegalArgumentException("Entries must not be null");
+        }
+        final Set<String> distinct = new LinkedHashSet<String>();
+        for (final CharSequence entry : entries) {
+            if (entry != null) {
+                distinct.add(entry.toString());
+            }
+        }
+        final int size = distinct.size();
+        this.entries = distinct.toArray(new String[size]);
+        this.end = new int[size];
+        this.edge = new int[size];
+        this.reach = new int[size];
+        if (size == 0) {
+            return;
+        }
+        final Builder builder = new Builder(0, size);
+        if (parallel) {
+            (pool == null ? ForkJoinPool.commonPool() : pool).invoke(builder);
+        } else {
+            builder.buildAll();
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * <p>Gets the number of distinct entries.</p>
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return entries.length;
+    }
+
+    /**
+     * <p>Finds all entries within a distance of a query.</p>
+     *
+     * @param query  the string to look up, not null
+     * @param maxDistance  the largest distance of an entry to find, not negative
+     * @return the entries found, closest first and those equally close in
+     *  their natural order, not null
+     * @throws IllegalArgumentException if the query is {@code null} or the distance negative
+     */
+    public List<Match> findWithin(final CharSequence query, final int maxDistance) {
+        if (query == null) {
+            throw new IllegalArgumentException("Query must not be null");
+        }
+        if (maxDistance < 0) {
+            throw new IllegalArgumentException("Distance must not be negative");
+        }
+        final List<Match> matches = new ArrayList<Match>();
+        if (entries.length == 0) {
+            return matches;
+        }
+        int[] stack = new int[16];
+        int top = 0;
+        stack[top++] = 0;
+        while (top > 0) {
+            final int node = stack[--top];
+            // beyond this, neither the entry nor any child can be within the distance
+            final int d = StringUtils.getLevenshteinDistance(query, entries[node], add(maxDistance, reach[node]));
+            if (d < 0) {
+                continue;
+            }
+            if (d <= maxDistance) {
+                matches.add(new Match(entries[node], d));
+            }
+            for (int child = node + 1; child < end[node]; child = end[child]) {
+                final int e = edge[child];
+                if (e < d - maxDistance) {
+                    continue;
+                }
+                if (e > d + maxDistance) {
+                    break;
+                }
+                if (top == stack.length) {
+                    stack = Arrays.copyOf(stack, top * 2);
+                }
+                stack[top++] = child;
+            }
+        }
+        Collections.sort(matches);
+        return matches;
+    }
+
+    /**
+     * <p>Finds the entries nearest to a query.</p>
+     *
+     * <p>Of entries equally near, those first in their natural order are found.</p>
+     *
+     * @param query  the string to look up, not null
+     * @param count  the largest number of entries to find, not negative
+     * @return the entries found, nearest first and those equally near in
+     *  their natural order, fewer than {@code count} only if the index is smaller, not null
+     * @throws IllegalArgumentException if the query is {@code null} or the count negative
+     */
+    public List<Match> findNearest(final CharSequence query, final int count) {
+        if (query == null) {
+            throw new IllegalArgumentException("Query must not be null");
+        }
+        if (count < 0) {
+            throw new IllegalArgumentException("Count must not be negative");
+        }
+        if (count == 0 || entries.length == 0) {
+            return new ArrayList<Match>();
+        }
+        // the worst of the best found so far is at the head
+        final PriorityQueue<Match> best = new PriorityQueue<Match>(Math.min(count, entries.length) + 1,
+                Collections.<Match>reverseOrder());
+        // pairs of an entry and the distance of its parent
+        int[] stack = new int[32];
+        int top = 0;
+        stack[top++] = 0;
+        stack[top++] = 0;
+        while (top > 0) {
+            final int parentDistance = stack[--top];
+            final int node = stack[--top];
+            int radius = best.size() < count ? Integer.MAX_VALUE : best.peek().getDistance();
+            if (node != 0 && Math.abs(edge[node] - parentDistance) > radius) {
+                // the radius shrank since the entry was pushed
+                continue;
+            }
+            final int d = StringUtils.getLevenshteinDistance(query, entries[node], add(radius, reach[node]));
+            if (d < 0) {
+                continue;
+            }
+            if (d <= radius) {
+                best.add(new Match(entries[node], d));
+                if (best.size() > count) {
+                    best.poll();
+                }
+                radius = best.size() < count ? Integer.MAX_VALUE : best.peek().getDistance();
+            }
+            for (int child = node + 1; child < end[node]; child = end[child]) {
+                final int e = edge[child];
+                if (e < d - radius) {
+                    continue;
+                }
+                if (e > add(d, radius)) {
+                    break;
+                }
+                if (top + 2 > stack.length) {
+                    stack = Arrays.copyOf(stack, stack.length * 2);
+                }
+                stack[top++] = child;
+                stack[top++] = d;
+            }
+        }
+        final List<Match> matches = new ArrayList<Match>(best);
+        Collections.sort(matches);
+        return matches;
+    }
+
+    /**
+     * <p>Finds all entries within a distance of each of several queries,
+     * answering the queries in parallel.</p>
+     *
+     * @param queries  the strings to look up, not null, with no null elements
+     * @param maxDistance  the largest distance of an entry to find, not negative
+     * @param pool  the pool to run on, null for the common pool
+     * @return the entries found for each query, in the order of the queries, as by
+     *  {@link #findWithin(CharSequence, int)}
+     * @throws IllegalArgumentException if the queries or any query are {@code null},
+     *  or the distance negative
+     */
+    public List<List<Match>> findWithin(final List<? extends CharSequence> queries, final int maxDistance,
+            final ForkJoinPool pool) {
+        validateQueries(queries);
+        if (maxDistance < 0) {
+            throw new IllegalArgumentException("Distance must not be negative");
+        }
+        return findAll(queries, pool, new QueryFunction() {
+            @Override
+            public List<Match> find(final CharSequence query) {
+                return findWithin(query, maxDistance);
+            }
+        });
+    }
+
+    /**
+     * <p>Finds the entries nearest to each of several queries, answering the
+     * queries in parallel.</p>
+     *
+     * @param queries  the strings to look up, not null, with no null elements
+     * @param count  the largest number of entries to find for each query, not negative
+     * @param pool  the pool to run on, null for the common pool
+     * @return the entries found for each query, in the order of the queries, as by
+     *  {@link #findNearest(CharSequence, int)}
+     * @throws IllegalArgumentException if the queries or any query are {@code null},
+     *  or the count negative
+     */
+    public List<List<Match>> findNearest(final List<? extends CharSequence> queries, final int count,
+            final ForkJoinPool pool) {
+        validateQueries(queries);
+        if (count < 0) {
+            throw new IllegalArgumentException("Count must not be negative");
+        }
+        return findAll(queries, pool, new QueryFunction() {
+            @Override
+            public List<Match> find(final CharSequence query) {
+                return findNearest(query, count);
+            }
+        });
+    }
+
+    /**
+     * Checks a list of queries.
+     *
+     * @param queries  the queries
+     * @throws IllegalArgumentException if the queries or any query are {@code null}
+     */
+    private static void validateQueries(final List<? extends CharSequence> queries) {
+        if (queries == null) {
+            throw new IllegalArgumentException("Queries must not be null");
+        }
+        for (final CharSequence query : queries) {
+            if (query == null) {
+                throw new IllegalArgumentException("Query must not be null");
+            }
+        }
+    }
+
+    /**
+     * Answers queries in batches on a pool.
+     *
+     * @param queries  the queries
+     * @param pool  the pool to run on, null for the common pool
+     * @param function  the lookup of one query
+     * @return the answers, in the order of the queries
+     */
+    private static List<List<Match>> findAll(final List<? extends CharSequence> queries, final ForkJoinPool pool,
+            final QueryFunction function) {
+        final ForkJoinPool p = pool == null ? ForkJoinPool.commonPool() : pool;
+        final int size = queries.size();
+        final List<ForkJoinTask<List<List<Match>>>> tasks = new ArrayList<ForkJoinTask<List<List<Match>>>>();
+        for (int from = 0; from < size; from += QUERY_BATCH_SIZE) {
+            final List<? extends CharSequence> batch = queries.subList(from, Math.min(size, from + QUERY_BATCH_SIZE));
+            tasks.add(p.submit(new Callable<List<List<Match>>>() {
+                @Override
+                public List<List<Match>> call() {
+                    final List<List<Match>> results = new ArrayList<List<Match>>(batch.size());
+                    for (final CharSequence query : batch) {
+                        results.add(function.find(query));
+                    }
+                    return results;
+                }
+            }));
+        }
+        final List<List<Match>> results = new ArrayList<List<Match>>(size);
+        for (final ForkJoinTask<List<List<Match>>> task : tasks) {
+            results.addAll(task.join());
+        }
+        return results;
+    }
+
+    /**
+     * Adds two distances, saturating rather than overflowing.
+     *
+     * @param a  the first distance, not negative
+     * @param b  the second distance, not negative
+     * @return the sum, at most {@code Integer.MAX_VALUE}
+     */
+    private static int add(final int a, final int b) {
+        final int sum = a + b;
+        return sum < 0 ? Integer.MAX_VALUE : sum;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * <p>An entry found by a query, with its distance from the query.</p>
+     *
+     * <p>Matches are ordered by distance, then by entry.</p>
+     *
+     * @since 3.2
+     */
+    public static final class Match implements Comparable<Match> {
+        /** The entry. */
+        private final String entry;
+        /** The distance from the query. */
+        private final int distance;
+
+        /**
+         * Constructs a match.
+         *
+         * @param entry  the entry
+         * @param distance  the distance from the query
+         */
+        Match(final String entry, final int distance) {
+            this.entry = entry;
+            this.distance = distance;
+        }
+
+        /**
+         * <p>Gets the entry found.</p>
+         *
+         * @return the entry, not null
+         */
+        public String getEntry() {
+            return entry;
+        }
+
+        /**
+         * <p>Gets the Levenshtein distance of the entry from the query.</p>
+         *
+         * @return the distance
+         */
+        public int getDistance() {
+            return distance;
+        }
+
+        /**
+         * <p>Compares by distance, then by entry.</p>
+         *
+         * @param other  the match to compare to, not null
+         * @return negative, zero or positive as this match is before, equal to or after the other
+         */
+        @Override
+        public int compareTo(final Match other) {
+            if (distance != other.distance) {
+                return distance < other.distance ? -1 : 1;
+            }
+            return entry.compareTo(other.entry);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof Match)) {
+                return false;
+            }
+            final Match other = (Match) obj;
+            return distance == other.distance && entry.equals(other.entry);
+        }
+
+        @Override
+        public int hashCode() {
+            return entry.hashCode() * 31 + distance;
+        }
+
+        @Override
+        public String toString() {
+            return entry + "(" + distance + ")";
+        }
+    }
+
+    /**
+     * A lookup of one query.
+     */
+    private interface QueryFunction {
+        /**
+         * Looks up a query.
+         *
+         * @param query  the query
+         * @return the matches
+         */
+        List<Match> find(CharSequence query);
+    }
+
+    /**
+     * Builds the subtrees of a range of the entries in place.
+     * <p>
+     * The first entry of a range is the root of its subtree. The others are
+     * sorted by their distance from it, so that each group at the same
+     * distance is a contiguous range holding the subtree of a child. Ranges
+     * are built from a work list rather than by recursion, as a tree of
+     * entries all at the same distance from each other is as deep as it is large.
+     */
+    private final class Builder extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        /** The start of the range. */
+        private final int from;
+        /** The end of the range. */
+        private final int to;
+
+        /**
+         * Creates a builder.
+         *
+         * @param from  the start of the range
+         * @param to  the end of the range
+         */
+        Builder(final int from, final int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Builds the range on the current pool, forking large subtrees.
+         */
+        @Override
+        protected void compute() {
+            final List<Builder> forked = new ArrayList<Builder>();
+            int[] work = {from, to};
+            int top = 2;
+            while (top > 0) {
+                final int rangeEnd = work[--top];
+                final int rangeStart = work[--top];
+                final int[] groups = buildRoot(rangeStart, rangeEnd);
+                for (int i = 0; i + 1 < groups.length; i++) {
+                    final int groupStart = groups[i];
+                    final int groupEnd = groups[i + 1];
+                    if (groupEnd - groupStart >= PARALLEL_BUILD_THRESHOLD) {
+                        final Builder child = new Builder(groupStart, groupEnd);
+                        child.fork();
+                        forked.add(child);
+                    } else if (groupEnd - groupStart > 1) {
+                        if (top + 2 > work.length) {
+                            work = Arrays.copyOf(work, work.length * 2);
+                        }
+                        work[top++] = groupStart;
+                        work[top++] = groupEnd;
+                    }
+                }
+            }
+            for (final Builder child : forked) {
+                child.join();
+            }
+        }
+
+        /**
+         * Builds the range on the current thread.
+         */
+        void buildAll() {
+            int[] work = {from, to};
+            int top = 2;
+            while (top > 0) {
+                final int rangeEnd = work[--top];
+                final int rangeStart = work[--top];
+                final int[] groups = buildRoot(rangeStart, rangeEnd);
+                for (int i = 0; i + 1 < groups.length; i++) {
+                    if (groups[i + 1] - groups[i] > 1) {
+                        if (top + 2 > work.length) {
+                            work = Arrays.copyOf(work, work.length * 2);
+                        }
+                        work[top++] = groups[i];
+                        work[top++] = groups[i + 1];
+                    }
+                }
+            }
+        }
+
+        /**
+         * Places the root of a range and sorts the other entries into the
+         * ranges of its children.
+         *
+         * @param start  the start of the range
+         * @param rangeEnd  the end of the range
+         * @return the starts of the children's ranges followed by the end of the range
+         */
+        private int[] buildRoot(final int start, final int rangeEnd) {
+            end[start] = rangeEnd;
+            final int size = rangeEnd - start - 1;
+            if (size == 0) {
+                return new int[] {rangeEnd};
+            }
+            final String root = entries[start];
+            final int[] distances = new int[size];
+            int maxDistance = 0;
+            for (int i = 0; i < size; i++) {
+                distances[i] = StringUtils.getLevenshteinDistance(root, entries[start + 1 + i]);
+                maxDistance = Math.max(maxDistance, distances[i]);
+            }
+            // counting sort by distance, keeping the order of equal entries
+            final int[] counts = new int[maxDistance + 2];
+            for (final int distance : distances) {
+                counts[distance + 1]++;
+            }
+            int groupCount = 0;
+            for (int d = 1; d < counts.length; d++) {
+                if (counts[d] > 0) {
+                    groupCount++;
+                }
+                counts[d] += counts[d - 1];
+            }
+            final String[] sorted = new String[size];
+            final int[] firsts = counts.clone();
+            for (int i = 0; i < size; i++) {
+                final int pos = counts[distances[i]]++;
+                sorted[pos] = entries[start + 1 + i];
+                edge[start + 1 + pos] = distances[i];
+            }
+            System.arraycopy(sorted, 0, entries, start + 1, size);
+            reach[start] = maxDistance;
+
+            final int[] groups = new int[groupCount + 1];
+            int g = 0;
+            for (int d = 0; d <= maxDistance; d++) {
+                if (firsts[d + 1] > firsts[d]) {
+                    groups[g++] = start + 1 + firsts[d];
+                }
+            }
+            groups[g] = rangeEnd;
+            for (int i = 0; i < g; i++) {
+                if (groups[i + 1] - groups[i] == 1) {
+                    // a leaf, which is not built as a range of its own
+                    end[groups[i]] = groups[i + 1];
+                }
+            }
+            return groups;
+        }
+    }
+}
@@ -0,0 +1,494 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import java.util.Arrays;
+
+/**
+ * <p>Bit-parallel Levenshtein distance, as used by
+ * {@link StringUtils#getLevenshteinDistance(CharSequence, CharSequence)}.</p>
+ *
+ * <p>This follows Myers' bit-vector algorithm in the form given by Hyyr&ouml;
+ * for the edit distance of two strings: the column of the cost table for each
+ * character of the longer string is held as vertical deltas in words of 64 bits
+ * over the shorter string, and advanced with a handful of word operations.
+ * Strings of up to 64 characters take one word, longer ones a word for each
+ * 64 characters, with the horizontal delta carried from word to word.</p>
+ *
+ * <p>With several words, only those covering the diagonal band of the table
+ * that a path within the threshold can cross are advanced, as in Ukkonen's
+ * cutoff, so a comparison with a small threshold costs a word or two for each
+ * character whatever the length of the strings.</p>
+ *
+ * <p>The character masks are held for the distinct characters of the shorter
+ * string only. Buffers for strings of up to {@link #MAX_KEPT_LENGTH}
+ * characters are reused by each thread, so that such a comparison allocates
+ * nothing; larger ones are allocated for the comparison and dropped.</p>
+ *
+ * @since 3.2
+ * @version $Id$
+ */
+final class Levenshtein {
+
+    /**
+     * The length of the shorter sequence up to which {@link StringUtils} uses this class.
+     */
+    static final int MAX_LENGTH = 64 * 64;
+
+    /**
+     * The length of the shorter sequence up to which the buffers of a thread are kept.
+     */
+    static final int MAX_KEPT_LENGTH = 4 * 64;
+
+    /**
+     * The buffers of each thread.
+     */
+    private static final ThreadLocal<Work> WORK = new ThreadLocal<Work>() {
+        @Override
+        protected Work initialValue() {
+            return new Work(MAX_KEPT_LENGTH >>> 6);
+        }
+    };
+
+    /**
+     * <p>{@code Levenshtein} instances should NOT be constructed.</p>
+     */
+    private Levenshtein() {
+        super();
+    }
+
+    /**
+     * Finds the Levenshtein distance between two sequences, if it is at most a threshold.
+     *
+     * @param s  the first sequence, not null
+     * @param t  the second sequence, not null
+     * @param threshold  the largest distance of interest, not negative
+     * @return the distance, -1 if greater than the threshold
+     */
+    static int distance(CharSequence s, CharSequence t, final int threshold) {
+        int m = s.length();
+        int n = t.length();
+        if (m > n) {
+            // the shorter sequence goes into the bit vectors
+            final CharSequence tmp = s;
+            s = t;
+            t = tmp;
+            m = n;
+            n = t.length();
+        }
+        // the distance is never more than the longer length
+        final int k = Math.min(threshold, n);
+        if (n - m > k) {
+            return -1;
+        }
+        if (m == 0) {
+            return n;
+        }
+        final int blocks = (m + 63) >>> 6;
+        Work work;
+        if (m > MAX_KEPT_LENGTH) {
+            work = new Work(blocks);
+        } else {
+            work = WORK.get();
+            if (work.busy) {
+                // a sequence calling back in from charAt
+                work = new Work(blocks);
+            }
+        }
+        work.busy = true;
+        boolean cleared = false;
+        try {
+            work.setPattern(s, m, blocks);
+            final int distance = blocks == 1 ? distanceOneWord(work, m, t, n, k)
+                    : distanceBlocks(work, m, blocks, t, n, k);
+            work.clearPattern();
+            cleared = true;
+            return distance;
+        } finally {
+            if (cleared) {
+                work.busy = false;
+            } else if (m <= MAX_KEPT_LENGTH && work == WORK.get()) {
+                // a sequence threw, so masks may be left set
+                WORK.remove();
+            }
+        }
+    }
+
+    /**
+     * Finds the distance when the shorter sequence fits in one word.
+     *
+     * @param work  the buffers holding the masks of the shorter sequence
+     * @param m  the length of the shorter sequence, 1 to 64
+     * @param t  the longer sequence
+     * @param n  the length of the longer sequence
+     * @param threshold  the largest distance of interest
+     * @return the distance, -1 if greater than the threshold
+     */
+    private static int distanceOneWord(final Work work, final int m, final CharSequence t, final int n,
+            final int threshold) {
+        final long[] lowWord = work.lowWord;
+        final long last = 1L << m - 1;
+        long pv = -1L;
+        long mv = 0L;
+        int score = m;
+        for (int j = 0; j < n; j++) {
+            final char ch = t.charAt(j);
+            final long eq = ch < 256 ? lowWord[ch] : work.highWord(ch);
+            final long xv = eq | mv;
+            final long xh = ((eq & pv) + pv ^ pv) | eq;
+            long ph = mv | ~(xh | pv);
+            long mh = pv & xh;
+            if ((ph & last) != 0) {
+                score++;
+            } else if ((mh & last) != 0) {
+                score--;
+            }
+            // each remaining character changes the score by at most one
+            if (score - (n - j - 1) > threshold) {
+                return -1;
+            }
+            ph = ph << 1 | 1L;
+            mh <<= 1;
+            pv = mh | ~(xv | ph);
+            mv = ph & xv;
+        }
+        return score;
+    }
+
+    /**
+     * Finds the distance when the shorter sequence takes several words.
+     * <p>
+     * A path through row {@code i} of column {@code j} costs at least
+     * {@code |j - i| + |(n - j) - (m - i)|}, so at column {@code j} only rows
+     * {@code j - threshold} to {@code j - (n - m) + threshold} can lie on a path
+     * within the threshold. Only the words covering those rows are advanced.
+     * A word entering the band from below starts as if each of its rows were
+     * one more than the row above, and the top word of the band takes a
+     * horizontal delta of +1 from above. Both overstate the cells outside the
+     * band, which only ever makes cells there look further away, so cells
+     * within the threshold keep their exact values.
+     *
+     * @param work  the buffers holding the masks of the shorter sequence
+     * @param m  the length of the shorter sequence
+     * @param blocks  the number of words
+     * @param t  the longer sequence
+     * @param n  the length of the longer sequence
+     * @param threshold  the largest distance of interest, at most {@code n}
+     * @return the distance, -1 if greater than the threshold
+     */
+    private static int distanceBlocks(final Work work, final int m, final int blocks, final CharSequence t,
+            final int n, final int threshold) {
+        final long[] masks = work.masks;
+        final long[] pvs = work.pv;
+        final long[] mvs = work.mv;
+        final int[] scores = work.score;
+        final long last = 1L << (m - 1 & 63);
+        final int below = threshold - (n - m);
+        // column 0 holds the row numbers
+        int lastBlock = Math.min(m, 1 + below) - 1 >>> 6;
+        for (int b = 0; b <= lastBlock; b++) {
+            pvs[b] = -1L;
+            mvs[b] = 0L;
+            scores[b] = Math.min(m, b + 1 << 6);
+        }
+        for (int j = 0; j < n; j++) {
+            final int column = j + 1;
+            final int bandEnd = Math.min(m, column + below) - 1 >>> 6;
+            while (lastBlock < bandEnd) {
+                lastBlock++;
+                pvs[lastBlock] = -1L;
+                mvs[lastBlock] = 0L;
+                scores[lastBlock] = scores[lastBlock - 1] + Math.min(64, m - (lastBlock << 6));
+            }
+            final int firstBlock = Math.max(1, column - threshold) - 1 >>> 6;
+            final int row = work.row(t.charAt(j));
+            final int base = row < 0 ? -1 : row * blocks;
+            // the top row of the table grows by one for each character
+            int hin = 1;
+            int lowest = Integer.MAX_VALUE;
+            for (int b = firstBlock; b <= lastBlock; b++) {
+                final long pv = pvs[b];
+                final long mv = mvs[b];
+                long eq = base < 0 ? 0L : masks[base + b];
+                final long xv = eq | mv;
+                if (hin < 0) {
+                    eq |= 1L;
+                }
+                final long xh = ((eq & pv) + pv ^ pv) | eq;
+                long ph = mv | ~(xh | pv);
+                long mh = pv & xh;
+                final long high = b == blocks - 1 ? last : 1L << 63;
+                final int hout = (ph & high) != 0 ? 1 : (mh & high) != 0 ? -1 : 0;
+                ph <<= 1;
+                mh <<= 1;
+                if (hin < 0) {
+                    mh |= 1L;
+                } else if (hin > 0) {
+                    ph |= 1L;
+                }
+                pvs[b] = mh | ~(xv | ph);
+                mvs[b] = ph & xv;
+                scores[b] += hout;
+                lowest = Math.min(lowest, scores[b]);
+                hin = hout;
+            }
+            if (lowest - 64 > threshold) {
+                // no cell of the band can be within the threshold, as each row
+                // of a word differs from the next by at most one
+                return -1;
+            }
+            if (lastBlock == blocks - 1 && scores[lastBlock] - (n - column) > threshold) {
+                // each remaining character changes the score by at most one
+                return -1;
+            }
+        }
+        final int score = scores[blocks - 1];
+        return score <= threshold ? score : -1;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The reusable buffers of a comparison.
+     * <p>
+     * Each distinct character of the shorter sequence has a row of masks, one
+     * for each word, with a bit set for each position holding the character.
+     * The rows of characters below 256 are found directly, those of other
+     * characters through an open addressing table keyed by the character,
+     * which is never 0 there, created and grown as such characters are met.
+     * When the shorter sequence fits in one word, the masks of characters
+     * below 256 are held directly by character instead.
+     */
+    private static final class Work {
+        /** The mask of each character below 256 when there is one word. */
+        final long[] lowWord = new long[256];
+        /** The row of each character below 256, plus one, 0 if none. */
+        final int[] lowRows = new int[256];
+        /** The characters of the hash table, 0 for empty slots, null until needed. */
+        char[] highKeys;
+        /** The row of the character of each slot of the hash table. */
+        int[] highRows;
+        /** The number of characters in the hash table. */
+        int highCount;
+        /** The character of each row. */
+        char[] rowChars = new char[16];
+        /** The number of rows in use. */
+        int rows;
+        /** The masks of each row, by row and word. */
+        long[] masks = new long[0];
+        /** The number of masks in use. */
+        int maskCount;
+        /** The positive vertical deltas of each word. */
+        final long[] pv;
+        /** The negative vertical deltas of each word. */
+        final long[] mv;
+        /** The score at the last row of each word. */
+        final int[] score;
+        /** Whether a comparison is using these buffers. */
+        boolean busy;
+
+        /**
+         * Creates buffers.
+         *
+         * @param blocks  the largest number of words to size for
+         */
+        Work(final int blocks) {
+            pv = new long[blocks];
+            mv = new long[blocks];
+            score = new int[blocks];
+        }
+
+        /**
+         * Sets the masks of the shorter sequence.
+         *
+         * @param s  the shorter sequence
+         * @param m  its length
+         * @param blocks  the number of words
+         */
+        void setPattern(final CharSequence s, final int m, final int blocks) {
+            if (blocks == 1) {
+                setWord(s, m);
+                return;
+            }
+            for (int i = 0; i < m; i++) {
+                final char ch = s.charAt(i);
+                int row;
+                if (ch < 256) {
+                    row = lowRows[ch] - 1;
+                    if (row < 0) {
+                        row = addRow(ch);
+                        lowRows[ch] = row + 1;
+                    }
+                } else {
+                    row = row(ch);
+                    if (row < 0) {
+                        row = addRow(ch);
+                        addHigh(ch, row);
+                    }
+                }
+                final int index = row * blocks + (i >>> 6);
+                if (index >= masks.length) {
+                    // rows are added in order, so the last one decides the size
+                    masks = Arrays.copyOf(masks, Math.max(16, rows * 2) * blocks);
+                }
+                masks[index] |= 1L << (i & 63);
+            }
+            maskCount = rows * blocks;
+        }
+
+        /**
+         * Sets the masks of a shorter sequence that fits in one word.
+         *
+         * @param s  the shorter sequence
+         * @param m  its length, at most 64
+         */
+        private void setWord(final CharSequence s, final int m) {
+            for (int i = 0; i < m; i++) {
+                final char ch = s.charAt(i);
+                final long bit = 1L << i;
+                if (ch < 256) {
+                    if (lowWord[ch] == 0) {
+                        addRow(ch);
+                    }
+                    lowWord[ch] |= bit;
+                } else {
+                    int row = row(ch);
+                    if (row < 0) {
+                        row = addRow(ch);
+                        addHigh(ch, row);
+                        if (masks.length < rows) {
+                            masks = Arrays.copyOf(masks, Math.max(16, rows * 2));
+                        }
+                        maskCount = rows;
+                    }
+                    masks[row] |= bit;
+                }
+            }
+        }
+
+        /**
+         * Clears the masks of the shorter sequence, ready for the next comparison.
+         */
+        void clearPattern() {
+            for (int i = 0; i < rows; i++) {
+                final char ch = rowChars[i];
+                if (ch < 256) {
+                    lowRows[ch] = 0;
+                    lowWord[ch] = 0L;
+                }
+            }
+            if (highCount > 0) {
+                Arrays.fill(highKeys, (char) 0);
+                highCount = 0;
+            }
+            Arrays.fill(masks, 0, maskCount, 0L);
+            rows = 0;
+        }
+
+        /**
+         * Gets the row of a character.
+         *
+         * @param ch  the character
+         * @return the row, -1 if the character is not in the shorter sequence
+         */
+        int row(final char ch) {
+            if (ch < 256) {
+                return lowRows[ch] - 1;
+            }
+            if (highKeys == null) {
+                return -1;
+            }
+            final int size = highKeys.length - 1;
+            int slot = ch * 0x9E37 >>> 7 & size;
+            while (true) {
+                final char key = highKeys[slot];
+                if (key == ch) {
+                    return highRows[slot];
+                }
+                if (key == 0) {
+                    return -1;
+                }
+                slot = slot + 1 & size;
+            }
+        }
+
+        /**
+         * Gets the mask of a character of 256 or above when there is one word.
+         *
+         * @param ch  the character
+         * @return the mask
+         */
+        long highWord(final char ch) {
+            final int row = row(ch);
+            return row < 0 ? 0L : masks[row];
+        }
+
+        /**
+         * Adds a row for a character.
+         *
+         * @param ch  the character
+         * @return the row
+         */
+        private int addRow(final char ch) {
+            if (rows == rowChars.length) {
+                rowChars = Arrays.copyOf(rowChars, rows * 2);
+            }
+            rowChars[rows] = ch;
+            return rows++;
+        }
+
+        /**
+         * Adds a character of 256 or above to the hash table, growing it to
+         * keep at least twice as many slots as characters.
+         *
+         * @param ch  the character, not yet in the table
+         * @param row  its row
+         */
+        private void addHigh(final char ch, final int row) {
+            if (highKeys == null || (highCount + 1) * 2 > highKeys.length) {
+                final char[] oldKeys = highKeys;
+                final int[] oldRows = highRows;
+                highKeys = new char[oldKeys == null ? 16 : oldKeys.length * 2];
+                highRows = new int[highKeys.length];
+                if (oldKeys != null) {
+                    for (int i = 0; i < oldKeys.length; i++) {
+                        if (oldKeys[i] != 0) {
+                            insertHigh(oldKeys[i], oldRows[i]);
+                        }
+                    }
+                }
+            }
+            insertHigh(ch, row);
+            highCount++;
+        }
+
+        /**
+         * Puts a character into an empty slot of the hash table.
+         *
+         * @param ch  the character
+         * @param row  its row
+         */
+        private void insertHigh(final char ch, final int row) {
+            final int size = highKeys.length - 1;
+            int slot = ch * 0x9E37 >>> 7 & size;
+            while (highKeys[slot] != 0) {
+                slot = slot + 1 & size;
+            }
+            highKeys[slot] = ch;
+            highRows[slot] = row;
+        }
+    }
+}
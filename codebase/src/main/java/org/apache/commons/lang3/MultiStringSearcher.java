@@ -0,0 +1,627 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <p>Searches text for any of a fixed set of search strings in a single pass.</p>
+ *
+ * <p>The search strings are compiled once into an Aho-Corasick automaton, so
+ * that a text is searched for all of them in time proportional to its length,
+ * however many search strings there are. A searcher can be reused for any
+ * number of texts, and is used by
+ * {@link StringUtils#indexOfAny(CharSequence, MultiStringSearcher)},
+ * {@link StringUtils#lastIndexOfAny(CharSequence, MultiStringSearcher)},
+ * {@link StringUtils#containsAny(CharSequence, MultiStringSearcher)} and
+ * {@link StringUtils#countMatchesAny(CharSequence, MultiStringSearcher)}.</p>
+ *
+ * <pre>
+ * MultiStringSearcher blocked = new MultiStringSearcher("drop table", "&lt;script", "../");
+ * if (blocked.contains(body)) {
+ *     ...
+ * }
+ * </pre>
+ *
+ * <p>{@code null} search strings are ignored. An empty search string is found
+ * at every index by {@link #indexOf(CharSequence)}, {@link #lastIndexOf(CharSequence)}
+ * and {@link #contains(CharSequence)}, as with {@link StringUtils#indexOfAny(CharSequence, CharSequence...)},
+ * but is not counted by {@link #countMatches(CharSequence)} or returned by
+ * {@link #findAll(CharSequence)}.</p>
+ *
+ * <p>Instances are immutable and thread-safe.</p>
+ *
+ * @since 3.2
+ * @version $Id$
+ */
+public final class MultiStringSearcher {
+
+    /**
+     * The largest number of transitions stored as a full table.
+     */
+    private static final int DENSE_LIMIT = 1 << 20;
+
+    /** The search strings, as given. */
+    private final String[] searchStrs;
+    /** Whether any search string is empty. */
+    private final boolean hasEmpty;
+    /** The automaton of the search strings, created when first needed. */
+    private volatile Automaton forward;
+    /** The automaton of the reversed search strings, created when first needed. */
+    private volatile Automaton reverse;
+
+    /**
+     * <p>Compiles a set of search strings.</p>
+     *
+     * @param searchStrs  the strings to search for, null entries are ignored, null means none
+     */
+    public MultiStringSearcher(final CharSequence... searchStrs) {
+        final int sz = searchStrs == null ? 0 : searchStrs.length;
+        this.searchStrs = new String[sz];
+        boolean empty = false;
+        for (int i = 0; i < sz; i++) {
+            if (searchStrs[i] != null) {
+                this.searchStrs[i] = searchStrs[i].toString();
+                empty |= this.searchStrs[i].length() == 0;
+            }
+        }
+        this.hasEmpty = empty;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * <p>Finds the first index at which any of the search strings occurs.</p>
+     *
+     * @param str  the CharSequence to search, may be null
+     * @return the first index of any search string, -1 if none occurs or {@code null} input
+     */
+    public int indexOf(final CharSequence str) {
+        return indexOf(str, 0);
+    }
+
+    /**
+     * <p>Finds the first index at or after a start position at which any of
+     * the search strings occurs.</p>
+     *
+     * <p>A negative start position is treated as zero.</p>
+     *
+     * @param str  the CharSequence to search, may be null
+     * @param startPos  the position to start the search at
+     * @return the first index of any search string, -1 if none occurs or {@code null} input
+     */
+    public int indexOf(final CharSequence str, final int startPos) {
+        if (str == null) {
+            return StringUtils.INDEX_NOT_FOUND;
+        }
+        final int start = Math.max(startPos, 0);
+        if (hasEmpty) {
+            return Math.min(start, str.length());
+        }
+        final long match = forward().findFirst(str, start);
+        return match < 0 ? StringUtils.INDEX_NOT_FOUND : (int) (match >>> 32);
+    }
+
+    /**
+     * <p>Finds the last index at which any of the search strings occurs.</p>
+     *
+     * @param str  the CharSequence to search, may be null
+     * @return the last index of any search string, -1 if none occurs or {@code null} input
+     */
+    public int lastIndexOf(final CharSequence str) {
+        if (str == null) {
+            return StringUtils.INDEX_NOT_FOUND;
+        }
+        if (hasEmpty) {
+            return str.length();
+        }
+        Automaton backward = reverse;
+        if (backward == null) {
+            backward = new Automaton(searchStrs, true);
+            reverse = backward;
+        }
+        return backward.findLastStart(str);
+    }
+
+    /**
+     * Gets the automaton of the search strings, building it when first needed.
+     * Racing threads may each build one, which is harmless as they are equal.
+     *
+     * @return the automaton, not null
+     */
+    private Automaton forward() {
+        Automaton automaton = forward;
+        if (automaton == null) {
+            automaton = new Automaton(searchStrs, false);
+            forward = automaton;
+        }
+        return automaton;
+    }
+
+    /**
+     * <p>Checks whether any of the search strings occurs.</p>
+     *
+     * @param str  the CharSequence to search, may be null
+     * @return true if any search string occurs, false if none does or {@code null} input
+     */
+    public boolean contains(final CharSequence str) {
+        if (str == null) {
+            return false;
+        }
+        return hasEmpty || forward().findAnyEnd(str) >= 0;
+    }
+
+    /**
+     * <p>Counts the occurrences of the search strings that do not overlap.</p>
+     *
+     * <p>The text is read from the start. At each step the occurrence that
+     * starts first is counted, the longest if several start at the same
+     * index, and the search continues after it, as
+     * {@link StringUtils#countMatches(CharSequence, CharSequence)} does for a
+     * single string.</p>
+     *
+     * @param str  the CharSequence to search, may be null
+     * @return the number of occurrences, 0 if {@code null} input
+     */
+    public int countMatches(final CharSequence str) {
+        if (str == null) {
+            return 0;
+        }
+        final Automaton automaton = forward();
+        int count = 0;
+        int pos = 0;
+        long match;
+        while ((match = automaton.findFirst(str, pos)) >= 0) {
+            count++;
+            pos = (int) (match >>> 32) + searchStrs[(int) match].length();
+        }
+        return count;
+    }
+
+    /**
+     * Finds the non-empty search string occurrence that starts first at or
+     * after a position, the longest if several start at the same index.
+     *
+     * @param str  the CharSequence to search, not null
+     * @param from  the index to start at, not negative
+     * @return the start in the high and the search string index in the low 32 bits, -1 if none
+     */
+    long findFirst(final CharSequence str, final int from) {
+        return forward().findFirst(str, from);
+    }
+
+    /**
+     * <p>Finds all occurrences of the search strings, including overlapping ones.</p>
+     *
+     * <p>The occurrences are ordered by the index they end at and, for those
+     * ending at the same index, by the index they start at.</p>
+     *
+     * @param str  the CharSequence to search, may be null
+     * @return the occurrences, empty if none or {@code null} input, not null
+     */
+    public List<Match> findAll(final CharSequence str) {
+        final List<Match> matches = new ArrayList<Match>();
+        if (str != null) {
+            forward().findAll(str, searchStrs, matches);
+        }
+        return matches;
+    }
+
+    /**
+     * <p>Gets the search strings.</p>
+     *
+     * @return a copy of the search strings, as strings, with {@code null} entries kept
+     */
+    public String[] getSearchStrings() {
+        return searchStrs.clone();
+    }
+
+    /**
+     * <p>Gets a description of this searcher.</p>
+     *
+     * @return a description including the search strings
+     */
+    @Override
+    public String toString() {
+        return "MultiStringSearcher" + Arrays.toString(searchStrs);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * <p>An occurrence of a search string found by {@link MultiStringSearcher#findAll(CharSequence)}.</p>
+     *
+     * @since 3.2
+     */
+    public static final class Match {
+        /** The start index. */
+        private final int start;
+        /** The index of the search string. */
+        private final int index;
+        /** The search string. */
+        private final String searchStr;
+
+        /**
+         * Constructs an occurrence.
+         *
+         * @param start  the index it starts at
+         * @param index  the index of the search string
+         * @param searchStr  the search string
+         */
+        Match(final int start, final int index, final String searchStr) {
+            this.start = start;
+            this.index = index;
+            this.searchStr = searchStr;
+        }
+
+        /**
+         * <p>Gets the index the occurrence starts at.</p>
+         *
+         * @return the start index, inclusive
+         */
+        public int getStart() {
+            return start;
+        }
+
+        /**
+         * <p>Gets the index the occurrence ends at.</p>
+         *
+         * @return the end index, exclusive
+         */
+        public int getEnd() {
+            return start + searchStr.length();
+        }
+
+        /**
+         * <p>Gets the index of the search string in those given to the searcher.
+         * If a search string was given more than once, the first index is used.</p>
+         *
+         * @return the index of the search string
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * <p>Gets the search string found.</p>
+         *
+         * @return the search string, not null
+         */
+        public String getSearchString() {
+            return searchStr;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof Match)) {
+                return false;
+            }
+            final Match other = (Match) obj;
+            return start == other.start && index == other.index && searchStr.equals(other.searchStr);
+        }
+
+        @Override
+        public int hashCode() {
+            return (start * 31 + index) * 31 + searchStr.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return searchStr + "@" + start;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * An Aho-Corasick automaton of the non-empty search strings.
+     * <p>
+     * The trie is held as linked lists of children. When it is small enough,
+     * every transition, including those following failure links, is also
+     * stored in a table indexed by state and character class, where the
+     * classes are the distinct characters of the search strings plus one
+     * class for all other characters.
+     */
+    private static final class Automaton {
+        /** The number of states, the root being 0. */
+        private int stateCount;
+        /** The first child of each state, 0 if none. */
+        private final int[] firstChild;
+        /** The next sibling of each state, 0 if none. */
+        private final int[] nextSibling;
+        /** The character leading to each state. */
+        private final char[] edgeChar;
+        /** The failure link of each state. */
+        private final int[] fail;
+        /** The depth of each state. */
+        private final int[] depth;
+        /** The index of the search string ending at each state, -1 if none. */
+        private final int[] terminal;
+        /** The nearest terminal state on the failure chain of each state, 0 if none. */
+        private final int[] output;
+        /** The length of the longest search string ending at each state, 0 if none. */
+        private final int[] longest;
+        /** The length of the longest search string. */
+        private int maxLength;
+
+        /** The distinct characters of the search strings, sorted. */
+        private char[] alphabet;
+        /** The class of each character below 256. */
+        private final int[] lowClasses = new int[256];
+        /** The number of character classes. */
+        private int classCount;
+        /** The transition table, null if too large. */
+        private int[] delta;
+
+        /**
+         * Builds the automaton.
+         *
+         * @param searchStrs  the search strings, null and empty entries are skipped
+         * @param reversed  whether to build the automaton of the reversed strings
+         */
+        Automaton(final String[] searchStrs, final boolean reversed) {
+            int capacity = 1;
+            for (final String searchStr : searchStrs) {
+                if (searchStr != null) {
+                    capacity += searchStr.length();
+                }
+            }
+            firstChild = new int[capacity];
+            nextSibling = new int[capacity];
+            edgeChar = new char[capacity];
+            fail = new int[capacity];
+            depth = new int[capacity];
+            terminal = new int[capacity];
+            output = new int[capacity];
+            longest = new int[capacity];
+            Arrays.fill(terminal, -1);
+            stateCount = 1;
+
+            // build the trie
+            for (int i = 0; i < searchStrs.length; i++) {
+                final String searchStr = searchStrs[i];
+                if (searchStr == null || searchStr.length() == 0) {
+                    continue;
+                }
+                final int len = searchStr.length();
+                int state = 0;
+                for (int j = 0; j < len; j++) {
+                    final char ch = searchStr.charAt(reversed ? len - 1 - j : j);
+                    int child = child(state, ch);
+                    if (child == 0) {
+                        child = stateCount++;
+                        edgeChar[child] = ch;
+                        depth[child] = depth[state] + 1;
+                        nextSibling[child] = firstChild[state];
+                        firstChild[state] = child;
+                    }
+                    state = child;
+                }
+                if (terminal[state] < 0) {
+                    terminal[state] = i;
+                }
+                maxLength = Math.max(maxLength, len);
+            }
+
+            // link the states in breadth first order, so that failure targets are done first
+            final int[] queue = new int[stateCount];
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = 0;
+            while (head < tail) {
+                final int state = queue[head++];
+                for (int child = firstChild[state]; child != 0; child = nextSibling[child]) {
+                    queue[tail++] = child;
+                    final int target = state == 0 ? 0 : transition(fail[state], edgeChar[child]);
+                    fail[child] = target;
+                    output[child] = terminal[target] >= 0 ? target : output[target];
+                    longest[child] = terminal[child] >= 0 ? depth[child] : longest[target];
+                }
+            }
+            buildTable(queue);
+        }
+
+        /**
+         * Builds the character classes and, if small enough, the transition table.
+         *
+         * @param order  the states in breadth first order
+         */
+        private void buildTable(final int[] order) {
+            final char[] chars = new char[stateCount - 1];
+            System.arraycopy(edgeChar, 1, chars, 0, chars.length);
+            Arrays.sort(chars);
+            int distinct = 0;
+            for (int i = 0; i < chars.length; i++) {
+                if (i == 0 || chars[i] != chars[i - 1]) {
+                    chars[distinct++] = chars[i];
+                }
+            }
+            alphabet = Arrays.copyOf(chars, distinct);
+            classCount = distinct + 1;
+            for (int i = 0; i < distinct && alphabet[i] < lowClasses.length; i++) {
+                lowClasses[alphabet[i]] = i + 1;
+            }
+            if ((long) stateCount * classCount > DENSE_LIMIT) {
+                return;
+            }
+            final int[] table = new int[stateCount * classCount];
+            for (final int state : order) {
+                final int row = state * classCount;
+                for (int cls = 1; cls < classCount; cls++) {
+                    final int child = child(state, alphabet[cls - 1]);
+                    if (child != 0) {
+                        table[row + cls] = child;
+                    } else if (state != 0) {
+                        table[row + cls] = table[fail[state] * classCount + cls];
+                    }
+                }
+            }
+            delta = table;
+        }
+
+        /**
+         * Gets the child of a state for a character.
+         *
+         * @param state  the state
+         * @param ch  the character
+         * @return the child, 0 if none
+         */
+        private int child(final int state, final char ch) {
+            for (int child = firstChild[state]; child != 0; child = nextSibling[child]) {
+                if (edgeChar[child] == ch) {
+                    return child;
+                }
+            }
+            return 0;
+        }
+
+        /**
+         * Gets the state reached from a state by a character, following failure links.
+         *
+         * @param state  the state
+         * @param ch  the character
+         * @return the next state
+         */
+        private int transition(int state, final char ch) {
+            if (delta != null) {
+                return delta[state * classCount + classOf(ch)];
+            }
+            while (true) {
+                final int child = child(state, ch);
+                if (child != 0) {
+                    return child;
+                }
+                if (state == 0) {
+                    return 0;
+                }
+                state = fail[state];
+            }
+        }
+
+        /**
+         * Gets the class of a character.
+         *
+         * @param ch  the character
+         * @return the class, 0 for characters not in any search string
+         */
+        private int classOf(final char ch) {
+            if (ch < lowClasses.length) {
+                return lowClasses[ch];
+            }
+            final int i = Arrays.binarySearch(alphabet, ch);
+            return i < 0 ? 0 : i + 1;
+        }
+
+        /**
+         * Finds the occurrence that starts first, the longest if several start at the same index.
+         *
+         * @param str  the text
+         * @param from  the index to start at
+         * @return the start in the high and the search string index in the low 32 bits, -1 if none
+         */
+        long findFirst(final CharSequence str, final int from) {
+            if (maxLength == 0) {
+                return -1;
+            }
+            final int len = str.length();
+            int state = 0;
+            int bestStart = -1;
+            int bestState = 0;
+            for (int i = from; i < len; i++) {
+                if (bestStart >= 0 && i - maxLength + 1 > bestStart) {
+                    // nothing ending here or later can start at or before the best
+                    break;
+                }
+                state = transition(state, str.charAt(i));
+                final int matchLength = longest[state];
+                if (matchLength > 0) {
+                    final int start = i - matchLength + 1;
+                    if (bestStart < 0 || start <= bestStart) {
+                        bestStart = start;
+                        bestState = terminal[state] >= 0 ? state : output[state];
+                    }
+                }
+            }
+            return bestStart < 0 ? -1 : (long) bestStart << 32 | terminal[bestState];
+        }
+
+        /**
+         * Finds the end of the first occurrence to end.
+         *
+         * @param str  the text
+         * @return the end index, exclusive, -1 if none
+         */
+        int findAnyEnd(final CharSequence str) {
+            if (maxLength == 0) {
+                return -1;
+            }
+            final int len = str.length();
+            int state = 0;
+            for (int i = 0; i < len; i++) {
+                state = transition(state, str.charAt(i));
+                if (longest[state] > 0) {
+                    return i + 1;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Finds the last start of an occurrence, reading the text backwards
+         * through the automaton of the reversed strings.
+         *
+         * @param str  the text
+         * @return the last start index, -1 if none
+         */
+        int findLastStart(final CharSequence str) {
+            if (maxLength == 0) {
+                return -1;
+            }
+            int state = 0;
+            for (int i = str.length() - 1; i >= 0; i--) {
+                state = transition(state, str.charAt(i));
+                if (longest[state] > 0) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Finds all occurrences.
+         *
+         * @param str  the text
+         * @param searchStrs  the search strings
+         * @param matches  the list to add the occurrences to
+         */
+        void findAll(final CharSequence str, final String[] searchStrs, final List<Match> matches) {
+            final int len = str.length();
+            int state = 0;
+            for (int i = 0; i < len; i++) {
+                state = transition(state, str.charAt(i));
+                int found = terminal[state] >= 0 ? state : output[state];
+                while (found != 0) {
+                    final int index = terminal[found];
+                    matches.add(new Match(i + 1 - depth[found], index, searchStrs[index]));
+                    found = output[found];
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * <p>A set of replacements compiled once and applied to any number of texts.</p>
+ *
+ * <p>The search strings are compiled into a {@link MultiStringSearcher}, so
+ * that a text is read left to right in a single pass, however many
+ * replacements there are. At each step the occurrence that starts first is
+ * replaced, the longest if several start at the same index, and the search
+ * continues after it. Replacements are not searched again.</p>
+ *
+ * <pre>
+ * ReplacementPlan plan = new ReplacementPlan(
+ *     new String[] {"&amp;", "&lt;", "&gt;"},
+ *     new String[] {"&amp;amp;", "&amp;lt;", "&amp;gt;"});
+ * String html = plan.replace(text);
+ * </pre>
+ *
+ * <p>This differs from {@link StringUtils#replaceEach(String, String[], String[])}
+ * only when search strings start at the same index. {@code replaceEach}
+ * replaces the one listed first, a plan replaces the longest:</p>
+ *
+ * <pre>
+ * StringUtils.replaceEach("abc", new String[]{"a", "ab"}, new String[]{"x", "y"}) = "xbc"
+ * new ReplacementPlan(new String[]{"a", "ab"}, new String[]{"x", "y"}).replace("abc") = "yc"
+ * </pre>
+ *
+ * <p>Instances are immutable and thread-safe.</p>
+ *
+ * @see StringUtils#replaceEach(String, ReplacementPlan)
+ * @since 3.2
+ * @version $Id$
+ */
+public final class ReplacementPlan {
+
+    /** The search strings, null where the pair is ignored. */
+    private final String[] searchList;
+    /** The replacements, null where the pair is ignored. */
+    private final String[] replacementList;
+    /** The searcher of the search strings. */
+    private final MultiStringSearcher searcher;
+    /** The expected growth of a text, before the cap on its length. */
+    private final int increase;
+
+    /**
+     * <p>Compiles a set of replacements.</p>
+     *
+     * <p>As with {@link StringUtils#replaceEach(String, String[], String[])},
+     * a pair is ignored if its search string is {@code null} or empty, or its
+     * replacement is {@code null}. If a search string is given more than once,
+     * the first replacement for it is used.</p>
+     *
+     * @param searchList  the Strings to search for, null means none
+     * @param replacementList  the Strings to replace them with, null means none
+     * @throws IllegalArgumentException if both lists are non-empty and their lengths differ
+     */
+    public ReplacementPlan(final String[] searchList, final String[] replacementList) {
+        int sz = 0;
+        if (searchList != null && searchList.length != 0 && replacementList != null && replacementList.length != 0) {
+            if (searchList.length != replacementList.length) {
+                throw new IllegalArgumentException("Search and Replace array lengths don't match: "
+                    + searchList.length
+                    + " vs "
+                    + replacementList.length);
+            }
+            sz = searchList.length;
+        }
+        this.searchList = new String[sz];
+        this.replacementList = new String[sz];
+        int grow = 0;
+        for (int i = 0; i < sz; i++) {
+            if (StringUtils.isEmpty(searchList[i]) || replacementList[i] == null) {
+                continue;
+            }
+            this.searchList[i] = searchList[i];
+            this.replacementList[i] = replacementList[i];
+            final int greater = replacementList[i].length() - searchList[i].length();
+            if (greater > 0) {
+                grow += 3 * greater; // assume 3 matches
+            }
+        }
+        this.increase = grow;
+        this.searcher = new MultiStringSearcher(this.searchList);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * <p>Replaces all occurrences of the search strings in a String.</p>
+     *
+     * <pre>
+     * plan.replace(null) = null
+     * plan.replace("")   = ""
+     * </pre>
+     *
+     * @param text  the text to search and replace in, may be null
+     * @return the text with any replacements processed, the same instance
+     *  if there are none, {@code null} if null String input
+     */
+    public String replace(final String text) {
+        if (text == null) {
+            return null;
+        }
+        long match = searcher.findFirst(text, 0);
+        if (match < 0) {
+            return text;
+        }
+        final StringBuilder buf = new StringBuilder(text.length() + estimateIncrease(text));
+        int pos = 0;
+        do {
+            final int start = (int) (match >>> 32);
+            final int index = (int) match;
+            buf.append(text, pos, start).append(replacementList[index]);
+            pos = start + searchList[index].length();
+        } while ((match = searcher.findFirst(text, pos)) >= 0);
+        return buf.append(text, pos, text.length()).toString();
+    }
+
+    /**
+     * <p>Appends a text with all occurrences of the search strings replaced
+     * to a string builder, growing it once for the expected length first.</p>
+     *
+     * @param text  the text to search and replace in, null appends nothing
+     * @param buf  the builder to append to, not null
+     */
+    public void replaceTo(final CharSequence text, final StringBuilder buf) {
+        if (text == null) {
+            return;
+        }
+        buf.ensureCapacity(buf.length() + text.length() + estimateIncrease(text));
+        try {
+            write(text, buf);
+        } catch (final IOException e) {
+            // a StringBuilder does not throw IOException
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * <p>Appends a text with all occurrences of the search strings replaced
+     * to an {@code Appendable}, such as a {@code Writer}.</p>
+     *
+     * @param text  the text to search and replace in, null appends nothing
+     * @param out  the destination to append to, not null
+     * @throws IOException if the destination throws it
+     */
+    public void replaceTo(final CharSequence text, final Appendable out) throws IOException {
+        if (text != null) {
+            write(text, out);
+        }
+    }
+
+    /**
+     * Writes a text with the replacements processed.
+     *
+     * @param text  the text, not null
+     * @param out  the destination to append to, not null
+     * @throws IOException if the destination throws it
+     */
+    private void write(final CharSequence text, final Appendable out) throws IOException {
+        int pos = 0;
+        long match;
+        while ((match = searcher.findFirst(text, pos)) >= 0) {
+            final int start = (int) (match >>> 32);
+            final int index = (int) match;
+            out.append(text, pos, start).append(replacementList[index]);
+            pos = start + searchList[index].length();
+        }
+        out.append(text, pos, text.length());
+    }
+
+    /**
+     * Estimates how much a text grows, capped at 20% of its length as
+     * {@link StringUtils#replaceEach(String, String[], String[])} does.
+     *
+     * @param text  the text, not null
+     * @return the expected increase in length
+     */
+    private int estimateIncrease(final CharSequence text) {
+        return Math.min(increase, text.length() / 5);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * <p>Gets a description of this plan.</p>
+     *
+     * @return a description including the search strings and their replacements
+     */
+    @Override
+    public String toString() {
+        return "ReplacementPlan[" + Arrays.toString(searchList) + " -> " + Arrays.toString(replacementList) + "]";
+    }
+}
@@ -143,10 +143,10 @@ public class StringEscapeUtils {
      * @since 3.0
      */
     public static final CharSequenceTranslator ESCAPE_HTML4 = 
-        new AggregateTranslator(
-            new LookupTranslator(EntityArrays.BASIC_ESCAPE()),
-            new LookupTranslator(EntityArrays.ISO8859_1_ESCAPE()),
-            new LookupTranslator(EntityArrays.HTML40_EXTENDED_ESCAPE())
+        new LookupTranslator(
+            ArrayUtils.addAll(
+                ArrayUtils.addAll(EntityArrays.BASIC_ESCAPE(), EntityArrays.ISO8859_1_ESCAPE()),
+                EntityArrays.HTML40_EXTENDED_ESCAPE())
         );
 
     /**
@@ -264,9 +264,11 @@ public class StringEscapeUtils {
      */
     public static final CharSequenceTranslator UNESCAPE_HTML4 = 
         new AggregateTranslator(
-            new LookupTranslator(EntityArrays.BASIC_UNESCAPE()),
-            new LookupTranslator(EntityArrays.ISO8859_1_UNESCAPE()),
-            new LookupTranslator(EntityArrays.HTML40_EXTENDED_UNESCAPE()),
+            new LookupTranslator(
+                ArrayUtils.addAll(
+                    ArrayUtils.addAll(EntityArrays.BASIC_UNESCAPE(), EntityArrays.ISO8859_1_UNESCAPE()),
+                    EntityArrays.HTML40_EXTENDED_UNESCAPE())
+            ),
             new NumericEntityUnescaper()
         );
 
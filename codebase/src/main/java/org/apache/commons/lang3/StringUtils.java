@@ -170,6 +170,13 @@ public class StringUtils {
      */
     private static final int PAD_LIMIT = 8192;
 
+    /**
+     * <p>The text length from which case insensitive searches, and searches of
+     * CharSequences other than Strings, use a {@link SubstringSearcher} rather
+     * than comparing at every index or converting the text to a String.</p>
+     */
+    private static final int SUBSTRING_SEARCH_THRESHOLD = 256;
+
     /**
      * A regex pattern for recognizing blocks of whitespace characters.
      * The apparent convolutedness of the pattern serves the purpose of
@@ -798,7 +805,9 @@ public class StringUtils {
 
     /**
      * <p>Finds the first index within a CharSequence, handling {@code null}.
-     * This method uses {@link String#indexOf(String, int)} if possible.</p>
+     * This method uses {@link String#indexOf(String, int)} if possible.
+     * Other CharSequences of 256 or more characters are searched with a
+     * {@link SubstringSearcher} rather than converted to a String.</p>
      *
      * <p>A {@code null} CharSequence will return {@code -1}.</p>
      *
@@ -821,15 +830,14 @@ public class StringUtils {
      * @since 3.0 Changed signature from indexOf(String, String) to indexOf(CharSequence, CharSequence)
      */
     public static int indexOf(final CharSequence seq, final CharSequence searchSeq) {
-        if (seq == null || searchSeq == null) {
-            return INDEX_NOT_FOUND;
-        }
-        return CharSequenceUtils.indexOf(seq, searchSeq, 0);
+        return indexOf(seq, searchSeq, 0);
     }
 
     /**
      * <p>Finds the first index within a CharSequence, handling {@code null}.
-     * This method uses {@link String#indexOf(String, int)} if possible.</p>
+     * This method uses {@link String#indexOf(String, int)} if possible.
+     * Other CharSequences of 256 or more characters are searched with a
+     * {@link SubstringSearcher} rather than converted to a String.</p>
      *
      * <p>A {@code null} CharSequence will return {@code -1}.
      * A negative start position is treated as zero.
@@ -864,6 +872,9 @@ public class StringUtils {
         if (seq == null || searchSeq == null) {
             return INDEX_NOT_FOUND;
         }
+        if (!(seq instanceof String) && seq.length() >= SUBSTRING_SEARCH_THRESHOLD) {
+            return new SubstringSearcher(searchSeq).indexOf(seq, startPos);
+        }
         return CharSequenceUtils.indexOf(seq, searchSeq, startPos);
     }
 
@@ -926,6 +937,10 @@ public class StringUtils {
         if (searchStr.length() == 0) {
             return lastIndex ? str.length() : 0;
         }
+        if (!(str instanceof String) && str.length() >= SUBSTRING_SEARCH_THRESHOLD) {
+            final SubstringSearcher searcher = new SubstringSearcher(searchStr);
+            return lastIndex ? searcher.lastOrdinalIndexOf(str, ordinal) : searcher.ordinalIndexOf(str, ordinal);
+        }
         int found = 0;
         int index = lastIndex ? str.length() : INDEX_NOT_FOUND;
         do {
@@ -1017,6 +1032,9 @@ public class StringUtils {
         if (searchStr.length() == 0) {
             return startPos;
         }
+        if (str.length() >= SUBSTRING_SEARCH_THRESHOLD) {
+            return new SubstringSearcher(searchStr, true).indexOf(str, startPos);
+        }
         for (int i = startPos; i < endLimit; i++) {
             if (CharSequenceUtils.regionMatches(str, true, i, searchStr, 0, searchStr.length())) {
                 return i;
@@ -1094,7 +1112,9 @@ public class StringUtils {
 
     /**
      * <p>Finds the last index within a CharSequence, handling {@code null}.
-     * This method uses {@link String#lastIndexOf(String)} if possible.</p>
+     * This method uses {@link String#lastIndexOf(String)} if possible.
+     * Other CharSequences of 256 or more characters are searched with a
+     * {@link SubstringSearcher} rather than converted to a String.</p>
      *
      * <p>A {@code null} CharSequence will return {@code -1}.</p>
      *
@@ -1119,7 +1139,7 @@ public class StringUtils {
         if (seq == null || searchSeq == null) {
             return INDEX_NOT_FOUND;
         }
-        return CharSequenceUtils.lastIndexOf(seq, searchSeq, seq.length());
+        return lastIndexOf(seq, searchSeq, seq.length());
     }
 
     /**
@@ -1162,7 +1182,9 @@ public class StringUtils {
 
     /**
      * <p>Finds the last index within a CharSequence, handling {@code null}.
-     * This method uses {@link String#lastIndexOf(String, int)} if possible.</p>
+     * This method uses {@link String#lastIndexOf(String, int)} if possible.
+     * Other CharSequences of 256 or more characters are searched with a
+     * {@link SubstringSearcher} rather than converted to a String.</p>
      *
      * <p>A {@code null} CharSequence will return {@code -1}.
      * A negative start position returns {@code -1}.
@@ -1200,6 +1222,9 @@ public class StringUtils {
         if (seq == null || searchSeq == null) {
             return INDEX_NOT_FOUND;
         }
+        if (!(seq instanceof String) && seq.length() >= SUBSTRING_SEARCH_THRESHOLD) {
+            return new SubstringSearcher(searchSeq).lastIndexOf(seq, startPos);
+        }
         return CharSequenceUtils.lastIndexOf(seq, searchSeq, startPos);
     }
 
@@ -1278,6 +1303,9 @@ public class StringUtils {
         if (searchStr.length() == 0) {
             return startPos;
         }
+        if (str.length() >= SUBSTRING_SEARCH_THRESHOLD) {
+            return new SubstringSearcher(searchStr, true).lastIndexOf(str, startPos);
+        }
 
         for (int i = startPos; i >= 0; i--) {
             if (CharSequenceUtils.regionMatches(str, true, i, searchStr, 0, searchStr.length())) {
@@ -1373,6 +1401,9 @@ public class StringUtils {
         if (str == null || searchStr == null) {
             return false;
         }
+        if (str.length() >= SUBSTRING_SEARCH_THRESHOLD) {
+            return new SubstringSearcher(searchStr, true).contains(str);
+        }
         final int len = searchStr.length();
         final int max = str.length() - len;
         for (int i = 0; i <= max; i++) {
@@ -1837,7 +1868,9 @@ public class StringUtils {
      * A {@code null} or zero length search array will return {@code -1}.
      * A {@code null} search array entry will be ignored, but a search
      * array containing "" will return {@code 0} if {@code str} is not
-     * null. This method uses {@link String#indexOf(String)} if possible.</p>
+     * null. This method uses {@link String#indexOf(String)} if possible.
+     * To search many texts for many strings, compile them once into a
+     * {@link MultiStringSearcher} and use {@link #indexOfAny(CharSequence, MultiStringSearcher)}.</p>
      *
      * <pre>
      * StringUtils.indexOfAny(null, *)                     = -1
@@ -1892,7 +1925,9 @@ public class StringUtils {
      * A {@code null} search array will return {@code -1}.
      * A {@code null} or zero length search array entry will be ignored,
      * but a search array containing "" will return the length of {@code str}
-     * if {@code str} is not null. This method uses {@link String#indexOf(String)} if possible</p>
+     * if {@code str} is not null. This method uses {@link String#indexOf(String)} if possible.
+     * To search many texts for many strings, compile them once into a
+     * {@link MultiStringSearcher} and use {@link #lastIndexOfAny(CharSequence, MultiStringSearcher)}.</p>
      *
      * <pre>
      * StringUtils.lastIndexOfAny(null, *)                   = -1
@@ -1931,6 +1966,78 @@ public class StringUtils {
         return ret;
     }
 
+    /**
+     * <p>Find the first index of any of the search strings of a searcher.</p>
+     *
+     * <p>A {@code null} CharSequence or searcher will return {@code -1}.
+     * The text is read once, however many search strings there are, so a
+     * searcher compiled once should be used to search many texts for many strings.</p>
+     *
+     * <pre>
+     * StringUtils.indexOfAny(null, *)                                               = -1
+     * StringUtils.indexOfAny(*, null)                                               = -1
+     * StringUtils.indexOfAny("zzabyycdxx", new MultiStringSearcher("ab", "cd"))     = 2
+     * StringUtils.indexOfAny("zzabyycdxx", new MultiStringSearcher("zab", "aby"))   = 1
+     * StringUtils.indexOfAny("zzabyycdxx", new MultiStringSearcher("mn", "op"))     = -1
+     * </pre>
+     *
+     * @param str  the CharSequence to check, may be null
+     * @param searcher  the compiled search strings, may be null
+     * @return the first index of any of the search strings in str, -1 if no match
+     * @since 3.2
+     */
+    public static int indexOfAny(final CharSequence str, final MultiStringSearcher searcher) {
+        if (searcher == null) {
+            return INDEX_NOT_FOUND;
+        }
+        return searcher.indexOf(str);
+    }
+
+    /**
+     * <p>Find the latest index of any of the search strings of a searcher.</p>
+     *
+     * <p>A {@code null} CharSequence or searcher will return {@code -1}.</p>
+     *
+     * <pre>
+     * StringUtils.lastIndexOfAny(null, *)                                           = -1
+     * StringUtils.lastIndexOfAny(*, null)                                           = -1
+     * StringUtils.lastIndexOfAny("zzabyycdxx", new MultiStringSearcher("ab", "cd")) = 6
+     * StringUtils.lastIndexOfAny("zzabyycdxx", new MultiStringSearcher("mn", ""))   = 10
+     * </pre>
+     *
+     * @param str  the CharSequence to check, may be null
+     * @param searcher  the compiled search strings, may be null
+     * @return the last index of any of the search strings in str, -1 if no match
+     * @since 3.2
+     */
+    public static int lastIndexOfAny(final CharSequence str, final MultiStringSearcher searcher) {
+        if (searcher == null) {
+            return INDEX_NOT_FOUND;
+        }
+        return searcher.lastIndexOf(str);
+    }
+
+    /**
+     * <p>Checks if the CharSequence contains any of the search strings of a searcher.</p>
+     *
+     * <p>A {@code null} CharSequence or searcher will return {@code false}.</p>
+     *
+     * <pre>
+     * StringUtils.containsAny(null, *)                                           = false
+     * StringUtils.containsAny(*, null)                                           = false
+     * StringUtils.containsAny("zzabyycdxx", new MultiStringSearcher("cd", "xy")) = true
+     * StringUtils.containsAny("zzabyycdxx", new MultiStringSearcher("mn", "op")) = false
+     * </pre>
+     *
+     * @param cs  the CharSequence to check, may be null
+     * @param searcher  the compiled search strings, may be null
+     * @return {@code true} if any of the search strings are found, {@code false} if no match or null input
+     * @since 3.2
+     */
+    public static boolean containsAny(final CharSequence cs, final MultiStringSearcher searcher) {
+        return searcher != null && searcher.contains(cs);
+    }
+
     // Substring
     //-----------------------------------------------------------------------
     /**
@@ -4526,6 +4633,43 @@ public class StringUtils {
         return replaceEach(text, searchList, replacementList, true, timeToLive);
     }
 
+    /**
+     * <p>
+     * Replaces all occurrences of Strings within another String, using a
+     * compiled plan.
+     * </p>
+     *
+     * <p>
+     * The text is read once, however many replacements the plan holds. Unlike
+     * {@link #replaceEach(String, String[], String[])}, the longest search
+     * string is replaced where several start at the same index.
+     * A {@code null} plan is a no-op. This will not repeat.
+     * </p>
+     *
+     * <pre>
+     *  StringUtils.replaceEach(null, *)        = null
+     *  StringUtils.replaceEach("", *)          = ""
+     *  StringUtils.replaceEach("aba", null)    = "aba"
+     *  StringUtils.replaceEach("abcde", new ReplacementPlan(new String[]{"ab", "d"}, new String[]{"w", "t"}))  = "wcte"
+     *  StringUtils.replaceEach("abcde", new ReplacementPlan(new String[]{"a", "ab"}, new String[]{"x", "y"}))  = "ycde"
+     * </pre>
+     *
+     * @param text
+     *            text to search and replace in, no-op if null
+     * @param plan
+     *            the compiled replacements, no-op if null
+     * @return the text with any replacements processed, {@code null} if
+     *         null String input
+     * @see ReplacementPlan
+     * @since 3.2
+     */
+    public static String replaceEach(final String text, final ReplacementPlan plan) {
+        if (plan == null) {
+            return text;
+        }
+        return plan.replace(text);
+    }
+
     /**
      * <p>
      * Replaces all occurrences of Strings within another String.
@@ -5705,6 +5849,9 @@ public class StringUtils {
         if (isEmpty(str) || isEmpty(sub)) {
             return 0;
         }
+        if (!(str instanceof String) && str.length() >= SUBSTRING_SEARCH_THRESHOLD) {
+            return new SubstringSearcher(sub).countMatches(str);
+        }
         int count = 0;
         int idx = 0;
         while ((idx = CharSequenceUtils.indexOf(str, sub, idx)) != INDEX_NOT_FOUND) {
@@ -5714,6 +5861,57 @@ public class StringUtils {
         return count;
     }
 
+    /**
+     * <p>Counts how many times any of the substrings appear in the larger string,
+     * without overlapping.</p>
+     *
+     * <p>At each step the substring occurring first is counted, the longest
+     * if several occur at the same index, and counting continues after it.
+     * A {@code null} or empty ("") String input returns {@code 0}.
+     * {@code null} and empty substrings are ignored.</p>
+     *
+     * <pre>
+     * StringUtils.countMatchesAny(null, *)               = 0
+     * StringUtils.countMatchesAny("", *)                 = 0
+     * StringUtils.countMatchesAny("abba", null)          = 0
+     * StringUtils.countMatchesAny("abba", [""])          = 0
+     * StringUtils.countMatchesAny("abba", ["a", "b"])    = 4
+     * StringUtils.countMatchesAny("abba", ["ab", "bb"])  = 1
+     * StringUtils.countMatchesAny("abba", ["b", "ba"])   = 2
+     * </pre>
+     *
+     * @param str  the CharSequence to check, may be null
+     * @param subs  the substrings to count, may be null
+     * @return the number of occurrences, 0 if the CharSequence or substrings are {@code null}
+     * @since 3.2
+     */
+    public static int countMatchesAny(final CharSequence str, final CharSequence... subs) {
+        if (isEmpty(str) || subs == null) {
+            return 0;
+        }
+        return new MultiStringSearcher(subs).countMatches(str);
+    }
+
+    /**
+     * <p>Counts how many times any of the search strings of a searcher appear
+     * in the larger string, without overlapping.</p>
+     *
+     * <p>This counts as {@link #countMatchesAny(CharSequence, CharSequence...)}
+     * does, reusing a compiled searcher.
+     * A {@code null} or empty ("") String input returns {@code 0}.</p>
+     *
+     * @param str  the CharSequence to check, may be null
+     * @param searcher  the compiled substrings, may be null
+     * @return the number of occurrences, 0 if the CharSequence or searcher is {@code null}
+     * @since 3.2
+     */
+    public static int countMatchesAny(final CharSequence str, final MultiStringSearcher searcher) {
+        if (isEmpty(str) || searcher == null) {
+            return 0;
+        }
+        return searcher.countMatches(str);
+    }
+
     // Character Tests
     //-----------------------------------------------------------------------
     /**
@@ -6610,6 +6808,11 @@ public class StringUtils {
      * This implementation of the Levenshtein distance algorithm
      * is from <a href="http://www.merriampark.com/ldjava.htm">http://www.merriampark.com/ldjava.htm</a></p>
      *
+     * <p>When the shorter String has at most 4096 characters, the distance is
+     * computed with Myers' bit-parallel algorithm instead, which advances a
+     * whole column of 64 characters with a few word operations. Strings of up
+     * to 256 characters reuse buffers kept per thread.</p>
+     *
      * <pre>
      * StringUtils.getLevenshteinDistance(null, *)             = IllegalArgumentException
      * StringUtils.getLevenshteinDistance(*, null)             = IllegalArgumentException
@@ -6635,6 +6838,9 @@ public class StringUtils {
         if (s == null || t == null) {
             throw new IllegalArgumentException("Strings must not be null");
         }
+        if (Math.min(s.length(), t.length()) <= Levenshtein.MAX_LENGTH) {
+            return Levenshtein.distance(s, t, Integer.MAX_VALUE);
+        }
 
         /*
            The difference between this impl. and the previous is that, rather
@@ -6720,6 +6926,12 @@ public class StringUtils {
      * and Chas Emerick's implementation of the Levenshtein distance algorithm from
      * <a href="http://www.merriampark.com/ld.htm">http://www.merriampark.com/ld.htm</a></p>
      *
+     * <p>When the shorter String has at most 4096 characters, the distance is
+     * computed with Myers' bit-parallel algorithm instead. Only the words
+     * covering the diagonal band of width {@code 2 * threshold + 1} are
+     * advanced, and the computation stops as soon as no cell of the band is
+     * within the threshold.</p>
+     *
      * <pre>
      * StringUtils.getLevenshteinDistance(null, *, *)             = IllegalArgumentException
      * StringUtils.getLevenshteinDistance(*, null, *)             = IllegalArgumentException
@@ -6747,6 +6959,9 @@ public class StringUtils {
         if (threshold < 0) {
             throw new IllegalArgumentException("Threshold must not be negative");
         }
+        if (Math.min(s.length(), t.length()) <= Levenshtein.MAX_LENGTH) {
+            return Levenshtein.distance(s, t, threshold);
+        }
 
         /*
         This implementation only computes the distance if it's less than or equal to the
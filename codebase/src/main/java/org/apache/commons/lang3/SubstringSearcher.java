@@ -0,0 +1,364 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+/**
+ * <p>Searches text for a single search string compiled once, optionally ignoring case.</p>
+ *
+ * <p>The search string is compiled into Boyer-Moore-Horspool shift tables,
+ * so that a search usually skips over most of the text rather than comparing
+ * at every index. A searcher can be reused for any number of texts, allocates
+ * nothing while searching and never converts the text to a {@code String},
+ * which makes it suited to long texts held in builders or buffers.</p>
+ *
+ * <pre>
+ * SubstringSearcher marker = new SubstringSearcher("content-type:", true);
+ * int idx = marker.indexOf(headers);
+ * int count = marker.countMatches(headers);
+ * </pre>
+ *
+ * <p>When ignoring case, characters match as by
+ * {@link String#regionMatches(boolean, int, String, int, int)}, that is, if
+ * their upper case forms or the lower case forms of those are equal.</p>
+ *
+ * <p>Instances are immutable and thread-safe.</p>
+ *
+ * @since 3.2
+ * @version $Id$
+ */
+public final class SubstringSearcher {
+
+    /**
+     * The size of the shift tables, which are indexed by the low bits of a character.
+     */
+    private static final int TABLE_SIZE = 256;
+
+    /** The search string, as given. */
+    private final String searchStr;
+    /** Whether case is ignored. */
+    private final boolean ignoreCase;
+    /** The characters of the search string, folded if case is ignored. */
+    private final char[] pattern;
+    /** The shift when searching forwards, by the last character of the window. */
+    private final int[] forwardShift;
+    /** The shift when searching backwards, by the first character of the window. */
+    private final int[] backwardShift;
+
+    /**
+     * <p>Compiles a case sensitive search string.</p>
+     *
+     * @param searchStr  the string to search for, not null
+     * @throws IllegalArgumentException if the search string is {@code null}
+     */
+    public SubstringSearcher(final CharSequence searchStr) {
+        this(searchStr, false);
+    }
+
+    /**
+     * <p>Compiles a search string.</p>
+     *
+     * @param searchStr  the string to search for, not null
+     * @param ignoreCase  whether to ignore case
+     * @throws IllegalArgumentException if the search string is {@code null}
+     */
+    public SubstringSearcher(final CharSequence searchStr, final boolean ignoreCase) {
+        if (searchStr == null) {
+            throw new IllegalArgumentException("Search string must not be null");
+        }
+        this.searchStr = searchStr.toString();
+        this.ignoreCase = ignoreCase;
+        final int len = this.searchStr.length();
+        pattern = new char[len];
+        for (int i = 0; i < len; i++) {
+            pattern[i] = fold(this.searchStr.charAt(i));
+        }
+        forwardShift = new int[TABLE_SIZE];
+        backwardShift = new int[TABLE_SIZE];
+        for (int i = 0; i < TABLE_SIZE; i++) {
+            forwardShift[i] = len;
+            backwardShift[i] = len;
+        }
+        // characters sharing the low bits share a slot, which keeps the smallest shift
+        for (int i = 0; i < len - 1; i++) {
+            forwardShift[pattern[i] & TABLE_SIZE - 1] = len - 1 - i;
+        }
+        for (int i = len - 1; i > 0; i--) {
+            backwardShift[pattern[i] & TABLE_SIZE - 1] = i;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * <p>Gets the search string.</p>
+     *
+     * @return the search string, not null
+     */
+    public String getSearchString() {
+        return searchStr;
+    }
+
+    /**
+     * <p>Gets whether case is ignored.</p>
+     *
+     * @return true if case is ignored
+     */
+    public boolean isIgnoreCase() {
+        return ignoreCase;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * <p>Finds the first index of the search string.</p>
+     *
+     * @param str  the CharSequence to search, may be null
+     * @return the first index of the search string, -1 if not found or {@code null} input
+     */
+    public int indexOf(final CharSequence str) {
+        return indexOf(str, 0);
+    }
+
+    /**
+     * <p>Finds the first index of the search string at or after a start
+     * position, as {@link String#indexOf(String, int)} does.</p>
+     *
+     * <p>A negative start position is treated as zero. A start position
+     * greater than the length only matches an empty search string, at the
+     * end.</p>
+     *
+     * @param str  the CharSequence to search, may be null
+     * @param startPos  the position to start the search at
+     * @return the first index of the search string, -1 if not found or {@code null} input
+     */
+    public int indexOf(final CharSequence str, final int startPos) {
+        if (str == null) {
+            return StringUtils.INDEX_NOT_FOUND;
+        }
+        final int len = pattern.length;
+        final int strLen = str.length();
+        final int start = Math.max(startPos, 0);
+        if (len == 0) {
+            return Math.min(start, strLen);
+        }
+        final int last = len - 1;
+        final char lastChar = pattern[last];
+        final int max = strLen - len;
+        int i = start;
+        while (i <= max) {
+            final char ch = fold(str.charAt(i + last));
+            if (ch == lastChar && matchesAt(str, i, last)) {
+                return i;
+            }
+            i += forwardShift[ch & TABLE_SIZE - 1];
+        }
+        return StringUtils.INDEX_NOT_FOUND;
+    }
+
+    /**
+     * <p>Finds the last index of the search string.</p>
+     *
+     * @param str  the CharSequence to search, may be null
+     * @return the last index of the search string, -1 if not found or {@code null} input
+     */
+    public int lastIndexOf(final CharSequence str) {
+        if (str == null) {
+            return StringUtils.INDEX_NOT_FOUND;
+        }
+        return lastIndexOf(str, str.length());
+    }
+
+    /**
+     * <p>Finds the last index of the search string at or before a start
+     * position, as {@link String#lastIndexOf(String, int)} does.</p>
+     *
+     * <p>A negative start position returns -1. A start position greater
+     * than the length searches the whole text.</p>
+     *
+     * @param str  the CharSequence to search, may be null
+     * @param startPos  the position to start the search backwards at
+     * @return the last index of the search string, -1 if not found or {@code null} input
+     */
+    public int lastIndexOf(final CharSequence str, final int startPos) {
+        if (str == null) {
+            return StringUtils.INDEX_NOT_FOUND;
+        }
+        final int len = pattern.length;
+        int i = Math.min(startPos, str.length() - len);
+        if (len == 0) {
+            return i < 0 ? StringUtils.INDEX_NOT_FOUND : i;
+        }
+        final char firstChar = pattern[0];
+        while (i >= 0) {
+            final char ch = fold(str.charAt(i));
+            if (ch == firstChar && matchesFrom(str, i, 1)) {
+                return i;
+            }
+            i -= backwardShift[ch & TABLE_SIZE - 1];
+        }
+        return StringUtils.INDEX_NOT_FOUND;
+    }
+
+    /**
+     * <p>Checks whether the search string occurs.</p>
+     *
+     * @param str  the CharSequence to search, may be null
+     * @return true if the search string occurs, false if not or {@code null} input
+     */
+    public boolean contains(final CharSequence str) {
+        return indexOf(str, 0) >= 0;
+    }
+
+    /**
+     * <p>Counts the occurrences of the search string that do not overlap,
+     * as {@link StringUtils#countMatches(CharSequence, CharSequence)} does.</p>
+     *
+     * <p>An empty search string is never counted.</p>
+     *
+     * @param str  the CharSequence to search, may be null
+     * @return the number of occurrences, 0 if {@code null} input
+     */
+    public int countMatches(final CharSequence str) {
+        if (str == null || pattern.length == 0) {
+            return 0;
+        }
+        int count = 0;
+        int idx = 0;
+        while ((idx = indexOf(str, idx)) != StringUtils.INDEX_NOT_FOUND) {
+            count++;
+            idx += pattern.length;
+        }
+        return count;
+    }
+
+    /**
+     * <p>Finds the n-th index of the search string, as
+     * {@link StringUtils#ordinalIndexOf(CharSequence, CharSequence, int)} does.</p>
+     *
+     * <p>Occurrences may overlap. An empty search string is found at index 0.</p>
+     *
+     * @param str  the CharSequence to search, may be null
+     * @param ordinal  the n-th occurrence to find, starting at 1
+     * @return the n-th index of the search string, -1 if not found,
+     *  {@code null} input or an ordinal less than 1
+     */
+    public int ordinalIndexOf(final CharSequence str, final int ordinal) {
+        if (str == null || ordinal <= 0) {
+            return StringUtils.INDEX_NOT_FOUND;
+        }
+        if (pattern.length == 0) {
+            return 0;
+        }
+        int index = StringUtils.INDEX_NOT_FOUND;
+        for (int found = 0; found < ordinal; found++) {
+            index = indexOf(str, index + 1);
+            if (index < 0) {
+                break;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * <p>Finds the n-th last index of the search string, as
+     * {@link StringUtils#lastOrdinalIndexOf(CharSequence, CharSequence, int)} does.</p>
+     *
+     * <p>Occurrences may overlap. An empty search string is found at the end.</p>
+     *
+     * @param str  the CharSequence to search, may be null
+     * @param ordinal  the n-th last occurrence to find, starting at 1
+     * @return the n-th last index of the search string, -1 if not found,
+     *  {@code null} input or an ordinal less than 1
+     */
+    public int lastOrdinalIndexOf(final CharSequence str, final int ordinal) {
+        if (str == null || ordinal <= 0) {
+            return StringUtils.INDEX_NOT_FOUND;
+        }
+        if (pattern.length == 0) {
+            return str.length();
+        }
+        int index = str.length();
+        for (int found = 0; found < ordinal; found++) {
+            index = lastIndexOf(str, index - 1);
+            if (index < 0) {
+                break;
+            }
+        }
+        return index;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks whether the search string matches at an index, except for the
+     * characters from a position on, which are already known to match.
+     *
+     * @param str  the text
+     * @param index  the index in the text
+     * @param end  the position in the search string to stop comparing at
+     * @return true if the characters before {@code end} match
+     */
+    private boolean matchesAt(final CharSequence str, final int index, final int end) {
+        for (int j = 0; j < end; j++) {
+            if (fold(str.charAt(index + j)) != pattern[j]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the search string matches at an index, from a position
+     * on, the characters before it being already known to match.
+     *
+     * @param str  the text
+     * @param index  the index in the text
+     * @param from  the position in the search string to start comparing at
+     * @return true if the characters from {@code from} match
+     */
+    private boolean matchesFrom(final CharSequence str, final int index, final int from) {
+        for (int j = from; j < pattern.length; j++) {
+            if (fold(str.charAt(index + j)) != pattern[j]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Folds the case of a character, if case is ignored.
+     *
+     * @param ch  the character
+     * @return the character, folded if case is ignored
+     */
+    private char fold(final char ch) {
+        if (!ignoreCase) {
+            return ch;
+        }
+        if (ch < 128) {
+            return ch >= 'A' && ch <= 'Z' ? (char) (ch + ('a' - 'A')) : ch;
+        }
+        return Character.toLowerCase(Character.toUpperCase(ch));
+    }
+
+    /**
+     * <p>Gets a description of this searcher.</p>
+     *
+     * @return a description including the search string
+     */
+    @Override
+    public String toString() {
+        return "SubstringSearcher[" + searchStr + (ignoreCase ? ", ignoreCase]" : "]");
+    }
+}
@@ -16,9 +16,7 @@
  */
 package org.apache.commons.lang3.builder;
 
-import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
@@ -395,14 +393,10 @@ public class EqualsBuilder implements Builder<Boolean> {
 
         try {
             register(lhs, rhs);
-            final Field[] fields = clazz.getDeclaredFields();
-            AccessibleObject.setAccessible(fields, true);
+            final Field[] fields = FieldPlan.of(clazz).getFields(useTransients);
             for (int i = 0; i < fields.length && builder.isEquals; i++) {
                 final Field f = fields[i];
-                if (!ArrayUtils.contains(excludeFields, f.getName())
-                    && (f.getName().indexOf('$') == -1)
-                    && (useTransients || !Modifier.isTransient(f.getModifiers()))
-                    && (!Modifier.isStatic(f.getModifiers()))) {
+                if (!ArrayUtils.contains(excludeFields, f.getName())) {
                     try {
                         builder.append(f.get(lhs), f.get(rhs));
                     } catch (final IllegalAccessException e) {
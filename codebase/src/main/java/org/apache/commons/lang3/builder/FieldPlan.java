@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.builder;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>The fields of a single class that the reflection methods of the builders
+ * work on, looked up and made accessible once per class.</p>
+ *
+ * <p>{@link Class#getDeclaredFields()} copies its result on every call and
+ * {@link AccessibleObject#setAccessible(AccessibleObject[], boolean)} performs a
+ * security check, so doing both for every <code>reflectionHashCode</code> or
+ * <code>reflectionEquals</code> call is expensive. Plans are held in a
+ * {@link ClassValue}, so they do not keep classes or their class loaders alive.</p>
+ *
+ * <p>Only the fields declared by the class itself are included, in declaration
+ * order. {@link #getFields(boolean)} leaves out static fields and fields with a
+ * <code>$</code> in their name (such as the reference to an enclosing instance);
+ * {@link #getDeclaredFields()} returns them all.</p>
+ *
+ * @since 3.2
+ * @version $Id$
+ */
+final class FieldPlan {
+
+    /**
+     * The plans, by class.
+     */
+    private static final ClassValue<FieldPlan> PLANS = new ClassValue<FieldPlan>() {
+        @Override
+        protected FieldPlan computeValue(final Class<?> type) {
+            return new FieldPlan(type);
+        }
+    };
+
+    /**
+     * All declared fields.
+     */
+    private final Field[] declaredFields;
+
+    /**
+     * All instance fields, including the transient ones.
+     */
+    private final Field[] fields;
+
+    /**
+     * The instance fields that are not transient.
+     */
+    private final Field[] nonTransientFields;
+
+    /**
+     * Looks up the fields of the given class.
+     *
+     * @param clazz  the class to look up the fields of
+     */
+    private FieldPlan(final Class<?> clazz) {
+        declaredFields = clazz.getDeclaredFields();
+        AccessibleObject.setAccessible(declaredFields, true);
+        final List<Field> all = new ArrayList<Field>();
+        final List<Field> nonTransient = new ArrayList<Field>();
+        for (final Field field : declaredFields) {
+            final int modifiers = field.getModifiers();
+            if (field.getName().indexOf('$') == -1 && !Modifier.isStatic(modifiers)) {
+                all.add(field);
+                if (!Modifier.isTransient(modifiers)) {
+                    nonTransient.add(field);
+                }
+            }
+        }
+        fields = all.toArray(new Field[all.size()]);
+        nonTransientFields = nonTransient.toArray(new Field[nonTransient.size()]);
+    }
+
+    /**
+     * Returns the plan for the given class.
+     *
+     * @param clazz  the class to get the plan for, not null
+     * @return the plan, not null
+     */
+    static FieldPlan of(final Class<?> clazz) {
+        return PLANS.get(clazz);
+    }
+
+    /**
+     * Returns the accessible instance fields of the class. The returned array is
+     * shared and must not be modified.
+     *
+     * @param useTransients  whether to include transient fields
+     * @return the fields, not null
+     */
+    Field[] getFields(final boolean useTransients) {
+        return useTransients ? fields : nonTransientFields;
+    }
+
+    /**
+     * Returns all the accessible declared fields of the class, including static
+     * and synthetic ones. The returned array is shared and must not be modified.
+     *
+     * @return the fields, not null
+     */
+    Field[] getDeclaredFields() {
+        return declaredFields;
+    }
+}
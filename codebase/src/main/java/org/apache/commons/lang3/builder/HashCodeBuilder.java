@@ -17,9 +17,7 @@
 
 package org.apache.commons.lang3.builder;
 
-import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
@@ -175,13 +173,8 @@ public class HashCodeBuilder implements Builder<Integer> {
         }
         try {
             register(object);
-            final Field[] fields = clazz.getDeclaredFields();
-            AccessibleObject.setAccessible(fields, true);
-            for (final Field field : fields) {
-                if (!ArrayUtils.contains(excludeFields, field.getName())
-                    && (field.getName().indexOf('$') == -1)
-                    && (useTransients || !Modifier.isTransient(field.getModifiers()))
-                    && (!Modifier.isStatic(field.getModifiers()))) {
+            for (final Field field : FieldPlan.of(clazz).getFields(useTransients)) {
+                if (!ArrayUtils.contains(excludeFields, field.getName())) {
                     try {
                         final Object fieldValue = field.get(object);
                         builder.append(fieldValue);
@@ -17,7 +17,7 @@
 
 package org.apache.commons.lang3.builder;
 
-import java.lang.reflect.AccessibleObject;
+import java.io.IOException;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
@@ -279,8 +279,117 @@ public class ReflectionToStringBuilder extends ToStringBuilder {
     public static <T> String toString(
             final T object, final ToStringStyle style, final boolean outputTransients,
             final boolean outputStatics, final Class<? super T> reflectUpToClass) {
-        return new ReflectionToStringBuilder(object, style, null, reflectUpToClass, outputTransients, outputStatics)
-                .toString();
+        final StringBuffer buffer = acquireBuffer();
+        final boolean callRegistry = ToStringStyle.openCallRegistry();
+        try {
+            return new ReflectionToStringBuilder(object, style, buffer, reflectUpToClass, outputTransients, outputStatics)
+                    .toString();
+        } finally {
+            if (callRegistry) {
+                ToStringStyle.closeCallRegistry();
+            }
+            releaseBuffer(buffer);
+        }
+    }
+
+    /**
+     * <p>
+     * Appends the <code>toString</code> of an object, built by reflection, to a <code>StringBuilder</code>.
+     * </p>
+     *
+     * <p>
+     * The result is the same as that of {@link #toString(Object, ToStringStyle)}, but it is built in a buffer that
+     * is reused by the calling thread and copied straight into the given builder, without creating a
+     * <code>String</code>. This suits callers such as loggers that assemble a message in a builder of their own.
+     * </p>
+     *
+     * @param builder
+     *            the builder to append to, not <code>null</code>
+     * @param object
+     *            the Object to be output, may be <code>null</code>
+     * @param style
+     *            the style of the <code>toString</code> to create, may be <code>null</code>
+     * @return the given builder
+     * @throws IllegalArgumentException
+     *             if the builder is <code>null</code>
+     * @since 3.2
+     */
+    public static StringBuilder appendTo(final StringBuilder builder, final Object object, final ToStringStyle style) {
+        if (builder == null) {
+            throw new IllegalArgumentException("The StringBuilder must not be null");
+        }
+        final StringBuffer buffer = acquireBuffer();
+        try {
+            return builder.append(reflectionAppend(buffer, object, style));
+        } finally {
+            releaseBuffer(buffer);
+        }
+    }
+
+    /**
+     * <p>
+     * Appends the <code>toString</code> of an object, built by reflection, to an <code>Appendable</code>.
+     * </p>
+     *
+     * <p>
+     * The result is the same as that of {@link #toString(Object, ToStringStyle)}. It is built through the given
+     * {@link ToStringStyle} in a buffer that is reused by the calling thread, and handed to the target in a single
+     * <code>append</code> call, so writers and other <code>Appendable</code> targets receive the whole text at once.
+     * </p>
+     *
+     * @param appendable
+     *            the target to append to, not <code>null</code>
+     * @param object
+     *            the Object to be output, may be <code>null</code>
+     * @param style
+     *            the style of the <code>toString</code> to create, may be <code>null</code>
+     * @return the given target
+     * @throws IOException
+     *             if the target throws it
+     * @throws IllegalArgumentException
+     *             if the target is <code>null</code>
+     * @since 3.2
+     */
+    public static Appendable appendTo(final Appendable appendable, final Object object, final ToStringStyle style)
+            throws IOException {
+        if (appendable == null) {
+            throw new IllegalArgumentException("The Appendable must not be null");
+        }
+        final StringBuffer buffer = acquireBuffer();
+        try {
+            return appendable.append(reflectionAppend(buffer, object, style));
+        } finally {
+            releaseBuffer(buffer);
+        }
+    }
+
+    /**
+     * <p>
+     * Builds the reflection <code>toString</code> of an object into the given buffer.
+     * </p>
+     *
+     * @param buffer
+     *            the buffer to build in, not <code>null</code>
+     * @param object
+     *            the Object to be output, may be <code>null</code>
+     * @param style
+     *            the style of the <code>toString</code> to create, may be <code>null</code>
+     * @return the given buffer
+     */
+    private static StringBuffer reflectionAppend(final StringBuffer buffer, final Object object, final ToStringStyle style) {
+        final boolean callRegistry = ToStringStyle.openCallRegistry();
+        try {
+            final ReflectionToStringBuilder toStringBuilder = new ReflectionToStringBuilder(object, style, buffer);
+            if (object != null) {
+                toStringBuilder.appendAllFields();
+            }
+            toStringBuilder.appendEnd();
+            return buffer;
+        } finally {
+            if (callRegistry) {
+                ToStringStyle.closeCallRegistry();
+            }
+        }
     }
 
     /**
@@ -342,7 +451,16 @@ public class ReflectionToStringBuilder extends ToStringBuilder {
      * @return The toString value.
      */
     public static String toStringExclude(final Object object, final String... excludeFieldNames) {
-        return new ReflectionToStringBuilder(object).setExcludeFieldNames(excludeFieldNames).toString();
+        final StringBuffer buffer = acquireBuffer();
+        final boolean callRegistry = ToStringStyle.openCallRegistry();
+        try {
+            return new ReflectionToStringBuilder(object, null, buffer).setExcludeFieldNames(excludeFieldNames).toString();
+        } finally {
+            if (callRegistry) {
+                ToStringStyle.closeCallRegistry();
+            }
+            releaseBuffer(buffer);
+        }
     }
 
     /**
@@ -510,9 +628,7 @@ public class ReflectionToStringBuilder extends ToStringBuilder {
             this.reflectionAppendArray(this.getObject());
             return;
         }
-        final Field[] fields = clazz.getDeclaredFields();
-        AccessibleObject.setAccessible(fields, true);
-        for (final Field field : fields) {
+        for (final Field field : FieldPlan.of(clazz).getDeclaredFields()) {
             final String fieldName = field.getName();
             if (this.accept(field)) {
                 try {
@@ -679,13 +795,22 @@ public class ReflectionToStringBuilder extends ToStringBuilder {
         if (this.getObject() == null) {
             return this.getStyle().getNullText();
         }
+        appendAllFields();
+        return super.toString();
+    }
+
+    /**
+     * <p>
+     * Appends the fields of the object's class and its superclasses, up to {@link #getUpToClass()}.
+     * </p>
+     */
+    private void appendAllFields() {
         Class<?> clazz = this.getObject().getClass();
         this.appendFieldsIn(clazz);
         while (clazz.getSuperclass() != null && clazz != this.getUpToClass()) {
             clazz = clazz.getSuperclass();
             this.appendFieldsIn(clazz);
         }
-        return super.toString();
     }
 
 }
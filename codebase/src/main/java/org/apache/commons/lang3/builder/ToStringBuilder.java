@@ -93,6 +93,17 @@ public class ToStringBuilder implements Builder<String> {
      */
     private static volatile ToStringStyle defaultStyle = ToStringStyle.DEFAULT_STYLE;
 
+    /**
+     * The largest buffer, in characters, that is kept for reuse by {@link #acquireBuffer()}.
+     */
+    private static final int MAX_POOLED_CAPACITY = 64 * 1024;
+
+    /**
+     * A free buffer of each thread for the one-shot reflection methods, or null if the
+     * thread's buffer is in use.
+     */
+    private static final ThreadLocal<StringBuffer> POOLED_BUFFER = new ThreadLocal<StringBuffer>();
+
     //----------------------------------------------------------------------------
 
     /**
@@ -200,6 +211,35 @@ public class ToStringBuilder implements Builder<String> {
         return ReflectionToStringBuilder.toString(object, style, outputTransients, false, reflectUpToClass);
     }
 
+    /**
+     * <p>Takes the calling thread's free buffer, or creates a new one if it is in use
+     * by an enclosing <code>toString</code> call. Must be handed back with
+     * {@link #releaseBuffer(StringBuffer)} once the result has been copied out.</p>
+     *
+     * @return an empty buffer, not null
+     */
+    static StringBuffer acquireBuffer() {
+        final StringBuffer buffer = POOLED_BUFFER.get();
+        if (buffer == null) {
+            return new StringBuffer(512);
+        }
+        POOLED_BUFFER.set(null);
+        return buffer;
+    }
+
+    /**
+     * <p>Hands a buffer obtained from {@link #acquireBuffer()} back to the calling thread,
+     * unless it has grown too large to keep.</p>
+     *
+     * @param buffer  the buffer to release
+     */
+    static void releaseBuffer(final StringBuffer buffer) {
+        if (buffer.capacity() <= MAX_POOLED_CAPACITY) {
+            buffer.setLength(0);
+            POOLED_BUFFER.set(buffer);
+        }
+    }
+
     //----------------------------------------------------------------------------
 
     /**
@@ -1055,12 +1095,20 @@ public class ToStringBuilder implements Builder<String> {
      */
     @Override
     public String toString() {
+        appendEnd();
+        return this.getStringBuffer().toString();
+    }
+
+    /**
+     * <p>Appends the end of data indicator, or the style's <code>nullText</code>
+     * if the object is <code>null</code>.</p>
+     */
+    void appendEnd() {
         if (this.getObject() == null) {
             this.getStringBuffer().append(this.getStyle().getNullText());
         } else {
             style.appendEnd(this.getStringBuffer(), this.getObject());
         }
-        return this.getStringBuffer().toString();
     }
 
     /**
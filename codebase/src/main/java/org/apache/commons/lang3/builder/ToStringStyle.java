@@ -19,6 +19,7 @@ package org.apache.commons.lang3.builder;
 import java.io.Serializable;
 import java.lang.reflect.Array;
 import java.util.Collection;
+import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.WeakHashMap;
 
@@ -133,8 +134,8 @@ public abstract class ToStringStyle implements Serializable {
      * to detect cyclical object references and avoid infinite loops.
      * </p>
      */
-    private static final ThreadLocal<WeakHashMap<Object, Object>> REGISTRY =
-        new ThreadLocal<WeakHashMap<Object,Object>>();
+    private static final ThreadLocal<Map<Object, Object>> REGISTRY =
+        new ThreadLocal<Map<Object,Object>>();
     /*
      * Note that objects of this class are generally shared between threads, so
      * an instance variable would not be suitable here.
@@ -143,8 +144,22 @@ public abstract class ToStringStyle implements Serializable {
      * should call toString() which will clean up.
      * 
      * See LANG-792
+     *
+     * The one-shot reflectionToString methods instead install a CallRegistry, which
+     * compares by identity and is removed when the call returns, see openCallRegistry().
      */
 
+    /**
+     * <p>
+     * A registry that lasts for a single <code>reflectionToString</code> call. It
+     * compares objects by identity, so it neither calls their <code>hashCode</code>
+     * and <code>equals</code> methods nor mistakes equal objects for a cycle.
+     * </p>
+     */
+    private static final class CallRegistry extends IdentityHashMap<Object, Object> {
+        private static final long serialVersionUID = 1L;
+    }
+
     /**
      * <p>
      * Returns the registry of objects being traversed by the <code>reflectionToString</code>
@@ -209,13 +224,40 @@ public abstract class ToStringStyle implements Serializable {
             final Map<Object, Object> m = getRegistry();
             if (m != null) {
                 m.remove(value);
-                if (m.isEmpty()) {
+                if (m.isEmpty() && !(m instanceof CallRegistry)) {
                     REGISTRY.remove();
                 }
             }
         }
     }
 
+    /**
+     * <p>
+     * Installs an identity based registry for the current thread that lasts until
+     * {@link #closeCallRegistry()}, unless the thread already has a registry because
+     * it is inside another <code>toString</code> call.
+     * </p>
+     *
+     * @return <code>true</code> if a registry was installed and must be closed
+     */
+    static boolean openCallRegistry() {
+        if (getRegistry() != null) {
+            return false;
+        }
+        REGISTRY.set(new CallRegistry());
+        return true;
+    }
+
+    /**
+     * <p>
+     * Removes the registry installed by {@link #openCallRegistry()}, together with
+     * any objects left in it by a call that failed.
+     * </p>
+     */
+    static void closeCallRegistry() {
+        REGISTRY.remove();
+    }
+
     /**
      * Whether to use the field names, the default is <code>true</code>.
      */
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.reflect;
+
+import java.lang.reflect.Field;
+
+/**
+ * <p>Reads and writes a <code>char</code> field without boxing.</p>
+ *
+ * @see FieldAccessor
+ * @since 3.2
+ * @version $Id$
+ */
+public final class CharFieldAccessor extends FieldAccessor {
+
+    /**
+     * <p>Creates an accessor for the given field.</p>
+     *
+     * @param field  the <code>char</code> field to access, not null
+     * @throws IllegalArgumentException if the field is null or not of type <code>char</code>
+     * @throws IllegalAccessException if the field is not accessible
+     */
+    public CharFieldAccessor(final Field field) throws IllegalAccessException {
+        super(field, Character.TYPE);
+    }
+
+    /**
+     * <p>Reads the field.</p>
+     *
+     * @param target  the object to read the field of, ignored for a static field
+     * @return the field value
+     * @throws IllegalArgumentException if the target is not an instance of the declaring class
+     * @throws NullPointerException if the target is null and the field is not static
+     */
+    public char get(final Object target) {
+        try {
+            return (char) getter.invokeExact(target);
+        } catch (final Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /**
+     * <p>Writes the field.</p>
+     *
+     * @param target  the object to write the field of, ignored for a static field
+     * @param value  the value to set
+     * @throws IllegalArgumentException if the target is not an instance of the declaring class
+     * @throws NullPointerException if the target is null and the field is not static
+     * @throws UnsupportedOperationException if the field is final
+     */
+    public void set(final Object target, final char value) {
+        checkWritable();
+        try {
+            setter.invokeExact(target, value);
+        } catch (final Throwable t) {
+            throw rethrow(t);
+        }
+    }
+}
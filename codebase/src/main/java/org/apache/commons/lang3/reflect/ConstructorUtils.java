@@ -19,6 +19,10 @@ package org.apache.commons.lang3.reflect;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.ClassUtils;
@@ -40,11 +44,30 @@ import org.apache.commons.lang3.ClassUtils;
  * succeed when the application has sufficient security privileges. If this call
  * fails then a warning will be logged and the method may fail.</p>
  *
+ * <h3>Caching</h3>
+ * <p>The result of {@link #getMatchingAccessibleConstructor(Class, Class[])}, including
+ * the absence of a match, is cached by class and parameter types, and
+ * <code>invokeConstructor</code> calls the cached constructor through an
+ * {@link Instantiator}. The cache holds strong references to the classes involved;
+ * call {@link #clearCache(ClassLoader)} before discarding a class loader whose
+ * classes have been looked up.</p>
+ *
  * @since 2.5
  * @version $Id$
  */
 public class ConstructorUtils {
 
+    /**
+     * Marks a lookup in {@link #MATCHING_CONSTRUCTORS} that found no constructor.
+     */
+    private static final CachedConstructor NO_CONSTRUCTOR = new CachedConstructor(null);
+
+    /**
+     * The results of {@link #getMatchingAccessibleConstructor(Class, Class[])}.
+     */
+    private static final ConcurrentMap<MemberKey, CachedConstructor> MATCHING_CONSTRUCTORS =
+        new ConcurrentHashMap<MemberKey, CachedConstructor>();
+
     /**
      * <p>ConstructorUtils instances should NOT be constructed in standard
      * programming. Instead, the class should be used as
@@ -113,11 +136,19 @@ public class ConstructorUtils {
         if (args == null) {
             args = ArrayUtils.EMPTY_OBJECT_ARRAY;
         }
-        final Constructor<T> ctor = getMatchingAccessibleConstructor(cls, parameterTypes);
-        if (ctor == null) {
+        final CachedConstructor cached = getMatchingCachedConstructor(cls, parameterTypes);
+        if (cached == NO_CONSTRUCTOR) {
             throw new NoSuchMethodException(
                 "No such accessible constructor on object: " + cls.getName());
         }
+        @SuppressWarnings("unchecked") // the cache entry was found for cls
+        final Instantiator<T> instantiator = (Instantiator<T>) cached.getInstantiator();
+        if (instantiator != null && MemberUtils.isCompatible(instantiator.parameterTypes(), args)) {
+            return instantiator.invoke(args);
+        }
+        // let reflection report the problem in the usual way
+        @SuppressWarnings("unchecked") // the cache entry was found for cls
+        final Constructor<T> ctor = (Constructor<T>) cached.constructor;
         return ctor.newInstance(args);
     }
 
@@ -242,6 +273,178 @@ public class ConstructorUtils {
      */
     public static <T> Constructor<T> getMatchingAccessibleConstructor(final Class<T> cls,
             final Class<?>... parameterTypes) {
+        @SuppressWarnings("unchecked") // the cache entry was found for cls
+        final Constructor<T> ctor = (Constructor<T>) getMatchingCachedConstructor(cls, parameterTypes).constructor;
+        return ctor;
+    }
+
+    /**
+     * <p>Returns an {@link Instantiator} that creates instances of the given class with the
+     * constructor that best matches the given parameter types.</p>
+     *
+     * <p>The constructor is chosen as by {@link #getMatchingAccessibleConstructor(Class, Class[])}.
+     * If there is none, a public variable arity constructor is looked for whose last, array,
+     * parameter can collect the trailing parameter types, so that for example
+     * <code>(String.class, String.class)</code> finds a constructor taking <code>String...</code>.
+     * The instantiator then takes the individual arguments.</p>
+     *
+     * @param <T> the type to be constructed
+     * @param cls  the class to be constructed, not null
+     * @param parameterTypes  the types of the arguments that will be passed, null treated as empty
+     * @return the instantiator, not null
+     * @throws NoSuchMethodException if no matching accessible constructor can be found
+     * @throws IllegalAccessException if the constructor cannot be accessed
+     * @throws InstantiationException if the class is abstract
+     * @since 3.2
+     */
+    public static <T> Instantiator<T> getInstantiator(final Class<T> cls, final Class<?>... parameterTypes)
+            throws NoSuchMethodException, IllegalAccessException, InstantiationException {
+        final Class<?>[] types = parameterTypes == null ? ArrayUtils.EMPTY_CLASS_ARRAY : parameterTypes;
+        final CachedConstructor cached = getMatchingCachedConstructor(cls, types);
+        if (cached != NO_CONSTRUCTOR) {
+            @SuppressWarnings("unchecked") // the cache entry was found for cls
+            final Instantiator<T> instantiator = (Instantiator<T>) cached.getInstantiator();
+            if (instantiator != null) {
+                return instantiator;
+            }
+            // report why it could not be created
+            @SuppressWarnings("unchecked") // the cache entry was found for cls
+            final Constructor<T> ctor = (Constructor<T>) cached.constructor;
+            return new Instantiator<T>(ctor, -1);
+        }
+        final Constructor<T> ctor = getMatchingVarArgsConstructor(cls, types);
+        if (ctor == null) {
+            throw new NoSuchMethodException(
+                "No such accessible constructor on object: " + cls.getName());
+        }
+        return new Instantiator<T>(ctor, types.length - ctor.getParameterTypes().length + 1);
+    }
+
+    /**
+     * <p>Removes all entries from the cache used by
+     * {@link #getMatchingAccessibleConstructor(Class, Class[])} and the
+     * <code>invokeConstructor</code> methods.</p>
+     *
+     * @since 3.2
+     */
+    public static void clearCache() {
+        MATCHING_CONSTRUCTORS.clear();
+    }
+
+    /**
+     * <p>Removes the cache entries that refer to a class defined by the given
+     * class loader, either as the class searched or as a parameter type.
+     * This allows the class loader to be garbage collected.</p>
+     *
+     * @param classLoader  the class loader whose classes to forget, <code>null</code>
+     *  for the bootstrap class loader
+     * @since 3.2
+     */
+    public static void clearCache(final ClassLoader classLoader) {
+        for (final Iterator<Map.Entry<MemberKey, CachedConstructor>> it =
+                MATCHING_CONSTRUCTORS.entrySet().iterator(); it.hasNext();) {
+            if (it.next().getKey().isLoadedBy(classLoader)) {
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * <p>Finds the constructor that {@link #getMatchingAccessibleConstructor(Class, Class[])}
+     * returns, using the cache.</p>
+     *
+     * @param cls  the class to find a constructor for, not null
+     * @param parameterTypes find method with compatible parameters
+     * @return the cache entry, {@link #NO_CONSTRUCTOR} if there is no such constructor
+     */
+    private static CachedConstructor getMatchingCachedConstructor(final Class<?> cls,
+            final Class<?>... parameterTypes) {
+        final Class<?>[] types = parameterTypes == null ? ArrayUtils.EMPTY_CLASS_ARRAY : parameterTypes;
+        final MemberKey key = new MemberKey(cls, MemberKey.CONSTRUCTOR_NAME, types);
+        CachedConstructor cached = MATCHING_CONSTRUCTORS.get(key);
+        if (cached == null) {
+            final Constructor<?> ctor = findMatchingAccessibleConstructor(cls, types);
+            cached = ctor == null ? NO_CONSTRUCTOR : new CachedConstructor(ctor);
+            // the caller may change its array later on
+            final CachedConstructor previous = MATCHING_CONSTRUCTORS.putIfAbsent(key.copy(), cached);
+            if (previous != null) {
+                cached = previous;
+            }
+        }
+        return cached;
+    }
+
+    /**
+     * <p>Finds the public variable arity constructor that best matches the given
+     * parameter types, with the trailing types collected into the array parameter.</p>
+     *
+     * @param <T> the constructor type
+     * @param cls  the class to find a constructor for, not null
+     * @param parameterTypes  the parameter types, not null
+     * @return the constructor, null if no matching accessible constructor found
+     */
+    private static <T> Constructor<T> getMatchingVarArgsConstructor(final Class<T> cls,
+            final Class<?>[] parameterTypes) {
+        Constructor<T> result = null;
+        Class<?>[] resultTypes = null;
+        for (Constructor<?> ctor : cls.getConstructors()) {
+            if (!ctor.isVarArgs()) {
+                continue;
+            }
+            final Class<?>[] expanded = expandVarArgs(ctor.getParameterTypes(), parameterTypes.length);
+            if (expanded == null || !ClassUtils.isAssignable(parameterTypes, expanded, true)) {
+                continue;
+            }
+            ctor = getAccessibleConstructor(ctor);
+            if (ctor != null) {
+                MemberUtils.setAccessibleWorkaround(ctor);
+                if (result == null || MemberUtils.compareParameterTypes(expanded, resultTypes, parameterTypes) < 0) {
+                    // see comment (1) in findMatchingAccessibleConstructor
+                    @SuppressWarnings("unchecked")
+                    final
+                    Constructor<T> constructor = (Constructor<T>) ctor;
+                    result = constructor;
+                    resultTypes = expanded;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * <p>Returns the parameter types of a variable arity constructor with the last,
+     * array, type replaced by as many copies of its component type as needed to
+     * reach the given length.</p>
+     *
+     * @param declared  the declared parameter types, the last one an array type
+     * @param length  the number of parameter types wanted
+     * @return the expanded types, null if there are too few
+     */
+    private static Class<?>[] expandVarArgs(final Class<?>[] declared, final int length) {
+        final int fixed = declared.length - 1;
+        if (length < fixed) {
+            return null;
+        }
+        final Class<?>[] expanded = new Class<?>[length];
+        System.arraycopy(declared, 0, expanded, 0, fixed);
+        final Class<?> componentType = declared[fixed].getComponentType();
+        for (int i = fixed; i < length; i++) {
+            expanded[i] = componentType;
+        }
+        return expanded;
+    }
+
+    /**
+     * <p>Searches for the constructor that {@link #getMatchingAccessibleConstructor(Class, Class[])}
+     * returns, without using the cache.</p>
+     *
+     * @param <T> the constructor type
+     * @param cls  the class to find a constructor for, not null
+     * @param parameterTypes find method with compatible parameters
+     * @return the constructor, null if no matching accessible constructor found
+     */
+    private static <T> Constructor<T> findMatchingAccessibleConstructor(final Class<T> cls,
+            final Class<?>... parameterTypes) {
         // see if we can find the constructor directly
         // most of the time this works and it's much faster
         try {
@@ -280,4 +483,43 @@ public class ConstructorUtils {
         return result;
     }
 
+    /**
+     * <p>A {@link #MATCHING_CONSTRUCTORS} entry: the constructor found and the
+     * {@link Instantiator} that calls it, created on first use.</p>
+     */
+    private static final class CachedConstructor {
+        private final Constructor<?> constructor;
+        private volatile Instantiator<?> instantiator;
+        private volatile boolean noInstantiator;
+
+        CachedConstructor(final Constructor<?> constructor) {
+            this.constructor = constructor;
+        }
+
+        /**
+         * Returns the instantiator, creating it on first use.
+         *
+         * @return the instantiator, null if the constructor cannot be called through one
+         */
+        Instantiator<?> getInstantiator() {
+            Instantiator<?> result = instantiator;
+            if (result == null && !noInstantiator) {
+                try {
+                    result = create(constructor);
+                    instantiator = result;
+                } catch (final IllegalAccessException e) {
+                    noInstantiator = true;
+                } catch (final InstantiationException e) {
+                    noInstantiator = true;
+                }
+            }
+            return result;
+        }
+
+        private static <T> Instantiator<T> create(final Constructor<T> constructor)
+                throws IllegalAccessException, InstantiationException {
+            return new Instantiator<T>(constructor, -1);
+        }
+    }
+
 }
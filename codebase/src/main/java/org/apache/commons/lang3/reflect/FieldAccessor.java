@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.reflect;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+
+/**
+ * <p>Reads and writes one field through <code>MethodHandle</code>s, without the
+ * access checks and boxing of {@link Field#get(Object)} and
+ * {@link Field#set(Object, Object)}.</p>
+ *
+ * <p>There is one subclass per field type, such as {@link IntFieldAccessor} for
+ * <code>int</code> fields and {@link ObjectFieldAccessor} for reference fields.
+ * Create an accessor once, when the field is looked up, and keep it:</p>
+ *
+ * <pre>
+ * IntFieldAccessor count = new IntFieldAccessor(FieldUtils.getField(Bean.class, "count", true));
+ * ...
+ * count.set(bean, count.get(bean) + 1);
+ * </pre>
+ *
+ * <p>The target is ignored for static fields. Final fields can be read but not
+ * written, unless they are instance fields made accessible. Accessors are
+ * immutable and thread-safe.</p>
+ *
+ * @since 3.2
+ * @version $Id$
+ */
+public abstract class FieldAccessor {
+
+    /**
+     * The field accessed.
+     */
+    private final Field field;
+
+    /**
+     * Reads the field, of type <code>(Object)</code> followed by the field type,
+     * or <code>Object</code> for reference fields.
+     */
+    final MethodHandle getter;
+
+    /**
+     * Writes the field, of type <code>(Object, T)void</code> where T is the field
+     * type, or <code>Object</code> for reference fields; null if the field cannot
+     * be written.
+     */
+    final MethodHandle setter;
+
+    /**
+     * <p>Creates an accessor for the given field.</p>
+     *
+     * @param field  the field to access, not null
+     * @param type  the type of value the accessor works with
+     * @throws IllegalArgumentException if the field is null or not of the given type
+     * @throws IllegalAccessException if the field is not accessible
+     */
+    FieldAccessor(final Field field, final Class<?> type) throws IllegalAccessException {
+        if (field == null) {
+            throw new IllegalArgumentException("The field must not be null");
+        }
+        final Class<?> fieldType = field.getType();
+        if (type.isPrimitive() ? fieldType != type : fieldType.isPrimitive() || !type.isAssignableFrom(fieldType)) {
+            throw new IllegalArgumentException("The field '" + field.getName() + "' is of type "
+                    + fieldType.getName() + ", not " + type.getName());
+        }
+        MemberUtils.setAccessibleWorkaround(field);
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        final boolean isStatic = Modifier.isStatic(field.getModifiers());
+        final Class<?> valueType = type.isPrimitive() ? type : Object.class;
+        MethodHandle get = lookup.unreflectGetter(field);
+        if (isStatic) {
+            get = MethodHandles.dropArguments(get, 0, Object.class);
+        }
+        getter = get.asType(MethodType.methodType(valueType, Object.class));
+        MethodHandle set;
+        try {
+            set = lookup.unreflectSetter(field);
+            if (isStatic) {
+                set = MethodHandles.dropArguments(set, 0, Object.class);
+            }
+            set = set.asType(MethodType.methodType(Void.TYPE, Object.class, valueType));
+        } catch (final IllegalAccessException e) {
+            // a final field
+            set = null;
+        }
+        setter = set;
+        this.field = field;
+    }
+
+    /**
+     * <p>Gets the field accessed.</p>
+     *
+     * @return the field, not null
+     */
+    public Field getField() {
+        return field;
+    }
+
+    /**
+     * <p>Checks whether the field can be written.</p>
+     *
+     * @return false if the field is final and cannot be written
+     */
+    public boolean isWritable() {
+        return setter != null;
+    }
+
+    /**
+     * <p>Checks that the field can be written.</p>
+     *
+     * @throws UnsupportedOperationException if the field cannot be written
+     */
+    final void checkWritable() {
+        if (setter == null) {
+            throw new UnsupportedOperationException("The field '" + field.getName() + "' is final");
+        }
+    }
+
+    /**
+     * <p>Converts a throwable raised by a handle into the exception that
+     * {@link Field} would have thrown.</p>
+     *
+     * @param t  the throwable, not null
+     * @return the exception to throw
+     * @throws Error if the throwable is an error
+     */
+    static RuntimeException rethrow(final Throwable t) {
+        if (t instanceof ClassCastException) {
+            // a target or value of the wrong type
+            return new IllegalArgumentException(t.getMessage(), t);
+        }
+        if (t instanceof RuntimeException) {
+            return (RuntimeException) t;
+        }
+        if (t instanceof Error) {
+            throw (Error) t;
+        }
+        return new UndeclaredThrowableException(t);
+    }
+
+    /**
+     * <p>Gets a string describing this accessor.</p>
+     *
+     * @return a description of the field
+     */
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[" + field + "]";
+    }
+}
@@ -19,7 +19,10 @@ package org.apache.commons.lang3.reflect;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.commons.lang3.ClassUtils;
 
@@ -29,12 +32,33 @@ import org.apache.commons.lang3.ClassUtils;
  * <p>
  * The ability is provided to break the scoping restrictions coded by the programmer. This can allow fields to be
  * changed that shouldn't be. This facility should be used with care.
+ * <p>
+ * The fields of each class are looked up once and remembered, including the names that are not found, so
+ * reading and writing fields by name does not search the class hierarchy on every call. The
+ * <code>getField</code> and <code>getDeclaredField</code> methods still return a new <code>Field</code> object
+ * on each call. To read or write the same field many times, create a typed accessor such as
+ * {@link IntFieldAccessor} or {@link ObjectFieldAccessor} once and keep it.
  * 
  * @since 2.5
  * @version $Id$
  */
 public class FieldUtils {
 
+    /**
+     * Marks a name that was looked up in a {@link FieldIndex} and not found.
+     */
+    private static final Object NO_FIELD = new Object();
+
+    /**
+     * The field indexes, by class.
+     */
+    private static final ClassValue<FieldIndex> FIELD_INDEXES = new ClassValue<FieldIndex>() {
+        @Override
+        protected FieldIndex computeValue(final Class<?> type) {
+            return new FieldIndex(type);
+        }
+    };
+
     /**
      * FieldUtils instances should NOT be constructed in standard programming.
      * <p>
@@ -77,12 +101,59 @@ public class FieldUtils {
      *             if the class or field name is null
      */
     public static Field getField(final Class<?> cls, final String fieldName, final boolean forceAccess) {
+        final Field field = getCachedField(cls, fieldName, forceAccess);
+        if (field == null) {
+            return null;
+        }
+        final Field copy = copyOf(field);
+        if (forceAccess && !Modifier.isPublic(copy.getModifiers())) {
+            copy.setAccessible(true);
+        }
+        return copy;
+    }
+
+    /**
+     * Finds the field that {@link #getField(Class, String, boolean)} returns, using the index of the class.
+     * The result must not be passed to callers, as they may change its accessibility.
+     * 
+     * @param cls
+     *            the class to reflect, must not be null
+     * @param fieldName
+     *            the field name to obtain
+     * @param forceAccess
+     *            whether to break scope restrictions
+     * @return the Field object, shared
+     * @throws IllegalArgumentException
+     *             if the class or field name is null
+     */
+    private static Field getCachedField(final Class<?> cls, final String fieldName, final boolean forceAccess) {
         if (cls == null) {
             throw new IllegalArgumentException("The class must not be null");
         }
         if (fieldName == null) {
             throw new IllegalArgumentException("The field name must not be null");
         }
+        final ConcurrentMap<String, Object> fields = FIELD_INDEXES.get(cls).getFields(forceAccess);
+        Object field = fields.get(fieldName);
+        if (field == null) {
+            field = findField(cls, fieldName, forceAccess);
+            fields.putIfAbsent(fieldName, field == null ? NO_FIELD : field);
+        }
+        return field == NO_FIELD ? null : (Field) field;
+    }
+
+    /**
+     * Searches for the field that {@link #getField(Class, String, boolean)} returns, without using the index.
+     * 
+     * @param cls
+     *            the class to reflect, not null
+     * @param fieldName
+     *            the field name to obtain, not null
+     * @param forceAccess
+     *            whether to break scope restrictions
+     * @return the Field object
+     */
+    private static Field findField(final Class<?> cls, final String fieldName, final boolean forceAccess) {
         // Sun Java 1.3 has a bugged implementation of getField hence we write the
         // code ourselves
 
@@ -164,12 +235,60 @@ public class FieldUtils {
      *             if the class or field name is null
      */
     public static Field getDeclaredField(final Class<?> cls, final String fieldName, final boolean forceAccess) {
+        final Field field = getCachedDeclaredField(cls, fieldName, forceAccess);
+        if (field == null) {
+            return null;
+        }
+        final Field copy = copyOf(field);
+        if (forceAccess && !MemberUtils.isAccessible(copy)) {
+            copy.setAccessible(true);
+        }
+        return copy;
+    }
+
+    /**
+     * Finds the field that {@link #getDeclaredField(Class, String, boolean)} returns, using the index of the
+     * class. The result must not be passed to callers, as they may change its accessibility.
+     * 
+     * @param cls
+     *            the class to reflect, must not be null
+     * @param fieldName
+     *            the field name to obtain
+     * @param forceAccess
+     *            whether to break scope restrictions
+     * @return the Field object, shared
+     * @throws IllegalArgumentException
+     *             if the class or field name is null
+     */
+    private static Field getCachedDeclaredField(final Class<?> cls, final String fieldName, final boolean forceAccess) {
         if (cls == null) {
             throw new IllegalArgumentException("The class must not be null");
         }
         if (fieldName == null) {
             throw new IllegalArgumentException("The field name must not be null");
         }
+        final ConcurrentMap<String, Object> fields = FIELD_INDEXES.get(cls).getDeclaredFields(forceAccess);
+        Object field = fields.get(fieldName);
+        if (field == null) {
+            field = findDeclaredField(cls, fieldName, forceAccess);
+            fields.putIfAbsent(fieldName, field == null ? NO_FIELD : field);
+        }
+        return field == NO_FIELD ? null : (Field) field;
+    }
+
+    /**
+     * Searches for the field that {@link #getDeclaredField(Class, String, boolean)} returns, without using the
+     * index.
+     * 
+     * @param cls
+     *            the class to reflect, not null
+     * @param fieldName
+     *            the field name to obtain, not null
+     * @param forceAccess
+     *            whether to break scope restrictions
+     * @return the Field object
+     */
+    private static Field findDeclaredField(final Class<?> cls, final String fieldName, final boolean forceAccess) {
         try {
             // only consider the specified class by using getDeclaredField()
             final Field field = cls.getDeclaredField(fieldName);
@@ -187,8 +306,27 @@ public class FieldUtils {
         return null;
     }
 
+    /**
+     * Returns a new <code>Field</code> object for the given field, so that callers do not share the accessible
+     * flag of an indexed field.
+     * 
+     * @param field
+     *            the field to copy
+     * @return the copy, not accessible
+     */
+    private static Field copyOf(final Field field) {
+        try {
+            return field.getDeclaringClass().getDeclaredField(field.getName());
+        } catch (final NoSuchFieldException e) {
+            // cannot happen, the field was found before
+            throw new IllegalStateException(e);
+        }
+    }
+
     /**
      * Gets all fields of the given class and its parents (if any).
+     * <p>
+     * The <code>Field</code> objects are new for each call, so callers may change their accessibility.
      * 
      * @param cls
      *            the class to query
@@ -202,6 +340,8 @@ public class FieldUtils {
 
     /**
      * Gets all fields of the given class and its parents (if any).
+     * <p>
+     * The <code>Field</code> objects are new for each call, so callers may change their accessibility.
      * 
      * @param cls
      *            the class to query
@@ -212,14 +352,10 @@ public class FieldUtils {
         if (cls == null) {
             throw new IllegalArgumentException("The class must not be null");
         }
-        List<Field> allFields = new ArrayList<Field>();
-        Class<?> currentClass = cls;
-        while (currentClass != null) {
-            final Field[] declaredFields = currentClass.getDeclaredFields();
-            for (Field field : declaredFields) {
-                allFields.add(field);
-            }
-            currentClass = currentClass.getSuperclass();
+        final List<Field> allFields = new ArrayList<Field>();
+        for (Class<?> currentClass = cls; currentClass != null; currentClass = currentClass.getSuperclass()) {
+            // the reflection API returns new Field objects each time
+            allFields.addAll(Arrays.asList(currentClass.getDeclaredFields()));
         }
         return allFields;
     }
@@ -296,7 +432,7 @@ public class FieldUtils {
      *             if the field is not made accessible
      */
     public static Object readStaticField(final Class<?> cls, final String fieldName, final boolean forceAccess) throws IllegalAccessException {
-        final Field field = getField(cls, fieldName, forceAccess);
+        final Field field = getCachedField(cls, fieldName, forceAccess);
         if (field == null) {
             throw new IllegalArgumentException("Cannot locate field " + fieldName + " on " + cls);
         }
@@ -338,7 +474,7 @@ public class FieldUtils {
      *             if the field is not made accessible
      */
     public static Object readDeclaredStaticField(final Class<?> cls, final String fieldName, final boolean forceAccess) throws IllegalAccessException {
-        final Field field = getDeclaredField(cls, fieldName, forceAccess);
+        final Field field = getCachedDeclaredField(cls, fieldName, forceAccess);
         if (field == null) {
             throw new IllegalArgumentException("Cannot locate declared field " + cls.getName() + "." + fieldName);
         }
@@ -428,7 +564,7 @@ public class FieldUtils {
             throw new IllegalArgumentException("target object must not be null");
         }
         final Class<?> cls = target.getClass();
-        final Field field = getField(cls, fieldName, forceAccess);
+        final Field field = getCachedField(cls, fieldName, forceAccess);
         if (field == null) {
             throw new IllegalArgumentException("Cannot locate field " + fieldName + " on " + cls);
         }
@@ -474,7 +610,7 @@ public class FieldUtils {
             throw new IllegalArgumentException("target object must not be null");
         }
         final Class<?> cls = target.getClass();
-        final Field field = getDeclaredField(cls, fieldName, forceAccess);
+        final Field field = getCachedDeclaredField(cls, fieldName, forceAccess);
         if (field == null) {
             throw new IllegalArgumentException("Cannot locate declared field " + cls.getName() + "." + fieldName);
         }
@@ -560,7 +696,7 @@ public class FieldUtils {
      */
     public static void writeStaticField(final Class<?> cls, final String fieldName, final Object value, final boolean forceAccess)
             throws IllegalAccessException {
-        final Field field = getField(cls, fieldName, forceAccess);
+        final Field field = getCachedField(cls, fieldName, forceAccess);
         if (field == null) {
             throw new IllegalArgumentException("Cannot locate field " + fieldName + " on " + cls);
         }
@@ -605,7 +741,7 @@ public class FieldUtils {
      */
     public static void writeDeclaredStaticField(final Class<?> cls, final String fieldName, final Object value, final boolean forceAccess)
             throws IllegalAccessException {
-        final Field field = getDeclaredField(cls, fieldName, forceAccess);
+        final Field field = getCachedDeclaredField(cls, fieldName, forceAccess);
         if (field == null) {
             throw new IllegalArgumentException("Cannot locate declared field " + cls.getName() + "." + fieldName);
         }
@@ -702,7 +838,7 @@ public class FieldUtils {
             throw new IllegalArgumentException("target object must not be null");
         }
         final Class<?> cls = target.getClass();
-        final Field field = getField(cls, fieldName, forceAccess);
+        final Field field = getCachedField(cls, fieldName, forceAccess);
         if (field == null) {
             throw new IllegalArgumentException("Cannot locate declared field " + cls.getName() + "." + fieldName);
         }
@@ -751,11 +887,47 @@ public class FieldUtils {
             throw new IllegalArgumentException("target object must not be null");
         }
         final Class<?> cls = target.getClass();
-        final Field field = getDeclaredField(cls, fieldName, forceAccess);
+        final Field field = getCachedDeclaredField(cls, fieldName, forceAccess);
         if (field == null) {
             throw new IllegalArgumentException("Cannot locate declared field " + cls.getName() + "." + fieldName);
         }
         // already forced access above, don't repeat it here:
         writeField(field, target, value);
     }
+
+    /**
+     * The fields of one class that have been looked up, by name. Indexes are held in a {@link ClassValue}, so
+     * they do not keep classes or their class loaders alive.
+     */
+    private static final class FieldIndex {
+        private final Class<?> cls;
+        private final ConcurrentMap<String, Object> fields = new ConcurrentHashMap<String, Object>();
+        private final ConcurrentMap<String, Object> forcedFields = new ConcurrentHashMap<String, Object>();
+        private final ConcurrentMap<String, Object> declaredFields = new ConcurrentHashMap<String, Object>();
+        private final ConcurrentMap<String, Object> forcedDeclaredFields = new ConcurrentHashMap<String, Object>();
+
+        FieldIndex(final Class<?> cls) {
+            this.cls = cls;
+        }
+
+        /**
+         * Returns the results of {@link FieldUtils#getField(Class, String, boolean)}.
+         *
+         * @param forceAccess  whether scope restrictions are broken
+         * @return the fields by name, {@link FieldUtils#NO_FIELD} for names not found
+         */
+        ConcurrentMap<String, Object> getFields(final boolean forceAccess) {
+            return forceAccess ? forcedFields : fields;
+        }
+
+        /**
+         * Returns the results of {@link FieldUtils#getDeclaredField(Class, String, boolean)}.
+         *
+         * @param forceAccess  whether scope restrictions are broken
+         * @return the fields by name, {@link FieldUtils#NO_FIELD} for names not found
+         */
+        ConcurrentMap<String, Object> getDeclaredFields(final boolean forceAccess) {
+            return forceAccess ? forcedDeclaredFields : declaredFields;
+        }
+    }
 }
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.reflect;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+
+import org.apache.commons.lang3.ArrayUtils;
+
+/**
+ * <p>Creates instances of a class through one of its constructors, for a fixed
+ * list of parameter types.</p>
+ *
+ * <p>An <code>Instantiator</code> is obtained from
+ * {@link ConstructorUtils#getInstantiator(Class, Class[])}, which resolves the
+ * constructor once. Each call to {@link #newInstance(Object...)} then goes
+ * straight to a <code>MethodHandle</code> for that constructor, adapted to
+ * unbox and widen primitive arguments and, for a variable arity constructor,
+ * to collect the trailing arguments into an array. Keep and reuse instances to
+ * create many objects of the same class.</p>
+ *
+ * <p>Instances are immutable and thread-safe.</p>
+ *
+ * @param <T> the type of the objects created
+ * @since 3.2
+ * @version $Id$
+ */
+public final class Instantiator<T> {
+
+    /**
+     * The constructor called.
+     */
+    private final Constructor<T> constructor;
+
+    /**
+     * The types of the arguments {@link #newInstance(Object...)} takes.
+     */
+    private final Class<?>[] parameterTypes;
+
+    /**
+     * The constructor, as a handle of type <code>(Object[])Object</code>.
+     */
+    private final MethodHandle handle;
+
+    /**
+     * <p>Creates an instantiator for the given constructor.</p>
+     *
+     * @param constructor  the constructor to call, accessible, not null
+     * @param varArgsCount  the number of arguments to collect into the last, array, parameter
+     *  of a variable arity constructor, or -1 to pass the array as a single argument
+     * @throws IllegalAccessException if the constructor cannot be accessed
+     * @throws InstantiationException if the class is abstract
+     */
+    Instantiator(final Constructor<T> constructor, final int varArgsCount)
+            throws IllegalAccessException, InstantiationException {
+        if (Modifier.isAbstract(constructor.getDeclaringClass().getModifiers())) {
+            throw new InstantiationException("Cannot instantiate abstract class: "
+                    + constructor.getDeclaringClass().getName());
+        }
+        this.constructor = constructor;
+        final Class<?>[] declared = constructor.getParameterTypes();
+        MethodHandle mh = MethodHandles.lookup().unreflectConstructor(constructor).asFixedArity();
+        if (varArgsCount < 0) {
+            parameterTypes = declared;
+        } else {
+            final int fixed = declared.length - 1;
+            final Class<?> arrayType = declared[fixed];
+            mh = mh.asCollector(arrayType, varArgsCount);
+            parameterTypes = new Class<?>[fixed + varArgsCount];
+            System.arraycopy(declared, 0, parameterTypes, 0, fixed);
+            Arrays.fill(parameterTypes, fixed, parameterTypes.length, arrayType.getComponentType());
+        }
+        handle = mh.asType(mh.type().generic()).asSpreader(Object[].class, parameterTypes.length);
+    }
+
+    /**
+     * <p>Gets the constructor that is called.</p>
+     *
+     * @return the constructor, not null
+     */
+    public Constructor<T> getConstructor() {
+        return constructor;
+    }
+
+    /**
+     * <p>Gets the types of the arguments that {@link #newInstance(Object...)} expects.
+     * For a variable arity constructor these include one entry per collected argument.</p>
+     *
+     * @return a copy of the parameter types, not null
+     */
+    public Class<?>[] getParameterTypes() {
+        return parameterTypes.clone();
+    }
+
+    /**
+     * <p>Creates a new instance.</p>
+     *
+     * <p>The arguments must match {@link #getParameterTypes()}: a primitive parameter
+     * takes a wrapper object that can be unboxed and widened to it, other parameters
+     * take <code>null</code> or an instance of their type.</p>
+     *
+     * @param args  the constructor arguments, null treated as empty
+     * @return the new instance, not null
+     * @throws IllegalArgumentException if the arguments do not match the parameter types
+     * @throws InvocationTargetException if the constructor throws an exception
+     */
+    public T newInstance(final Object... args) throws InvocationTargetException {
+        final Object[] arguments = args == null ? ArrayUtils.EMPTY_OBJECT_ARRAY : args;
+        if (!MemberUtils.isCompatible(parameterTypes, arguments)) {
+            throw new IllegalArgumentException("The arguments " + Arrays.toString(arguments)
+                    + " do not match the parameter types " + Arrays.toString(parameterTypes));
+        }
+        return invoke(arguments);
+    }
+
+    /**
+     * <p>Creates a new instance, with arguments that have already been checked
+     * against the parameter types.</p>
+     *
+     * @param args  the constructor arguments, not null
+     * @return the new instance, not null
+     * @throws InvocationTargetException if the constructor throws an exception
+     */
+    T invoke(final Object[] args) throws InvocationTargetException {
+        try {
+            @SuppressWarnings("unchecked") // the handle calls a Constructor<T>
+            final T instance = (T) handle.invokeExact(args);
+            return instance;
+        } catch (final Throwable t) {
+            // the arguments were checked, so this came from the constructor
+            throw new InvocationTargetException(t);
+        }
+    }
+
+    /**
+     * <p>Gets the parameter types without copying them.</p>
+     *
+     * @return the parameter types
+     */
+    Class<?>[] parameterTypes() {
+        return parameterTypes;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.reflect;
+
+import java.util.Arrays;
+
+/**
+ * The key of a cached method or constructor lookup: the class searched, the
+ * member name and the parameter types asked for.
+ *
+ * @since 3.2
+ * @version $Id$
+ */
+final class MemberKey {
+
+    /** The name used for constructors. */
+    static final String CONSTRUCTOR_NAME = "<init>";
+
+    private final Class<?> cls;
+    private final String name;
+    private final Class<?>[] parameterTypes;
+    private final int hashCode;
+
+    /**
+     * Creates a key. The parameter types array is used as is, not copied.
+     *
+     * @param cls  the class searched, not null
+     * @param name  the member name, not null
+     * @param parameterTypes  the parameter types, not null, may contain null
+     */
+    MemberKey(final Class<?> cls, final String name, final Class<?>[] parameterTypes) {
+        this.cls = cls;
+        this.name = name;
+        this.parameterTypes = parameterTypes;
+        this.hashCode = (cls.hashCode() * 31 + name.hashCode()) * 31 + Arrays.hashCode(parameterTypes);
+    }
+
+    /**
+     * Returns a key with its own copy of the parameter types, to be stored in a
+     * cache while the caller keeps its array.
+     *
+     * @return the copy
+     */
+    MemberKey copy() {
+        return new MemberKey(cls, name, parameterTypes.clone());
+    }
+
+    /**
+     * Returns whether the class or one of the parameter types was defined by the given class loader.
+     *
+     * @param classLoader  the class loader, null for the bootstrap class loader
+     * @return true if one of the classes of this key belongs to the class loader
+     */
+    boolean isLoadedBy(final ClassLoader classLoader) {
+        if (cls.getClassLoader() == classLoader) {
+            return true;
+        }
+        for (final Class<?> type : parameterTypes) {
+            if (type != null && type.getClassLoader() == classLoader) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof MemberKey)) {
+            return false;
+        }
+        final MemberKey other = (MemberKey) obj;
+        return cls == other.cls && name.equals(other.name)
+                && Arrays.equals(parameterTypes, other.parameterTypes);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+}
@@ -84,6 +84,35 @@ abstract class MemberUtils {
         return m != null && Modifier.isPublic(m.getModifiers()) && !m.isSynthetic();
     }
 
+    /**
+     * Returns whether the given arguments can be passed to a member with the given
+     * parameter types without an <code>IllegalArgumentException</code>: the numbers
+     * must agree, a primitive parameter needs a non-null wrapper that can be unboxed
+     * and widened to it, and any other parameter needs <code>null</code> or an
+     * instance of its type.
+     *
+     * @param parameterTypes the parameter types of the member
+     * @param args the arguments
+     * @return true if the arguments fit the parameters
+     */
+    static boolean isCompatible(final Class<?>[] parameterTypes, final Object[] args) {
+        if (args.length != parameterTypes.length) {
+            return false;
+        }
+        for (int i = 0; i < args.length; i++) {
+            final Class<?> type = parameterTypes[i];
+            final Object arg = args[i];
+            if (type.isPrimitive()) {
+                if (arg == null || !ClassUtils.isAssignable(arg.getClass(), type, true)) {
+                    return false;
+                }
+            } else if (arg != null && !type.isInstance(arg)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Compares the relative fitness of two sets of parameter types in terms of
      * matching a third set of runtime parameter types, such that a list ordered
@@ -16,9 +16,16 @@
  */
 package org.apache.commons.lang3.reflect;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.ClassUtils;
@@ -41,11 +48,30 @@ import org.apache.commons.lang3.ClassUtils;
  * This call will only succeed when the application has sufficient security privileges. 
  * If this call fails then the method may fail.</p>
  *
+ * <h3>Caching</h3>
+ * <p>The result of {@link #getMatchingAccessibleMethod(Class, String, Class[])}, including
+ * the absence of a match, is cached by class, method name and parameter types, and the
+ * <code>invokeMethod</code> and <code>invokeStaticMethod</code> methods call the cached
+ * method through a <code>MethodHandle</code>. The cache holds strong references to the
+ * classes involved; call {@link #clearCache(ClassLoader)} before discarding a class loader
+ * whose classes have been looked up.</p>
+ *
  * @since 2.5
  * @version $Id$
  */
 public class MethodUtils {
 
+    /**
+     * Marks a lookup in {@link #MATCHING_METHODS} that found no method.
+     */
+    private static final MethodInvoker NO_METHOD = new MethodInvoker(null);
+
+    /**
+     * The results of {@link #getMatchingAccessibleMethod(Class, String, Class[])}.
+     */
+    private static final ConcurrentMap<MemberKey, MethodInvoker> MATCHING_METHODS =
+        new ConcurrentHashMap<MemberKey, MethodInvoker>();
+
     /**
      * <p>MethodUtils instances should NOT be constructed in standard programming.
      * Instead, the class should be used as
@@ -119,14 +145,14 @@ public class MethodUtils {
         if (args == null) {
             args = ArrayUtils.EMPTY_OBJECT_ARRAY;
         }
-        final Method method = getMatchingAccessibleMethod(object.getClass(),
+        final MethodInvoker invoker = getMatchingInvoker(object.getClass(),
                 methodName, parameterTypes);
-        if (method == null) {
+        if (invoker == NO_METHOD) {
             throw new NoSuchMethodException("No such accessible method: "
                     + methodName + "() on object: "
                     + object.getClass().getName());
         }
-        return method.invoke(object, args);
+        return invoker.invoke(object, args);
     }
 
     /**
@@ -299,13 +325,13 @@ public class MethodUtils {
         if (args == null) {
             args = ArrayUtils.EMPTY_OBJECT_ARRAY;
         }
-        final Method method = getMatchingAccessibleMethod(cls, methodName,
+        final MethodInvoker invoker = getMatchingInvoker(cls, methodName,
                 parameterTypes);
-        if (method == null) {
+        if (invoker == NO_METHOD) {
             throw new NoSuchMethodException("No such accessible method: "
                     + methodName + "() on class: " + cls.getName());
         }
-        return method.invoke(null, args);
+        return invoker.invoke(null, args);
     }
 
     /**
@@ -491,6 +517,79 @@ public class MethodUtils {
      */
     public static Method getMatchingAccessibleMethod(final Class<?> cls,
             final String methodName, final Class<?>... parameterTypes) {
+        return getMatchingInvoker(cls, methodName, parameterTypes).method;
+    }
+
+    /**
+     * <p>Finds the invoker of the method that {@link #getMatchingAccessibleMethod(Class, String, Class[])}
+     * returns, using the cache.</p>
+     *
+     * @param cls find method in this class
+     * @param methodName find method with this name
+     * @param parameterTypes find method with most compatible parameters
+     * @return the invoker, {@link #NO_METHOD} if there is no such method
+     */
+    private static MethodInvoker getMatchingInvoker(final Class<?> cls,
+            final String methodName, final Class<?>... parameterTypes) {
+        final Class<?>[] types = parameterTypes == null ? ArrayUtils.EMPTY_CLASS_ARRAY : parameterTypes;
+        final MemberKey key = new MemberKey(cls, methodName, types);
+        MethodInvoker invoker = MATCHING_METHODS.get(key);
+        if (invoker == null) {
+            final Method method = findMatchingAccessibleMethod(cls, methodName, types);
+            invoker = method == null ? NO_METHOD : new MethodInvoker(method);
+            // the caller may change its array later on
+            final MethodInvoker previous = MATCHING_METHODS.putIfAbsent(key.copy(), invoker);
+            if (previous != null) {
+                invoker = previous;
+            }
+        }
+        return invoker;
+    }
+
+    /**
+     * <p>Removes all entries from the cache used by
+     * {@link #getMatchingAccessibleMethod(Class, String, Class[])} and the
+     * <code>invoke</code> methods.</p>
+     *
+     * @since 3.2
+     */
+    public static void clearCache() {
+        MATCHING_METHODS.clear();
+    }
+
+    /**
+     * <p>Removes the cache entries that refer to a class defined by the given
+     * class loader, either as the class searched, as a parameter type or as the
+     * class that declares the method found. This allows the class loader to be
+     * garbage collected.</p>
+     *
+     * @param classLoader  the class loader whose classes to forget, <code>null</code>
+     *  for the bootstrap class loader
+     * @since 3.2
+     */
+    public static void clearCache(final ClassLoader classLoader) {
+        for (final Iterator<Map.Entry<MemberKey, MethodInvoker>> it =
+                MATCHING_METHODS.entrySet().iterator(); it.hasNext();) {
+            final Map.Entry<MemberKey, MethodInvoker> entry = it.next();
+            final Method method = entry.getValue().method;
+            if (entry.getKey().isLoadedBy(classLoader)
+                    || method != null && method.getDeclaringClass().getClassLoader() == classLoader) {
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * <p>Searches for the method that {@link #getMatchingAccessibleMethod(Class, String, Class[])}
+     * returns, without using the cache.</p>
+     *
+     * @param cls find method in this class
+     * @param methodName find method with this name
+     * @param parameterTypes find method with most compatible parameters
+     * @return The accessible method
+     */
+    private static Method findMatchingAccessibleMethod(final Class<?> cls,
+            final String methodName, final Class<?>... parameterTypes) {
         try {
             final Method method = cls.getMethod(methodName, parameterTypes);
             MemberUtils.setAccessibleWorkaround(method);
@@ -518,4 +617,102 @@ public class MethodUtils {
         }
         return bestMatch;
     }
+
+    /**
+     * <p>Calls a method found by {@link #getMatchingAccessibleMethod(Class, String, Class[])}
+     * through a <code>MethodHandle</code> of type <code>(Object, Object[])Object</code>,
+     * which is created on first use.</p>
+     */
+    private static final class MethodInvoker {
+        /** Marks a method that cannot be called through a handle. */
+        private static final MethodHandle NO_HANDLE = MethodHandles.constant(Object.class, null);
+        /** Wraps what the method throws, see {@link #targetThrew(Throwable)}. */
+        private static final MethodHandle TARGET_THREW;
+        static {
+            try {
+                TARGET_THREW = MethodHandles.lookup().findStatic(MethodInvoker.class, "targetThrew",
+                        MethodType.methodType(Object.class, Throwable.class));
+            } catch (final ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        private final Method method;
+        private final boolean isStatic;
+        private final Class<?>[] parameterTypes;
+        private volatile MethodHandle handle;
+
+        MethodInvoker(final Method method) {
+            this.method = method;
+            this.isStatic = method != null && Modifier.isStatic(method.getModifiers());
+            this.parameterTypes = method == null ? null : method.getParameterTypes();
+        }
+
+        /**
+         * Invokes the method, as {@link Method#invoke(Object, Object...)} does.
+         *
+         * @param object  the target, ignored for static methods
+         * @param args  the arguments, not null
+         * @return the result, null for void methods
+         * @throws IllegalAccessException see {@link Method#invoke(Object, Object...)}
+         * @throws InvocationTargetException wraps an exception thrown by the method
+         */
+        Object invoke(final Object object, final Object[] args)
+                throws IllegalAccessException, InvocationTargetException {
+            final MethodHandle mh = getHandle();
+            if (mh == NO_HANDLE || !isStatic && object == null || !MemberUtils.isCompatible(parameterTypes, args)) {
+                // let reflection report the problem in the usual way
+                return method.invoke(object, args);
+            }
+            try {
+                return mh.invokeExact(object, args);
+            } catch (final InvocationTargetException e) {
+                throw e;
+            } catch (final Throwable t) { // NOPMD
+                // the handle could not adapt the arguments, before the method was called
+            }
+            return method.invoke(object, args);
+        }
+
+        /**
+         * Wraps an exception thrown by the method, so that it is told apart from
+         * a failure of the handle adapting the arguments.
+         *
+         * @param t  the exception thrown by the method
+         * @return never returns
+         * @throws InvocationTargetException always
+         */
+        @SuppressWarnings("unused") // called through TARGET_THREW
+        private static Object targetThrew(final Throwable t) throws InvocationTargetException {
+            throw new InvocationTargetException(t);
+        }
+
+        /**
+         * Returns the handle, creating it on first use.
+         *
+         * @return the handle, {@link #NO_HANDLE} if the method cannot be unreflected
+         */
+        private MethodHandle getHandle() {
+            MethodHandle mh = handle;
+            if (mh == null) {
+                try {
+                    // the arguments are given as an array, even for a varargs method
+                    mh = MethodHandles.lookup().unreflect(method).asFixedArity();
+                    final MethodType type = mh.type();
+                    final MethodHandle handler = MethodHandles.dropArguments(
+                            TARGET_THREW.asType(MethodType.methodType(type.returnType(), Throwable.class)),
+                            1, type.parameterList());
+                    mh = MethodHandles.catchException(mh, Throwable.class, handler);
+                    mh = mh.asType(type.generic()).asSpreader(Object[].class, parameterTypes.length);
+                    if (isStatic) {
+                        mh = MethodHandles.dropArguments(mh, 0, Object.class);
+                    }
+                } catch (final IllegalAccessException e) {
+                    mh = NO_HANDLE;
+                }
+                handle = mh;
+            }
+            return mh;
+        }
+    }
 }
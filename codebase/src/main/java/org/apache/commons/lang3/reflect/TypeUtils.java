@@ -18,16 +18,22 @@ package org.apache.commons.lang3.reflect;
 
 import java.lang.reflect.Array;
 import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.GenericDeclaration;
+import java.lang.reflect.Member;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.lang.reflect.WildcardType;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.commons.lang3.ClassUtils;
 
@@ -35,11 +41,49 @@ import org.apache.commons.lang3.ClassUtils;
  * <p> Utility methods focusing on type inspection, particularly with regard to
  * generics. </p>
  *
+ * <h3>Caching</h3>
+ * <p> The results of {@link #isAssignable(Type, Type)} and
+ * {@link #getTypeArguments(Type, Class)} are cached, keyed by the types passed
+ * in, so the type hierarchy is walked once for each pair of types. The
+ * {@link ParameterizedType}s returned by {@link #parameterize(Class, Type...)}
+ * are interned, which makes them cheap keys. Each cache holds at most
+ * 4096 entries, dropping some of them when full. The caches hold strong
+ * references to the types involved; call {@link #clearCache(ClassLoader)}
+ * before discarding a class loader whose classes have been used. </p>
+ *
  * @since 3.0
  * @version $Id$
  */
 public class TypeUtils {
 
+    /**
+     * Marks a {@link #TYPE_ARGUMENTS} entry for types that are not assignable.
+     */
+    private static final Map<TypeVariable<?>, Type> NOT_ASSIGNABLE =
+        Collections.unmodifiableMap(new HashMap<TypeVariable<?>, Type>());
+
+    /**
+     * The most entries in each cache.
+     */
+    private static final int MAX_CACHE_SIZE = 4096;
+
+    /**
+     * The results of {@link #isAssignable(Type, Type)}.
+     */
+    private static final ConcurrentMap<TypePair, Boolean> ASSIGNABLE = new ConcurrentHashMap<TypePair, Boolean>();
+
+    /**
+     * The results of {@link #getTypeArguments(Type, Class)}, unmodifiable.
+     */
+    private static final ConcurrentMap<TypePair, Map<TypeVariable<?>, Type>> TYPE_ARGUMENTS =
+        new ConcurrentHashMap<TypePair, Map<TypeVariable<?>, Type>>();
+
+    /**
+     * The parameterized types created by {@link #parameterize(Class, Type...)}.
+     */
+    private static final ConcurrentMap<ParameterizedType, ParameterizedType> PARAMETERIZED_TYPES =
+        new ConcurrentHashMap<ParameterizedType, ParameterizedType>();
+
     /**
      * <p> TypeUtils instances should NOT be constructed in standard
      * programming. Instead, the class should be used as
@@ -62,7 +106,16 @@ public class TypeUtils {
      * @return <code>true</code> if <code>type</code> is assignable to <code>toType</code>.
      */
     public static boolean isAssignable(final Type type, final Type toType) {
-        return isAssignable(type, toType, null);
+        if (type == null || toType == null) {
+            return isAssignable(type, toType, null);
+        }
+        final TypePair key = new TypePair(type, toType);
+        Boolean result = ASSIGNABLE.get(key);
+        if (result == null) {
+            result = Boolean.valueOf(isAssignable(type, toType, null));
+            cache(ASSIGNABLE, key, result);
+        }
+        return result.booleanValue();
     }
 
     /**
@@ -197,7 +250,7 @@ public class TypeUtils {
         final Class<?> toClass = getRawType(toParameterizedType);
         // get the subject type's type arguments including owner type arguments
         // and supertype arguments up to and including the target class.
-        final Map<TypeVariable<?>, Type> fromTypeVarAssigns = getTypeArguments(type, toClass, null);
+        final Map<TypeVariable<?>, Type> fromTypeVarAssigns = getCachedTypeArguments(type, toClass);
 
         // null means the two types are not compatible
         if (fromTypeVarAssigns == null) {
@@ -495,7 +548,7 @@ public class TypeUtils {
      * @return a map of the type arguments to their respective type variables.
      */
     public static Map<TypeVariable<?>, Type> getTypeArguments(final ParameterizedType type) {
-        return getTypeArguments(type, getRawType(type), null);
+        return getTypeArguments(type, getRawType(type));
     }
 
     /**
@@ -531,7 +584,32 @@ public class TypeUtils {
      * <code>toClass</code> inclusive.
      */
     public static Map<TypeVariable<?>, Type> getTypeArguments(final Type type, final Class<?> toClass) {
-        return getTypeArguments(type, toClass, null);
+        final Map<TypeVariable<?>, Type> typeArguments = getCachedTypeArguments(type, toClass);
+        // callers may change the map they are given
+        return typeArguments == null ? null : new HashMap<TypeVariable<?>, Type>(typeArguments);
+    }
+
+    /**
+     * <p> Returns the result of {@link #getTypeArguments(Type, Class)}, using the cache. </p>
+     *
+     * @param type the type from which to determine the type parameters of
+     * <code>toClass</code>
+     * @param toClass the class whose type parameters are to be determined
+     * @return the unmodifiable map of the type assignments, <code>null</code> if
+     * <code>type</code> is not assignable to <code>toClass</code>
+     */
+    private static Map<TypeVariable<?>, Type> getCachedTypeArguments(final Type type, final Class<?> toClass) {
+        if (type == null || toClass == null) {
+            return getTypeArguments(type, toClass, null);
+        }
+        final TypePair key = new TypePair(type, toClass);
+        Map<TypeVariable<?>, Type> result = TYPE_ARGUMENTS.get(key);
+        if (result == null) {
+            final Map<TypeVariable<?>, Type> typeArguments = getTypeArguments(type, toClass, null);
+            result = typeArguments == null ? NOT_ASSIGNABLE : Collections.unmodifiableMap(typeArguments);
+            cache(TYPE_ARGUMENTS, key, result);
+        }
+        return result == NOT_ASSIGNABLE ? null : result;
     }
 
     /**
@@ -1073,6 +1151,210 @@ public class TypeUtils {
         throw new IllegalArgumentException("unknown type: " + type);
     }
 
+    /**
+     * <p> Creates a parameterized type for a class with the given type
+     * arguments, such as <code>Map&lt;String, Integer&gt;</code> from
+     * <code>parameterize(Map.class, String.class, Integer.class)</code>. </p>
+     *
+     * <p> The owner type is the class that declares <code>raw</code>, as for
+     * the types returned by the reflection API, which the result is
+     * {@link Object#equals(Object) equal} to. Equal parameterized types are
+     * interned, so calling this method again with the same arguments returns
+     * the same instance. </p>
+     *
+     * @param raw the class to parameterize, not null
+     * @param typeArguments the type arguments, one for each type parameter of <code>raw</code>
+     * @return the parameterized type, not null
+     * @throws IllegalArgumentException if <code>raw</code> or one of the type arguments is null,
+     * or the number of type arguments does not match the type parameters of <code>raw</code>
+     * @since 3.2
+     */
+    public static ParameterizedType parameterize(final Class<?> raw, final Type... typeArguments) {
+        if (raw == null) {
+            throw new IllegalArgumentException("The raw class must not be null");
+        }
+        return parameterizeWithOwner(raw.getDeclaringClass(), raw, typeArguments);
+    }
+
+    /**
+     * <p> Creates a parameterized type for a member class with the given
+     * owner and type arguments, such as <code>Outer&lt;String&gt;.Inner&lt;Integer&gt;</code>.
+     * Equal parameterized types are interned, as by {@link #parameterize(Class, Type...)}. </p>
+     *
+     * @param owner the owner type, null for a top level class
+     * @param raw the class to parameterize, not null
+     * @param typeArguments the type arguments, one for each type parameter of <code>raw</code>
+     * @return the parameterized type, not null
+     * @throws IllegalArgumentException if <code>raw</code> or one of the type arguments is null,
+     * the number of type arguments does not match the type parameters of <code>raw</code>,
+     * or <code>owner</code> is not assignable to the class that declares <code>raw</code>
+     * @since 3.2
+     */
+    public static ParameterizedType parameterizeWithOwner(final Type owner, final Class<?> raw,
+            final Type... typeArguments) {
+        if (raw == null) {
+            throw new IllegalArgumentException("The raw class must not be null");
+        }
+        final Type[] arguments = typeArguments == null ? new Type[0] : typeArguments.clone();
+        if (arguments.length != raw.getTypeParameters().length) {
+            throw new IllegalArgumentException("Invalid number of type arguments for " + raw.getName() + ": "
+                    + arguments.length + " instead of " + raw.getTypeParameters().length);
+        }
+        for (final Type argument : arguments) {
+            if (argument == null) {
+                throw new IllegalArgumentException("The type arguments must not be null");
+            }
+        }
+        if (owner != null) {
+            final Class<?> declaringClass = raw.getDeclaringClass();
+            if (declaringClass == null || !isAssignable(owner, declaringClass)) {
+                throw new IllegalArgumentException(owner + " is not a valid owner for " + raw.getName());
+            }
+        }
+        final ParameterizedType type = new ParameterizedTypeImpl(raw, owner, arguments);
+        return cache(PARAMETERIZED_TYPES, type, type);
+    }
+
+    /**
+     * <p> Removes all entries from the caches used by {@link #isAssignable(Type, Type)},
+     * {@link #getTypeArguments(Type, Class)} and {@link #parameterize(Class, Type...)}.
+     * Parameterized types created afterwards are no longer identical to those
+     * created before, but remain equal to them. </p>
+     *
+     * @since 3.2
+     */
+    public static void clearCache() {
+        ASSIGNABLE.clear();
+        TYPE_ARGUMENTS.clear();
+        PARAMETERIZED_TYPES.clear();
+    }
+
+    /**
+     * <p> Removes the cache entries that refer to a class defined by the given
+     * class loader, among the types passed in or the types found. This allows
+     * the class loader to be garbage collected. </p>
+     *
+     * @param classLoader  the class loader whose classes to forget, <code>null</code>
+     *  for the bootstrap class loader
+     * @since 3.2
+     */
+    public static void clearCache(final ClassLoader classLoader) {
+        for (final Iterator<TypePair> it = ASSIGNABLE.keySet().iterator(); it.hasNext();) {
+            if (it.next().isLoadedBy(classLoader)) {
+                it.remove();
+            }
+        }
+        for (final Iterator<Map.Entry<TypePair, Map<TypeVariable<?>, Type>>> it =
+                TYPE_ARGUMENTS.entrySet().iterator(); it.hasNext();) {
+            final Map.Entry<TypePair, Map<TypeVariable<?>, Type>> entry = it.next();
+            if (entry.getKey().isLoadedBy(classLoader) || isLoadedBy(entry.getValue(), classLoader)) {
+                it.remove();
+            }
+        }
+        for (final Iterator<ParameterizedType> it = PARAMETERIZED_TYPES.keySet().iterator(); it.hasNext();) {
+            if (isLoadedBy(it.next(), classLoader)) {
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * <p> Adds an entry to a cache unless it holds one for the key, first dropping
+     * an eighth of the entries if the cache is full. </p>
+     *
+     * @param <K> the key type
+     * @param <V> the value type
+     * @param cache the cache
+     * @param key the key
+     * @param value the value
+     * @return the value in the cache for the key
+     */
+    private static <K, V> V cache(final ConcurrentMap<K, V> cache, final K key, final V value) {
+        if (cache.size() >= MAX_CACHE_SIZE) {
+            int count = MAX_CACHE_SIZE / 8;
+            for (final Iterator<K> it = cache.keySet().iterator(); it.hasNext() && count > 0; count--) {
+                it.next();
+                it.remove();
+            }
+        }
+        final V previous = cache.putIfAbsent(key, value);
+        return previous == null ? value : previous;
+    }
+
+    /**
+     * <p> Checks whether a map of type assignments refers to a class defined by a class loader. </p>
+     *
+     * @param typeArguments the type assignments
+     * @param classLoader the class loader
+     * @return <code>true</code> if a type variable or type refers to a class of the class loader
+     */
+    private static boolean isLoadedBy(final Map<TypeVariable<?>, Type> typeArguments, final ClassLoader classLoader) {
+        for (final Map.Entry<TypeVariable<?>, Type> entry : typeArguments.entrySet()) {
+            if (isLoadedBy(entry.getKey(), classLoader) || isLoadedBy(entry.getValue(), classLoader)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * <p> Checks whether a type refers to a class defined by a class loader. A
+     * type variable refers to the class that declares it, but not to its bounds. </p>
+     *
+     * @param type the type, may be null
+     * @param classLoader the class loader
+     * @return <code>true</code> if the type refers to a class of the class loader
+     */
+    private static boolean isLoadedBy(final Type type, final ClassLoader classLoader) {
+        if (type instanceof Class<?>) {
+            Class<?> cls = (Class<?>) type;
+            while (cls.isArray()) {
+                cls = cls.getComponentType();
+            }
+            return !cls.isPrimitive() && cls.getClassLoader() == classLoader;
+        }
+        if (type instanceof ParameterizedType) {
+            final ParameterizedType parameterizedType = (ParameterizedType) type;
+            return isLoadedBy(parameterizedType.getRawType(), classLoader)
+                || isLoadedBy(parameterizedType.getOwnerType(), classLoader)
+                || isLoadedBy(parameterizedType.getActualTypeArguments(), classLoader);
+        }
+        if (type instanceof WildcardType) {
+            final WildcardType wildcardType = (WildcardType) type;
+            return isLoadedBy(wildcardType.getUpperBounds(), classLoader)
+                || isLoadedBy(wildcardType.getLowerBounds(), classLoader);
+        }
+        if (type instanceof GenericArrayType) {
+            return isLoadedBy(((GenericArrayType) type).getGenericComponentType(), classLoader);
+        }
+        if (type instanceof TypeVariable<?>) {
+            final GenericDeclaration declaration = ((TypeVariable<?>) type).getGenericDeclaration();
+            if (declaration instanceof Class<?>) {
+                return isLoadedBy((Class<?>) declaration, classLoader);
+            }
+            if (declaration instanceof Member) {
+                return isLoadedBy(((Member) declaration).getDeclaringClass(), classLoader);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * <p> Checks whether any of the types refers to a class defined by a class loader. </p>
+     *
+     * @param types the types
+     * @param classLoader the class loader
+     * @return <code>true</code> if a type refers to a class of the class loader
+     */
+    private static boolean isLoadedBy(final Type[] types, final ClassLoader classLoader) {
+        for (final Type type : types) {
+            if (isLoadedBy(type, classLoader)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Learn whether the specified type denotes an array type.
      * @param type the type to be checked
@@ -1098,4 +1380,121 @@ public class TypeUtils {
         return null;
     }
 
+    /**
+     * <p> The key of an {@link #ASSIGNABLE} or {@link #TYPE_ARGUMENTS} entry. </p>
+     */
+    private static final class TypePair {
+        private final Type from;
+        private final Type to;
+        private final int hashCode;
+
+        TypePair(final Type from, final Type to) {
+            this.from = from;
+            this.to = to;
+            this.hashCode = from.hashCode() * 31 + to.hashCode();
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof TypePair)) {
+                return false;
+            }
+            final TypePair other = (TypePair) obj;
+            return hashCode == other.hashCode && from.equals(other.from) && to.equals(other.to);
+        }
+
+        /**
+         * @param classLoader the class loader
+         * @return <code>true</code> if either type refers to a class of the class loader
+         */
+        boolean isLoadedBy(final ClassLoader classLoader) {
+            return TypeUtils.isLoadedBy(from, classLoader) || TypeUtils.isLoadedBy(to, classLoader);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    /**
+     * <p> The {@link ParameterizedType}s created by {@link TypeUtils#parameterizeWithOwner(Type, Class, Type...)}.
+     * Instances are equal to, and have the same hash code as, the parameterized types
+     * returned by the reflection API. </p>
+     */
+    private static final class ParameterizedTypeImpl implements ParameterizedType {
+        private final Class<?> raw;
+        private final Type owner;
+        private final Type[] typeArguments;
+        private final int hashCode;
+
+        ParameterizedTypeImpl(final Class<?> raw, final Type owner, final Type[] typeArguments) {
+            this.raw = raw;
+            this.owner = owner;
+            this.typeArguments = typeArguments;
+            // the same as the reflection API implementation
+            this.hashCode = Arrays.hashCode(typeArguments) ^ (owner == null ? 0 : owner.hashCode()) ^ raw.hashCode();
+        }
+
+        @Override
+        public Type getRawType() {
+            return raw;
+        }
+
+        @Override
+        public Type getOwnerType() {
+            return owner;
+        }
+
+        @Override
+        public Type[] getActualTypeArguments() {
+            return typeArguments.clone();
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof ParameterizedType)) {
+                return false;
+            }
+            final ParameterizedType other = (ParameterizedType) obj;
+            return raw.equals(other.getRawType())
+                    && (owner == null ? other.getOwnerType() == null : owner.equals(other.getOwnerType()))
+                    && Arrays.equals(typeArguments, other.getActualTypeArguments());
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder buf = new StringBuilder();
+            if (owner == null) {
+                buf.append(raw.getName());
+            } else {
+                buf.append(owner instanceof Class<?> ? ((Class<?>) owner).getName() : owner.toString());
+                buf.append('$').append(raw.getSimpleName());
+            }
+            if (typeArguments.length > 0) {
+                buf.append('<');
+                for (int i = 0; i < typeArguments.length; i++) {
+                    if (i > 0) {
+                        buf.append(", ");
+                    }
+                    final Type argument = typeArguments[i];
+                    buf.append(argument instanceof Class<?> ? ((Class<?>) argument).getName() : argument.toString());
+                }
+                buf.append('>');
+            }
+            return buf.toString();
+        }
+    }
+
 }
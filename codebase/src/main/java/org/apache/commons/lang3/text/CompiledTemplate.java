@@ -0,0 +1,427 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.text;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A source text parsed by a {@link StrSubstitutor} into literal text and
+ * variable references, so that it can be rendered many times without
+ * searching for variables again.
+ * <p>
+ * A template is created by {@link StrSubstitutor#compile(String)} and renders
+ * the same result as {@link StrSubstitutor#replace(String)} on its source:
+ * <pre>
+ * CompiledTemplate template = substitutor.compile("Hello ${name:-world}!");
+ * ...
+ * template.renderTo(writer);
+ * </pre>
+ * Literal text and variable values are written straight to the output. Only a
+ * variable value that itself contains variable references, or a variable name
+ * that contains them when substitution in variables is enabled, needs further
+ * work, which is done as <code>StrSubstitutor</code> would do it. The template
+ * keeps a private copy of the settings of the substitutor, so changing them
+ * afterwards does not affect it. Each variable is looked up when the template
+ * is rendered, in the variable resolver the substitutor had at compile time.
+ * <p>
+ * There is one difference: an escape character is only recognised in the
+ * source text, not at the end of the value of a variable that directly
+ * precedes another variable reference. If the substitutor is a subclass that
+ * overrides <code>resolveVariable</code> or <code>substitute</code>, rendering
+ * delegates to {@link StrSubstitutor#replace(String)} so that the overridden
+ * behaviour is kept. Such a template uses the settings the substitutor has
+ * when the template is rendered.
+ * <p>
+ * Templates are immutable and thread-safe, provided the variable resolver is,
+ * and, for a template that delegates to a subclass, the substitutor is.
+ *
+ * @since 3.2
+ * @version $Id$
+ */
+public final class CompiledTemplate {
+
+    /**
+     * The longest variable value whose characters are kept in {@link #VALUE_BUFFER}.
+     */
+    private static final int MAX_BUFFER_SIZE = 1024;
+
+    /**
+     * A buffer for searching variable values for variable references.
+     */
+    private static final ThreadLocal<char[]> VALUE_BUFFER = new ThreadLocal<char[]>() {
+        @Override
+        protected char[] initialValue() {
+            return new char[64];
+        }
+    };
+
+    /**
+     * A copy of the substitutor that compiled this template, or the substitutor
+     * itself if rendering delegates to it.
+     */
+    private final StrSubstitutor substitutor;
+
+    /**
+     * The source text.
+     */
+    private final String source;
+
+    /**
+     * The prefix matcher the source was parsed with.
+     */
+    private final StrMatcher prefixMatcher;
+
+    /**
+     * The parts of the source, in order; null if rendering delegates to the substitutor.
+     */
+    private final Segment[] segments;
+
+    /**
+     * Parses a source text.
+     *
+     * @param substitutor  the substitutor whose settings to use, not null
+     * @param source  the source text, not null
+     */
+    CompiledTemplate(final StrSubstitutor substitutor, final String source) {
+        final boolean overridden = isOverridden(substitutor.getClass());
+        this.substitutor = overridden ? substitutor : copyOf(substitutor);
+        this.source = source;
+        this.prefixMatcher = substitutor.getVariablePrefixMatcher();
+        this.segments = overridden ? null : parse();
+    }
+
+    /**
+     * Copies the settings of a substitutor into a new <code>StrSubstitutor</code>.
+     *
+     * @param substitutor  the substitutor to copy, not null
+     * @return a new substitutor with the same resolver, matchers, escape character
+     *  and substitution in variables setting
+     */
+    private static StrSubstitutor copyOf(final StrSubstitutor substitutor) {
+        final StrSubstitutor copy = new StrSubstitutor(substitutor.getVariableResolver(),
+                substitutor.getVariablePrefixMatcher(), substitutor.getVariableSuffixMatcher(),
+                substitutor.getEscapeChar());
+        copy.setValueDelimiterMatcher(substitutor.getValueDelimiterMatcher());
+        copy.setEnableSubstitutionInVariables(substitutor.isEnableSubstitutionInVariables());
+        return copy;
+    }
+
+    /**
+     * Checks whether a subclass of <code>StrSubstitutor</code> changes how variables are substituted.
+     *
+     * @param cls  the class of the substitutor
+     * @return true if <code>resolveVariable</code> or <code>substitute</code> is overridden
+     */
+    private static boolean isOverridden(final Class<?> cls) {
+        for (Class<?> c = cls; c != StrSubstitutor.class; c = c.getSuperclass()) {
+            try {
+                c.getDeclaredMethod("resolveVariable", String.class, StrBuilder.class, Integer.TYPE, Integer.TYPE);
+                return true;
+            } catch (final NoSuchMethodException e) { // NOPMD
+                // not overridden here
+            }
+            try {
+                c.getDeclaredMethod("substitute", StrBuilder.class, Integer.TYPE, Integer.TYPE);
+                return true;
+            } catch (final NoSuchMethodException e) { // NOPMD
+                // not overridden here
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Splits the source into segments, following the algorithm of
+     * {@link StrSubstitutor#substitute(StrBuilder, int, int)}.
+     *
+     * @return the segments
+     */
+    private Segment[] parse() {
+        final StrMatcher suffixMatcher = substitutor.getVariableSuffixMatcher();
+        final char escape = substitutor.getEscapeChar();
+        final boolean substitutionInVariables = substitutor.isEnableSubstitutionInVariables();
+        final char[] chars = source.toCharArray();
+        final int end = chars.length;
+        final List<Segment> list = new ArrayList<Segment>();
+        int literalStart = 0;
+        int lastVariableEnd = -1;
+        int pos = 0;
+        while (pos < end) {
+            final int startMatchLen = prefixMatcher.isMatch(chars, pos, 0, end);
+            if (startMatchLen == 0) {
+                pos++;
+            } else if (pos > 0 && pos != lastVariableEnd && chars[pos - 1] == escape) {
+                // escaped: drop the escape character and carry on after the first prefix character
+                addLiteral(list, literalStart, pos - 1);
+                literalStart = pos;
+                pos++;
+            } else {
+                // find suffix
+                final int startPos = pos;
+                pos += startMatchLen;
+                int nestedVarCount = 0;
+                while (pos < end) {
+                    int endMatchLen;
+                    if (substitutionInVariables
+                            && (endMatchLen = prefixMatcher.isMatch(chars, pos, 0, end)) != 0) {
+                        // found a nested variable start
+                        nestedVarCount++;
+                        pos += endMatchLen;
+                        continue;
+                    }
+                    endMatchLen = suffixMatcher.isMatch(chars, pos, 0, end);
+                    if (endMatchLen == 0) {
+                        pos++;
+                    } else if (nestedVarCount == 0) {
+                        final String varName = source.substring(startPos + startMatchLen, pos);
+                        pos += endMatchLen;
+                        addLiteral(list, literalStart, startPos);
+                        list.add(variable(startPos, pos, varName, substitutionInVariables));
+                        literalStart = pos;
+                        lastVariableEnd = pos;
+                        break;
+                    } else {
+                        nestedVarCount--;
+                        pos += endMatchLen;
+                    }
+                }
+            }
+        }
+        addLiteral(list, literalStart, end);
+        return list.toArray(new Segment[list.size()]);
+    }
+
+    /**
+     * Adds a literal segment, unless it is empty.
+     *
+     * @param list  the segments
+     * @param start  the start index in the source
+     * @param end  the end index in the source
+     */
+    private static void addLiteral(final List<Segment> list, final int start, final int end) {
+        if (start < end) {
+            list.add(new Segment(start, end, null, null, null));
+        }
+    }
+
+    /**
+     * Creates a variable segment.
+     *
+     * @param start  the start index in the source, including the prefix
+     * @param end  the end index in the source, including the suffix
+     * @param varName  the variable name as written in the source
+     * @param substitutionInVariables  whether the name may contain variables
+     * @return the segment
+     */
+    private Segment variable(final int start, final int end, final String varName,
+            final boolean substitutionInVariables) {
+        if (substitutionInVariables && containsVariable(varName)) {
+            return new Segment(start, end, null, null, new CompiledTemplate(substitutor, varName));
+        }
+        final int delimiterPos = substitutor.indexOfValueDelimiter(varName);
+        if (delimiterPos < 0) {
+            return new Segment(start, end, varName, null, null);
+        }
+        return new Segment(start, end, varName.substring(0, delimiterPos),
+                varName.substring(delimiterPos + substitutor.valueDelimiterLength(varName, delimiterPos)), null);
+    }
+
+    /**
+     * Checks whether a text contains a variable prefix.
+     *
+     * @param text  the text to check, not null
+     * @return true if the prefix matcher matches somewhere in the text
+     */
+    private boolean containsVariable(final String text) {
+        final int length = text.length();
+        char[] chars = VALUE_BUFFER.get();
+        if (chars.length < length) {
+            chars = new char[length];
+            if (length <= MAX_BUFFER_SIZE) {
+                VALUE_BUFFER.set(chars);
+            }
+        }
+        text.getChars(0, length, chars, 0);
+        for (int i = 0; i < length; i++) {
+            if (prefixMatcher.isMatch(chars, i, 0, length) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the source text of this template.
+     *
+     * @return the source text, not null
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Renders this template to a string.
+     *
+     * @return the source text with its variables replaced
+     */
+    public String render() {
+        final StrBuilder buf = new StrBuilder(source.length() + 32);
+        renderTo(buf);
+        return buf.toString();
+    }
+
+    /**
+     * Renders this template to a string builder.
+     *
+     * @param buf  the builder to append to, not null
+     */
+    public void renderTo(final StrBuilder buf) {
+        try {
+            write(buf);
+        } catch (final IOException e) {
+            // a StrBuilder does not throw IOException
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Renders this template to a string builder.
+     *
+     * @param buf  the builder to append to, not null
+     */
+    public void renderTo(final StringBuilder buf) {
+        try {
+            write(buf);
+        } catch (final IOException e) {
+            // a StringBuilder does not throw IOException
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Renders this template to an <code>Appendable</code>, such as a <code>Writer</code>.
+     *
+     * @param out  the destination to append to, not null
+     * @throws IOException if the destination throws it
+     */
+    public void renderTo(final Appendable out) throws IOException {
+        write(out);
+    }
+
+    /**
+     * Writes the rendered template.
+     *
+     * @param out  the destination to append to, not null
+     * @throws IOException if the destination throws it
+     */
+    private void write(final Appendable out) throws IOException {
+        if (segments == null) {
+            out.append(substitutor.replace(source));
+            return;
+        }
+        for (final Segment segment : segments) {
+            if (segment.isLiteral()) {
+                appendSource(out, segment);
+                continue;
+            }
+            String varName = segment.name;
+            String defaultValue = segment.defaultValue;
+            if (segment.nameTemplate != null) {
+                varName = segment.nameTemplate.render();
+                final int delimiterPos = substitutor.indexOfValueDelimiter(varName);
+                if (delimiterPos >= 0) {
+                    defaultValue = varName.substring(delimiterPos
+                            + substitutor.valueDelimiterLength(varName, delimiterPos));
+                    varName = varName.substring(0, delimiterPos);
+                }
+            }
+            final StrLookup<?> resolver = substitutor.getVariableResolver();
+            String value = resolver == null ? null : resolver.lookup(varName);
+            if (value == null) {
+                value = defaultValue;
+            }
+            if (value == null) {
+                // unknown variables are left as they are
+                appendSource(out, segment);
+            } else if (!containsVariable(value)) {
+                out.append(value);
+            } else {
+                // recursive replace, detecting cycles as the substitutor does
+                final List<String> priorVariables = new ArrayList<String>();
+                priorVariables.add(source);
+                priorVariables.add(varName);
+                final StrBuilder buf = new StrBuilder(value);
+                substitutor.substitute(buf, 0, value.length(), priorVariables);
+                out.append(buf);
+            }
+        }
+    }
+
+    /**
+     * Appends the part of the source covered by a segment.
+     *
+     * @param out  the destination to append to, not null
+     * @param segment  the segment, not null
+     * @throws IOException if the destination throws it
+     */
+    private void appendSource(final Appendable out, final Segment segment) throws IOException {
+        if (out instanceof StrBuilder) {
+            // StrBuilder takes a length rather than an end index
+            ((StrBuilder) out).append(source, segment.start, segment.end - segment.start);
+        } else {
+            out.append(source, segment.start, segment.end);
+        }
+    }
+
+    /**
+     * Gets the source text of this template.
+     *
+     * @return the source text
+     */
+    @Override
+    public String toString() {
+        return source;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * A part of the source: either literal text or a variable reference.
+     */
+    private static final class Segment {
+        private final int start;
+        private final int end;
+        private final String name;
+        private final String defaultValue;
+        private final CompiledTemplate nameTemplate;
+
+        Segment(final int start, final int end, final String name, final String defaultValue,
+                final CompiledTemplate nameTemplate) {
+            this.start = start;
+            this.end = end;
+            this.name = name;
+            this.defaultValue = defaultValue;
+            this.nameTemplate = nameTemplate;
+        }
+
+        boolean isLiteral() {
+            return name == null && nameTemplate == null;
+        }
+    }
+}
@@ -0,0 +1,730 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.text;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Tokenizes a large delimited text, such as a CSV or TSV export, into records
+ * using several threads.
+ * <p>
+ * The text is divided into <i>records</i> by a record delimiter, by default
+ * a line end (<code>"\r\n"</code>, <code>"\n"</code> or <code>"\r"</code>).
+ * A record delimiter within quotes, as matched by the
+ * {@link StrTokenizer#getQuoteMatcher() quote matcher} of the tokenizer, does
+ * not end a record, so quoted fields may span lines. Each record is then split
+ * into tokens by the {@link StrTokenizer} given, with its current settings:
+ * <pre>
+ * ParallelStrTokenizer parallel = new ParallelStrTokenizer(StrTokenizer.getCSVInstance());
+ * List&lt;List&lt;String&gt;&gt; records = parallel.tokenize(chars);
+ * </pre>
+ * The text is cut into chunks of about {@link #setChunkSize(int) chunkSize}
+ * characters, which are processed on a <code>ForkJoinPool</code>. A chunk
+ * cannot know whether it starts within quotes, so each chunk is first scanned
+ * for every state it might start in, in parallel. Chaining the results from the
+ * start of the text then gives the first record boundary in each chunk, and
+ * the records between those boundaries are tokenized in parallel. The records
+ * are the same as those found by a single thread reading the text from the start.
+ * <p>
+ * A quote opens a quoted section wherever it occurs outside one, and the
+ * same quote closes it; an escaped, doubled, quote closes and reopens it.
+ * This follows <code>StrTokenizer</code> for well-formed CSV, where quotes
+ * only start a field or are doubled within one.
+ * <p>
+ * Records can be delivered to a {@link RecordHandler} in order, on the calling
+ * thread, or unordered, on the threads of the pool as soon as they are ready.
+ * Only about twice as many segments as the pool has threads are tokenized
+ * ahead of the handler, so the records of a large text are not held at once.
+ * Matchers are given at least 64 characters after the current position to match against.
+ * <p>
+ * Instances are thread-safe once configured, provided the tokenizer's matchers are.
+ *
+ * @since 3.2
+ * @version $Id$
+ */
+public class ParallelStrTokenizer {
+
+    /**
+     * Receives the records of a text.
+     *
+     * @since 3.2
+     */
+    public interface RecordHandler {
+        /**
+         * Handles a record.
+         *
+         * @param tokens  the tokens of the record, not null
+         */
+        void handleRecord(List<String> tokens);
+    }
+
+    /** The default number of characters in a chunk. */
+    private static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+    /** The number of characters available to a matcher beyond a chunk. */
+    private static final int LOOKAHEAD = 64;
+    /** The most quotes remembered from the scan of a chunk. */
+    private static final int MAX_QUOTES = 4;
+    /** Matches a line end. */
+    private static final StrMatcher LINE_END_MATCHER = new LineEndMatcher();
+
+    /** The tokenizer used for each record. */
+    private final StrTokenizer tokenizer;
+    /** The record delimiter matcher. */
+    private final StrMatcher recordMatcher;
+    /** The quote matcher. */
+    private final StrMatcher quoteMatcher;
+    /** The pool to run on, null for the common pool. */
+    private ForkJoinPool pool;
+    /** The number of characters in a chunk. */
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+    /**
+     * Constructs an instance splitting records at line ends.
+     *
+     * @param tokenizer  the tokenizer whose settings to use for each record, not null
+     * @throws IllegalArgumentException if the tokenizer is null
+     */
+    public ParallelStrTokenizer(final StrTokenizer tokenizer) {
+        this(tokenizer, LINE_END_MATCHER);
+    }
+
+    /**
+     * Constructs an instance splitting records with the given matcher.
+     *
+     * @param tokenizer  the tokenizer whose settings to use for each record, not null
+     * @param recordDelimiter  the record delimiter matcher, not null
+     * @throws IllegalArgumentException if the tokenizer or delimiter is null
+     */
+    public ParallelStrTokenizer(final StrTokenizer tokenizer, final StrMatcher recordDelimiter) {
+        if (tokenizer == null) {
+            throw new IllegalArgumentException("The tokenizer must not be null");
+        }
+        if (recordDelimiter == null) {
+            throw new IllegalArgumentException("The record delimiter must not be null");
+        }
+        this.tokenizer = (StrTokenizer) tokenizer.clone();
+        this.recordMatcher = recordDelimiter;
+        this.quoteMatcher = tokenizer.getQuoteMatcher();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the pool the work is run on.
+     *
+     * @return the pool, null for the common pool
+     */
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Sets the pool to run the work on.
+     *
+     * @param pool  the pool, null for the common pool
+     * @return this, to enable chaining
+     */
+    public ParallelStrTokenizer setPool(final ForkJoinPool pool) {
+        this.pool = pool;
+        return this;
+    }
+
+    /**
+     * Gets the number of characters in a chunk.
+     *
+     * @return the chunk size
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Sets the number of characters in a chunk, a unit of work for a thread.
+     * A text no longer than one chunk is tokenized on the calling thread.
+     *
+     * @param chunkSize  the chunk size, positive
+     * @return this, to enable chaining
+     * @throws IllegalArgumentException if the chunk size is not positive
+     */
+    public ParallelStrTokenizer setChunkSize(final int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("The chunk size must be positive: " + chunkSize);
+        }
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Tokenizes a character array into records.
+     *
+     * @param input  the text to tokenize, not changed, null returns an empty list
+     * @return the records in order, each a list of tokens, not null
+     */
+    public List<List<String>> tokenize(final char[] input) {
+        return collect(input == null ? null : new Text(input, null, input.length));
+    }
+
+    /**
+     * Tokenizes a character sequence into records.
+     * <p>
+     * A memory-mapped file can be tokenized as a <code>CharBuffer</code>.
+     * Each chunk of the sequence is copied before it is processed.
+     *
+     * @param input  the text to tokenize, not changed, null returns an empty list
+     * @return the records in order, each a list of tokens, not null
+     */
+    public List<List<String>> tokenize(final CharSequence input) {
+        return collect(input == null ? null : new Text(null, input, input.length()));
+    }
+
+    /**
+     * Tokenizes a character array, passing each record to a handler.
+     * <p>
+     * In order, the handler is called on the calling thread for each record in
+     * turn. Unordered, it is called on the threads of the pool, so it must be
+     * thread-safe; the records of a chunk are still passed in order.
+     *
+     * @param input  the text to tokenize, not changed, null has no records
+     * @param handler  the handler for the records, not null
+     * @param ordered  whether the records are delivered in order
+     * @throws IllegalArgumentException if the handler is null
+     */
+    public void tokenize(final char[] input, final RecordHandler handler, final boolean ordered) {
+        tokenize(input == null ? null : new Text(input, null, input.length), handler, ordered);
+    }
+
+    /**
+     * Tokenizes a character sequence, passing each record to a handler.
+     * <p>
+     * In order, the handler is called on the calling thread for each record in
+     * turn. Unordered, it is called on the threads of the pool, so it must be
+     * thread-safe; the records of a chunk are still passed in order.
+     *
+     * @param input  the text to tokenize, not changed, null has no records
+     * @param handler  the handler for the records, not null
+     * @param ordered  whether the records are delivered in order
+     * @throws IllegalArgumentException if the handler is null
+     */
+    public void tokenize(final CharSequence input, final RecordHandler handler, final boolean ordered) {
+        tokenize(input == null ? null : new Text(null, input, input.length()), handler, ordered);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Tokenizes a text into a list of records.
+     *
+     * @param text  the text, may be null
+     * @return the records, not null
+     */
+    private List<List<String>> collect(final Text text) {
+        final List<List<String>> records = new ArrayList<List<String>>();
+        tokenize(text, new RecordHandler() {
+            @Override
+            public void handleRecord(final List<String> tokens) {
+                records.add(tokens);
+            }
+        }, true);
+        return records;
+    }
+
+    /**
+     * Tokenizes a text, passing each record to a handler.
+     *
+     * @param text  the text, may be null
+     * @param handler  the handler, not null
+     * @param ordered  whether the records are delivered in order
+     */
+    private void tokenize(final Text text, final RecordHandler handler, final boolean ordered) {
+        if (handler == null) {
+            throw new IllegalArgumentException("The handler must not be null");
+        }
+        if (text == null || text.length == 0) {
+            return;
+        }
+        if (text.length <= chunkSize) {
+            deliver(tokenizeRecords(text, 0, text.length), handler);
+            return;
+        }
+        final int[] starts = findSegmentStarts(text);
+        // keep a bounded number of segments in flight, submitting the next as each
+        // is joined, so that the records of the whole text are not held at once
+        final int window = Math.min(starts.length, maxInFlight());
+        final List<ForkJoinTask<List<List<String>>>> inFlight =
+            new ArrayList<ForkJoinTask<List<List<String>>>>(window);
+        int submitted = 0;
+        while (submitted < window) {
+            inFlight.add(submitSegment(text, starts, submitted++, handler, ordered));
+        }
+        for (int i = 0; i < starts.length; i++) {
+            final int slot = i % window;
+            final List<List<String>> records = inFlight.get(slot).join();
+            inFlight.set(slot, submitted < starts.length
+                    ? submitSegment(text, starts, submitted++, handler, ordered) : null);
+            if (ordered) {
+                deliver(records, handler);
+            }
+        }
+    }
+
+    /**
+     * Submits the tokenizing of a segment of whole records.
+     *
+     * @param text  the text
+     * @param starts  the start positions of the segments
+     * @param index  the index of the segment
+     * @param handler  the handler, not null
+     * @param ordered  whether the records are returned for delivery in order,
+     *  rather than delivered by the task
+     * @return the submitted task, returning the records if ordered, null otherwise
+     */
+    private ForkJoinTask<List<List<String>>> submitSegment(final Text text, final int[] starts, final int index,
+            final RecordHandler handler, final boolean ordered) {
+        final int from = starts[index];
+        final int to = index + 1 < starts.length ? starts[index + 1] : text.length;
+        return submit(new Callable<List<List<String>>>() {
+            @Override
+            public List<List<String>> call() {
+                final List<List<String>> records = tokenizeRecords(text, from, to);
+                if (ordered) {
+                    return records;
+                }
+                deliver(records, handler);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Passes records to a handler.
+     *
+     * @param records  the records
+     * @param handler  the handler
+     */
+    private static void deliver(final List<List<String>> records, final RecordHandler handler) {
+        for (final List<String> record : records) {
+            handler.handleRecord(record);
+        }
+    }
+
+    /**
+     * Submits a task to the pool.
+     *
+     * @param <T>  the result type
+     * @param callable  the task
+     * @return the submitted task
+     */
+    private <T> ForkJoinTask<T> submit(final Callable<T> callable) {
+        return pool().submit(callable);
+    }
+
+    /**
+     * Gets the pool to run on.
+     *
+     * @return the pool, not null
+     */
+    private ForkJoinPool pool() {
+        return pool == null ? ForkJoinPool.commonPool() : pool;
+    }
+
+    /**
+     * Gets the most segments to tokenize at once, twice the parallelism of the pool
+     * so that a thread finishing one finds the next already queued.
+     *
+     * @return the number of segments, at least two
+     */
+    private int maxInFlight() {
+        return Math.max(2, 2 * pool().getParallelism());
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Finds where each chunk's records start, so that the text can be split
+     * into segments of whole records.
+     *
+     * @param text  the text
+     * @return the ascending start positions of the segments, the first being 0
+     */
+    private int[] findSegmentStarts(final Text text) {
+        final int chunkCount = (int) ((text.length + (long) chunkSize - 1) / chunkSize);
+        final List<ForkJoinTask<ChunkScan>> tasks = new ArrayList<ForkJoinTask<ChunkScan>>(chunkCount);
+        for (int i = 1; i < chunkCount; i++) {
+            final int from = i * chunkSize;
+            final int to = Math.min(text.length, from + chunkSize);
+            tasks.add(submit(new Callable<ChunkScan>() {
+                @Override
+                public ChunkScan call() {
+                    return scanChunk(text, from, to);
+                }
+            }));
+        }
+
+        // chain the scans from the start of the text, where no quote is open
+        final List<Integer> starts = new ArrayList<Integer>();
+        starts.add(0);
+        final Window first = text.window(0, Math.min(text.length, chunkSize));
+        State state = scan(first, new State(0, null), Math.min(text.length, chunkSize));
+        for (int i = 1; i < chunkCount; i++) {
+            final int to = Math.min(text.length, (i + 1) * chunkSize);
+            final ChunkScan chunk = tasks.get(i - 1).join();
+            State next = state.pos == chunk.from ? chunk.get(state.quote) : null;
+            if (next == null) {
+                // a state not foreseen, or a match running into the chunk
+                next = new State(state.pos, state.quote);
+                if (state.pos < to) {
+                    next = scan(text.window(state.pos, to), next, to);
+                }
+            }
+            if (next.firstRecord >= 0 && next.firstRecord < text.length) {
+                starts.add(next.firstRecord);
+            }
+            state = next;
+        }
+        final int[] result = new int[starts.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = starts.get(i);
+        }
+        return result;
+    }
+
+    /**
+     * Scans a chunk from each state it is likely to start in.
+     *
+     * @param text  the text
+     * @param from  the start of the chunk
+     * @param to  the end of the chunk
+     * @return the scans, not null
+     */
+    private ChunkScan scanChunk(final Text text, final int from, final int to) {
+        final Window window = text.window(from, to);
+        final ChunkScan chunk = new ChunkScan(from);
+        final State outside = new State(from, null);
+        outside.quotes = new ArrayList<char[]>(MAX_QUOTES);
+        chunk.add(scan(window, outside, to), null);
+        for (final char[] quote : outside.quotes) {
+            chunk.add(scan(window, new State(from, quote), to), quote);
+        }
+        return chunk;
+    }
+
+    /**
+     * Scans part of the text for record delimiters and quotes, following the
+     * quoting state from the given state.
+     * <p>
+     * The scan may end beyond the end position if a match runs over it.
+     *
+     * @param window  the characters to scan
+     * @param state  the state to start in, updated with the quotes seen if it collects them
+     * @param to  the position to stop at
+     * @return the state at the end of the scan, not null
+     */
+    private State scan(final Window window, final State state, final int to) {
+        final char[] chars = window.chars;
+        final int base = window.base;
+        final int bufferEnd = window.end - base;
+        final int end = to - base;
+        int pos = state.pos - base;
+        char[] quoteChars = state.quote;
+        int quoteOffset = 0;
+        int quoteLen = quoteChars == null ? 0 : quoteChars.length;
+        int firstRecord = -1;
+        while (pos < end) {
+            if (quoteLen > 0) {
+                if (matches(chars, pos, bufferEnd, quoteChars, quoteOffset, quoteLen)) {
+                    pos += quoteLen;
+                    quoteLen = 0;
+                } else {
+                    pos++;
+                }
+                continue;
+            }
+            final int quoteMatch = quoteMatcher.isMatch(chars, pos, 0, bufferEnd);
+            if (quoteMatch > 0) {
+                quoteChars = chars;
+                quoteOffset = pos;
+                quoteLen = quoteMatch;
+                if (state.quotes != null) {
+                    state.addQuote(chars, pos, quoteMatch);
+                }
+                pos += quoteMatch;
+                continue;
+            }
+            final int recordMatch = recordMatcher.isMatch(chars, pos, 0, bufferEnd);
+            if (recordMatch > 0) {
+                pos += recordMatch;
+                if (firstRecord < 0) {
+                    firstRecord = pos + base;
+                }
+            } else {
+                pos++;
+            }
+        }
+        final State result = new State(pos + base,
+                quoteLen == 0 ? null : copyQuote(quoteChars, quoteOffset, quoteLen));
+        result.firstRecord = firstRecord;
+        return result;
+    }
+
+    /**
+     * Splits a segment of whole records and tokenizes each record.
+     *
+     * @param text  the text
+     * @param from  the start of the segment, where no quote is open
+     * @param to  the end of the segment
+     * @return the records of the segment, not null
+     */
+    private List<List<String>> tokenizeRecords(final Text text, final int from, final int to) {
+        final Window window = text.window(from, to);
+        final char[] chars = window.chars;
+        final int base = window.base;
+        final int end = to - base;
+        final List<List<String>> records = new ArrayList<List<String>>();
+        int recordStart = from - base;
+        int pos = recordStart;
+        int quoteOffset = 0;
+        int quoteLen = 0;
+        while (pos < end) {
+            if (quoteLen > 0) {
+                if (matches(chars, pos, end, chars, quoteOffset, quoteLen)) {
+                    pos += quoteLen;
+                    quoteLen = 0;
+                } else {
+                    pos++;
+                }
+                continue;
+            }
+            final int quoteMatch = quoteMatcher.isMatch(chars, pos, 0, end);
+            if (quoteMatch > 0) {
+                quoteOffset = pos;
+                quoteLen = quoteMatch;
+                pos += quoteMatch;
+                continue;
+            }
+            final int recordMatch = recordMatcher.isMatch(chars, pos, 0, end);
+            if (recordMatch > 0) {
+                records.add(tokenizeRecord(chars, recordStart, pos));
+                pos += recordMatch;
+                recordStart = pos;
+            } else {
+                pos++;
+            }
+        }
+        if (recordStart < end) {
+            records.add(tokenizeRecord(chars, recordStart, end));
+        }
+        return records;
+    }
+
+    /**
+     * Tokenizes a single record.
+     *
+     * @param chars  the characters
+     * @param from  the start of the record
+     * @param to  the end of the record
+     * @return the tokens, not null
+     */
+    private List<String> tokenizeRecord(final char[] chars, final int from, final int to) {
+        final List<String> tokens = tokenizer.tokenize(chars, from, to - from);
+        return tokens.isEmpty() ? Collections.<String>emptyList() : tokens;
+    }
+
+    /**
+     * Checks whether a quote occurs at a position.
+     *
+     * @param chars  the characters
+     * @param pos  the position to check
+     * @param bufferEnd  the end of the characters
+     * @param quote  the array holding the quote
+     * @param offset  the start of the quote in its array
+     * @param len  the length of the quote
+     * @return true if the quote occurs at the position
+     */
+    private static boolean matches(final char[] chars, final int pos, final int bufferEnd,
+            final char[] quote, final int offset, final int len) {
+        if (pos + len > bufferEnd) {
+            return false;
+        }
+        for (int i = 0; i < len; i++) {
+            if (chars[pos + i] != quote[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Copies a quote out of a buffer.
+     *
+     * @param chars  the buffer
+     * @param offset  the start of the quote
+     * @param len  the length of the quote
+     * @return the quote, not null
+     */
+    private static char[] copyQuote(final char[] chars, final int offset, final int len) {
+        final char[] quote = new char[len];
+        System.arraycopy(chars, offset, quote, 0, len);
+        return quote;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The text being tokenized, either an array or a sequence.
+     */
+    private static final class Text {
+        /** The array, null for a sequence. */
+        private final char[] array;
+        /** The sequence, null for an array. */
+        private final CharSequence sequence;
+        /** The length of the text. */
+        private final int length;
+
+        Text(final char[] array, final CharSequence sequence, final int length) {
+            this.array = array;
+            this.sequence = sequence;
+            this.length = length;
+        }
+
+        /**
+         * Gets the characters of part of the text, with a few more for matchers to look ahead.
+         *
+         * @param from  the start of the part
+         * @param to  the end of the part
+         * @return the characters, not null
+         */
+        Window window(final int from, final int to) {
+            final int end = Math.min(length, to + LOOKAHEAD);
+            if (array != null) {
+                return new Window(array, 0, end);
+            }
+            final char[] chars = new char[end - from];
+            if (sequence instanceof String) {
+                ((String) sequence).getChars(from, end, chars, 0);
+            } else {
+                for (int i = from; i < end; i++) {
+                    chars[i - from] = sequence.charAt(i);
+                }
+            }
+            return new Window(chars, from, end);
+        }
+    }
+
+    /**
+     * Characters of the text, where position <code>p</code> of the text is at index <code>p - base</code>.
+     */
+    private static final class Window {
+        private final char[] chars;
+        private final int base;
+        private final int end;
+
+        Window(final char[] chars, final int base, final int end) {
+            this.chars = chars;
+            this.base = base;
+            this.end = end;
+        }
+    }
+
+    /**
+     * A position in the text and whether a quote is open there.
+     */
+    private static final class State {
+        /** The position. */
+        private final int pos;
+        /** The open quote, null if none. */
+        private final char[] quote;
+        /** The start of the first record found by the scan ending here, -1 if none. */
+        private int firstRecord = -1;
+        /** The distinct quotes seen by the scan, if collected. */
+        private List<char[]> quotes;
+
+        State(final int pos, final char[] quote) {
+            this.pos = pos;
+            this.quote = quote;
+        }
+
+        void addQuote(final char[] chars, final int offset, final int len) {
+            if (quotes.size() >= MAX_QUOTES) {
+                return;
+            }
+            for (final char[] quote : quotes) {
+                if (quote.length == len && matches(chars, offset, offset + len, quote, 0, len)) {
+                    return;
+                }
+            }
+            quotes.add(copyQuote(chars, offset, len));
+        }
+    }
+
+    /**
+     * The scans of a chunk from the states it may start in.
+     */
+    private static final class ChunkScan {
+        /** The start of the chunk. */
+        private final int from;
+        /** The quote each scan started in, null for none. */
+        private final List<char[]> startQuotes = new ArrayList<char[]>();
+        /** The result of each scan. */
+        private final List<State> results = new ArrayList<State>();
+
+        ChunkScan(final int from) {
+            this.from = from;
+        }
+
+        void add(final State result, final char[] startQuote) {
+            startQuotes.add(startQuote);
+            results.add(result);
+        }
+
+        /**
+         * Gets the result of the scan from the start of the chunk in the given state.
+         *
+         * @param quote  the open quote, null for none
+         * @return the result, null if the chunk was not scanned from that state
+         */
+        State get(final char[] quote) {
+            for (int i = 0; i < startQuotes.size(); i++) {
+                final char[] startQuote = startQuotes.get(i);
+                if (startQuote == quote || startQuote != null && quote != null
+                        && Arrays.equals(startQuote, quote)) {
+                    return results.get(i);
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Matches a line end: <code>"\r\n"</code>, <code>"\n"</code> or <code>"\r"</code>.
+     */
+    private static final class LineEndMatcher extends StrMatcher {
+        @Override
+        public int isMatch(final char[] buffer, final int pos, final int bufferStart, final int bufferEnd) {
+            final char ch = buffer[pos];
+            if (ch == '\n') {
+                return 1;
+            }
+            if (ch == '\r') {
+                return pos + 1 < bufferEnd && buffer[pos + 1] == '\n' ? 2 : 1;
+            }
+            return 0;
+        }
+    }
+}
@@ -16,6 +16,9 @@
  */
 package org.apache.commons.lang3.text;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.HashMap;
@@ -96,6 +99,18 @@ import java.util.Properties;
  * names, but it has to be enabled explicitly by setting the
  * {@link #setEnableSubstitutionInVariables(boolean) enableSubstitutionInVariables}
  * property to <b>true</b>.
+ * <p>
+ * A variable reference can also carry a default value, which is used when the
+ * variable cannot be resolved, for instance <code>${user.name:-anonymous}</code>.
+ * This has to be enabled by setting a
+ * {@link #setValueDelimiter(String) value delimiter}, such as
+ * {@link #DEFAULT_VALUE_DELIMITER}.
+ * <p>
+ * A source text that is substituted many times can be parsed once with
+ * {@link #compile(String)}. The resulting {@link CompiledTemplate} renders the
+ * text without searching it for variables again. Large texts can be
+ * substituted from a <code>Reader</code> to a <code>Writer</code> with
+ * {@link #replace(Reader, Writer)} without holding them in memory.
  *
  * @version $Id$
  * @since 2.2
@@ -114,6 +129,24 @@ public class StrSubstitutor {
      * Constant for the default variable suffix.
      */
     public static final StrMatcher DEFAULT_SUFFIX = StrMatcher.stringMatcher("}");
+    /**
+     * Constant for the default value delimiter of a variable.
+     * @since 3.2
+     */
+    public static final StrMatcher DEFAULT_VALUE_DELIMITER = StrMatcher.stringMatcher(":-");
+
+    /**
+     * The number of characters read and written at a time when substituting a stream.
+     */
+    private static final int STREAM_BUFFER_SIZE = 4096;
+    /**
+     * The number of characters available to a matcher when substituting a stream.
+     */
+    private static final int STREAM_LOOKAHEAD = 256;
+    /**
+     * The longest variable reference recognised when substituting a stream.
+     */
+    static final int STREAM_MAX_VARIABLE_LENGTH = 8192;
 
     /**
      * Stores the escape character.
@@ -127,6 +160,10 @@ public class StrSubstitutor {
      * Stores the variable suffix.
      */
     private StrMatcher suffixMatcher;
+    /**
+     * Stores the default value delimiter, null if default values are disabled.
+     */
+    private StrMatcher valueDelimiterMatcher;
     /**
      * Variable resolution is delegated to an implementor of VariableResolver.
      */
@@ -290,6 +327,30 @@ public class StrSubstitutor {
     }
 
     //-----------------------------------------------------------------------
+    /**
+     * Parses the given source string into a template that can be rendered
+     * many times.
+     * <p>
+     * The template keeps a copy of the variable resolver, prefix, suffix, escape
+     * character, value delimiter and substitution in variables settings of this
+     * instance at the time of the call; changing them afterwards does not affect
+     * the template. The variable resolver is consulted each time the template is
+     * rendered. If a subclass overrides <code>resolveVariable</code> or
+     * <code>substitute</code>, the template renders through {@link #replace(String)}
+     * of this instance instead, with the settings it has at that time.
+     *
+     * @param source  the string to parse, not null
+     * @return the compiled template, not null
+     * @throws IllegalArgumentException if the source is null
+     * @since 3.2
+     */
+    public CompiledTemplate compile(final String source) {
+        if (source == null) {
+            throw new IllegalArgumentException("The source must not be null");
+        }
+        return new CompiledTemplate(this, source);
+    }
+
     /**
      * Replaces all the occurrences of variables with their matching values
      * from the resolver using the given source string as a template.
@@ -508,6 +569,100 @@ public class StrSubstitutor {
         return buf.toString();
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Replaces all the occurrences of variables in the text read from the
+     * given reader with their matching values from the resolver, writing the
+     * result to the given writer.
+     * <p>
+     * The text is processed as it is read, so only a small window of it is held
+     * in memory, together with the values of the variables being substituted.
+     * The result is the same as that of {@link #replace(String)} on the whole
+     * text, including escaping and recursive substitution, except that a
+     * variable reference longer than 8192 characters is not recognised: its
+     * prefix is written as it is and processing continues after it. Matchers
+     * are given at least 256 characters to match against.
+     * <p>
+     * Variables are resolved through {@link #resolveVariable}, which is passed
+     * the window of the text that holds the reference rather than the whole text.
+     * As there is no buffer holding the whole text,
+     * {@link #substitute(StrBuilder, int, int)} is not called for it.
+     * <p>
+     * The writer is neither flushed nor closed.
+     *
+     * @param source  the reader to read the text from, not null
+     * @param target  the writer to write the result to, not null
+     * @throws IllegalArgumentException if the reader or writer is null
+     * @throws IOException if an I/O error occurs
+     * @since 3.2
+     */
+    public void replace(final Reader source, final Writer target) throws IOException {
+        if (source == null || target == null) {
+            throw new IllegalArgumentException("The reader and writer must not be null");
+        }
+        final StrMatcher prefixMatcher = getVariablePrefixMatcher();
+        final StrMatcher suffixMatcher = getVariableSuffixMatcher();
+        final char escape = getEscapeChar();
+        final boolean substitutionInVariables = isEnableSubstitutionInVariables();
+
+        final ReaderBuffer window = new ReaderBuffer(source);
+        final StrBuilder buf = window.buf;
+        int pos = 0;
+        while (true) {
+            if (pos > STREAM_BUFFER_SIZE) {
+                // write out the scanned text, keeping the last character for the escape check
+                target.write(buf.buffer, 0, pos - 1);
+                buf.delete(0, pos - 1);
+                pos = 1;
+            }
+            if (window.fill(pos + STREAM_LOOKAHEAD) <= pos) {
+                break;
+            }
+            final int startMatchLen = prefixMatcher.isMatch(buf.buffer, pos, 0, buf.length());
+            if (startMatchLen == 0) {
+                pos++;
+            } else if (pos > 0 && buf.buffer[pos - 1] == escape) {
+                // escaped
+                buf.deleteCharAt(pos - 1);
+            } else {
+                // find suffix
+                final int startPos = pos;
+                pos += startMatchLen;
+                int nestedVarCount = 0;
+                int endPos = -1;
+                while (pos - startPos <= STREAM_MAX_VARIABLE_LENGTH
+                        && window.fill(pos + STREAM_LOOKAHEAD) > pos) {
+                    int endMatchLen;
+                    if (substitutionInVariables
+                            && (endMatchLen = prefixMatcher.isMatch(buf.buffer, pos, 0, buf.length())) != 0) {
+                        // found a nested variable start
+                        nestedVarCount++;
+                        pos += endMatchLen;
+                        continue;
+                    }
+                    endMatchLen = suffixMatcher.isMatch(buf.buffer, pos, 0, buf.length());
+                    if (endMatchLen == 0) {
+                        pos++;
+                    } else if (nestedVarCount == 0) {
+                        endPos = pos + endMatchLen;
+                        break;
+                    } else {
+                        nestedVarCount--;
+                        pos += endMatchLen;
+                    }
+                }
+                if (endPos >= 0) {
+                    pos = substituteVariable(buf, startPos, startPos + startMatchLen, pos, endPos);
+                } else if (pos - startPos > STREAM_MAX_VARIABLE_LENGTH) {
+                    // too long to be a variable, carry on after the prefix
+                    pos = startPos + startMatchLen;
+                }
+                // otherwise the variable is unterminated and the rest of the text is left as it is
+            }
+        }
+        target.write(buf.buffer, 0, buf.length());
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Replaces all the occurrences of variables within the given source buffer
@@ -657,7 +812,7 @@ public class StrSubstitutor {
      * @return the length change that occurs, unless priorVariables is null when the int
      *  represents a boolean flag as to whether any change occurred.
      */
-    private int substitute(final StrBuilder buf, final int offset, final int length, List<String> priorVariables) {
+    int substitute(final StrBuilder buf, final int offset, final int length, List<String> priorVariables) {
         final StrMatcher prefixMatcher = getVariablePrefixMatcher();
         final StrMatcher suffixMatcher = getVariableSuffixMatcher();
         final char escape = getEscapeChar();
@@ -713,6 +868,13 @@ public class StrSubstitutor {
                                     substitute(bufName, 0, bufName.length());
                                     varName = bufName.toString();
                                 }
+                                String varDefaultValue = null;
+                                final int delimiterPos = indexOfValueDelimiter(varName);
+                                if (delimiterPos >= 0) {
+                                    varDefaultValue = varName.substring(delimiterPos
+                                            + valueDelimiterLength(varName, delimiterPos));
+                                    varName = varName.substring(0, delimiterPos);
+                                }
                                 pos += endMatchLen;
                                 final int endPos = pos;
 
@@ -728,8 +890,11 @@ public class StrSubstitutor {
                                 priorVariables.add(varName);
 
                                 // resolve the variable
-                                final String varValue = resolveVariable(varName, buf,
+                                String varValue = resolveVariable(varName, buf,
                                         startPos, endPos);
+                                if (varValue == null) {
+                                    varValue = varDefaultValue;
+                                }
                                 if (varValue != null) {
                                     // recursive replace
                                     final int varLen = varValue.length();
@@ -765,6 +930,81 @@ public class StrSubstitutor {
         return lengthChange;
     }
 
+    /**
+     * Finds the value delimiter in a variable name.
+     *
+     * @param varName  the variable name, possibly followed by a delimiter and default value
+     * @return the index of the delimiter, -1 if there is none or default values are disabled
+     */
+    int indexOfValueDelimiter(final String varName) {
+        final StrMatcher delimiterMatcher = getValueDelimiterMatcher();
+        if (delimiterMatcher == null) {
+            return -1;
+        }
+        final char[] chars = varName.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            if (delimiterMatcher.isMatch(chars, i, 0, chars.length) != 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the length of the value delimiter found by {@link #indexOfValueDelimiter(String)}.
+     *
+     * @param varName  the variable name
+     * @param delimiterPos  the index of the delimiter
+     * @return the length of the delimiter
+     */
+    int valueDelimiterLength(final String varName, final int delimiterPos) {
+        return getValueDelimiterMatcher().isMatch(varName.toCharArray(), delimiterPos, 0, varName.length());
+    }
+
+    /**
+     * Substitutes a single variable reference found when substituting a stream,
+     * as {@link #substitute(StrBuilder, int, int, List)} does.
+     *
+     * @param buf  the window of the stream holding the reference, not null
+     * @param startPos  the start position of the variable including the prefix
+     * @param nameStart  the start position of the variable name
+     * @param nameEnd  the end position of the variable name
+     * @param endPos  the end position of the variable including the suffix
+     * @return the position after the substituted value
+     */
+    private int substituteVariable(final StrBuilder buf, final int startPos, final int nameStart,
+            final int nameEnd, final int endPos) {
+        String varName = buf.substring(nameStart, nameEnd);
+        if (isEnableSubstitutionInVariables()) {
+            final StrBuilder bufName = new StrBuilder(varName);
+            substitute(bufName, 0, bufName.length());
+            varName = bufName.toString();
+        }
+        String varDefaultValue = null;
+        final int delimiterPos = indexOfValueDelimiter(varName);
+        if (delimiterPos >= 0) {
+            varDefaultValue = varName.substring(delimiterPos + valueDelimiterLength(varName, delimiterPos));
+            varName = varName.substring(0, delimiterPos);
+        }
+
+        // the reference stands in for the whole text in cycle error messages
+        final List<String> priorVariables = new ArrayList<String>();
+        priorVariables.add(buf.substring(startPos, endPos));
+        priorVariables.add(varName);
+
+        String varValue = resolveVariable(varName, buf, startPos, endPos);
+        if (varValue == null) {
+            varValue = varDefaultValue;
+        }
+        if (varValue == null) {
+            return endPos;
+        }
+        // recursive replace
+        final int varLen = varValue.length();
+        buf.replace(startPos, endPos, varValue);
+        return startPos + varLen + substitute(buf, startPos, varLen, priorVariables);
+    }
+
     /**
      * Checks if the specified variable is already in the stack (list) of variables.
      *
@@ -960,6 +1200,69 @@ public class StrSubstitutor {
         return setVariableSuffixMatcher(StrMatcher.stringMatcher(suffix));
     }
 
+    // Value delimiter
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the value delimiter matcher currently in use.
+     * <p>
+     * The value delimiter is the character or characters that separate the
+     * name of a variable from its default value, as in <code>${name:-default}</code>.
+     * The default value is used when the variable cannot be resolved.
+     *
+     * @return the value delimiter matcher in use, null if default values are disabled
+     * @since 3.2
+     */
+    public StrMatcher getValueDelimiterMatcher() {
+        return valueDelimiterMatcher;
+    }
+
+    /**
+     * Sets the value delimiter matcher to use.
+     * <p>
+     * The value delimiter is the character or characters that separate the
+     * name of a variable from its default value. This delimiter is expressed in
+     * terms of a matcher allowing advanced matches. Default values are disabled
+     * unless a value delimiter is set.
+     *
+     * @param valueDelimiterMatcher  the value delimiter matcher to use, null disables default values
+     * @return this, to enable chaining
+     * @since 3.2
+     */
+    public StrSubstitutor setValueDelimiterMatcher(final StrMatcher valueDelimiterMatcher) {
+        this.valueDelimiterMatcher = valueDelimiterMatcher;
+        return this;
+    }
+
+    /**
+     * Sets the value delimiter to use.
+     * <p>
+     * This method allows a single character value delimiter to be easily set.
+     *
+     * @param valueDelimiter  the value delimiter character to use
+     * @return this, to enable chaining
+     * @since 3.2
+     */
+    public StrSubstitutor setValueDelimiter(final char valueDelimiter) {
+        return setValueDelimiterMatcher(StrMatcher.charMatcher(valueDelimiter));
+    }
+
+    /**
+     * Sets the value delimiter to use.
+     * <p>
+     * This method allows a string value delimiter to be easily set, for
+     * instance <code>":-"</code>.
+     *
+     * @param valueDelimiter  the value delimiter string to use, null or empty disables default values
+     * @return this, to enable chaining
+     * @since 3.2
+     */
+    public StrSubstitutor setValueDelimiter(final String valueDelimiter) {
+        if (valueDelimiter == null || valueDelimiter.length() == 0) {
+            return setValueDelimiterMatcher(null);
+        }
+        return setValueDelimiterMatcher(StrMatcher.stringMatcher(valueDelimiter));
+    }
+
     // Resolver
     //-----------------------------------------------------------------------
     /**
@@ -1005,4 +1308,42 @@ public class StrSubstitutor {
             final boolean enableSubstitutionInVariables) {
         this.enableSubstitutionInVariables = enableSubstitutionInVariables;
     }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The window of a stream being substituted, filled from a reader on demand.
+     */
+    private static final class ReaderBuffer {
+        /** The reader to fill from. */
+        private final Reader reader;
+        /** The characters read and not yet written. */
+        private final StrBuilder buf = new StrBuilder(STREAM_BUFFER_SIZE + STREAM_LOOKAHEAD);
+        /** The buffer to read into. */
+        private final char[] chunk = new char[STREAM_BUFFER_SIZE];
+        /** Whether the end of the reader has been reached. */
+        private boolean eof;
+
+        ReaderBuffer(final Reader reader) {
+            this.reader = reader;
+        }
+
+        /**
+         * Reads until the window holds the given number of characters or the reader is exhausted.
+         *
+         * @param required  the number of characters wanted
+         * @return the number of characters in the window
+         * @throws IOException if an I/O error occurs
+         */
+        int fill(final int required) throws IOException {
+            while (!eof && buf.length() < required) {
+                final int count = reader.read(chunk);
+                if (count < 0) {
+                    eof = true;
+                } else {
+                    buf.append(chunk, 0, count);
+                }
+            }
+            return buf.length();
+        }
+    }
 }
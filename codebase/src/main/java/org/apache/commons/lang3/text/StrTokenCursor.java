@@ -0,0 +1,486 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.text;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Reads the tokens of a text one at a time, as configured by a {@link StrTokenizer}.
+ * <p>
+ * A cursor is created by {@link StrTokenizer#cursor(Reader)} or
+ * {@link StrTokenizer#cursor(CharSequence)} and produces the same tokens as
+ * the tokenizer would for the whole text:
+ * <pre>
+ * StrTokenCursor cursor = StrTokenizer.getCSVInstance().cursor(reader);
+ * while (cursor.next()) {
+ *     CharSequence field = cursor.getToken();
+ *     ...
+ * }
+ * </pre>
+ * Unlike the tokenizer, a cursor does not split the whole text up front. It
+ * reads the text into a buffer as it goes, keeping only the token being read,
+ * so the buffer only grows beyond its initial size for tokens longer than that.
+ * Quoted tokens may span any number of reads.
+ * <p>
+ * Tokens are not copied into strings. Each token is unquoted in place in the
+ * buffer and can be accessed through a reusable <code>CharSequence</code> view,
+ * {@link #getToken()}, or as a range of {@link #getBuffer()} given by
+ * {@link #getTokenStart()} and {@link #getTokenLength()}. Both are only valid
+ * until {@link #next()} is called again; {@link #getTokenString()} copies the
+ * token into a string that can be kept.
+ * <p>
+ * The matchers of the tokenizer are given at least 64 characters after the
+ * current position to match against, unless the end of the text is nearer.
+ * The settings of the tokenizer are captured when the cursor is created. The
+ * reader is not closed by the cursor. Cursors are not thread-safe.
+ *
+ * @since 3.2
+ * @version $Id$
+ */
+public final class StrTokenCursor {
+
+    /** The initial size of the buffer. */
+    private static final int BUFFER_SIZE = 8192;
+    /** The number of characters available to a matcher. */
+    private static final int LOOKAHEAD = 64;
+
+    /** The delimiter matcher */
+    private final StrMatcher delimMatcher;
+    /** The quote matcher */
+    private final StrMatcher quoteMatcher;
+    /** The ignored matcher */
+    private final StrMatcher ignoredMatcher;
+    /** The trimmer matcher */
+    private final StrMatcher trimmerMatcher;
+    /** Whether to return empty tokens as null */
+    private final boolean emptyAsNull;
+    /** Whether to ignore empty tokens */
+    private final boolean ignoreEmptyTokens;
+
+    /** The reader to read from, null if reading a character sequence. */
+    private final Reader reader;
+    /** The character sequence to read from, null if reading a reader. */
+    private final CharSequence sequence;
+    /** The position reached in the character sequence. */
+    private int sequencePos;
+    /** Whether the end of the text has been read. */
+    private boolean eof;
+
+    /** The buffer holding the text being tokenized. */
+    private char[] buf;
+    /** The number of characters in the buffer. */
+    private int limit;
+    /** The first character in the buffer that is still needed. */
+    private int mark;
+    /** The position being read. */
+    private int pos;
+    /** The start of the token being read, after any opening quote. */
+    private int start;
+    /** The position the next character of the token being read is written to. */
+    private int write;
+    /** The end of the token being read, excluding trailing trimmed characters. */
+    private int trimEnd;
+    /** The position of the opening quote of the token being read. */
+    private int quoteStart;
+    /** The length of the opening quote of the token being read, 0 if not quoted. */
+    private int quoteLen;
+
+    /** Whether reading has started. */
+    private boolean started;
+    /** Whether the text ended with a delimiter, leaving an empty token to return. */
+    private boolean trailingToken;
+    /** Whether all tokens have been returned. */
+    private boolean done;
+
+    /** The start of the current token in the buffer. */
+    private int tokenStart;
+    /** The length of the current token. */
+    private int tokenLength;
+    /** Whether the current token is null. */
+    private boolean tokenNull = true;
+    /** The view of the current token. */
+    private final CharSequence token = new TokenView();
+
+    /**
+     * Creates a cursor.
+     *
+     * @param tokenizer  the tokenizer whose settings to use, not null
+     * @param reader  the reader to read from, null if reading a character sequence
+     * @param sequence  the character sequence to read from, null if reading a reader
+     */
+    StrTokenCursor(final StrTokenizer tokenizer, final Reader reader, final CharSequence sequence) {
+        this.delimMatcher = tokenizer.getDelimiterMatcher();
+        this.quoteMatcher = tokenizer.getQuoteMatcher();
+        this.ignoredMatcher = tokenizer.getIgnoredMatcher();
+        this.trimmerMatcher = tokenizer.getTrimmerMatcher();
+        this.emptyAsNull = tokenizer.isEmptyTokenAsNull();
+        this.ignoreEmptyTokens = tokenizer.isIgnoreEmptyTokens();
+        this.reader = reader;
+        this.sequence = sequence;
+        this.buf = new char[sequence == null ? BUFFER_SIZE : Math.min(BUFFER_SIZE, sequence.length() + 1)];
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Moves to the next token.
+     *
+     * @return true if there is a next token, false if all tokens have been read
+     * @throws IOException if the reader throws it
+     */
+    public boolean next() throws IOException {
+        if (!started) {
+            started = true;
+            // an empty text has no tokens at all
+            done = fill() == 0;
+        }
+        while (!done) {
+            boolean more;
+            if (trailingToken) {
+                trailingToken = false;
+                setToken(pos, 0);
+                more = false;
+            } else {
+                more = readNextToken();
+            }
+            if (!more) {
+                done = true;
+            } else if (fill() <= pos) {
+                // the text ends with a delimiter
+                trailingToken = true;
+            }
+            if (tokenLength > 0 || !ignoreEmptyTokens) {
+                tokenNull = tokenLength == 0 && emptyAsNull;
+                return true;
+            }
+        }
+        tokenLength = 0;
+        tokenNull = true;
+        return false;
+    }
+
+    /**
+     * Gets the current token as a view of the buffer.
+     * <p>
+     * The same view is returned for every token, so it only shows the
+     * current token until {@link #next()} is called again.
+     *
+     * @return the current token, null if there is none or it is an empty token returned as null
+     */
+    public CharSequence getToken() {
+        return tokenNull ? null : token;
+    }
+
+    /**
+     * Gets the current token as a string.
+     *
+     * @return the current token, null if there is none or it is an empty token returned as null
+     */
+    public String getTokenString() {
+        return tokenNull ? null : new String(buf, tokenStart, tokenLength);
+    }
+
+    /**
+     * Gets the buffer holding the current token.
+     * <p>
+     * The buffer may be replaced or overwritten when {@link #next()} is called
+     * and must not be changed.
+     *
+     * @return the buffer, not null
+     */
+    public char[] getBuffer() {
+        return buf;
+    }
+
+    /**
+     * Gets the index of the first character of the current token in the buffer.
+     *
+     * @return the start of the current token
+     */
+    public int getTokenStart() {
+        return tokenStart;
+    }
+
+    /**
+     * Gets the length of the current token.
+     *
+     * @return the length of the current token, 0 if there is none or it is empty
+     */
+    public int getTokenLength() {
+        return tokenLength;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Reads the next token, following <code>StrTokenizer.readNextToken</code>.
+     *
+     * @return true if the token ended with a delimiter, false if it ended with the text
+     * @throws IOException if the reader throws it
+     */
+    private boolean readNextToken() throws IOException {
+        mark = pos;
+        // skip all leading whitespace, unless it is the
+        // field delimiter or the quote character
+        while (fill() > pos) {
+            final int removeLen = Math.max(
+                    ignoredMatcher.isMatch(buf, pos, pos, limit),
+                    trimmerMatcher.isMatch(buf, pos, pos, limit));
+            if (removeLen == 0
+                    || delimMatcher.isMatch(buf, pos, pos, limit) > 0
+                    || quoteMatcher.isMatch(buf, pos, pos, limit) > 0) {
+                break;
+            }
+            pos += removeLen;
+        }
+
+        // handle reaching end
+        if (pos >= limit) {
+            setToken(pos, 0);
+            return false;
+        }
+
+        // handle empty token
+        final int delimLen = delimMatcher.isMatch(buf, pos, pos, limit);
+        if (delimLen > 0) {
+            setToken(pos, 0);
+            pos += delimLen;
+            return true;
+        }
+
+        // handle found token
+        quoteStart = pos;
+        quoteLen = quoteMatcher.isMatch(buf, pos, pos, limit);
+        pos += quoteLen;
+        return readWithQuotes();
+    }
+
+    /**
+     * Reads a possibly quoted token, following <code>StrTokenizer.readWithQuotes</code>
+     * but unquoting the token in place.
+     *
+     * @return true if the token ended with a delimiter, false if it ended with the text
+     * @throws IOException if the reader throws it
+     */
+    private boolean readWithQuotes() throws IOException {
+        start = pos;
+        write = pos;
+        trimEnd = pos;
+        boolean quoting = quoteLen > 0;
+
+        while (fill() > pos) {
+            if (quoting) {
+                if (isQuote(pos)) {
+                    if (isQuote(pos + quoteLen)) {
+                        // matched pair of quotes, thus an escaped quote
+                        copy(quoteLen);
+                        pos += quoteLen;
+                        trimEnd = write;
+                        continue;
+                    }
+                    // end of quoting
+                    quoting = false;
+                    pos += quoteLen;
+                    continue;
+                }
+                // copy regular character from inside quotes
+                copy(1);
+                trimEnd = write;
+            } else {
+                // check for delimiter, and thus end of token
+                final int delimLen = delimMatcher.isMatch(buf, pos, start, limit);
+                if (delimLen > 0) {
+                    setToken(start, trimEnd - start);
+                    pos += delimLen;
+                    return true;
+                }
+                // check for quote, and thus back into quoting mode
+                if (quoteLen > 0 && isQuote(pos)) {
+                    quoting = true;
+                    pos += quoteLen;
+                    continue;
+                }
+                // check for ignored (outside quotes), and ignore
+                final int ignoredLen = ignoredMatcher.isMatch(buf, pos, start, limit);
+                if (ignoredLen > 0) {
+                    pos += ignoredLen;
+                    continue;
+                }
+                // check for trimmed character, which only counts if followed by others
+                final int trimmedLen = trimmerMatcher.isMatch(buf, pos, start, limit);
+                if (trimmedLen > 0) {
+                    copy(trimmedLen);
+                    continue;
+                }
+                // copy regular character from outside quotes
+                copy(1);
+                trimEnd = write;
+            }
+        }
+        setToken(start, trimEnd - start);
+        return false;
+    }
+
+    /**
+     * Checks if the characters at the position match the opening quote of the token.
+     *
+     * @param index  the position to check for a quote
+     * @return true if a quote is matched
+     */
+    private boolean isQuote(final int index) {
+        for (int i = 0; i < quoteLen; i++) {
+            if (index + i >= limit || buf[index + i] != buf[quoteStart + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Copies characters from the read position to the write position of the token.
+     *
+     * @param count  the number of characters to copy
+     */
+    private void copy(final int count) {
+        if (write != pos) {
+            System.arraycopy(buf, pos, buf, write, count);
+        }
+        pos += count;
+        write += count;
+    }
+
+    /**
+     * Sets the current token.
+     *
+     * @param index  the start of the token in the buffer
+     * @param length  the length of the token
+     */
+    private void setToken(final int index, final int length) {
+        tokenStart = index;
+        tokenLength = length;
+    }
+
+    /**
+     * Reads more of the text if fewer than {@link #LOOKAHEAD} characters
+     * are available after the read position.
+     * <p>
+     * Characters before the mark are discarded to make room, moving the rest
+     * of the buffer and all positions in it.
+     *
+     * @return the number of characters in the buffer
+     * @throws IOException if the reader throws it
+     */
+    private int fill() throws IOException {
+        if (eof || limit - pos >= LOOKAHEAD) {
+            return limit;
+        }
+        if (mark > 0) {
+            System.arraycopy(buf, mark, buf, 0, limit - mark);
+            limit -= mark;
+            pos -= mark;
+            start -= mark;
+            write -= mark;
+            trimEnd -= mark;
+            quoteStart -= mark;
+            tokenStart -= mark;
+            mark = 0;
+        }
+        final int required = pos + LOOKAHEAD;
+        if (buf.length < required) {
+            buf = Arrays.copyOf(buf, Math.max(buf.length * 2, required));
+        }
+        while (limit < required && !eof) {
+            final int count = read(buf.length - limit);
+            if (count < 0) {
+                eof = true;
+            } else {
+                limit += count;
+            }
+        }
+        return limit;
+    }
+
+    /**
+     * Reads characters of the text into the end of the buffer.
+     *
+     * @param max  the maximum number of characters to read
+     * @return the number of characters read, -1 at the end of the text
+     * @throws IOException if the reader throws it
+     */
+    private int read(final int max) throws IOException {
+        if (reader != null) {
+            return reader.read(buf, limit, max);
+        }
+        final int count = Math.min(max, sequence.length() - sequencePos);
+        if (count <= 0) {
+            return -1;
+        }
+        if (sequence instanceof String) {
+            ((String) sequence).getChars(sequencePos, sequencePos + count, buf, limit);
+        } else {
+            for (int i = 0; i < count; i++) {
+                buf[limit + i] = sequence.charAt(sequencePos + i);
+            }
+        }
+        sequencePos += count;
+        return count;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets a description of this cursor and its current token.
+     *
+     * @return a description of this cursor
+     */
+    @Override
+    public String toString() {
+        return "StrTokenCursor[" + getTokenString() + "]";
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * A view of the current token.
+     */
+    private final class TokenView implements CharSequence {
+
+        @Override
+        public int length() {
+            return tokenLength;
+        }
+
+        @Override
+        public char charAt(final int index) {
+            if (index < 0 || index >= tokenLength) {
+                throw new StringIndexOutOfBoundsException(index);
+            }
+            return buf[tokenStart + index];
+        }
+
+        @Override
+        public CharSequence subSequence(final int startIndex, final int endIndex) {
+            if (startIndex < 0 || endIndex > tokenLength || startIndex > endIndex) {
+                throw new StringIndexOutOfBoundsException("Invalid range " + startIndex + " to " + endIndex);
+            }
+            return new String(buf, tokenStart + startIndex, endIndex - startIndex);
+        }
+
+        @Override
+        public String toString() {
+            return new String(buf, tokenStart, tokenLength);
+        }
+    }
+}
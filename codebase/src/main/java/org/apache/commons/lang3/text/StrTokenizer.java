@@ -16,6 +16,7 @@
  */
 package org.apache.commons.lang3.text;
 
+import java.io.Reader;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -81,6 +82,10 @@ import org.apache.commons.lang3.StringUtils;
  *   <td>ignoreEmptyTokens</td><td>boolean</td><td>true</td>
  *  </tr>
  * </table>
+ * <p>
+ * Large texts, such as CSV exports, can be tokenized one token at a time with
+ * {@link #cursor(Reader)}, which reads the text as it goes and does not create
+ * a string for each token.
  *
  * @since 2.2
  * @version $Id$
@@ -493,6 +498,41 @@ public class StrTokenizer implements ListIterator<String>, Cloneable {
         return this;
     }
 
+    // Cursor
+    //-----------------------------------------------------------------------
+    /**
+     * Creates a cursor that reads the tokens of the text from a reader one at a time.
+     * <p>
+     * The cursor uses the current settings of this tokenizer, but not its
+     * text or position. The text is read as the tokens are requested, so it
+     * does not need to fit in memory.
+     *
+     * @param input  the reader to read the text from, null means no text
+     * @return a new cursor positioned before the first token, not null
+     * @since 3.2
+     */
+    public StrTokenCursor cursor(final Reader input) {
+        if (input == null) {
+            return new StrTokenCursor(this, null, "");
+        }
+        return new StrTokenCursor(this, input, null);
+    }
+
+    /**
+     * Creates a cursor that reads the tokens of a character sequence one at a time.
+     * <p>
+     * The cursor uses the current settings of this tokenizer, but not its
+     * text or position. The sequence must not be changed while the cursor
+     * is in use.
+     *
+     * @param input  the text to tokenize, null means no text
+     * @return a new cursor positioned before the first token, not null
+     * @since 3.2
+     */
+    public StrTokenCursor cursor(final CharSequence input) {
+        return new StrTokenCursor(this, null, input == null ? "" : input);
+    }
+
     // ListIterator
     //-----------------------------------------------------------------------
     /**
@@ -638,15 +678,16 @@ public class StrTokenizer implements ListIterator<String>, Cloneable {
         }
         final StrBuilder buf = new StrBuilder();
         final List<String> tokens = new ArrayList<String>();
+        final int end = offset + count;
         int pos = offset;
         
         // loop around the entire buffer
-        while (pos >= 0 && pos < count) {
+        while (pos >= 0 && pos < end) {
             // find next token
-            pos = readNextToken(chars, pos, count, buf, tokens);
+            pos = readNextToken(chars, pos, end, buf, tokens);
             
             // handle case where end of string is a delimiter
-            if (pos >= count) {
+            if (pos >= end) {
                 addToken(tokens, "");
             }
         }
@@ -57,4 +57,17 @@ public class AggregateTranslator extends CharSequenceTranslator {
         return 0;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean mayTranslate(final char c) {
+        for (final CharSequenceTranslator translator : translators) {
+            if (translator.translatesAscii(c)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
 }
@@ -17,6 +17,7 @@
 package org.apache.commons.lang3.text.translate;
 
 import java.io.IOException;
+import java.io.Reader;
 import java.io.StringWriter;
 import java.io.Writer;
 import java.util.Locale;
@@ -31,6 +32,15 @@ import java.util.Locale;
  */
 public abstract class CharSequenceTranslator {
 
+    /** The default number of characters held in memory by {@link #translateStream(Reader, Writer)}. */
+    public static final int DEFAULT_WINDOW_SIZE = 8192;
+
+    /** The number of characters covered by {@link #mayTranslate(char)}. */
+    private static final int ASCII_SIZE = 128;
+
+    /** Bitmap of the ASCII characters this translator may consume, see {@link #asciiTranslated()}. */
+    private volatile long[] asciiTranslated;
+
     /**
      * Translate a set of codepoints, represented by an int index into a CharSequence, 
      * into another set of codepoints. The number of codepoints consumed must be returned, 
@@ -79,14 +89,32 @@ public abstract class CharSequenceTranslator {
         if (input == null) {
             return;
         }
+        final long[] translated = asciiTranslated();
         int pos = 0;
         final int len = input.length();
         while (pos < len) {
+            // copy a run of ASCII characters that no translator wants in one go
+            int end = pos;
+            char c;
+            while (end < len && (c = input.charAt(end)) < ASCII_SIZE && (translated[c >> 6] & 1L << c) == 0) {
+                end++;
+            }
+            if (end > pos) {
+                if (input instanceof String) {
+                    out.write((String) input, pos, end - pos);
+                } else {
+                    out.append(input, pos, end);
+                }
+                pos = end;
+                continue;
+            }
             final int consumed = translate(input, pos, out);
             if (consumed == 0) {
-                final char[] c = Character.toChars(Character.codePointAt(input, pos));
+                c = input.charAt(pos++);
                 out.write(c);
-                pos+= c.length;
+                if (Character.isHighSurrogate(c) && pos < len && Character.isLowSurrogate(input.charAt(pos))) {
+                    out.write(input.charAt(pos++));
+                }
                 continue;
             }
 //          // contract with translators is that they have to understand codepoints 
@@ -97,6 +125,191 @@ public abstract class CharSequenceTranslator {
         }
     }
 
+    /**
+     * Returns whether {@link #translate(CharSequence, int, Writer)} might consume input
+     * that starts with the given ASCII character. Characters for which this returns
+     * {@code false} are copied to the output without calling the translator, in runs,
+     * by {@link #translate(CharSequence, Writer)}.
+     *
+     * <p>This is only asked for the characters 0 to 127, once per translator. The default
+     * implementation returns {@code true}, so every character is offered to the translator.
+     * The answers are only used if this method is declared by the class that declares the
+     * translating method, {@link #translate(CharSequence, int, Writer)} or
+     * {@code CodePointTranslator.translate(int, Writer)}, or by a subclass of it. A
+     * subclass that overrides the translating method without overriding this one is
+     * therefore offered every character.</p>
+     *
+     * @param c the ASCII character
+     * @return false if the translator never consumes input starting with {@code c}
+     * @since 3.2
+     */
+    protected boolean mayTranslate(final char c) {
+        return true;
+    }
+
+    /**
+     * Returns whether the translator might consume input that starts with the given
+     * ASCII character, according to {@link #mayTranslate(char)} if its answers are used.
+     *
+     * @param c the ASCII character
+     * @return false if the translator never consumes input starting with {@code c}
+     */
+    final boolean translatesAscii(final char c) {
+        return (asciiTranslated()[c >> 6] & 1L << c) != 0;
+    }
+
+    /**
+     * Returns the bitmap of the ASCII characters that {@link #mayTranslate(char)} accepts,
+     * computing it on first use. Every character is set if the answers of
+     * {@code mayTranslate} are not used.
+     *
+     * @return two longs, bit {@code c & 63} of element {@code c >> 6} is set for character {@code c}
+     */
+    private long[] asciiTranslated() {
+        long[] translated = asciiTranslated;
+        if (translated == null) {
+            translated = new long[ASCII_SIZE >> 6];
+            final boolean declared = isMayTranslateDeclared(getClass());
+            for (char c = 0; c < ASCII_SIZE; c++) {
+                if (!declared || mayTranslate(c)) {
+                    translated[c >> 6] |= 1L << c;
+                }
+            }
+            asciiTranslated = translated;
+        }
+        return translated;
+    }
+
+    /**
+     * Checks whether a translator class declares {@link #mayTranslate(char)} in the class
+     * declaring its translating method or in a subclass of it, so that the answers of
+     * {@code mayTranslate} describe the translation actually done.
+     *
+     * @param cls the class of the translator
+     * @return true if {@code mayTranslate} is overridden no higher than the translating method
+     */
+    private static boolean isMayTranslateDeclared(final Class<?> cls) {
+        try {
+            for (Class<?> c = cls; c != CharSequenceTranslator.class; c = c.getSuperclass()) {
+                if (declares(c, "mayTranslate", Character.TYPE)) {
+                    return true;
+                }
+                if (declares(c, "translate", CharSequence.class, Integer.TYPE, Writer.class)
+                        || declares(c, "translate", Integer.TYPE, Writer.class)) {
+                    return false;
+                }
+            }
+        } catch (final SecurityException e) { // NOPMD
+            // not allowed to find out, so offer every character
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether a class declares a method.
+     *
+     * @param cls the class
+     * @param name the name of the method
+     * @param parameterTypes the parameter types of the method
+     * @return true if the class declares the method
+     */
+    private static boolean declares(final Class<?> cls, final String name, final Class<?>... parameterTypes) {
+        try {
+            cls.getDeclaredMethod(name, parameterTypes);
+            return true;
+        } catch (final NoSuchMethodException e) { // NOPMD
+            // not declared here
+            return false;
+        }
+    }
+
+    /**
+     * Translate the characters of a Reader onto a Writer, using a window of
+     * {@value #DEFAULT_WINDOW_SIZE} characters.
+     *
+     * @param in Reader to read the text to translate from
+     * @param out Writer to translate the text to
+     * @throws IOException if and only if the Reader or the Writer produces an IOException
+     * @see #translateStream(Reader, Writer, int)
+     * @since 3.2
+     */
+    public final void translateStream(final Reader in, final Writer out) throws IOException {
+        translateStream(in, out, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Translate the characters of a Reader onto a Writer without holding the whole
+     * text in memory. The input is read into a sliding window of {@code windowSize}
+     * characters, and {@link #translate(CharSequence, int, Writer)} is only called
+     * for an index while at least half a window of input follows it, or the end of
+     * the input has been read. A sequence such as {@code &amp;} or {@code \\u00e9}
+     * that straddles two reads is therefore seen as a whole, as long as the
+     * translator needs no more than {@code windowSize / 2} characters to decide.
+     *
+     * <p>Translators that treat their input as a single value, such as
+     * {@code StringEscapeUtils.ESCAPE_CSV}, see each window as a separate value
+     * and should not be used with this method.</p>
+     *
+     * <p>The Reader is read to its end but not closed.</p>
+     *
+     * @param in Reader to read the text to translate from
+     * @param out Writer to translate the text to
+     * @param windowSize the number of characters held in memory, at least 2
+     * @throws IOException if and only if the Reader or the Writer produces an IOException
+     * @since 3.2
+     */
+    public final void translateStream(final Reader in, final Writer out, final int windowSize) throws IOException {
+        if (in == null) {
+            throw new IllegalArgumentException("The Reader must not be null");
+        }
+        if (out == null) {
+            throw new IllegalArgumentException("The Writer must not be null");
+        }
+        if (windowSize < 2) {
+            throw new IllegalArgumentException("The window size must be at least 2: " + windowSize);
+        }
+        final long[] translated = asciiTranslated();
+        final int lookahead = windowSize / 2;
+        final Window window = new Window(windowSize);
+        final char[] buf = window.buf;
+        boolean eof = false;
+        int pos = 0;
+        while (true) {
+            if (!eof && window.length - pos < lookahead) {
+                window.discard(pos);
+                pos = 0;
+                eof = window.fill(in);
+            }
+            final int len = window.length;
+            if (pos >= len) {
+                return;
+            }
+            // copy a run of ASCII characters that no translator wants in one go
+            int end = pos;
+            char c;
+            while (end < len && (c = buf[end]) < ASCII_SIZE && (translated[c >> 6] & 1L << c) == 0) {
+                end++;
+            }
+            if (end > pos) {
+                out.write(buf, pos, end - pos);
+                pos = end;
+                continue;
+            }
+            final int consumed = translate(window, pos, out);
+            if (consumed == 0) {
+                c = buf[pos++];
+                out.write(c);
+                if (Character.isHighSurrogate(c) && pos < len && Character.isLowSurrogate(buf[pos])) {
+                    out.write(buf[pos++]);
+                }
+                continue;
+            }
+            for (int pt = 0; pt < consumed && pos < len; pt++) {
+                pos += Character.charCount(Character.codePointAt(buf, pos, len));
+            }
+        }
+    }
+
     /**
      * Helper method to create a merger of this translator with another set of 
      * translators. Useful in customizing the standard functionality.
@@ -122,4 +335,71 @@ public abstract class CharSequenceTranslator {
         return Integer.toHexString(codepoint).toUpperCase(Locale.ENGLISH);
     }
 
+    /**
+     * The part of a Reader's input that is held in memory by
+     * {@link CharSequenceTranslator#translateStream(Reader, Writer, int)}.
+     */
+    private static final class Window implements CharSequence {
+        private final char[] buf;
+        private int length;
+
+        Window(final int size) {
+            buf = new char[size];
+        }
+
+        /**
+         * Drops the characters before the given index, moving the rest to the start.
+         *
+         * @param count the number of characters to drop
+         */
+        void discard(final int count) {
+            length -= count;
+            System.arraycopy(buf, count, buf, 0, length);
+        }
+
+        /**
+         * Reads from the Reader until the window is full or the input ends.
+         *
+         * @param in the Reader to read from
+         * @return true if the end of the input has been reached
+         * @throws IOException if the Reader fails
+         */
+        boolean fill(final Reader in) throws IOException {
+            while (length < buf.length) {
+                final int read = in.read(buf, length, buf.length - length);
+                if (read < 0) {
+                    return true;
+                }
+                length += read;
+            }
+            return false;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(final int index) {
+            if (index >= length) {
+                throw new IndexOutOfBoundsException(Integer.toString(index));
+            }
+            return buf[index];
+        }
+
+        @Override
+        public CharSequence subSequence(final int start, final int end) {
+            if (start < 0 || end > length || start > end) {
+                throw new IndexOutOfBoundsException(start + ", " + end);
+            }
+            return new String(buf, start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return new String(buf, 0, length);
+        }
+    }
+
 }
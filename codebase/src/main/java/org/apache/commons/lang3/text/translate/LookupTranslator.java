@@ -18,19 +18,26 @@ package org.apache.commons.lang3.text.translate;
 
 import java.io.IOException;
 import java.io.Writer;
-import java.util.HashMap;
 
 /**
  * Translates a value using a lookup table.
  *
+ * <p>The keys of the table are held in a character trie, so the longest key
+ * starting at a given index is found in a single forward pass over the input
+ * without creating any intermediate objects.</p>
+ *
  * @since 3.0
  * @version $Id$
  */
 public class LookupTranslator extends CharSequenceTranslator {
 
-    private final HashMap<String, CharSequence> lookupMap;
-    private final int shortest;
-    private final int longest;
+    /** Characters below this value are looked up directly from the root of the trie. */
+    private static final int ROOT_TABLE_SIZE = 256;
+
+    /** The root of the trie; its value is the translation of the empty key, if any. */
+    private final Node root = new Node();
+    /** Direct lookup of the first character of a key, for characters below {@link #ROOT_TABLE_SIZE}. */
+    private final Node[] rootTable = new Node[ROOT_TABLE_SIZE];
 
     /**
      * Define the lookup table to be used in translation
@@ -40,26 +47,25 @@ public class LookupTranslator extends CharSequenceTranslator {
      * This is because we need the key to support hashCode and equals(Object), 
      * allowing it to be the key for a HashMap. See LANG-882.
      *
+     * <p>As of Lang 3.2 the value is also converted to a java.lang.String when the
+     * translator is created. If a key occurs more than once, the last value wins.</p>
+     *
      * @param lookup CharSequence[][] table of size [*][2]
      */
     public LookupTranslator(final CharSequence[]... lookup) {
-        lookupMap = new HashMap<String, CharSequence>();
-        int _shortest = Integer.MAX_VALUE;
-        int _longest = 0;
         if (lookup != null) {
             for (final CharSequence[] seq : lookup) {
-                this.lookupMap.put(seq[0].toString(), seq[1]);
-                final int sz = seq[0].length();
-                if (sz < _shortest) {
-                    _shortest = sz;
-                }
-                if (sz > _longest) {
-                    _longest = sz;
+                final CharSequence key = seq[0];
+                Node node = root;
+                for (int i = 0; i < key.length(); i++) {
+                    node = node.add(key.charAt(i));
                 }
+                node.value = seq[1].toString();
             }
         }
-        shortest = _shortest;
-        longest = _longest;
+        for (int c = 0; c < ROOT_TABLE_SIZE; c++) {
+            rootTable[c] = root.get((char) c);
+        }
     }
 
     /**
@@ -67,19 +73,102 @@ public class LookupTranslator extends CharSequenceTranslator {
      */
     @Override
     public int translate(final CharSequence input, final int index, final Writer out) throws IOException {
-        int max = longest;
-        if (index + longest > input.length()) {
-            max = input.length() - index;
-        }
-        // descend so as to get a greedy algorithm
-        for (int i = max; i >= shortest; i--) {
-            final CharSequence subSeq = input.subSequence(index, index + i);
-            final CharSequence result = lookupMap.get(subSeq.toString());
-            if (result != null) {
-                out.write(result.toString());
-                return i;
+        final int length = input.length();
+        String result = root.value;
+        int consumed = 0;
+        if (index < length) {
+            final char first = input.charAt(index);
+            Node node = first < ROOT_TABLE_SIZE ? rootTable[first] : root.get(first);
+            int i = index;
+            // walk forward, remembering the last key seen so as to get a greedy algorithm
+            while (node != null) {
+                i++;
+                if (node.value != null) {
+                    result = node.value;
+                    consumed = i - index;
+                }
+                if (i >= length) {
+                    break;
+                }
+                node = node.get(input.charAt(i));
             }
         }
+        if (result != null) {
+            out.write(result);
+            return consumed;
+        }
         return 0;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean mayTranslate(final char c) {
+        return root.value != null || rootTable[c] != null;
+    }
+
+    /**
+     * A node of the trie. The children are kept sorted by character so that
+     * they can be found with a binary search.
+     */
+    private static final class Node {
+        private static final char[] NO_CHARS = new char[0];
+        private static final Node[] NO_NODES = new Node[0];
+
+        private char[] chars = NO_CHARS;
+        private Node[] children = NO_NODES;
+        private String value;
+
+        /**
+         * Returns the child for the given character, or {@code null} if there is none.
+         *
+         * @param c  the character to look up
+         * @return the child node, may be null
+         */
+        Node get(final char c) {
+            int low = 0;
+            int high = chars.length - 1;
+            while (low <= high) {
+                final int mid = (low + high) >>> 1;
+                final char midChar = chars[mid];
+                if (midChar < c) {
+                    low = mid + 1;
+                } else if (midChar > c) {
+                    high = mid - 1;
+                } else {
+                    return children[mid];
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Returns the child for the given character, creating it if necessary.
+         *
+         * @param c  the character to look up
+         * @return the child node, not null
+         */
+        Node add(final char c) {
+            int pos = 0;
+            while (pos < chars.length && chars[pos] < c) {
+                pos++;
+            }
+            if (pos < chars.length && chars[pos] == c) {
+                return children[pos];
+            }
+            final char[] newChars = new char[chars.length + 1];
+            final Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(chars, 0, newChars, 0, pos);
+            System.arraycopy(children, 0, newChildren, 0, pos);
+            System.arraycopy(chars, pos, newChars, pos + 1, chars.length - pos);
+            System.arraycopy(children, pos, newChildren, pos + 1, children.length - pos);
+            final Node child = new Node();
+            newChars[pos] = c;
+            newChildren[pos] = child;
+            chars = newChars;
+            children = newChildren;
+            return child;
+        }
+    }
 }
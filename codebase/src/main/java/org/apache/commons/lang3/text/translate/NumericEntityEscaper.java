@@ -116,4 +116,12 @@ public class NumericEntityEscaper extends CodePointTranslator {
         out.write(';');
         return true;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean mayTranslate(final char c) {
+        return between ? c >= below && c <= above : c < below || c > above;
+    }
 }
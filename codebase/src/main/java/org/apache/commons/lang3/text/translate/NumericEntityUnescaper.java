@@ -136,4 +136,12 @@ public class NumericEntityUnescaper extends CharSequenceTranslator {
         }
         return 0;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean mayTranslate(final char c) {
+        return c == '&';
+    }
 }
@@ -57,4 +57,12 @@ public class OctalUnescaper extends CharSequenceTranslator {
         }
         return 0;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean mayTranslate(final char c) {
+        return c == '\\';
+    }
 }
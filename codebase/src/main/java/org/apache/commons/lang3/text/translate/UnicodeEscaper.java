@@ -126,6 +126,14 @@ public class UnicodeEscaper extends CodePointTranslator {
         return true;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean mayTranslate(final char c) {
+        return between ? c >= below && c <= above : c < below || c > above;
+    }
+
     /**
      * Converts the given codepoint to a hex string of the form {@code "\\uXXXX"}
      * 
@@ -16,6 +16,7 @@
  */
 package org.apache.commons.lang3.time;
 
+import java.io.IOException;
 import java.text.DateFormat;
 import java.text.FieldPosition;
 import java.text.Format;
@@ -92,6 +93,13 @@ public class FastDateFormat extends Format implements DateParser, DatePrinter {
         }
     };
 
+    private static final FormatCache<FastDateFormat> secondCachingCache= new FormatCache<FastDateFormat>() {
+        @Override
+        protected FastDateFormat createInstance(final String pattern, final TimeZone timeZone, final Locale locale) {
+            return new FastDateFormat(pattern, timeZone, locale, true);
+        }
+    };
+
     private final FastDatePrinter printer;
     private final FastDateParser parser;
     
@@ -165,6 +173,107 @@ public class FastDateFormat extends Format implements DateParser, DatePrinter {
         return cache.getInstance(pattern, timeZone, locale);
     }
 
+    /**
+     * <p>Gets a formatter instance using the specified pattern, time zone
+     * and locale, which caches the text of the last formatted second.</p>
+     *
+     * <p>This suits formatting the current time over and over, for example
+     * in logs, where most calls fall into the same second as the previous
+     * one: the text of that second is copied and only the milliseconds are
+     * written. See {@link FastDatePrinter#FastDatePrinter(String, TimeZone, Locale, boolean)}.</p>
+     *
+     * @param pattern  {@link java.text.SimpleDateFormat} compatible
+     *  pattern
+     * @param timeZone  optional time zone, overrides time zone of
+     *  formatted date
+     * @param locale  optional locale, overrides system locale
+     * @return a pattern based date/time formatter
+     * @throws IllegalArgumentException if pattern is invalid
+     *  or {@code null}
+     * @since 3.2
+     */
+    public static FastDateFormat getSecondCachingInstance(final String pattern, final TimeZone timeZone, final Locale locale) {
+        return secondCachingCache.getInstance(pattern, timeZone, locale);
+    }
+
+    // Cache
+    //-----------------------------------------------------------------------
+    /**
+     * <p>Creates and caches the formatters for the specified patterns, time
+     * zone and locale, for example at startup, so that later calls to
+     * {@code getInstance} find them in the cache.</p>
+     *
+     * @param timeZone  optional time zone, overrides time zone of
+     *  formatted date
+     * @param locale  optional locale, overrides system locale
+     * @param patterns  {@link java.text.SimpleDateFormat} compatible
+     *  patterns
+     * @throws IllegalArgumentException if a pattern is invalid
+     * @since 3.2
+     */
+    public static void preloadCache(final TimeZone timeZone, final Locale locale, final String... patterns) {
+        cache.preload(timeZone, locale, patterns);
+    }
+
+    /**
+     * <p>Gets the maximum number of formatters held by the cache used by
+     * the {@code getInstance} methods.</p>
+     *
+     * @return the maximum size of the cache
+     * @since 3.2
+     */
+    public static int getCacheMaxSize() {
+        return cache.getMaxSize();
+    }
+
+    /**
+     * <p>Sets the maximum number of formatters held by the caches used by
+     * the {@code getInstance} and {@code getSecondCachingInstance} methods.
+     * When a cache is full, the least recently used tenth of its formatters is evicted.
+     * The default is 1000.</p>
+     *
+     * @param maxSize  the maximum size of each cache, at least 1
+     * @throws IllegalArgumentException if maxSize is less than 1
+     * @since 3.2
+     */
+    public static void setCacheMaxSize(final int maxSize) {
+        cache.setMaxSize(maxSize);
+        secondCachingCache.setMaxSize(maxSize);
+    }
+
+    /**
+     * <p>Gets the number of requests for a formatter which was found in
+     * the caches.</p>
+     *
+     * @return the number of cache hits
+     * @since 3.2
+     */
+    public static long getCacheHitCount() {
+        return cache.getHitCount() + secondCachingCache.getHitCount();
+    }
+
+    /**
+     * <p>Gets the number of requests for a formatter which had to be created
+     * because it was not found in the caches.</p>
+     *
+     * @return the number of cache misses
+     * @since 3.2
+     */
+    public static long getCacheMissCount() {
+        return cache.getMissCount() + secondCachingCache.getMissCount();
+    }
+
+    /**
+     * <p>Gets the number of formatters evicted from the caches because they
+     * were full.</p>
+     *
+     * @return the number of cache evictions
+     * @since 3.2
+     */
+    public static long getCacheEvictionCount() {
+        return cache.getEvictionCount() + secondCachingCache.getEvictionCount();
+    }
+
     //-----------------------------------------------------------------------
     /**
      * <p>Gets a date formatter instance using the specified style in the
@@ -366,7 +475,22 @@ public class FastDateFormat extends Format implements DateParser, DatePrinter {
      * @throws NullPointerException if pattern, timeZone, or locale is null.
      */
     protected FastDateFormat(final String pattern, final TimeZone timeZone, final Locale locale) {
-        printer= new FastDatePrinter(pattern, timeZone, locale);
+        this(pattern, timeZone, locale, false);
+    }
+
+    /**
+     * <p>Constructs a new FastDateFormat, optionally caching the text
+     * of the last formatted second.</p>
+     *
+     * @param pattern  {@link java.text.SimpleDateFormat} compatible pattern
+     * @param timeZone  non-null time zone to use
+     * @param locale  non-null locale to use
+     * @param cacheSecond  true to cache the text of the last formatted second
+     * @throws NullPointerException if pattern, timeZone, or locale is null.
+     * @since 3.2
+     */
+    protected FastDateFormat(final String pattern, final TimeZone timeZone, final Locale locale, final boolean cacheSecond) {
+        printer= new FastDatePrinter(pattern, timeZone, locale, cacheSecond);
         parser= new FastDateParser(pattern, timeZone, locale);
     }
 
@@ -460,6 +584,78 @@ public class FastDateFormat extends Format implements DateParser, DatePrinter {
         return printer.format(calendar, buf);
     }
 
+    /**
+     * <p>Formats a millisecond {@code long} value into the
+     * supplied {@code StringBuilder}.</p>
+     *
+     * @param millis  the millisecond value to format
+     * @param buf  the buffer to format into
+     * @return the specified string builder
+     * @see FastDatePrinter#format(long, StringBuilder)
+     * @since 3.2
+     */
+    public StringBuilder format(final long millis, final StringBuilder buf) {
+        return printer.format(millis, buf);
+    }
+
+    /**
+     * <p>Formats a {@code Date} object into the
+     * supplied {@code StringBuilder}.</p>
+     *
+     * @param date  the date to format
+     * @param buf  the buffer to format into
+     * @return the specified string builder
+     * @since 3.2
+     */
+    public StringBuilder format(final Date date, final StringBuilder buf) {
+        return printer.format(date, buf);
+    }
+
+    /**
+     * <p>Formats a {@code Calendar} object into the
+     * supplied {@code StringBuilder}.</p>
+     *
+     * @param calendar  the calendar to format
+     * @param buf  the buffer to format into
+     * @return the specified string builder
+     * @since 3.2
+     */
+    public StringBuilder format(final Calendar calendar, final StringBuilder buf) {
+        return printer.format(calendar, buf);
+    }
+
+    /**
+     * <p>Formats a millisecond {@code long} value into the
+     * supplied {@code Appendable}.</p>
+     *
+     * @param millis  the millisecond value to format
+     * @param appendable  the destination to format into
+     * @return the specified appendable
+     * @throws IOException if the appendable throws one
+     * @see FastDatePrinter#format(long, Appendable)
+     * @since 3.2
+     */
+    public Appendable format(final long millis, final Appendable appendable) throws IOException {
+        return printer.format(millis, appendable);
+    }
+
+    /**
+     * <p>Formats a millisecond {@code long} value into the
+     * supplied character array without creating any objects.</p>
+     *
+     * @param millis  the millisecond value to format
+     * @param dest  the array to format into
+     * @param off  the index in {@code dest} of the first character written
+     * @return the number of characters written
+     * @throws IndexOutOfBoundsException if the formatted value does not fit
+     *  into {@code dest} at {@code off}
+     * @see FastDatePrinter#format(long, char[], int)
+     * @since 3.2
+     */
+    public int format(final long millis, final char[] dest, final int off) {
+        return printer.format(millis, dest, off);
+    }
+
     // Parsing
     //-----------------------------------------------------------------------
 
@@ -488,6 +684,22 @@ public class FastDateFormat extends Format implements DateParser, DatePrinter {
         return parser.parseObject(source, pos);
     }
 
+    /**
+     * <p>Parses a date from a region of a character sequence without
+     * creating intermediate objects.</p>
+     *
+     * @param source  the character sequence to parse
+     * @param from  the index of the first character of the date
+     * @param to  the index after the last character of the date
+     * @return the parsed date as milliseconds since the epoch
+     * @throws ParseException if the region does not match the pattern
+     * @see FastDateParser#parseMillis(CharSequence, int, int)
+     * @since 3.2
+     */
+    public long parseMillis(final CharSequence source, final int from, final int to) throws ParseException {
+        return parser.parseMillis(source, from, to);
+    }
+
     // Accessors
     //-----------------------------------------------------------------------
     /**
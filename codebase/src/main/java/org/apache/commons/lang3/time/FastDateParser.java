@@ -82,6 +82,11 @@ public class FastDateParser implements DateParser, Serializable {
     private transient Strategy[] strategies;
     private transient int thisYear;
 
+    // derived fields for parsing without a regular expression
+    private transient Strategy[] fieldStrategies;
+    private transient int[] fieldWidths;
+    private transient ThreadLocal<Calendar> parseCalendar;
+
     // dynamic fields to communicate with Strategy
     private transient String currentFormatField;
     private transient Strategy nextStrategy;
@@ -111,6 +116,8 @@ public class FastDateParser implements DateParser, Serializable {
 
         final StringBuilder regex= new StringBuilder();
         final List<Strategy> collector = new ArrayList<Strategy>();
+        final List<Strategy> fieldCollector = new ArrayList<Strategy>();
+        final List<Integer> widthCollector = new ArrayList<Integer>();
 
         final Matcher patternMatcher= formatPattern.matcher(pattern);
         if(!patternMatcher.lookingAt()) {
@@ -128,6 +135,7 @@ public class FastDateParser implements DateParser, Serializable {
             }
             final String nextFormatField= patternMatcher.group();
             nextStrategy = getStrategy(nextFormatField, definingCalendar);
+            addField(currentStrategy, fieldCollector, widthCollector);
             if(currentStrategy.addRegex(this, regex)) {
                 collector.add(currentStrategy);
             }
@@ -137,12 +145,37 @@ public class FastDateParser implements DateParser, Serializable {
         if (patternMatcher.regionStart() != patternMatcher.regionEnd()) {
             throw new IllegalArgumentException("Failed to parse \""+pattern+"\" ; gave up at index "+patternMatcher.regionStart());
         }
+        addField(currentStrategy, fieldCollector, widthCollector);
         if(currentStrategy.addRegex(this, regex)) {
             collector.add(currentStrategy);
         }
         currentFormatField= null;
         strategies= collector.toArray(new Strategy[collector.size()]);
         parsePattern= Pattern.compile(regex.toString());
+
+        fieldStrategies= fieldCollector.toArray(new Strategy[fieldCollector.size()]);
+        fieldWidths= new int[fieldStrategies.length];
+        for(int i= 0; i<fieldWidths.length; ++i) {
+            fieldWidths[i]= widthCollector.get(i).intValue();
+        }
+        parseCalendar= new ThreadLocal<Calendar>() {
+            @Override
+            protected Calendar initialValue() {
+                return Calendar.getInstance(timeZone, locale);
+            }
+        };
+    }
+
+    /**
+     * Record a strategy for parsing without a regular expression, along with the
+     * width of the field if it is a number immediately followed by another number.
+     * @param strategy The strategy of the current format field
+     * @param fieldCollector The strategies collected so far
+     * @param widthCollector The field widths collected so far
+     */
+    private void addField(final Strategy strategy, final List<Strategy> fieldCollector, final List<Integer> widthCollector) {
+        fieldCollector.add(strategy);
+        widthCollector.add(Integer.valueOf(strategy.isNumber() && isNextNumber() ? getFieldWidth() : 0));
     }
 
     // Accessors
@@ -286,6 +319,63 @@ public class FastDateParser implements DateParser, Serializable {
         return cal.getTime();
     }
 
+    /**
+     * <p>Parses a date from a region of a character sequence and returns it as
+     * milliseconds since the epoch.</p>
+     *
+     * <p>Unlike {@link #parse(String, ParsePosition)} this method does not use a
+     * regular expression, does not copy the source and does not create a
+     * <code>Calendar</code> or <code>Date</code> per call; the strategies of the
+     * pattern are applied directly to the characters of the source, and a
+     * <code>Calendar</code> is reused per thread. Text fields such as month and
+     * day names, and time zone names, match the longest name at the current
+     * position.</p>
+     *
+     * <p>The whole region must match the pattern.</p>
+     *
+     * @param source the character sequence to parse, not null
+     * @param from the index of the first character of the date
+     * @param to the index after the last character of the date
+     * @return the parsed date as milliseconds since the epoch
+     * @throws ParseException if the region does not match the pattern
+     * @throws IndexOutOfBoundsException if the region is not within the source
+     * @since 3.2
+     */
+    public long parseMillis(final CharSequence source, final int from, final int to) throws ParseException {
+        if (from < 0 || to > source.length() || from > to) {
+            throw new IndexOutOfBoundsException("Region [" + from + ", " + to + ") is not within a sequence of length "
+                    + source.length());
+        }
+        final Calendar cal= parseCalendar.get();
+        cal.setTimeZone(timeZone);
+        cal.clear();
+
+        int pos= from;
+        for(int i=0; i<fieldStrategies.length; ++i) {
+            pos= fieldStrategies[i].parse(this, cal, source, pos, to, fieldWidths[i]);
+            if(pos<0) {
+                throw unparseable(source, from, to, ~pos);
+            }
+        }
+        if(pos!=to) {
+            throw unparseable(source, from, to, pos);
+        }
+        return cal.getTimeInMillis();
+    }
+
+    /**
+     * Create the exception thrown when {@link #parseMillis(CharSequence, int, int)} fails.
+     * @param source The text being parsed
+     * @param from The start of the region being parsed
+     * @param to The end of the region being parsed
+     * @param errorIndex The index in source where the error was found
+     * @return a ParseException with the error offset relative to the start of the region
+     */
+    private ParseException unparseable(final CharSequence source, final int from, final int to, final int errorIndex) {
+        return new ParseException("Unparseable date: \""+source.subSequence(from, to)+"\" does not match "+pattern,
+                errorIndex-from);
+    }
+
     // Support for strategies
     //-----------------------------------------------------------------------
 
@@ -409,6 +499,77 @@ public class FastDateParser implements DateParser, Serializable {
          * false, if this field is a constant value
          */
         abstract boolean addRegex(FastDateParser parser, StringBuilder regex);
+        /**
+         * Parse this field directly from the source text, without a regular expression,
+         * and set the Calendar with the parsed value.
+         * @param parser The parser calling this strategy
+         * @param cal The <code>Calendar</code> to set
+         * @param source The text to parse
+         * @param pos The index of the first character of this field
+         * @param limit The index after the last character which may be examined
+         * @param width The number of digits of a number field followed by another number, otherwise 0
+         * @return the index after this field; or, if the field does not match,
+         * the bitwise complement (<code>~</code>) of the index where the mismatch was found
+         */
+        abstract int parse(FastDateParser parser, Calendar cal, CharSequence source, int pos, int limit, int width);
+    }
+
+    /**
+     * Sort names by decreasing length, so that the first name to match is the longest.
+     * @param names The names to sort, in place
+     * @param values The values associated with the names, sorted in step with the names
+     */
+    private static <T> void sortLongestFirst(final String[] names, final T[] values) {
+        for(int i= 1; i<names.length; ++i) {
+            final String name= names[i];
+            final T value= values[i];
+            int j= i;
+            for(; j>0 && names[j-1].length()<name.length(); --j) {
+                names[j]= names[j-1];
+                values[j]= values[j-1];
+            }
+            names[j]= name;
+            values[j]= value;
+        }
+    }
+
+    /**
+     * Does the source text contain a name at a position?
+     * @param name The name to look for
+     * @param source The text to parse
+     * @param pos The index to match at
+     * @param limit The index after the last character which may be examined
+     * @return true, if the name is found at pos
+     */
+    private static boolean matches(final String name, final CharSequence source, final int pos, final int limit) {
+        final int length= name.length();
+        if(length>limit-pos) {
+            return false;
+        }
+        for(int i= 0; i<length; ++i) {
+            if(source.charAt(pos+i)!=name.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Find the first of several names which is found at a position of the source text.
+     * @param names The candidate names, longest first
+     * @param source The text to parse
+     * @param pos The index to match at
+     * @param limit The index after the last character which may be examined
+     * @return the index of the matched name, or -1 if no name matches
+     */
+    private static int matchName(final String[] names, final CharSequence source, final int pos, final int limit) {
+        for(int i= 0; i<names.length; ++i) {
+            final String name= names[i];
+            if(matches(name, source, pos, limit)) {
+                return i;
+            }
+        }
+        return -1;
     }
 
     /**
@@ -515,6 +676,7 @@ public class FastDateParser implements DateParser, Serializable {
      */
     private static class CopyQuotedStrategy extends Strategy {
         private final String formatField;
+        private final String literal;
 
         /**
          * Construct a Strategy that ensures the formatField has literal text
@@ -522,6 +684,30 @@ public class FastDateParser implements DateParser, Serializable {
          */
         CopyQuotedStrategy(final String formatField) {
             this.formatField= formatField;
+            this.literal= unquote(formatField);
+        }
+
+        /**
+         * Remove the quoting from literal text in the same way as {@link FastDateParser#escapeRegex}
+         * @param value The literal text, possibly containing quotes
+         * @return The text to be matched
+         */
+        private static String unquote(final String value) {
+            if(value.indexOf('\'')<0) {
+                return value;
+            }
+            final StringBuilder sb= new StringBuilder(value.length());
+            for(int i= 0; i<value.length(); ++i) {
+                char c= value.charAt(i);
+                if(c=='\'') {
+                    if(++i==value.length()) {
+                        break;
+                    }
+                    c= value.charAt(i);
+                }
+                sb.append(c);
+            }
+            return sb.toString();
         }
 
         /**
@@ -544,6 +730,20 @@ public class FastDateParser implements DateParser, Serializable {
             escapeRegex(regex, formatField, true);
             return false;
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        int parse(final FastDateParser parser, final Calendar cal, final CharSequence source, final int pos, final int limit, final int width) {
+            final int length= literal.length();
+            for(int i= 0; i<length; ++i) {
+                if(pos+i>=limit || source.charAt(pos+i)!=literal.charAt(i)) {
+                    return ~(pos+i);
+                }
+            }
+            return pos+length;
+        }
     }
 
     /**
@@ -552,6 +752,8 @@ public class FastDateParser implements DateParser, Serializable {
      private static class TextStrategy extends Strategy {
         private final int field;
         private final Map<String, Integer> keyValues;
+        private final String[] names;
+        private final Integer[] values;
 
         /**
          * Construct a Strategy that parses a Text field
@@ -562,6 +764,12 @@ public class FastDateParser implements DateParser, Serializable {
         TextStrategy(final int field, final Calendar definingCalendar, final Locale locale) {
             this.field= field;
             this.keyValues= getDisplayNames(field, definingCalendar, locale);
+            this.names= keyValues.keySet().toArray(new String[keyValues.size()]);
+            this.values= new Integer[names.length];
+            for(int i= 0; i<names.length; ++i) {
+                values[i]= keyValues.get(names[i]);
+            }
+            sortLongestFirst(names, values);
         }
 
         /**
@@ -594,6 +802,19 @@ public class FastDateParser implements DateParser, Serializable {
             }
             cal.set(field, iVal.intValue());
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        int parse(final FastDateParser parser, final Calendar cal, final CharSequence source, final int pos, final int limit, final int width) {
+            final int i= matchName(names, source, pos, limit);
+            if(i<0) {
+                return ~pos;
+            }
+            cal.set(field, values[i].intValue());
+            return pos+names[i].length();
+        }
     }
 
 
@@ -638,7 +859,45 @@ public class FastDateParser implements DateParser, Serializable {
          */
         @Override
         void setCalendar(final FastDateParser parser, final Calendar cal, final String value) {
-            cal.set(field, modify(Integer.parseInt(value)));
+            setCalendar(parser, cal, Integer.parseInt(value));
+        }
+
+        /**
+         * Set the Calendar with the parsed number.
+         * @param parser The parser calling this strategy
+         * @param cal The <code>Calendar</code> to set
+         * @param iValue The parsed number
+         */
+        void setCalendar(final FastDateParser parser, final Calendar cal, final int iValue) {
+            cal.set(field, modify(iValue));
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        int parse(final FastDateParser parser, final Calendar cal, final CharSequence source, final int pos, final int limit, final int width) {
+            final int end= width>0 ? pos+width : limit;
+            if(end>limit) {
+                return ~limit;
+            }
+            long value= 0;
+            int i= pos;
+            for(; i<end; ++i) {
+                final char c= source.charAt(i);
+                if(!Character.isDigit(c)) {
+                    break;
+                }
+                value= value*10 + Character.digit(c, 10);
+                if(value>Integer.MAX_VALUE) {
+                    return ~pos;
+                }
+            }
+            if(i==pos || width>0 && i<end) {
+                return ~i;
+            }
+            setCalendar(parser, cal, (int) value);
+            return i;
         }
 
         /**
@@ -656,8 +915,7 @@ public class FastDateParser implements DateParser, Serializable {
          * {@inheritDoc}
          */
         @Override
-        void setCalendar(final FastDateParser parser, final Calendar cal, final String value) {
-            int iValue= Integer.parseInt(value);
+        void setCalendar(final FastDateParser parser, final Calendar cal, int iValue) {
             if(iValue<100) {
                 iValue= parser.adjustYear(iValue);
             }
@@ -672,6 +930,8 @@ public class FastDateParser implements DateParser, Serializable {
 
         private final String validTimeZoneChars;
         private final SortedMap<String, TimeZone> tzNames= new TreeMap<String, TimeZone>(String.CASE_INSENSITIVE_ORDER);
+        private final String[] names;
+        private final TimeZone[] zones;
 
         /**
          * Construct a Strategy that parses a TimeZone
@@ -697,6 +957,10 @@ public class FastDateParser implements DateParser, Serializable {
             }
             sb.setCharAt(sb.length()-1, ')');
             validTimeZoneChars= sb.toString();
+
+            names= tzNames.keySet().toArray(new String[tzNames.size()]);
+            zones= tzNames.values().toArray(new TimeZone[tzNames.size()]);
+            sortLongestFirst(names, zones);
         }
 
         /**
@@ -728,6 +992,107 @@ public class FastDateParser implements DateParser, Serializable {
             }
             cal.setTimeZone(tz);
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        int parse(final FastDateParser parser, final Calendar cal, final CharSequence source, final int pos, final int limit, final int width) {
+            // same alternatives as validTimeZoneChars; a name such as "GMT-05:00" may be
+            // longer than the numeric offset at the start of it, in which case the name wins
+            final int gmtEnd= matches("GMT", source, pos, limit) ? parseOffset(cal, source, pos+3, limit, true) : -1;
+            if(gmtEnd<0) {
+                final int end= parseOffset(cal, source, pos, limit, false);
+                if(end>=0) {
+                    return end;
+                }
+            }
+            final int i= matchName(names, source, pos, limit);
+            if(i>=0 && pos+names[i].length()>gmtEnd) {
+                if(gmtEnd>=0) {
+                    cal.clear(Calendar.ZONE_OFFSET);
+                    cal.clear(Calendar.DST_OFFSET);
+                }
+                cal.setTimeZone(zones[i]);
+                return pos+names[i].length();
+            }
+            return gmtEnd>=0 ? gmtEnd : ~pos;
+        }
+
+        /**
+         * Parse a numeric time zone offset, either <code>[+-]h?hh</code> following "GMT",
+         * or <code>[+-]hh:?mm</code>, and set the zone offset of the Calendar.
+         * Offsets which {@link TimeZone#getTimeZone(String)} would not accept are treated as GMT.
+         * @param cal The <code>Calendar</code> to set
+         * @param source The text to parse
+         * @param pos The index of the sign
+         * @param limit The index after the last character which may be examined
+         * @param gmt true if the offset follows "GMT"
+         * @return the index after the offset, or -1 if there is no offset at pos
+         */
+        private static int parseOffset(final Calendar cal, final CharSequence source, final int pos, final int limit, final boolean gmt) {
+            if(pos>=limit) {
+                return -1;
+            }
+            final char sign= source.charAt(pos);
+            if(sign!='+' && sign!='-') {
+                return -1;
+            }
+            int i= pos+1;
+            int hours= 0;
+            int minutes= 0;
+            if(gmt) {
+                int digits= 0;
+                int value= 0;
+                for(; digits<3 && i<limit && isAsciiDigit(source.charAt(i)); ++i, ++digits) {
+                    value= value*10 + source.charAt(i)-'0';
+                }
+                if(digits<2) {
+                    return -1;
+                }
+                if(digits==2) {
+                    hours= value;
+                }
+                else {
+                    hours= value/100;
+                    minutes= value%100;
+                }
+            }
+            else {
+                if(i+2>limit || !isAsciiDigit(source.charAt(i)) || !isAsciiDigit(source.charAt(i+1))) {
+                    return -1;
+                }
+                hours= (source.charAt(i)-'0')*10 + source.charAt(i+1)-'0';
+                i+= 2;
+                if(i<limit && source.charAt(i)==':') {
+                    ++i;
+                }
+                if(i+2>limit || !isAsciiDigit(source.charAt(i)) || !isAsciiDigit(source.charAt(i+1))) {
+                    return -1;
+                }
+                minutes= (source.charAt(i)-'0')*10 + source.charAt(i+1)-'0';
+                i+= 2;
+            }
+            int offset= 0;
+            if(hours<=23 && minutes<=59) {
+                offset= (hours*60 + minutes) * 60 * 1000;
+                if(sign=='-') {
+                    offset= -offset;
+                }
+            }
+            cal.set(Calendar.ZONE_OFFSET, offset);
+            cal.set(Calendar.DST_OFFSET, 0);
+            return i;
+        }
+
+        /**
+         * Is the character an ASCII digit, as matched by <code>\d</code>?
+         * @param c The character to test
+         * @return true, if c is between '0' and '9'
+         */
+        private static boolean isAsciiDigit(final char c) {
+            return c>='0' && c<='9';
+        }
     }
 
     private static final Strategy NUMBER_MONTH_STRATEGY = new NumberStrategy(Calendar.MONTH) {
@@ -67,13 +67,13 @@ import org.apache.commons.lang3.Validate;
  */
 public class FastDatePrinter implements DatePrinter, Serializable {
     // A lot of the speed in this class comes from caching, but some comes
-    // from the special int to StringBuffer conversion.
+    // from the special int to StringBuilder conversion.
     //
     // The following produces a padded 2 digit number:
     //   buffer.append((char)(value / 10 + '0'));
     //   buffer.append((char)(value % 10 + '0'));
     //
-    // Note that the fastest append to StringBuffer is a single char (used here).
+    // Note that the fastest append to StringBuilder is a single char (used here).
     // Note that Integer.toString() is not called, the conversion is simply
     // taking the value and adding (mathematically) the ASCII value for '0'.
     // So, don't change this code! It works and is very fast.
@@ -114,6 +114,10 @@ public class FastDatePrinter implements DatePrinter, Serializable {
      * The locale.
      */
     private final Locale mLocale;
+    /**
+     * Whether the text of the last formatted second is cached.
+     */
+    private final boolean mCacheSecond;
     /**
      * The parsed rules.
      */
@@ -122,6 +126,24 @@ public class FastDatePrinter implements DatePrinter, Serializable {
      * The estimated maximum length.
      */
     private transient int mMaxLengthEstimate;
+    /**
+     * The calendar and buffer reused by each thread.
+     */
+    private transient ThreadLocal<FormatState> mFormatState;
+    /**
+     * The indices of the rules which output the millisecond, or null if the
+     * output of the pattern cannot be cached per second.
+     */
+    private transient int[] mMillisecondRules;
+    /**
+     * The text of the last formatted second, shared by all threads.
+     */
+    private transient volatile CachedSecond mCachedSecond;
+    /**
+     * Whether a subclass overrides {@link #applyRules(Calendar, StringBuffer)},
+     * which all the format methods then call.
+     */
+    private transient boolean mBufferRulesOverridden;
 
     // Constructor
     //-----------------------------------------------------------------------
@@ -134,9 +156,33 @@ public class FastDatePrinter implements DatePrinter, Serializable {
      * @throws NullPointerException if pattern, timeZone, or locale is null.
      */
     protected FastDatePrinter(final String pattern, final TimeZone timeZone, final Locale locale) {
+        this(pattern, timeZone, locale, false);
+    }
+
+    /**
+     * <p>Constructs a new FastDatePrinter, optionally caching the text
+     * of the last formatted second.</p>
+     *
+     * <p>When formatting millisecond values which mostly fall into the same
+     * second as the previous call, such as the current time in a log, the
+     * cache reduces formatting to copying the text of that second and
+     * writing the millisecond digits. The cache is only used if the
+     * milliseconds of the pattern, if any, have a fixed width of at least
+     * three digits ({@code SSS}); it is not used for formatting a
+     * {@code Calendar}.</p>
+     *
+     * @param pattern  {@link java.text.SimpleDateFormat} compatible pattern
+     * @param timeZone  non-null time zone to use
+     * @param locale  non-null locale to use
+     * @param cacheSecond  true to cache the text of the last formatted second
+     * @throws NullPointerException if pattern, timeZone, or locale is null.
+     * @since 3.2
+     */
+    protected FastDatePrinter(final String pattern, final TimeZone timeZone, final Locale locale, final boolean cacheSecond) {
         mPattern = pattern;
         mTimeZone = timeZone;
         mLocale = locale;
+        mCacheSecond = cacheSecond;
 
         init();
     }
@@ -154,6 +200,65 @@ public class FastDatePrinter implements DatePrinter, Serializable {
         }
 
         mMaxLengthEstimate = len;
+        mFormatState = new ThreadLocal<FormatState>() {
+            @Override
+            protected FormatState initialValue() {
+                return new FormatState(newCalendar(), mMaxLengthEstimate);
+            }
+        };
+        mBufferRulesOverridden = isApplyRulesOverridden(StringBuffer.class);
+        mMillisecondRules = mCacheSecond && !mBufferRulesOverridden && !isApplyRulesOverridden(StringBuilder.class)
+                ? selectMillisecondRules() : null;
+    }
+
+    /**
+     * <p>Checks whether a subclass overrides one of the {@code applyRules} methods.</p>
+     *
+     * @param bufferType  the type of the buffer parameter of the method
+     * @return true if the method is overridden, or that cannot be found out
+     */
+    private boolean isApplyRulesOverridden(final Class<?> bufferType) {
+        try {
+            for (Class<?> c = getClass(); c != FastDatePrinter.class; c = c.getSuperclass()) {
+                try {
+                    c.getDeclaredMethod("applyRules", Calendar.class, bufferType);
+                    return true;
+                } catch (final NoSuchMethodException e) { // NOPMD
+                    // not overridden here
+                }
+            }
+        } catch (final SecurityException e) {
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * <p>Finds the rules which output the millisecond, if they all
+     * have a fixed width.</p>
+     *
+     * @return the indices of the millisecond rules, or null if one of them
+     *  has a variable width
+     */
+    private int[] selectMillisecondRules() {
+        final List<Integer> indices = new ArrayList<Integer>();
+        for (int i = 0; i < mRules.length; i++) {
+            final Rule rule = mRules[i];
+            if (rule instanceof PaddedNumberField && ((PaddedNumberField) rule).mField == Calendar.MILLISECOND) {
+                if (((PaddedNumberField) rule).mSize < 3) {
+                    return null;
+                }
+                indices.add(Integer.valueOf(i));
+            } else if (rule instanceof UnpaddedNumberField && ((UnpaddedNumberField) rule).mField == Calendar.MILLISECOND
+                    || rule instanceof TwoDigitNumberField && ((TwoDigitNumberField) rule).mField == Calendar.MILLISECOND) {
+                return null;
+            }
+        }
+        final int[] result = new int[indices.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = indices.get(i).intValue();
+        }
+        return result;
     }
 
     // Parse the pattern
@@ -394,13 +499,7 @@ public class FastDatePrinter implements DatePrinter, Serializable {
      */
     @Override
     public String format(final long millis) {
-        final Calendar c = newCalendar();  // hard code GregorianCalendar
-        c.setTimeInMillis(millis);
-        return applyRulesToString(c);
-    }
-
-    private String applyRulesToString(final Calendar c) {
-        return applyRules(c, new StringBuffer(mMaxLengthEstimate)).toString();
+        return formatMillis(millis, new StringBuilder(mMaxLengthEstimate)).toString();
     }
 
     private GregorianCalendar newCalendar() {
@@ -408,14 +507,24 @@ public class FastDatePrinter implements DatePrinter, Serializable {
         return new GregorianCalendar(mTimeZone, mLocale);
     }
 
+    /**
+     * <p>Gets the calendar of the current thread, set to the specified time.</p>
+     *
+     * @param millis  the millisecond value to set the calendar to
+     * @return the calendar of the current thread
+     */
+    private Calendar threadCalendar(final long millis) {
+        final Calendar c = mFormatState.get().mCalendar;
+        c.setTimeInMillis(millis);
+        return c;
+    }
+
     /* (non-Javadoc)
      * @see org.apache.commons.lang3.time.DatePrinter#format(java.util.Date)
      */
     @Override
     public String format(final Date date) {
-        final Calendar c = newCalendar();  // hard code GregorianCalendar
-        c.setTime(date);
-        return applyRulesToString(c);
+        return format(date.getTime());
     }
 
     /* (non-Javadoc)
@@ -423,7 +532,7 @@ public class FastDatePrinter implements DatePrinter, Serializable {
      */
     @Override
     public String format(final Calendar calendar) {
-        return format(calendar, new StringBuffer(mMaxLengthEstimate)).toString();
+        return formatCalendar(calendar, new StringBuilder(mMaxLengthEstimate)).toString();
     }
 
     /* (non-Javadoc)
@@ -431,7 +540,12 @@ public class FastDatePrinter implements DatePrinter, Serializable {
      */
     @Override
     public StringBuffer format(final long millis, final StringBuffer buf) {
-        return format(new Date(millis), buf);
+        if (mBufferRulesOverridden) {
+            final Calendar c = newCalendar();
+            c.setTimeInMillis(millis);
+            return applyRules(c, buf);
+        }
+        return buf.append(threadBuffer(millis));
     }
 
     /* (non-Javadoc)
@@ -439,9 +553,7 @@ public class FastDatePrinter implements DatePrinter, Serializable {
      */
     @Override
     public StringBuffer format(final Date date, final StringBuffer buf) {
-        final Calendar c = newCalendar();  // hard code GregorianCalendar
-        c.setTime(date);
-        return applyRules(c, buf);
+        return format(date.getTime(), buf);
     }
 
     /* (non-Javadoc)
@@ -452,15 +564,219 @@ public class FastDatePrinter implements DatePrinter, Serializable {
         return applyRules(calendar, buf);
     }
 
+    /**
+     * <p>Formats a millisecond {@code long} value into the
+     * supplied {@code StringBuilder}.</p>
+     *
+     * <p>No {@code Calendar} is created; each thread reuses its own.</p>
+     *
+     * @param millis  the millisecond value to format
+     * @param buf  the buffer to format into
+     * @return the specified string builder
+     * @since 3.2
+     */
+    public StringBuilder format(final long millis, final StringBuilder buf) {
+        return formatMillis(millis, buf);
+    }
+
+    /**
+     * <p>Formats a {@code Date} object into the
+     * supplied {@code StringBuilder}.</p>
+     *
+     * @param date  the date to format
+     * @param buf  the buffer to format into
+     * @return the specified string builder
+     * @since 3.2
+     */
+    public StringBuilder format(final Date date, final StringBuilder buf) {
+        return format(date.getTime(), buf);
+    }
+
+    /**
+     * <p>Formats a {@code Calendar} object into the
+     * supplied {@code StringBuilder}.</p>
+     *
+     * @param calendar  the calendar to format
+     * @param buf  the buffer to format into
+     * @return the specified string builder
+     * @since 3.2
+     */
+    public StringBuilder format(final Calendar calendar, final StringBuilder buf) {
+        return formatCalendar(calendar, buf);
+    }
+
+    /**
+     * <p>Formats a millisecond {@code long} value into the
+     * supplied {@code Appendable}.</p>
+     *
+     * <p>The value is formatted into a buffer reused by the current thread
+     * and then appended in a single call.</p>
+     *
+     * @param millis  the millisecond value to format
+     * @param appendable  the destination to format into
+     * @return the specified appendable
+     * @throws IOException if the appendable throws one
+     * @since 3.2
+     */
+    public Appendable format(final long millis, final Appendable appendable) throws IOException {
+        final StringBuilder buf = threadBuffer(millis);
+        return appendable.append(buf);
+    }
+
+    /**
+     * <p>Formats a millisecond {@code long} value into the
+     * supplied character array.</p>
+     *
+     * <p>This method creates no objects: each thread reuses its own
+     * {@code Calendar} and buffer.</p>
+     *
+     * @param millis  the millisecond value to format
+     * @param dest  the array to format into
+     * @param off  the index in {@code dest} of the first character written
+     * @return the number of characters written
+     * @throws IndexOutOfBoundsException if the formatted value does not fit
+     *  into {@code dest} at {@code off}
+     * @since 3.2
+     */
+    public int format(final long millis, final char[] dest, final int off) {
+        final StringBuilder buf = threadBuffer(millis);
+        final int len = buf.length();
+        buf.getChars(0, len, dest, off);
+        return len;
+    }
+
+    /**
+     * <p>Formats a millisecond {@code long} value into the
+     * buffer of the current thread.</p>
+     *
+     * @param millis  the millisecond value to format
+     * @return the buffer of the current thread, holding the formatted value
+     */
+    private StringBuilder threadBuffer(final long millis) {
+        final StringBuilder buf = mFormatState.get().mBuffer;
+        buf.setLength(0);
+        return formatMillis(millis, buf);
+    }
+
+    /**
+     * <p>Formats a millisecond {@code long} value into the supplied
+     * {@code StringBuilder}, using the cached text of its second if
+     * possible.</p>
+     *
+     * @param millis  the millisecond value to format
+     * @param buf  the buffer to format into
+     * @return the specified string builder
+     */
+    private StringBuilder formatMillis(final long millis, final StringBuilder buf) {
+        if (mBufferRulesOverridden) {
+            final Calendar c = newCalendar();
+            c.setTimeInMillis(millis);
+            return formatCalendar(c, buf);
+        }
+        if (mMillisecondRules == null) {
+            return applyRules(threadCalendar(millis), buf);
+        }
+        final long second = floorDiv(millis, 1000L);
+        CachedSecond cached = mCachedSecond;
+        if (cached == null || cached.mSecond != second) {
+            cached = cacheSecond(second);
+        }
+        final int start = buf.length();
+        buf.append(cached.mText);
+        final int millisecond = (int) (millis - second * 1000L);
+        final char hundreds = (char) (millisecond / 100 + '0');
+        final char tens = (char) (millisecond / 10 % 10 + '0');
+        final char units = (char) (millisecond % 10 + '0');
+        for (final int end : cached.mMillisecondEnds) {
+            buf.setCharAt(start + end - 3, hundreds);
+            buf.setCharAt(start + end - 2, tens);
+            buf.setCharAt(start + end - 1, units);
+        }
+        return buf;
+    }
+
+    /**
+     * <p>Formats a {@code Calendar} into the supplied {@code StringBuilder},
+     * through {@link #applyRules(Calendar, StringBuffer)} if a subclass
+     * overrides it.</p>
+     *
+     * @param calendar  the calendar to format
+     * @param buf  the buffer to format into
+     * @return the specified string builder
+     */
+    private StringBuilder formatCalendar(final Calendar calendar, final StringBuilder buf) {
+        if (mBufferRulesOverridden) {
+            return buf.append(applyRules(calendar, new StringBuffer(mMaxLengthEstimate)));
+        }
+        return applyRules(calendar, buf);
+    }
+
+    /**
+     * <p>Formats the start of a second and publishes it as the cached
+     * second.</p>
+     *
+     * <p>Threads formatting different seconds at the same time simply
+     * replace each other's cached text; no locking is needed as the
+     * cached text is immutable.</p>
+     *
+     * @param second  the seconds since the epoch
+     * @return the cached text of the second
+     */
+    private CachedSecond cacheSecond(final long second) {
+        final Calendar calendar = threadCalendar(second * 1000L);
+        final StringBuilder buf = new StringBuilder(mMaxLengthEstimate);
+        final int[] millisecondEnds = new int[mMillisecondRules.length];
+        int next = 0;
+        for (int i = 0; i < mRules.length; i++) {
+            mRules[i].appendTo(buf, calendar);
+            if (next < mMillisecondRules.length && mMillisecondRules[next] == i) {
+                millisecondEnds[next++] = buf.length();
+            }
+        }
+        final CachedSecond cached = new CachedSecond(second, buf.toString(), millisecondEnds);
+        mCachedSecond = cached;
+        return cached;
+    }
+
+    /**
+     * <p>Divides, rounding towards negative infinity.</p>
+     *
+     * @param dividend  the value to divide
+     * @param divisor  the positive value to divide by
+     * @return the largest value not greater than the quotient
+     */
+    private static long floorDiv(final long dividend, final long divisor) {
+        final long quotient = dividend / divisor;
+        return dividend % divisor < 0 ? quotient - 1 : quotient;
+    }
+
     /**
      * <p>Performs the formatting by applying the rules to the
      * specified calendar.</p>
      *
+     * <p>If a subclass overrides this method, every format method calls it.
+     * Otherwise they call {@link #applyRules(Calendar, StringBuilder)}.</p>
+     *
      * @param calendar  the calendar to format
      * @param buf  the buffer to format into
      * @return the specified string buffer
      */
     protected StringBuffer applyRules(final Calendar calendar, final StringBuffer buf) {
+        final StringBuilder builder = mFormatState.get().mBuffer;
+        builder.setLength(0);
+        return buf.append(applyRules(calendar, builder));
+    }
+
+    /**
+     * <p>Performs the formatting by applying the rules to the
+     * specified calendar.</p>
+     *
+     * @param calendar  the calendar to format
+     * @param buf  the buffer to format into
+     * @return the specified string builder
+     * @since 3.2
+     */
+    protected StringBuilder applyRules(final Calendar calendar, final StringBuilder buf) {
         for (final Rule rule : mRules) {
             rule.appendTo(buf, calendar);
         }
@@ -560,6 +876,48 @@ public class FastDatePrinter implements DatePrinter, Serializable {
         init();
     }
 
+    /**
+     * <p>Inner class holding the calendar and buffer reused by a thread.</p>
+     */
+    private static class FormatState {
+        private final Calendar mCalendar;
+        private final StringBuilder mBuffer;
+
+        /**
+         * Constructs a new instance of {@code FormatState}.
+         *
+         * @param calendar the calendar to reuse
+         * @param capacity the initial capacity of the buffer
+         */
+        FormatState(final Calendar calendar, final int capacity) {
+            mCalendar = calendar;
+            mBuffer = new StringBuilder(capacity);
+        }
+    }
+
+    /**
+     * <p>Inner class holding the formatted text of a second, with the
+     * positions of its millisecond fields.</p>
+     */
+    private static class CachedSecond {
+        private final long mSecond;
+        private final String mText;
+        private final int[] mMillisecondEnds;
+
+        /**
+         * Constructs a new instance of {@code CachedSecond}.
+         *
+         * @param second the seconds since the epoch
+         * @param text the text formatted for the start of the second
+         * @param millisecondEnds the index after each millisecond field in the text
+         */
+        CachedSecond(final long second, final String text, final int[] millisecondEnds) {
+            mSecond = second;
+            mText = text;
+            mMillisecondEnds = millisecondEnds;
+        }
+    }
+
     // Rules
     //-----------------------------------------------------------------------
     /**
@@ -579,7 +937,7 @@ public class FastDatePrinter implements DatePrinter, Serializable {
          * @param buffer the output buffer
          * @param calendar calendar to be appended
          */
-        void appendTo(StringBuffer buffer, Calendar calendar);
+        void appendTo(StringBuilder buffer, Calendar calendar);
     }
 
     /**
@@ -592,7 +950,7 @@ public class FastDatePrinter implements DatePrinter, Serializable {
          * @param buffer the output buffer
          * @param value the value to be appended
          */
-        void appendTo(StringBuffer buffer, int value);
+        void appendTo(StringBuilder buffer, int value);
     }
 
     /**
@@ -623,7 +981,7 @@ public class FastDatePrinter implements DatePrinter, Serializable {
          * {@inheritDoc}
          */
         @Override
-        public void appendTo(final StringBuffer buffer, final Calendar calendar) {
+        public void appendTo(final StringBuilder buffer, final Calendar calendar) {
             buffer.append(mValue);
         }
     }
@@ -656,7 +1014,7 @@ public class FastDatePrinter implements DatePrinter, Serializable {
          * {@inheritDoc}
          */
         @Override
-        public void appendTo(final StringBuffer buffer, final Calendar calendar) {
+        public void appendTo(final StringBuilder buffer, final Calendar calendar) {
             buffer.append(mValue);
         }
     }
@@ -699,7 +1057,7 @@ public class FastDatePrinter implements DatePrinter, Serializable {
          * {@inheritDoc}
          */
         @Override
-        public void appendTo(final StringBuffer buffer, final Calendar calendar) {
+        public void appendTo(final StringBuilder buffer, final Calendar calendar) {
             buffer.append(mValues[calendar.get(mField)]);
         }
     }
@@ -731,7 +1089,7 @@ public class FastDatePrinter implements DatePrinter, Serializable {
          * {@inheritDoc}
          */
         @Override
-        public void appendTo(final StringBuffer buffer, final Calendar calendar) {
+        public void appendTo(final StringBuilder buffer, final Calendar calendar) {
             appendTo(buffer, calendar.get(mField));
         }
 
@@ -739,14 +1097,14 @@ public class FastDatePrinter implements DatePrinter, Serializable {
          * {@inheritDoc}
          */
         @Override
-        public final void appendTo(final StringBuffer buffer, final int value) {
+        public final void appendTo(final StringBuilder buffer, final int value) {
             if (value < 10) {
                 buffer.append((char)(value + '0'));
             } else if (value < 100) {
                 buffer.append((char)(value / 10 + '0'));
                 buffer.append((char)(value % 10 + '0'));
             } else {
-                buffer.append(Integer.toString(value));
+                buffer.append(value);
             }
         }
     }
@@ -777,7 +1135,7 @@ public class FastDatePrinter implements DatePrinter, Serializable {
          * {@inheritDoc}
          */
         @Override
-        public void appendTo(final StringBuffer buffer, final Calendar calendar) {
+        public void appendTo(final StringBuilder buffer, final Calendar calendar) {
             appendTo(buffer, calendar.get(Calendar.MONTH) + 1);
         }
 
@@ -785,7 +1143,7 @@ public class FastDatePrinter implements DatePrinter, Serializable {
          * {@inheritDoc}
          */
         @Override
-        public final void appendTo(final StringBuffer buffer, final int value) {
+        public final void appendTo(final StringBuilder buffer, final int value) {
             if (value < 10) {
                 buffer.append((char)(value + '0'));
             } else {
@@ -829,7 +1187,7 @@ public class FastDatePrinter implements DatePrinter, Serializable {
          * {@inheritDoc}
          */
         @Override
-        public void appendTo(final StringBuffer buffer, final Calendar calendar) {
+        public void appendTo(final StringBuilder buffer, final Calendar calendar) {
             appendTo(buffer, calendar.get(mField));
         }
 
@@ -837,7 +1195,7 @@ public class FastDatePrinter implements DatePrinter, Serializable {
          * {@inheritDoc}
          */
         @Override
-        public final void appendTo(final StringBuffer buffer, final int value) {
+        public final void appendTo(final StringBuilder buffer, final int value) {
             if (value < 100) {
                 for (int i = mSize; --i >= 2; ) {
                     buffer.append('0');
@@ -850,12 +1208,15 @@ public class FastDatePrinter implements DatePrinter, Serializable {
                     digits = 3;
                 } else {
                     Validate.isTrue(value > -1, "Negative values should not be possible", value);
-                    digits = Integer.toString(value).length();
+                    digits = 4;
+                    for (int rest = value / 10000; rest > 0; rest /= 10) {
+                        digits++;
+                    }
                 }
                 for (int i = mSize; --i >= digits; ) {
                     buffer.append('0');
                 }
-                buffer.append(Integer.toString(value));
+                buffer.append(value);
             }
         }
     }
@@ -887,7 +1248,7 @@ public class FastDatePrinter implements DatePrinter, Serializable {
          * {@inheritDoc}
          */
         @Override
-        public void appendTo(final StringBuffer buffer, final Calendar calendar) {
+        public void appendTo(final StringBuilder buffer, final Calendar calendar) {
             appendTo(buffer, calendar.get(mField));
         }
 
@@ -895,12 +1256,12 @@ public class FastDatePrinter implements DatePrinter, Serializable {
          * {@inheritDoc}
          */
         @Override
-        public final void appendTo(final StringBuffer buffer, final int value) {
+        public final void appendTo(final StringBuilder buffer, final int value) {
             if (value < 100) {
                 buffer.append((char)(value / 10 + '0'));
                 buffer.append((char)(value % 10 + '0'));
             } else {
-                buffer.append(Integer.toString(value));
+                buffer.append(value);
             }
         }
     }
@@ -930,7 +1291,7 @@ public class FastDatePrinter implements DatePrinter, Serializable {
          * {@inheritDoc}
          */
         @Override
-        public void appendTo(final StringBuffer buffer, final Calendar calendar) {
+        public void appendTo(final StringBuilder buffer, final Calendar calendar) {
             appendTo(buffer, calendar.get(Calendar.YEAR) % 100);
         }
 
@@ -938,7 +1299,7 @@ public class FastDatePrinter implements DatePrinter, Serializable {
          * {@inheritDoc}
          */
         @Override
-        public final void appendTo(final StringBuffer buffer, final int value) {
+        public final void appendTo(final StringBuilder buffer, final int value) {
             buffer.append((char)(value / 10 + '0'));
             buffer.append((char)(value % 10 + '0'));
         }
@@ -969,7 +1330,7 @@ public class FastDatePrinter implements DatePrinter, Serializable {
          * {@inheritDoc}
          */
         @Override
-        public void appendTo(final StringBuffer buffer, final Calendar calendar) {
+        public void appendTo(final StringBuilder buffer, final Calendar calendar) {
             appendTo(buffer, calendar.get(Calendar.MONTH) + 1);
         }
 
@@ -977,7 +1338,7 @@ public class FastDatePrinter implements DatePrinter, Serializable {
          * {@inheritDoc}
          */
         @Override
-        public final void appendTo(final StringBuffer buffer, final int value) {
+        public final void appendTo(final StringBuilder buffer, final int value) {
             buffer.append((char)(value / 10 + '0'));
             buffer.append((char)(value % 10 + '0'));
         }
@@ -1011,7 +1372,7 @@ public class FastDatePrinter implements DatePrinter, Serializable {
          * {@inheritDoc}
          */
         @Override
-        public void appendTo(final StringBuffer buffer, final Calendar calendar) {
+        public void appendTo(final StringBuilder buffer, final Calendar calendar) {
             int value = calendar.get(Calendar.HOUR);
             if (value == 0) {
                 value = calendar.getLeastMaximum(Calendar.HOUR) + 1;
@@ -1023,7 +1384,7 @@ public class FastDatePrinter implements DatePrinter, Serializable {
          * {@inheritDoc}
          */
         @Override
-        public void appendTo(final StringBuffer buffer, final int value) {
+        public void appendTo(final StringBuilder buffer, final int value) {
             mRule.appendTo(buffer, value);
         }
     }
@@ -1056,7 +1417,7 @@ public class FastDatePrinter implements DatePrinter, Serializable {
          * {@inheritDoc}
          */
         @Override
-        public void appendTo(final StringBuffer buffer, final Calendar calendar) {
+        public void appendTo(final StringBuilder buffer, final Calendar calendar) {
             int value = calendar.get(Calendar.HOUR_OF_DAY);
             if (value == 0) {
                 value = calendar.getMaximum(Calendar.HOUR_OF_DAY) + 1;
@@ -1068,7 +1429,7 @@ public class FastDatePrinter implements DatePrinter, Serializable {
          * {@inheritDoc}
          */
         @Override
-        public void appendTo(final StringBuffer buffer, final int value) {
+        public void appendTo(final StringBuilder buffer, final int value) {
             mRule.appendTo(buffer, value);
         }
     }
@@ -1104,6 +1465,7 @@ public class FastDatePrinter implements DatePrinter, Serializable {
      * <p>Inner class to output a time zone name.</p>
      */
     private static class TimeZoneNameRule implements Rule {
+        private final TimeZone mTimeZone;
         private final Locale mLocale;
         private final int mStyle;
         private final String mStandard;
@@ -1117,6 +1479,7 @@ public class FastDatePrinter implements DatePrinter, Serializable {
          * @param style the style
          */
         TimeZoneNameRule(final TimeZone timeZone, final Locale locale, final int style) {
+            mTimeZone = timeZone;
             mLocale = locale;
             mStyle = style;
             
@@ -1139,13 +1502,14 @@ public class FastDatePrinter implements DatePrinter, Serializable {
          * {@inheritDoc}
          */
         @Override
-        public void appendTo(final StringBuffer buffer, final Calendar calendar) {
+        public void appendTo(final StringBuilder buffer, final Calendar calendar) {
             final TimeZone zone = calendar.getTimeZone();
-            if (zone.useDaylightTime()
-                    && calendar.get(Calendar.DST_OFFSET) != 0) {
-                buffer.append(getTimeZoneDisplay(zone, true, mStyle, mLocale));
+            final boolean daylight = zone.useDaylightTime() && calendar.get(Calendar.DST_OFFSET) != 0;
+            if (zone == mTimeZone) {
+                // the names of the formatter's own zone are known, skip the cache lookup
+                buffer.append(daylight ? mDaylight : mStandard);
             } else {
-                buffer.append(getTimeZoneDisplay(zone, false, mStyle, mLocale));
+                buffer.append(getTimeZoneDisplay(zone, daylight, mStyle, mLocale));
             }
         }
     }
@@ -1181,7 +1545,7 @@ public class FastDatePrinter implements DatePrinter, Serializable {
          * {@inheritDoc}
          */
         @Override
-        public void appendTo(final StringBuffer buffer, final Calendar calendar) {
+        public void appendTo(final StringBuilder buffer, final Calendar calendar) {
             int offset = calendar.get(Calendar.ZONE_OFFSET) + calendar.get(Calendar.DST_OFFSET);
 
             if (offset < 0) {
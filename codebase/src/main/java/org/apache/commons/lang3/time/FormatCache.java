@@ -21,12 +21,19 @@ import java.text.Format;
 import java.text.SimpleDateFormat;
 import java.util.Arrays;
 import java.util.Locale;
+import java.util.Map;
 import java.util.TimeZone;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * <p>FormatCache is a cache and factory for {@link Format}s.</p>
+ *
+ * <p>The cache holds at most {@link #getMaxSize()} formats; when it is full
+ * the least recently used tenth of the formats is evicted, so that the cache
+ * is not scanned on every miss. Hits, misses and evictions are counted.</p>
  * 
  * @since 3.0
  * @version $Id: FormatCache 892161 2009-12-18 07:21:10Z  $
@@ -37,12 +44,17 @@ abstract class FormatCache<F extends Format> {
      * No date or no time.  Used in same parameters as DateFormat.SHORT or DateFormat.LONG
      */
     static final int NONE= -1;
+
+    /**
+     * The default maximum number of formats held by a cache.
+     */
+    static final int DEFAULT_MAX_SIZE= 1000;
+
+    private final BoundedMap<F> cInstanceCache 
+        = new BoundedMap<F>(DEFAULT_MAX_SIZE);
     
-    private final ConcurrentMap<MultipartKey, F> cInstanceCache 
-        = new ConcurrentHashMap<MultipartKey, F>(7);
-    
-    private static final ConcurrentMap<MultipartKey, String> cDateTimeInstanceCache 
-        = new ConcurrentHashMap<MultipartKey, String>(7);
+    private static final BoundedMap<String> cDateTimeInstanceCache 
+        = new BoundedMap<String>(DEFAULT_MAX_SIZE);
 
     /**
      * <p>Gets a formatter instance using the default pattern in the
@@ -89,6 +101,87 @@ abstract class FormatCache<F extends Format> {
         }
         return format;
     }
+
+    /**
+     * <p>Creates and caches the formats for the specified patterns, time zone
+     * and locale, so that later calls to {@link #getInstance(String, TimeZone, Locale)}
+     * find them in the cache.</p>
+     *
+     * @param timeZone  the time zone, null means use the default TimeZone
+     * @param locale  the locale, null means use the default Locale
+     * @param patterns  {@link java.text.SimpleDateFormat} compatible patterns, non-null
+     * @throws IllegalArgumentException if a pattern is invalid
+     */
+    public void preload(final TimeZone timeZone, final Locale locale, final String... patterns) {
+        for (final String pattern : patterns) {
+            getInstance(pattern, timeZone, locale);
+        }
+    }
+
+    // Cache size and statistics
+    //-----------------------------------------------------------------------
+    /**
+     * <p>Gets the maximum number of formats held by this cache.</p>
+     *
+     * @return the maximum size
+     */
+    public int getMaxSize() {
+        return cInstanceCache.getMaxSize();
+    }
+
+    /**
+     * <p>Sets the maximum number of formats held by this cache. If the cache
+     * holds more formats, the least recently used are evicted.</p>
+     *
+     * @param maxSize  the maximum size, at least 1
+     * @throws IllegalArgumentException if maxSize is less than 1
+     */
+    public void setMaxSize(final int maxSize) {
+        cInstanceCache.setMaxSize(maxSize);
+    }
+
+    /**
+     * <p>Gets the number of formats held by this cache.</p>
+     *
+     * @return the size of the cache
+     */
+    public int size() {
+        return cInstanceCache.size();
+    }
+
+    /**
+     * <p>Gets the number of requests for a format which was found in the cache.</p>
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return cInstanceCache.hits.get();
+    }
+
+    /**
+     * <p>Gets the number of requests for a format which had to be created.</p>
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return cInstanceCache.misses.get();
+    }
+
+    /**
+     * <p>Gets the number of formats evicted from the cache.</p>
+     *
+     * @return the eviction count
+     */
+    public long getEvictionCount() {
+        return cInstanceCache.evictions.get();
+    }
+
+    /**
+     * <p>Removes all formats from the cache. The statistics are kept.</p>
+     */
+    public void clear() {
+        cInstanceCache.clear();
+    }
     
     /**
      * <p>Create a format instance using the specified pattern, time zone
@@ -219,6 +312,167 @@ abstract class FormatCache<F extends Format> {
         return pattern;
     }
 
+    // ----------------------------------------------------------------------
+    /**
+     * <p>Helper class holding a size-bounded concurrent map, which evicts the
+     * least recently used values.</p>
+     *
+     * <p>Lookups take no locks; each hit only records a timestamp. When a
+     * value is added to a full map, the entries are scanned for the least
+     * recently used one, which is removed.</p>
+     *
+     * @param <V> the type of the values
+     */
+    private static class BoundedMap<V> {
+        private final ConcurrentMap<MultipartKey, Entry<V>> map = new ConcurrentHashMap<MultipartKey, Entry<V>>(7);
+        private final AtomicLong clock = new AtomicLong();
+        private final AtomicLong hits = new AtomicLong();
+        private final AtomicLong misses = new AtomicLong();
+        private final AtomicLong evictions = new AtomicLong();
+        private final AtomicBoolean evicting = new AtomicBoolean();
+        private volatile int maxSize;
+
+        /**
+         * Constructs an instance of <code>BoundedMap</code>.
+         * @param maxSize the maximum number of values to hold
+         */
+        BoundedMap(final int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        /**
+         * Gets a value, recording the use of its entry.
+         * @param key the key of the value
+         * @return the value, or null if it is not in the map
+         */
+        V get(final MultipartKey key) {
+            final Entry<V> entry = map.get(key);
+            if (entry == null) {
+                misses.incrementAndGet();
+                return null;
+            }
+            hits.incrementAndGet();
+            entry.lastUse = clock.incrementAndGet();
+            return entry.value;
+        }
+
+        /**
+         * Adds a value unless the key already has one, evicting the least recently used
+         * tenth of the values if the map is full.
+         * @param key the key of the value
+         * @param value the value to add
+         * @return the value already in the map, or null if the value was added
+         */
+        V putIfAbsent(final MultipartKey key, final V value) {
+            final Entry<V> previous = map.putIfAbsent(key, new Entry<V>(value, clock.incrementAndGet()));
+            if (previous != null) {
+                return previous.value;
+            }
+            evict(maxSize / 10);
+            return null;
+        }
+
+        /**
+         * Removes the least recently used entries if the map is larger than its maximum size,
+         * until it is smaller than the maximum size by the given slack. Each scan of the map
+         * removes all the entries needed, and the slack spreads its cost over the values added
+         * afterwards. A thread finding another one evicting does not wait for it.
+         * @param slack the number of entries to remove beyond the maximum size
+         */
+        private void evict(final int slack) {
+            if (map.size() <= maxSize || !evicting.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                int excess;
+                while ((excess = map.size() - maxSize) > 0) {
+                    evictOldest(excess + slack);
+                }
+            } finally {
+                evicting.set(false);
+            }
+        }
+
+        /**
+         * Removes about the given number of least recently used entries, keeping those used
+         * while the map is scanned.
+         * @param count the number of entries to remove, positive
+         */
+        private void evictOldest(final int count) {
+            long[] uses = new long[map.size()];
+            int n = 0;
+            for (final Entry<V> entry : map.values()) {
+                if (n == uses.length) {
+                    uses = Arrays.copyOf(uses, n * 2 + 1);
+                }
+                uses[n++] = entry.lastUse;
+            }
+            if (n == 0) {
+                return;
+            }
+            Arrays.sort(uses, 0, n);
+            final long cutoff = uses[Math.min(count, n) - 1];
+            for (final Map.Entry<MultipartKey, Entry<V>> candidate : map.entrySet()) {
+                if (candidate.getValue().lastUse <= cutoff && map.remove(candidate.getKey(), candidate.getValue())) {
+                    evictions.incrementAndGet();
+                }
+            }
+        }
+
+        /**
+         * Gets the maximum number of values to hold.
+         * @return the maximum size
+         */
+        int getMaxSize() {
+            return maxSize;
+        }
+
+        /**
+         * Sets the maximum number of values to hold, evicting values if the map is larger.
+         * @param maxSize the maximum size, at least 1
+         */
+        void setMaxSize(final int maxSize) {
+            if (maxSize < 1) {
+                throw new IllegalArgumentException("The maximum size must be at least 1: " + maxSize);
+            }
+            this.maxSize = maxSize;
+            evict(0);
+        }
+
+        /**
+         * Gets the number of values held.
+         * @return the size
+         */
+        int size() {
+            return map.size();
+        }
+
+        /**
+         * Removes all values.
+         */
+        void clear() {
+            map.clear();
+        }
+
+        /**
+         * <p>Helper class holding a value and the time of its last use</p>
+         */
+        private static class Entry<V> {
+            private final V value;
+            private volatile long lastUse;
+
+            /**
+             * Constructs an instance of <code>Entry</code>.
+             * @param value the value
+             * @param lastUse the time of the last use, from the clock of the map
+             */
+            Entry(final V value, final long lastUse) {
+                this.value = value;
+                this.lastUse = lastUse;
+            }
+        }
+    }
+
     // ----------------------------------------------------------------------
     /**
      * <p>Helper class to hold multi-part Map keys</p>
@@ -30,6 +30,8 @@ import static org.junit.Assert.fail;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -250,6 +252,15 @@ public class ClassUtilsTest  {
         assertEquals(null, ClassUtils.getAllInterfaces(null));
     }
 
+    @Test
+    public void test_getAllSuperclassesAndInterfaces_Copies() {
+        ClassUtils.getAllSuperclasses(CY.class).clear();
+        assertEquals(2, ClassUtils.getAllSuperclasses(CY.class).size());
+        ClassUtils.getAllInterfaces(CY.class).clear();
+        assertEquals(6, ClassUtils.getAllInterfaces(CY.class).size());
+        assertNotSame(ClassUtils.getAllInterfaces(CY.class), ClassUtils.getAllInterfaces(CY.class));
+    }
+
     private static interface IA {
     }
     private static interface IB {
@@ -968,6 +979,54 @@ public class ClassUtilsTest  {
         assertEquals( byte[].class, ClassUtils.getClass( "byte[\t\t\n\r]   " ) );
     }
 
+    static boolean lazyInitialized;
+
+    static class Lazy {
+        static {
+            lazyInitialized = true;
+        }
+    }
+
+    @Test
+    public void testGetClassInitializesCachedClass() throws ClassNotFoundException {
+        final ClassLoader loader = getClass().getClassLoader();
+        final String name = "org.apache.commons.lang3.ClassUtilsTest.Lazy";
+        assertSame(Lazy.class, ClassUtils.getClass(loader, name, false));
+        assertFalse(lazyInitialized);
+        assertSame(Lazy.class, ClassUtils.getClass(loader, name, false));
+        assertFalse(lazyInitialized);
+        assertSame(Lazy.class, ClassUtils.getClass(loader, name, true));
+        assertTrue(lazyInitialized);
+        assertSame(Lazy.class, ClassUtils.getClass(loader, name, false));
+    }
+
+    @Test
+    public void testGetClassCachedByLoader() throws ClassNotFoundException {
+        assertSame(String.class, ClassUtils.getClass(null, "java.lang.String", true));
+        assertSame(String.class, ClassUtils.getClass(null, "java.lang.String", true));
+        assertSame(String[].class, ClassUtils.getClass(getClass().getClassLoader(), "java.lang.String[]"));
+        assertSame(String[].class, ClassUtils.getClass(getClass().getClassLoader(), "java.lang.String[]"));
+        try {
+            ClassUtils.getClass(null, "org.apache.commons.lang3.ClassUtilsTest");
+            fail("Expected ClassNotFoundException");
+        } catch (final ClassNotFoundException e) {
+            // the bootstrap class loader does not see the test classes
+        }
+    }
+
+    @Test
+    public void testOtherClassLoader() throws Exception {
+        // a class loader unrelated to this library's, whose classes are not cached
+        final URL classes = getClass().getProtectionDomain().getCodeSource().getLocation();
+        final ClassLoader loader = new URLClassLoader(new URL[] {classes}, null);
+        final Class<?> other = ClassUtils.getClass(loader, "org.apache.commons.lang3.ClassUtilsTest.Lazy", false);
+        assertNotSame(Lazy.class, other);
+        assertSame(other, ClassUtils.getClass(loader, "org.apache.commons.lang3.ClassUtilsTest.Lazy", false));
+        assertEquals("ClassUtilsTest.Lazy", ClassUtils.getShortClassName(other));
+        assertEquals("org.apache.commons.lang3", ClassUtils.getPackageName(other));
+        assertEquals(Arrays.<Class<?>>asList(Object.class), ClassUtils.getAllSuperclasses(other));
+    }
+
     @Test
     public void testGetInnerClass() throws ClassNotFoundException {
         assertEquals( Inner.DeeplyNested.class, ClassUtils.getClass( "org.apache.commons.lang3.ClassUtilsTest.Inner.DeeplyNested" ) );
@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+/**
+ * Unit tests {@link org.apache.commons.lang3.FuzzyIndex}.
+ *
+ * @version $Id$
+ */
+public class FuzzyIndexTest {
+
+    private static final List<String> WORDS = Arrays.asList(
+        "book", "books", "cake", "boo", "boon", "cook", "cape", "cart", "bark", "brook", null, "book");
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void testSize() {
+        assertEquals(10, new FuzzyIndex(WORDS).size());
+        assertEquals(0, new FuzzyIndex(Collections.<String>emptyList()).size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullEntries() {
+        new FuzzyIndex(null);
+    }
+
+    @Test
+    public void testFindWithin() {
+        final FuzzyIndex index = new FuzzyIndex(WORDS);
+        assertEquals("[book(0), boo(1), books(1), boon(1), brook(1), cook(1)]",
+            index.findWithin("book", 1).toString());
+        assertEquals("[cake(1), cape(2)]", index.findWithin("cakes", 2).toString());
+        assertTrue(index.findWithin("zzzzzzzz", 3).isEmpty());
+        assertTrue(new FuzzyIndex(Collections.<String>emptyList()).findWithin("book", 3).isEmpty());
+    }
+
+    @Test
+    public void testFindNearest() {
+        final FuzzyIndex index = new FuzzyIndex(WORDS);
+        assertEquals("[book(0), boo(1), books(1)]", index.findNearest("book", 3).toString());
+        assertEquals("[cake(1)]", index.findNearest("cakes", 1).toString());
+        assertEquals(10, index.findNearest("x", 20).size());
+        assertTrue(index.findNearest("book", 0).isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFindWithinNullQuery() {
+        new FuzzyIndex(WORDS).findWithin((CharSequence) null, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFindWithinNegativeDistance() {
+        new FuzzyIndex(WORDS).findWithin("book", -1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFindNearestNegativeCount() {
+        new FuzzyIndex(WORDS).findNearest("book", -1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParallelNullQuery() {
+        new FuzzyIndex(WORDS).findNearest(Arrays.asList("book", null), 1, null);
+    }
+
+    @Test
+    public void testMatch() {
+        final FuzzyIndex.Match match = new FuzzyIndex.Match("book", 1);
+        assertEquals("book", match.getEntry());
+        assertEquals(1, match.getDistance());
+        assertEquals(match, new FuzzyIndex.Match("book", 1));
+        assertEquals(match.hashCode(), new FuzzyIndex.Match("book", 1).hashCode());
+        assertFalse(match.equals(new FuzzyIndex.Match("book", 2)));
+        assertFalse(match.equals(new FuzzyIndex.Match("boo", 1)));
+        assertTrue(match.compareTo(new FuzzyIndex.Match("boo", 2)) < 0);
+        assertTrue(match.compareTo(new FuzzyIndex.Match("boo", 1)) > 0);
+        assertEquals("book(1)", match.toString());
+    }
+
+    @Test
+    public void testAgainstLinearScan() {
+        final Random random = new Random(17);
+        final List<String> entries = new ArrayList<String>();
+        for (int i = 0; i < 3000; i++) {
+            entries.add(RandomStringUtils.random(3 + random.nextInt(8), 'a', 'g', false, false, null, random));
+        }
+        final FuzzyIndex index = new FuzzyIndex(entries);
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            final FuzzyIndex parallel = new FuzzyIndex(entries, pool);
+            final List<String> queries = new ArrayList<String>();
+            for (int i = 0; i < 200; i++) {
+                queries.add(RandomStringUtils.random(3 + random.nextInt(8), 'a', 'g', false, false, null, random));
+            }
+            final List<List<FuzzyIndex.Match>> within = parallel.findWithin(queries, 2, pool);
+            final List<List<FuzzyIndex.Match>> nearest = parallel.findNearest(queries, 5, null);
+            assertEquals(queries.size(), within.size());
+            assertEquals(queries.size(), nearest.size());
+            for (int i = 0; i < queries.size(); i++) {
+                final String query = queries.get(i);
+                final List<FuzzyIndex.Match> all = scan(entries, query);
+                final List<FuzzyIndex.Match> expectedWithin = new ArrayList<FuzzyIndex.Match>();
+                for (final FuzzyIndex.Match match : all) {
+                    if (match.getDistance() <= 2) {
+                        expectedWithin.add(match);
+                    }
+                }
+                assertEquals(query, expectedWithin, index.findWithin(query, 2));
+                assertEquals(query, expectedWithin, within.get(i));
+                assertEquals(query, all.subList(0, 5), index.findNearest(query, 5));
+                assertEquals(query, all.subList(0, 5), nearest.get(i));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testEquidistantEntries() {
+        // every entry is at distance 1 from every other, so the tree is a chain
+        final List<String> entries = new ArrayList<String>();
+        for (int i = 0; i < 3000; i++) {
+            entries.add(String.valueOf((char) (0x4e00 + i)));
+        }
+        final FuzzyIndex index = new FuzzyIndex(entries, null);
+        assertEquals(3000, index.size());
+        assertEquals(3000, index.findWithin("x", 1).size());
+        assertEquals("[\u4e00(0), \u4e01(1)]", index.findNearest("\u4e00", 2).toString());
+    }
+
+    private static List<FuzzyIndex.Match> scan(final List<String> entries, final String query) {
+        final List<FuzzyIndex.Match> matches = new ArrayList<FuzzyIndex.Match>();
+        for (final String entry : new LinkedHashSet<String>(entries)) {
+            matches.add(new FuzzyIndex.Match(entry, StringUtils.getLevenshteinDistance(query, entry)));
+        }
+        Collections.sort(matches);
+        return matches;
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Unit tests {@link org.apache.commons.lang3.Levenshtein}.
+ *
+ * @version $Id$
+ */
+public class LevenshteinTest {
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void testDistance() {
+        assertEquals(0, Levenshtein.distance("", "", 0));
+        assertEquals(3, Levenshtein.distance("abc", "", 3));
+        assertEquals(-1, Levenshtein.distance("", "abc", 2));
+        assertEquals(1, Levenshtein.distance("frog", "fog", 5));
+        assertEquals(7, Levenshtein.distance("elephant", "hippo", 7));
+        assertEquals(-1, Levenshtein.distance("elephant", "hippo", 6));
+        assertEquals(1, Levenshtein.distance(new StringBuilder("hello"), "hallo", 1));
+    }
+
+    @Test
+    public void testWordBoundaries() {
+        final String a64 = StringUtils.repeat('a', 64);
+        assertEquals(0, Levenshtein.distance(a64, a64, 0));
+        assertEquals(1, Levenshtein.distance(a64, a64 + "b", 1));
+        assertEquals(1, Levenshtein.distance("b" + a64, a64, 1));
+        assertEquals(64, Levenshtein.distance(a64, StringUtils.repeat('b', 64), 64));
+        assertEquals(65, Levenshtein.distance(a64 + "a", StringUtils.repeat('b', 65), 100));
+        assertEquals(2, Levenshtein.distance(a64 + a64 + "x", "y" + a64 + a64, 2));
+    }
+
+    @Test
+    public void testAgainstTable() {
+        final Random random = new Random(5);
+        // '\u0161', '\u0261' and '\u3061' share their low bits with 'a'
+        final String[] alphabets = {"ab", "abcdefgh", "a\u0161\u0261\u3061b\u00e9"};
+        for (int n = 0; n < 3000; n++) {
+            final String alphabet = alphabets[n % alphabets.length];
+            final char[] chars = alphabet.toCharArray();
+            final int max = n % 10 == 0 ? 300 : 80;
+            final String s = RandomStringUtils.random(random.nextInt(max), 0, 0, false, false, chars, random);
+            final String t = random.nextBoolean()
+                ? RandomStringUtils.random(random.nextInt(max), 0, 0, false, false, chars, random)
+                : mutate(random, s, alphabet);
+            final int expected = table(s, t);
+            assertEquals(s + " " + t, expected, Levenshtein.distance(s, t, Integer.MAX_VALUE));
+            final int threshold = random.nextInt(expected + 3);
+            assertEquals(s + " " + t + " " + threshold, expected <= threshold ? expected : -1,
+                Levenshtein.distance(s, t, threshold));
+        }
+    }
+
+    @Test
+    public void testLongWithinBand() {
+        final Random random = new Random(11);
+        for (int n = 0; n < 40; n++) {
+            final String s = RandomStringUtils.random(300 + random.nextInt(900), 0, 0, false, false, "abcd".toCharArray(), random);
+            final String t = mutate(random, mutate(random, s, "abcd"), "abcd");
+            final int expected = table(s, t);
+            for (int threshold = Math.max(0, expected - 2); threshold <= expected + 2; threshold++) {
+                assertEquals(expected <= threshold ? expected : -1, Levenshtein.distance(s, t, threshold));
+                assertEquals(expected <= threshold ? expected : -1, Levenshtein.distance(t, s, threshold));
+            }
+            assertEquals(expected, Levenshtein.distance(s, t, Integer.MAX_VALUE));
+        }
+    }
+
+    @Test
+    public void testManyDistinctHighCharacters() {
+        final StringBuilder buf = new StringBuilder();
+        for (int i = 0; i < 400; i++) {
+            buf.append((char) ('\u4e00' + i * 7));
+        }
+        final String s = buf.toString();
+        final String t = s.substring(1) + '\u4e00';
+        assertEquals(table(s, t), Levenshtein.distance(s, t, Integer.MAX_VALUE));
+        assertEquals(2, Levenshtein.distance(s, t, 2));
+        assertEquals(-1, Levenshtein.distance(s, t, 1));
+        assertEquals(table(s.substring(0, 200), t.substring(0, 200)),
+            Levenshtein.distance(s.substring(0, 200), t.substring(0, 200), Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void testThrowingSequence() {
+        final CharSequence broken = new CharSequence() {
+            @Override
+            public char charAt(final int index) {
+                if (index == 2) {
+                    throw new IllegalStateException();
+                }
+                return "abc".charAt(index);
+            }
+
+            @Override
+            public int length() {
+                return 3;
+            }
+
+            @Override
+            public CharSequence subSequence(final int start, final int end) {
+                return "abc".subSequence(start, end);
+            }
+        };
+        try {
+            Levenshtein.distance("xyzw", broken, 10);
+            fail("Expected IllegalStateException");
+        } catch (final IllegalStateException e) {
+            // expected
+        }
+        // no masks are left over from the failed comparison
+        assertEquals(4, Levenshtein.distance("abcd", "wxyz", 10));
+        assertEquals(0, Levenshtein.distance("xyzw", "xyzw", 10));
+    }
+
+    private static String mutate(final Random random, final String s, final String alphabet) {
+        final StringBuilder buf = new StringBuilder(s);
+        final int edits = random.nextInt(6);
+        for (int i = 0; i < edits; i++) {
+            final int pos = random.nextInt(buf.length() + 1);
+            final char ch = alphabet.charAt(random.nextInt(alphabet.length()));
+            switch (random.nextInt(3)) {
+            case 0:
+                buf.insert(pos, ch);
+                break;
+            case 1:
+                if (pos < buf.length()) {
+                    buf.deleteCharAt(pos);
+                }
+                break;
+            default:
+                if (pos < buf.length()) {
+                    buf.setCharAt(pos, ch);
+                }
+                break;
+            }
+        }
+        return buf.toString();
+    }
+
+    private static int table(final String s, final String t) {
+        final int[][] d = new int[s.length() + 1][t.length() + 1];
+        for (int i = 0; i <= s.length(); i++) {
+            d[i][0] = i;
+        }
+        for (int j = 0; j <= t.length(); j++) {
+            d[0][j] = j;
+        }
+        for (int i = 1; i <= s.length(); i++) {
+            for (int j = 1; j <= t.length(); j++) {
+                final int cost = s.charAt(i - 1) == t.charAt(j - 1) ? 0 : 1;
+                d[i][j] = Math.min(Math.min(d[i - 1][j] + 1, d[i][j - 1] + 1), d[i - 1][j - 1] + cost);
+            }
+        }
+        return d[s.length()][t.length()];
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+/**
+ * Unit tests {@link org.apache.commons.lang3.MultiStringSearcher}.
+ *
+ * @version $Id$
+ */
+public class MultiStringSearcherTest {
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void testIndexOf() {
+        final MultiStringSearcher searcher = new MultiStringSearcher("he", "she", "his", "hers");
+        assertEquals(1, searcher.indexOf("ushers"));
+        assertEquals(1, searcher.indexOf("ushers", 1));
+        assertEquals(2, searcher.indexOf("ushers", 2));
+        assertEquals(-1, searcher.indexOf("ushers", 4));
+        assertEquals(1, searcher.indexOf("ushers", -5));
+        assertEquals(-1, searcher.indexOf("xyz"));
+        assertEquals(-1, searcher.indexOf(null));
+        assertEquals(0, new MultiStringSearcher("bcd", "abcde").indexOf("abcde"));
+        assertEquals(1, new MultiStringSearcher("bcd", "abcdf").indexOf("abcde"));
+        assertEquals(3, new MultiStringSearcher("x", "").indexOf("abcde", 3));
+        assertEquals(5, new MultiStringSearcher("").indexOf("abcde", 9));
+    }
+
+    @Test
+    public void testLastIndexOf() {
+        final MultiStringSearcher searcher = new MultiStringSearcher("he", "she", "his", "hers");
+        assertEquals(2, searcher.lastIndexOf("ushers"));
+        assertEquals(6, searcher.lastIndexOf("ushershe"));
+        assertEquals(-1, searcher.lastIndexOf("xyz"));
+        assertEquals(-1, searcher.lastIndexOf(null));
+        assertEquals(3, new MultiStringSearcher("x", "").lastIndexOf("abc"));
+    }
+
+    @Test
+    public void testContains() {
+        final MultiStringSearcher searcher = new MultiStringSearcher("he", "she", "his", "hers");
+        assertTrue(searcher.contains("ushers"));
+        assertFalse(searcher.contains("xyz"));
+        assertFalse(searcher.contains(null));
+        assertFalse(new MultiStringSearcher().contains("xyz"));
+        assertFalse(new MultiStringSearcher((CharSequence[]) null).contains("xyz"));
+        assertFalse(new MultiStringSearcher((String) null).contains("xyz"));
+        assertTrue(new MultiStringSearcher("").contains(""));
+    }
+
+    @Test
+    public void testCountMatches() {
+        assertEquals(2, new MultiStringSearcher("he", "she", "his", "hers").countMatches("ushershis"));
+        assertEquals(3, new MultiStringSearcher("aa").countMatches("aaaaaaa"));
+        assertEquals(0, new MultiStringSearcher("").countMatches("aaa"));
+        assertEquals(3, new MultiStringSearcher("", "a").countMatches("aaa"));
+        assertEquals(0, new MultiStringSearcher("a").countMatches(null));
+    }
+
+    @Test
+    public void testFindAll() {
+        final MultiStringSearcher searcher = new MultiStringSearcher("he", "she", "his", "hers", "she");
+        final List<MultiStringSearcher.Match> matches = searcher.findAll("ushers");
+        assertEquals(Arrays.asList(
+            new MultiStringSearcher.Match(1, 1, "she"),
+            new MultiStringSearcher.Match(2, 0, "he"),
+            new MultiStringSearcher.Match(2, 3, "hers")), matches);
+        assertEquals(5, matches.get(1).getStart() + matches.get(1).getSearchString().length() + 1);
+        assertEquals(6, matches.get(2).getEnd());
+        assertEquals(3, matches.get(2).getIndex());
+        assertEquals("she@1", matches.get(0).toString());
+        assertTrue(searcher.findAll(null).isEmpty());
+        assertTrue(new MultiStringSearcher("").findAll("abc").isEmpty());
+    }
+
+    @Test
+    public void testGetSearchStrings() {
+        final MultiStringSearcher searcher = new MultiStringSearcher("a", null, new StringBuilder("b"));
+        assertArrayEquals(new String[] {"a", null, "b"}, searcher.getSearchStrings());
+        searcher.getSearchStrings()[0] = "x";
+        assertEquals("a", searcher.getSearchStrings()[0]);
+        assertEquals("MultiStringSearcher[a, null, b]", searcher.toString());
+    }
+
+    @Test
+    public void testAgainstIndividualSearches() {
+        final Random random = new Random(7);
+        for (int n = 0; n < 200; n++) {
+            checkAgainstIndividualSearches(random, "abc", 1 + random.nextInt(20), 4, 50);
+        }
+        // a large alphabet, too large for a transition table
+        checkAgainstIndividualSearches(random, alphabet(3000), 1000, 30, 5000);
+    }
+
+    private static String alphabet(final int size) {
+        final StringBuilder buf = new StringBuilder(size);
+        for (int i = 0; i < size; i++) {
+            buf.append((char) (0x4e00 + i));
+        }
+        return buf.toString();
+    }
+
+    private static void checkAgainstIndividualSearches(final Random random, final String alphabet,
+            final int needles, final int maxNeedleLength, final int textLength) {
+        final char[] chars = alphabet.toCharArray();
+        final String[] searchStrs = new String[needles];
+        for (int i = 0; i < needles; i++) {
+            searchStrs[i] = RandomStringUtils.random(1 + random.nextInt(maxNeedleLength), 0, 0, false, false, chars, random);
+        }
+        final MultiStringSearcher searcher = new MultiStringSearcher(searchStrs);
+        final String text;
+        if (alphabet.length() > 100) {
+            // plant some of the search strings
+            text = RandomStringUtils.random(textLength / 2, 0, 0, false, false, chars, random)
+                + searchStrs[0] + searchStrs[needles / 2]
+                + RandomStringUtils.random(textLength / 2, 0, 0, false, false, chars, random)
+                + searchStrs[needles - 1];
+        } else {
+            text = RandomStringUtils.random(textLength, 0, 0, false, false, chars, random);
+        }
+
+        final Set<String> set = new HashSet<String>(Arrays.asList(searchStrs));
+        int first = -1;
+        int last = -1;
+        final List<String> all = new ArrayList<String>();
+        for (int end = 1; end <= text.length(); end++) {
+            for (int start = Math.max(0, end - maxNeedleLength); start < end; start++) {
+                final String sub = text.substring(start, end);
+                if (set.contains(sub)) {
+                    all.add(sub + "@" + start);
+                    first = first < 0 || start < first ? start : first;
+                    last = Math.max(last, start);
+                }
+            }
+        }
+        assertEquals(text, first, searcher.indexOf(text));
+        assertEquals(text, last, searcher.lastIndexOf(text));
+        assertEquals(text, first >= 0, searcher.contains(text));
+        assertEquals(text, all.toString(), searcher.findAll(text).toString());
+
+        int count = 0;
+        for (int pos = 0; pos < text.length();) {
+            int bestStart = Integer.MAX_VALUE;
+            int bestEnd = 0;
+            for (final String searchStr : searchStrs) {
+                final int idx = text.indexOf(searchStr, pos);
+                if (idx >= 0 && (idx < bestStart || idx == bestStart && idx + searchStr.length() > bestEnd)) {
+                    bestStart = idx;
+                    bestEnd = idx + searchStr.length();
+                }
+            }
+            if (bestStart == Integer.MAX_VALUE) {
+                break;
+            }
+            count++;
+            pos = bestEnd;
+        }
+        assertEquals(text, count, searcher.countMatches(text));
+    }
+}
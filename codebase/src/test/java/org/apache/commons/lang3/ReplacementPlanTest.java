@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Unit tests {@link org.apache.commons.lang3.ReplacementPlan}.
+ *
+ * @version $Id$
+ */
+public class ReplacementPlanTest {
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void testReplace() {
+        final ReplacementPlan plan = new ReplacementPlan(
+            new String[] {"&", "<", ">", "<<"}, new String[] {"&amp;", "&lt;", "&gt;", "&laquo;"});
+        assertNull(plan.replace(null));
+        assertEquals("", plan.replace(""));
+        assertEquals("a &lt;b&gt; &amp;&amp; &laquo;&lt;c", plan.replace("a <b> && <<<c"));
+        final String none = "no markup";
+        assertSame(none, plan.replace(none));
+    }
+
+    @Test
+    public void testReplaceDoesNotRepeat() {
+        final ReplacementPlan plan = new ReplacementPlan(new String[] {"ab", "d"}, new String[] {"d", "ab"});
+        assertEquals("dcabe", plan.replace("abcde"));
+    }
+
+    @Test
+    public void testIgnoredPairs() {
+        assertEquals("aba", new ReplacementPlan(null, null).replace("aba"));
+        assertEquals("aba", new ReplacementPlan(new String[0], null).replace("aba"));
+        assertEquals("aba", new ReplacementPlan(null, new String[] {"a"}).replace("aba"));
+        assertEquals("aba", new ReplacementPlan(new String[] {"a"}, new String[] {null}).replace("aba"));
+        assertEquals("aba", new ReplacementPlan(new String[] {null}, new String[] {"x"}).replace("aba"));
+        assertEquals("aba", new ReplacementPlan(new String[] {""}, new String[] {"x"}).replace("aba"));
+        assertEquals("xbx", new ReplacementPlan(new String[] {"a", "a"}, new String[] {"x", "y"}).replace("aba"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testLengthMismatch() {
+        new ReplacementPlan(new String[] {"a", "b"}, new String[] {"x"});
+    }
+
+    @Test
+    public void testReplaceToStringBuilder() {
+        final ReplacementPlan plan = new ReplacementPlan(new String[] {"a"}, new String[] {"xyz"});
+        final StringBuilder buf = new StringBuilder("> ");
+        plan.replaceTo("banana", buf);
+        plan.replaceTo(null, buf);
+        assertEquals("> bxyznxyznxyz", buf.toString());
+    }
+
+    @Test
+    public void testReplaceToAppendable() throws IOException {
+        final ReplacementPlan plan = new ReplacementPlan(new String[] {"a"}, new String[] {"xyz"});
+        final StringWriter writer = new StringWriter();
+        plan.replaceTo(new StringBuilder("banana"), writer);
+        plan.replaceTo(null, writer);
+        assertEquals("bxyznxyznxyz", writer.toString());
+    }
+
+    @Test
+    public void testToString() {
+        assertEquals("ReplacementPlan[[a, null] -> [x, null]]",
+            new ReplacementPlan(new String[] {"a", "b"}, new String[] {"x", null}).toString());
+    }
+
+    @Test
+    public void testAgainstLeftmostLongest() {
+        final Random random = new Random(11);
+        for (int n = 0; n < 300; n++) {
+            final int sz = 1 + random.nextInt(12);
+            final String[] searchList = new String[sz];
+            final String[] replacementList = new String[sz];
+            for (int i = 0; i < sz; i++) {
+                searchList[i] = RandomStringUtils.random(1 + random.nextInt(4), 'a', 'd', false, false, null, random);
+                replacementList[i] = "<" + i + ">";
+            }
+            final String text = RandomStringUtils.random(60, 'a', 'd', false, false, null, random);
+            final ReplacementPlan plan = new ReplacementPlan(searchList, replacementList);
+            final String expected = leftmostLongest(text, searchList, replacementList);
+            assertEquals(text, expected, plan.replace(text));
+            final StringBuilder buf = new StringBuilder();
+            plan.replaceTo(text, buf);
+            assertEquals(text, expected, buf.toString());
+        }
+    }
+
+    @Test
+    public void testSameAsReplaceEachWithoutSharedPrefixes() {
+        final String[] searchList = {"SELECT", "FROM", "WHERE", "{table}", "{column}", "{id}", "AND", "OR", "'"};
+        final String[] replacementList = {"select", "from", "where", "users", "name", "42", "and", "or", "''"};
+        final String text = "SELECT {column} FROM {table} WHERE id = {id} OR name = 'O'Brien' AND ORDER";
+        assertEquals(StringUtils.replaceEach(text, searchList, replacementList),
+            new ReplacementPlan(searchList, replacementList).replace(text));
+    }
+
+    private static String leftmostLongest(final String text, final String[] searchList, final String[] replacementList) {
+        final StringBuilder buf = new StringBuilder();
+        int pos = 0;
+        while (true) {
+            int bestStart = -1;
+            int best = -1;
+            for (int i = 0; i < searchList.length; i++) {
+                final int idx = text.indexOf(searchList[i], pos);
+                if (idx >= 0 && (bestStart < 0 || idx < bestStart
+                        || idx == bestStart && searchList[i].length() > searchList[best].length())) {
+                    bestStart = idx;
+                    best = i;
+                }
+            }
+            if (best < 0) {
+                break;
+            }
+            buf.append(text, pos, bestStart).append(replacementList[best]);
+            pos = bestStart + searchList[best].length();
+        }
+        return buf.append(text, pos, text.length()).toString();
+    }
+}
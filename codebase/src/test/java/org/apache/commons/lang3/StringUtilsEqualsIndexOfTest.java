@@ -787,6 +787,61 @@ public class StringUtilsEqualsIndexOfTest  {
         assertEquals(-1, StringUtils.indexOfIgnoreCase("aab", "AAB", 1));
     }
 
+    @Test
+    public void testIgnoreCase_LongText() {
+        final String text = StringUtils.repeat("aabaabaa", 40) + "xAbCx" + StringUtils.repeat("aabaabaa", 40) + "XaBcX";
+        assertEquals(321, StringUtils.indexOfIgnoreCase(text, "abc"));
+        assertEquals(325, StringUtils.indexOfIgnoreCase(text, "aAB", 322));
+        assertEquals(646, StringUtils.lastIndexOfIgnoreCase(text, "ABC"));
+        assertEquals(321, StringUtils.lastIndexOfIgnoreCase(text, "ABC", 645));
+        assertEquals(-1, StringUtils.indexOfIgnoreCase(text, "abd"));
+        assertTrue(StringUtils.containsIgnoreCase(text, "XABCX"));
+        assertTrue(StringUtils.containsIgnoreCase(new StringBuilder(text), "xabcx"));
+        assertFalse(StringUtils.containsIgnoreCase(text, "xabdx"));
+    }
+
+    @Test
+    public void testIgnoreCase_FoldsLikeString() {
+        // GREEK CAPITAL THETA SYMBOL and GREEK THETA SYMBOL only match once upper cased, then lower cased
+        final String search = "x\u03D1";
+        final String shortText = "ab x\u03F4 cd";
+        final String longText = StringUtils.repeat("aabaabaa", 40) + shortText;
+        assertTrue(shortText.regionMatches(true, 3, search, 0, 2));
+        assertEquals(3, StringUtils.indexOfIgnoreCase(new StringBuilder(shortText), search));
+        assertEquals(3, StringUtils.lastIndexOfIgnoreCase(new StringBuilder(shortText), search));
+        assertTrue(StringUtils.containsIgnoreCase(new StringBuilder(shortText), search));
+        assertEquals(323, StringUtils.indexOfIgnoreCase(new StringBuilder(longText), search));
+        assertEquals(323, StringUtils.lastIndexOfIgnoreCase(new StringBuilder(longText), search));
+        assertTrue(StringUtils.containsIgnoreCase(new StringBuilder(longText), search));
+    }
+
+    @Test
+    public void testOrdinalIndexOf_LongText() {
+        final StringBuilder text = new StringBuilder(StringUtils.repeat("aabaabaa", 40));
+        assertEquals(1, StringUtils.ordinalIndexOf(text, "ab", 1));
+        assertEquals(12, StringUtils.ordinalIndexOf(text, "ab", 4));
+        assertEquals(-1, StringUtils.ordinalIndexOf(text, "ab", 81));
+        assertEquals(316, StringUtils.lastOrdinalIndexOf(text, "ab", 1));
+        assertEquals(305, StringUtils.lastOrdinalIndexOf(text, "ab", 4));
+        assertEquals(-1, StringUtils.lastOrdinalIndexOf(text, "ab", 81));
+    }
+
+    @Test
+    public void testIndexOf_LongCharSequence() {
+        final String text = StringUtils.repeat("aabaabaa", 40) + "xyz" + StringUtils.repeat("aabaabaa", 40);
+        final StringBuilder builder = new StringBuilder(text);
+        for (final String search : new String[] {"", "a", "ab", "baab", "xyz", "zz", "aabaabaaxyz"}) {
+            for (final int startPos : new int[] {-1, 0, 1, 300, 320, 321, 322, text.length(), text.length() + 1}) {
+                assertEquals(search + startPos, text.indexOf(search, startPos),
+                        StringUtils.indexOf(builder, search, startPos));
+                assertEquals(search + startPos, text.lastIndexOf(search, startPos),
+                        StringUtils.lastIndexOf(builder, search, startPos));
+            }
+            assertEquals(search, text.indexOf(search), StringUtils.indexOf(builder, search));
+            assertEquals(search, text.lastIndexOf(search), StringUtils.lastIndexOf(builder, search));
+        }
+    }
+
     @Test
     public void testLastIndexOf_char() {
         assertEquals(-1, StringUtils.lastIndexOf(null, ' '));
@@ -887,6 +942,49 @@ public class StringUtilsEqualsIndexOfTest  {
         assertEquals(-1, StringUtils.lastIndexOfAny(null, new String[] {null}));
     }
 
+    @Test
+    public void testIndexOfAny_ManySearchStrings() {
+        final String[] searchStrs = {"mn", "op", "qr", "st", "uv", "ab", "cd", null, "zab", "aby", "xx"};
+        assertEquals(1, StringUtils.indexOfAny("zzabyycdxx", searchStrs));
+        assertEquals(8, StringUtils.lastIndexOfAny("zzabyycdxx", searchStrs));
+        assertEquals(-1, StringUtils.indexOfAny("zzzz", searchStrs));
+        assertEquals(-1, StringUtils.lastIndexOfAny("zzzz", searchStrs));
+
+        final String[] withEmpty = {"mn", "op", "qr", "st", "uv", "ab", "cd", ""};
+        assertEquals(0, StringUtils.indexOfAny("zzabyycdxx", withEmpty));
+        assertEquals(10, StringUtils.lastIndexOfAny("zzabyycdxx", withEmpty));
+    }
+
+    @Test
+    public void testIndexOfAny_StringMultiStringSearcher() {
+        final MultiStringSearcher searcher = new MultiStringSearcher("ab", "cd");
+        assertEquals(-1, StringUtils.indexOfAny(null, searcher));
+        assertEquals(-1, StringUtils.indexOfAny("zzabyycdxx", (MultiStringSearcher) null));
+        assertEquals(2, StringUtils.indexOfAny("zzabyycdxx", searcher));
+        assertEquals(1, StringUtils.indexOfAny("zzabyycdxx", new MultiStringSearcher("zab", "aby")));
+        assertEquals(-1, StringUtils.indexOfAny("zzabyycdxx", new MultiStringSearcher("mn", "op")));
+        assertEquals(0, StringUtils.indexOfAny("", new MultiStringSearcher("")));
+    }
+
+    @Test
+    public void testLastIndexOfAny_StringMultiStringSearcher() {
+        final MultiStringSearcher searcher = new MultiStringSearcher("ab", "cd");
+        assertEquals(-1, StringUtils.lastIndexOfAny(null, searcher));
+        assertEquals(-1, StringUtils.lastIndexOfAny("zzabyycdxx", (MultiStringSearcher) null));
+        assertEquals(6, StringUtils.lastIndexOfAny("zzabyycdxx", searcher));
+        assertEquals(10, StringUtils.lastIndexOfAny("zzabyycdxx", new MultiStringSearcher("mn", "")));
+        assertEquals(-1, StringUtils.lastIndexOfAny("zzabyycdxx", new MultiStringSearcher("mn", "op")));
+    }
+
+    @Test
+    public void testContainsAny_StringMultiStringSearcher() {
+        assertFalse(StringUtils.containsAny(null, new MultiStringSearcher("ab")));
+        assertFalse(StringUtils.containsAny("zzabyycdxx", (MultiStringSearcher) null));
+        assertTrue(StringUtils.containsAny("zzabyycdxx", new MultiStringSearcher("cd", "xy")));
+        assertFalse(StringUtils.containsAny("zzabyycdxx", new MultiStringSearcher("mn", "op")));
+        assertFalse(StringUtils.containsAny("zzabyycdxx", new MultiStringSearcher()));
+    }
+
     @Test
     public void testLastIndexOfIgnoreCase_String() {
         assertEquals(-1, StringUtils.lastIndexOfIgnoreCase(null, null));
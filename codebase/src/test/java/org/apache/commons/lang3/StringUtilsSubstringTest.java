@@ -322,4 +322,39 @@ public class StringUtilsSubstringTest  {
              StringUtils.countMatches("oooooooooooo", "ooo"));
     }
 
+    @Test
+    public void testCountMatches_LongCharSequence() {
+        final StringBuilder text = new StringBuilder(StringUtils.repeat("one long someone sentence of one ", 20));
+        assertEquals(60, StringUtils.countMatches(text, "one"));
+        assertEquals(20, StringUtils.countMatches(text, "someone"));
+        assertEquals(0, StringUtils.countMatches(text, "two"));
+    }
+
+    @Test
+    public void testCountMatchesAny_String() {
+        assertEquals(0, StringUtils.countMatchesAny(null, "a"));
+        assertEquals(0, StringUtils.countMatchesAny("", "a"));
+        assertEquals(0, StringUtils.countMatchesAny("abba", (String[]) null));
+        assertEquals(0, StringUtils.countMatchesAny("abba", ""));
+        assertEquals(0, StringUtils.countMatchesAny("abba", (String) null));
+
+        assertEquals(4, StringUtils.countMatchesAny("abba", "a", "b"));
+        assertEquals(1, StringUtils.countMatchesAny("abba", "ab", "bb"));
+        assertEquals(2, StringUtils.countMatchesAny("abba", "b", "ba"));
+        assertEquals(1, StringUtils.countMatchesAny("abba", "b", "bba"));
+        assertEquals(5,
+             StringUtils.countMatchesAny("one long someone sentence of one", "one", "long", "of"));
+        assertEquals(3,
+             StringUtils.countMatchesAny("oooooooooooo", "ooo", "oooo"));
+    }
+
+    @Test
+    public void testCountMatchesAny_MultiStringSearcher() {
+        final MultiStringSearcher searcher = new MultiStringSearcher("one", "of");
+        assertEquals(0, StringUtils.countMatchesAny(null, searcher));
+        assertEquals(0, StringUtils.countMatchesAny("", searcher));
+        assertEquals(0, StringUtils.countMatchesAny("one", (MultiStringSearcher) null));
+        assertEquals(4, StringUtils.countMatchesAny("one long someone sentence of one", searcher));
+    }
+
 }
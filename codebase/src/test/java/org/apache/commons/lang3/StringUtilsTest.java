@@ -1165,6 +1165,27 @@ public class StringUtilsTest {
 
         //JAVADOC TESTS END
     }
+
+    /**
+     * Test method for 'StringUtils.replaceEach(String, ReplacementPlan)'
+     */
+    @Test
+    public void testReplace_StringReplacementPlan() {
+        //JAVADOC TESTS START
+        final ReplacementPlan plan = new ReplacementPlan(new String[]{"ab", "d"}, new String[]{"w", "t"});
+        assertNull(StringUtils.replaceEach(null, plan));
+        assertEquals("", StringUtils.replaceEach("", plan));
+        assertEquals("aba", StringUtils.replaceEach("aba", (ReplacementPlan) null));
+        assertEquals("wcte", StringUtils.replaceEach("abcde", plan));
+        assertEquals("ycde", StringUtils.replaceEach("abcde",
+            new ReplacementPlan(new String[]{"a", "ab"}, new String[]{"x", "y"})));
+        //JAVADOC TESTS END
+
+        assertEquals("dcte", StringUtils.replaceEach("abcde",
+            new ReplacementPlan(new String[]{"ab", "d"}, new String[]{"d", "t"})));
+        assertEquals("cbc", StringUtils.replaceEach("aba",
+            new ReplacementPlan(new String[]{"a", "b"}, new String[]{"c", null})));
+    }
     
     @Test
     public void testReplaceChars_StringCharChar() {
@@ -1828,6 +1849,22 @@ public class StringUtilsTest {
         }
     }
 
+    @Test
+    public void testGetLevenshteinDistance_LongStrings() {
+        final String a = StringUtils.repeat("abcdefgh", 20);
+        final String b = StringUtils.repeat("abcdefgh", 10) + "x" + StringUtils.repeat("abcdefgh", 10);
+        assertEquals(1, StringUtils.getLevenshteinDistance(a, b));
+        assertEquals(1, StringUtils.getLevenshteinDistance(b, a, 1));
+        assertEquals(-1, StringUtils.getLevenshteinDistance(b, a, 0));
+
+        // beyond the bit-parallel limit
+        final String c = StringUtils.repeat('a', 5000);
+        final String d = StringUtils.repeat('a', 2500) + "bb" + StringUtils.repeat('a', 2499);
+        assertEquals(2, StringUtils.getLevenshteinDistance(c, d));
+        assertEquals(2, StringUtils.getLevenshteinDistance(c, d, 2));
+        assertEquals(-1, StringUtils.getLevenshteinDistance(c, d, 1));
+    }
+
     @Test
     public void testGetLevenshteinDistance_StringStringInt() {
         // empty strings
@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Unit tests {@link org.apache.commons.lang3.SubstringSearcher}.
+ *
+ * @version $Id$
+ */
+public class SubstringSearcherTest {
+
+    //-----------------------------------------------------------------------
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullSearchString() {
+        new SubstringSearcher(null);
+    }
+
+    @Test
+    public void testAccessors() {
+        final SubstringSearcher searcher = new SubstringSearcher(new StringBuilder("ab"), true);
+        assertEquals("ab", searcher.getSearchString());
+        assertTrue(searcher.isIgnoreCase());
+        assertFalse(new SubstringSearcher("ab").isIgnoreCase());
+        assertEquals("SubstringSearcher[ab, ignoreCase]", searcher.toString());
+        assertEquals("SubstringSearcher[ab]", new SubstringSearcher("ab").toString());
+    }
+
+    @Test
+    public void testIndexOf() {
+        final SubstringSearcher searcher = new SubstringSearcher("ab");
+        assertEquals(-1, searcher.indexOf(null));
+        assertEquals(-1, searcher.indexOf(""));
+        assertEquals(1, searcher.indexOf("aabaabaa"));
+        assertEquals(4, searcher.indexOf("aabaabaa", 2));
+        assertEquals(1, searcher.indexOf("aabaabaa", -1));
+        assertEquals(-1, searcher.indexOf("aabaabaa", 5));
+        assertEquals(-1, searcher.indexOf("aABaABaa"));
+        assertEquals(1, new SubstringSearcher("ab", true).indexOf("aABaABaa"));
+        assertEquals(4, new SubstringSearcher("AB", true).indexOf(new StringBuilder("aabaabaa"), 2));
+
+        final SubstringSearcher empty = new SubstringSearcher("");
+        assertEquals(0, empty.indexOf(""));
+        assertEquals(2, empty.indexOf("abc", 2));
+        assertEquals(3, empty.indexOf("abc", 9));
+    }
+
+    @Test
+    public void testLastIndexOf() {
+        final SubstringSearcher searcher = new SubstringSearcher("ab");
+        assertEquals(-1, searcher.lastIndexOf(null));
+        assertEquals(-1, searcher.lastIndexOf(""));
+        assertEquals(4, searcher.lastIndexOf("aabaabaa"));
+        assertEquals(1, searcher.lastIndexOf("aabaabaa", 3));
+        assertEquals(4, searcher.lastIndexOf("aabaabaa", 9));
+        assertEquals(-1, searcher.lastIndexOf("aabaabaa", -1));
+        assertEquals(-1, searcher.lastIndexOf("aabaabaa", 0));
+        assertEquals(4, new SubstringSearcher("AB", true).lastIndexOf(new StringBuilder("aabaabaa")));
+
+        final SubstringSearcher empty = new SubstringSearcher("");
+        assertEquals(3, empty.lastIndexOf("abc"));
+        assertEquals(1, empty.lastIndexOf("abc", 1));
+        assertEquals(-1, empty.lastIndexOf("abc", -1));
+    }
+
+    @Test
+    public void testContains() {
+        assertFalse(new SubstringSearcher("ab").contains(null));
+        assertTrue(new SubstringSearcher("").contains(""));
+        assertTrue(new SubstringSearcher("ba").contains("aabaabaa"));
+        assertFalse(new SubstringSearcher("BA").contains("aabaabaa"));
+        assertTrue(new SubstringSearcher("BA", true).contains("aabaabaa"));
+    }
+
+    @Test
+    public void testCountMatches() {
+        assertEquals(0, new SubstringSearcher("a").countMatches(null));
+        assertEquals(0, new SubstringSearcher("").countMatches("abba"));
+        assertEquals(2, new SubstringSearcher("a").countMatches("abba"));
+        assertEquals(1, new SubstringSearcher("ab").countMatches("abba"));
+        assertEquals(4, new SubstringSearcher("ooo").countMatches("oooooooooooo"));
+        assertEquals(2, new SubstringSearcher("AB", true).countMatches(new StringBuilder("abAbba")));
+    }
+
+    @Test
+    public void testOrdinalIndexOf() {
+        final SubstringSearcher searcher = new SubstringSearcher("ab");
+        assertEquals(-1, searcher.ordinalIndexOf(null, 1));
+        assertEquals(-1, searcher.ordinalIndexOf("aabaabaa", 0));
+        assertEquals(1, searcher.ordinalIndexOf("aabaabaa", 1));
+        assertEquals(4, searcher.ordinalIndexOf("aabaabaa", 2));
+        assertEquals(-1, searcher.ordinalIndexOf("aabaabaa", 3));
+        assertEquals(1, new SubstringSearcher("aa").ordinalIndexOf("aaa", 2));
+        assertEquals(0, new SubstringSearcher("").ordinalIndexOf("aabaabaa", 2));
+
+        assertEquals(-1, searcher.lastOrdinalIndexOf(null, 1));
+        assertEquals(-1, searcher.lastOrdinalIndexOf("aabaabaa", 0));
+        assertEquals(4, searcher.lastOrdinalIndexOf("aabaabaa", 1));
+        assertEquals(1, searcher.lastOrdinalIndexOf("aabaabaa", 2));
+        assertEquals(-1, searcher.lastOrdinalIndexOf("aabaabaa", 3));
+        assertEquals(0, new SubstringSearcher("aa").lastOrdinalIndexOf("aaa", 2));
+        assertEquals(8, new SubstringSearcher("").lastOrdinalIndexOf("aabaabaa", 2));
+    }
+
+    @Test
+    public void testIgnoreCaseOutsideAscii() {
+        final SubstringSearcher searcher = new SubstringSearcher("\u00e9T\u00c9", true);
+        assertEquals(2, searcher.indexOf("ab\u00c9t\u00e9"));
+        assertEquals(2, searcher.lastIndexOf("ab\u00c9t\u00e9"));
+        // the Kelvin sign upper cases to itself but lower cases to 'k'
+        assertEquals(1, new SubstringSearcher("k", true).indexOf("a\u212a"));
+    }
+
+    @Test
+    public void testAgainstString() {
+        final Random random = new Random(3);
+        // '\u0161' and '\u0141' share their low bits with 'a' and 'A'
+        final char[] alphabet = "aAbB\u0161\u0160\u0141\u0142".toCharArray();
+        for (int n = 0; n < 2000; n++) {
+            final String text = RandomStringUtils.random(random.nextInt(40), 0, 0, false, false, alphabet, random);
+            final String searchStr = RandomStringUtils.random(1 + random.nextInt(4), 0, 0, false, false, alphabet, random);
+            final SubstringSearcher exact = new SubstringSearcher(searchStr);
+            final SubstringSearcher folded = new SubstringSearcher(searchStr, true);
+            final int from = random.nextInt(text.length() + 2) - 1;
+            assertEquals(text, text.indexOf(searchStr, from), exact.indexOf(text, from));
+            assertEquals(text, text.lastIndexOf(searchStr, from), exact.lastIndexOf(text, from));
+            assertEquals(text, indexOfIgnoreCase(text, searchStr, from), folded.indexOf(text, from));
+            assertEquals(text, lastIndexOfIgnoreCase(text, searchStr, from), folded.lastIndexOf(text, from));
+        }
+    }
+
+    private static int indexOfIgnoreCase(final String text, final String searchStr, final int from) {
+        for (int i = Math.max(from, 0); i <= text.length() - searchStr.length(); i++) {
+            if (text.regionMatches(true, i, searchStr, 0, searchStr.length())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int lastIndexOfIgnoreCase(final String text, final String searchStr, final int from) {
+        for (int i = Math.min(from, text.length() - searchStr.length()); i >= 0; i--) {
+            if (text.regionMatches(true, i, searchStr, 0, searchStr.length())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
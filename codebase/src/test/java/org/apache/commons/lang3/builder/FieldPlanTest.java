@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.builder;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Field;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link org.apache.commons.lang3.builder.FieldPlan}.
+ *
+ * @version $Id$
+ */
+public class FieldPlanTest {
+
+    @SuppressWarnings("unused")
+    static class Fields {
+        static int staticField;
+        private int a;
+        transient int b;
+        protected String c;
+    }
+
+    class Inner {
+        @SuppressWarnings("unused")
+        private int d;
+    }
+
+    private static String[] names(final Field[] fields) {
+        final String[] names = new String[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            names[i] = fields[i].getName();
+            assertTrue(fields[i].isAccessible());
+        }
+        return names;
+    }
+
+    @Test
+    public void testFields() {
+        final FieldPlan plan = FieldPlan.of(Fields.class);
+        assertArrayEquals(new String[] { "a", "b", "c" }, names(plan.getFields(true)));
+        assertArrayEquals(new String[] { "a", "c" }, names(plan.getFields(false)));
+    }
+
+    @Test
+    public void testSyntheticFieldsExcluded() {
+        assertArrayEquals(new String[] { "d" }, names(FieldPlan.of(Inner.class).getFields(true)));
+    }
+
+    @Test
+    public void testCached() {
+        assertSame(FieldPlan.of(Fields.class), FieldPlan.of(Fields.class));
+        assertSame(FieldPlan.of(Fields.class).getFields(false), FieldPlan.of(Fields.class).getFields(false));
+        assertEquals(0, FieldPlan.of(Object.class).getFields(true).length);
+    }
+}
@@ -19,6 +19,8 @@ package org.apache.commons.lang3.builder;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -1081,4 +1083,124 @@ public class ToStringBuilderTest {
         assertEquals(testBuilder.toString().indexOf("testInt=31337"), -1);
     }
 
+    /** Its toString uses reflectionToString, so the per-thread buffer is taken while it is in use. */
+    static class ReflectionNestingFixture {
+        @SuppressWarnings("unused")
+        private final String name;
+        @SuppressWarnings("unused")
+        private final ReflectionNestingFixture child;
+
+        ReflectionNestingFixture(final String name, final ReflectionNestingFixture child) {
+            this.name = name;
+            this.child = child;
+        }
+
+        @Override
+        public String toString() {
+            return ToStringBuilder.reflectionToString(this, ToStringStyle.SHORT_PREFIX_STYLE);
+        }
+    }
+
+    @Test
+    public void testReflectionToStringNested() {
+        final ReflectionNestingFixture fixture = new ReflectionNestingFixture("outer",
+                new ReflectionNestingFixture("inner", null));
+        final String expected = "ToStringBuilderTest.ReflectionNestingFixture[name=outer,"
+                + "child=ToStringBuilderTest.ReflectionNestingFixture[name=inner,child=<null>]]";
+        assertEquals(expected, fixture.toString());
+        // the buffer is reused for the next call
+        assertEquals(expected, fixture.toString());
+    }
+
+    @Test
+    public void testReflectionAppendTo() {
+        final ReflectionTestFixtureB baseB = new ReflectionTestFixtureB();
+        final StringBuilder sb = new StringBuilder("x=");
+        assertSame(sb, ReflectionToStringBuilder.appendTo(sb, baseB, null));
+        assertEquals("x=" + ToStringBuilder.reflectionToString(baseB), sb.toString());
+
+        sb.setLength(0);
+        ReflectionToStringBuilder.appendTo(sb, new ReflectionNestingFixture("a", null), ToStringStyle.SHORT_PREFIX_STYLE);
+        assertEquals("ToStringBuilderTest.ReflectionNestingFixture[name=a,child=<null>]", sb.toString());
+
+        sb.setLength(0);
+        assertEquals("<null>", ReflectionToStringBuilder.appendTo(sb, null, null).toString());
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void testReflectionAppendToNullBuilder() {
+        ReflectionToStringBuilder.appendTo(null, this, null);
+    }
+
+    @Test
+    public void testReflectionAppendToAppendable() throws Exception {
+        final ReflectionTestFixtureB baseB = new ReflectionTestFixtureB();
+        final StringWriter writer = new StringWriter();
+        writer.write("x=");
+        assertSame(writer, ReflectionToStringBuilder.appendTo(writer, baseB, null));
+        assertEquals("x=" + ToStringBuilder.reflectionToString(baseB), writer.toString());
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void testReflectionAppendToNullAppendable() throws Exception {
+        ReflectionToStringBuilder.appendTo((Appendable) null, this, null);
+    }
+
+    /** All instances are equal, but only the same instance is a cycle. */
+    static class IdentityOnlyFixture {
+        @SuppressWarnings("unused")
+        private final String name;
+        @SuppressWarnings("unused")
+        private final IdentityOnlyFixture other;
+
+        IdentityOnlyFixture(final String name, final IdentityOnlyFixture other) {
+            this.name = name;
+            this.other = other;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof IdentityOnlyFixture;
+        }
+
+        @Override
+        public int hashCode() {
+            return 0;
+        }
+
+        @Override
+        public String toString() {
+            return ReflectionToStringBuilder.toString(this, ToStringStyle.SHORT_PREFIX_STYLE);
+        }
+    }
+
+    @Test
+    public void testReflectionCycleByIdentity() {
+        final IdentityOnlyFixture inner = new IdentityOnlyFixture("inner", null);
+        final IdentityOnlyFixture outer = new IdentityOnlyFixture("outer", inner);
+        assertEquals("ToStringBuilderTest.IdentityOnlyFixture[name=outer,"
+                + "other=ToStringBuilderTest.IdentityOnlyFixture[name=inner,other=<null>]]",
+                outer.toString());
+    }
+
+    @Test
+    public void testReflectionRegistryClearedAfterFailure() {
+        final Object fixture = new Object() {
+            @SuppressWarnings("unused")
+            private final Object value = new Object() {
+                @Override
+                public String toString() {
+                    throw new IllegalStateException();
+                }
+            };
+        };
+        try {
+            ToStringBuilder.reflectionToString(fixture);
+            fail("Expected IllegalStateException");
+        } catch (final IllegalStateException e) {
+            // expected
+        }
+        assertNull(ToStringStyle.getRegistry());
+    }
+
 }
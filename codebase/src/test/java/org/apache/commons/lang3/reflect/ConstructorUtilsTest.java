@@ -20,6 +20,7 @@ import org.junit.Test;
 import org.junit.Before;
 import static org.junit.Assert.*;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
@@ -66,6 +67,29 @@ public class ConstructorUtilsTest {
         }
     }
 
+    public static class VarArgsBean {
+        private final String toString;
+
+        public VarArgsBean(final String... s) {
+            toString = "(String...)" + s.length;
+        }
+
+        public VarArgsBean(final int i, final Object... o) {
+            toString = "(int, Object...)" + o.length;
+        }
+
+        @Override
+        public String toString() {
+            return toString;
+        }
+    }
+
+    public static class FailingBean {
+        public FailingBean(final String message) {
+            throw new IllegalStateException(message);
+        }
+    }
+
     private static class PrivateClass {
         @SuppressWarnings("unused")
         public PrivateClass() {
@@ -212,6 +236,95 @@ public class ConstructorUtilsTest {
                 singletonArray(null), singletonArray(Object.class));
     }
 
+    @Test
+    public void testMatchingConstructorCached() {
+        final Class<?>[] types = new Class<?>[] { Integer.class };
+        final Constructor<?> ctor = ConstructorUtils.getMatchingAccessibleConstructor(TestBean.class, types);
+        types[0] = String.class;
+        assertSame(ctor, ConstructorUtils.getMatchingAccessibleConstructor(TestBean.class, Integer.class));
+        assertNull(ConstructorUtils.getMatchingAccessibleConstructor(TestBean.class, Integer.class, Integer.class));
+        assertNull(ConstructorUtils.getMatchingAccessibleConstructor(TestBean.class, Integer.class, Integer.class));
+    }
+
+    @Test
+    public void testClearCacheByClassLoader() {
+        final Constructor<?> ctor = ConstructorUtils.getMatchingAccessibleConstructor(TestBean.class, Object.class);
+        final Constructor<?> system = ConstructorUtils.getMatchingAccessibleConstructor(StringBuilder.class);
+        ConstructorUtils.clearCache(TestBean.class.getClassLoader());
+        assertNotSame(ctor, ConstructorUtils.getMatchingAccessibleConstructor(TestBean.class, Object.class));
+        assertSame(system, ConstructorUtils.getMatchingAccessibleConstructor(StringBuilder.class));
+        ConstructorUtils.clearCache(StringBuilder.class.getClassLoader());
+        assertNotSame(system, ConstructorUtils.getMatchingAccessibleConstructor(StringBuilder.class));
+        final Constructor<?> again = ConstructorUtils.getMatchingAccessibleConstructor(TestBean.class, Object.class);
+        ConstructorUtils.clearCache();
+        assertNotSame(again, ConstructorUtils.getMatchingAccessibleConstructor(TestBean.class, Object.class));
+    }
+
+    @Test
+    public void testGetInstantiator() throws Exception {
+        final Instantiator<TestBean> instantiator = ConstructorUtils.getInstantiator(TestBean.class, String.class);
+        assertArrayEquals(new Class<?>[] { String.class }, instantiator.getParameterTypes());
+        assertEquals(TestBean.class.getConstructor(String.class), instantiator.getConstructor());
+        assertEquals("(String)", instantiator.newInstance("a").toString());
+        assertEquals("(String)", instantiator.newInstance((Object) null).toString());
+        assertEquals("()", ConstructorUtils.getInstantiator(TestBean.class).newInstance().toString());
+        assertEquals("()", ConstructorUtils.getInstantiator(TestBean.class, (Class<?>[]) null)
+                .newInstance((Object[]) null).toString());
+    }
+
+    @Test
+    public void testGetInstantiatorWidening() throws Exception {
+        final Instantiator<TestBean> instantiator = ConstructorUtils.getInstantiator(TestBean.class, Long.TYPE);
+        assertArrayEquals(new Class<?>[] { Double.TYPE }, instantiator.getParameterTypes());
+        assertEquals("(double)", instantiator.newInstance(Long.valueOf(1)).toString());
+        assertEquals("(double)", instantiator.newInstance(Float.valueOf(1)).toString());
+        assertEquals("(int)", ConstructorUtils.getInstantiator(TestBean.class, Byte.class)
+                .newInstance(Byte.valueOf((byte) 1)).toString());
+    }
+
+    @Test
+    public void testGetInstantiatorVarArgs() throws Exception {
+        assertEquals("(String...)2", ConstructorUtils.getInstantiator(VarArgsBean.class, String.class, String.class)
+                .newInstance("a", "b").toString());
+        assertEquals("(String...)0", ConstructorUtils.getInstantiator(VarArgsBean.class)
+                .newInstance().toString());
+        // an array argument matches the constructor directly
+        assertEquals("(String...)3", ConstructorUtils.getInstantiator(VarArgsBean.class, String[].class)
+                .newInstance((Object) new String[3]).toString());
+        final Instantiator<VarArgsBean> instantiator =
+                ConstructorUtils.getInstantiator(VarArgsBean.class, Integer.class, String.class, Long.class);
+        assertArrayEquals(new Class<?>[] { Integer.TYPE, Object.class, Object.class },
+                instantiator.getParameterTypes());
+        assertEquals("(int, Object...)2", instantiator.newInstance(1, "a", 2L).toString());
+    }
+
+    @Test(expected = NoSuchMethodException.class)
+    public void testGetInstantiatorNoMatch() throws Exception {
+        ConstructorUtils.getInstantiator(VarArgsBean.class, Boolean.class);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInstantiatorBadArguments() throws Exception {
+        ConstructorUtils.getInstantiator(TestBean.class, Integer.TYPE).newInstance("a");
+    }
+
+    @Test
+    public void testInstantiatorException() throws Exception {
+        try {
+            ConstructorUtils.getInstantiator(FailingBean.class, String.class).newInstance("failed");
+            fail("Expected InvocationTargetException");
+        } catch (final InvocationTargetException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+            assertEquals("failed", e.getCause().getMessage());
+        }
+        try {
+            ConstructorUtils.invokeConstructor(FailingBean.class, "failed");
+            fail("Expected InvocationTargetException");
+        } catch (final InvocationTargetException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+    }
+
     private void expectMatchingAccessibleConstructorParameterTypes(final Class<?> cls,
             final Class<?>[] requestTypes, final Class<?>[] actualTypes) {
         final Constructor<?> c = ConstructorUtils.getMatchingAccessibleConstructor(cls,
@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.reflect;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+/**
+ * Unit tests {@link FieldAccessor} and its subclasses.
+ *
+ * @version $Id$
+ */
+public class FieldAccessorTest {
+
+    public static class Fixture {
+        public static int counter;
+        public static final String CONSTANT = "constant";
+
+        public boolean z;
+        public byte b;
+        public char c;
+        public short s;
+        public int i;
+        public long j;
+        public float f;
+        public double d;
+        public CharSequence text;
+        private int hidden = 7;
+        public final int fixed = 3;
+    }
+
+    @Test
+    public void testPrimitiveFields() throws Exception {
+        final Fixture fixture = new Fixture();
+        final BooleanFieldAccessor z = new BooleanFieldAccessor(Fixture.class.getField("z"));
+        z.set(fixture, true);
+        assertTrue(z.get(fixture));
+        final ByteFieldAccessor b = new ByteFieldAccessor(Fixture.class.getField("b"));
+        b.set(fixture, (byte) -2);
+        assertEquals((byte) -2, b.get(fixture));
+        final CharFieldAccessor c = new CharFieldAccessor(Fixture.class.getField("c"));
+        c.set(fixture, 'x');
+        assertEquals('x', c.get(fixture));
+        final ShortFieldAccessor s = new ShortFieldAccessor(Fixture.class.getField("s"));
+        s.set(fixture, (short) 300);
+        assertEquals((short) 300, s.get(fixture));
+        final IntFieldAccessor i = new IntFieldAccessor(Fixture.class.getField("i"));
+        i.set(fixture, 42);
+        assertEquals(42, i.get(fixture));
+        final LongFieldAccessor j = new LongFieldAccessor(Fixture.class.getField("j"));
+        j.set(fixture, Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, j.get(fixture));
+        final FloatFieldAccessor f = new FloatFieldAccessor(Fixture.class.getField("f"));
+        f.set(fixture, 1.5f);
+        assertEquals(1.5f, f.get(fixture), 0.0f);
+        final DoubleFieldAccessor d = new DoubleFieldAccessor(Fixture.class.getField("d"));
+        d.set(fixture, 2.5);
+        assertEquals(2.5, d.get(fixture), 0.0);
+
+        assertEquals(42, FieldUtils.readField(fixture, "i"));
+        assertEquals(Boolean.TRUE, FieldUtils.readField(fixture, "z"));
+    }
+
+    @Test
+    public void testObjectField() throws Exception {
+        final Fixture fixture = new Fixture();
+        final ObjectFieldAccessor<CharSequence> text =
+                new ObjectFieldAccessor<CharSequence>(Fixture.class.getField("text"), CharSequence.class);
+        assertNull(text.get(fixture));
+        text.set(fixture, "abc");
+        assertEquals("abc", fixture.text);
+        text.set(fixture, null);
+        assertNull(text.get(fixture));
+        final ObjectFieldAccessor<Object> any =
+                new ObjectFieldAccessor<Object>(Fixture.class.getField("text"), Object.class);
+        try {
+            any.set(fixture, Integer.valueOf(1));
+            fail("Expected IllegalArgumentException");
+        } catch (final IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testStaticFields() throws Exception {
+        final IntFieldAccessor counter = new IntFieldAccessor(Fixture.class.getField("counter"));
+        counter.set(null, 5);
+        assertEquals(5, Fixture.counter);
+        assertEquals(5, counter.get("ignored"));
+        final ObjectFieldAccessor<String> constant =
+                new ObjectFieldAccessor<String>(Fixture.class.getField("CONSTANT"), String.class);
+        assertEquals("constant", constant.get(null));
+        assertFalse(constant.isWritable());
+    }
+
+    @Test
+    public void testFinalField() throws Exception {
+        final IntFieldAccessor fixed = new IntFieldAccessor(Fixture.class.getField("fixed"));
+        assertEquals(3, fixed.get(new Fixture()));
+        assertFalse(fixed.isWritable());
+        try {
+            fixed.set(new Fixture(), 4);
+            fail("Expected UnsupportedOperationException");
+        } catch (final UnsupportedOperationException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testPrivateField() throws Exception {
+        try {
+            new IntFieldAccessor(Fixture.class.getDeclaredField("hidden"));
+            fail("Expected IllegalAccessException");
+        } catch (final IllegalAccessException e) {
+            // expected
+        }
+        final IntFieldAccessor hidden = new IntFieldAccessor(FieldUtils.getField(Fixture.class, "hidden", true));
+        final Fixture fixture = new Fixture();
+        assertEquals(7, hidden.get(fixture));
+        hidden.set(fixture, 8);
+        assertEquals(8, hidden.get(fixture));
+        assertTrue(hidden.isWritable());
+    }
+
+    @Test
+    public void testGetField() throws Exception {
+        final IntFieldAccessor i = new IntFieldAccessor(Fixture.class.getField("i"));
+        assertSame(Fixture.class.getField("i").getDeclaringClass(), i.getField().getDeclaringClass());
+        assertEquals("i", i.getField().getName());
+        assertEquals("IntFieldAccessor[" + i.getField() + "]", i.toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWrongType() throws Exception {
+        new LongFieldAccessor(Fixture.class.getField("i"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWrongObjectType() throws Exception {
+        new ObjectFieldAccessor<String>(Fixture.class.getField("text"), String.class);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPrimitiveObjectType() throws Exception {
+        new ObjectFieldAccessor<Integer>(Fixture.class.getField("i"), Integer.class);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullField() throws Exception {
+        new IntFieldAccessor(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWrongTarget() throws Exception {
+        new IntFieldAccessor(Fixture.class.getField("i")).get("not a fixture");
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullTarget() throws Exception {
+        new IntFieldAccessor(Fixture.class.getField("i")).get(null);
+    }
+}
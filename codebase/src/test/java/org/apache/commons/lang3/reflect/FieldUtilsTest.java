@@ -20,6 +20,7 @@ import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
@@ -1150,4 +1151,49 @@ public class FieldUtilsTest {
         FieldUtils.getField(Ambig.class, "VALUE");
     }
 
+    @Test
+    public void testGetFieldReturnsOwnCopy() {
+        final Field first = FieldUtils.getField(parentClass, "b", true);
+        assertTrue(first.isAccessible());
+        first.setAccessible(false);
+        final Field second = FieldUtils.getField(parentClass, "b", true);
+        assertNotSame(first, second);
+        assertEquals(first, second);
+        assertTrue(second.isAccessible());
+        final Field declared = FieldUtils.getDeclaredField(parentClass, "b", true);
+        declared.setAccessible(false);
+        assertTrue(FieldUtils.getDeclaredField(parentClass, "b", true).isAccessible());
+    }
+
+    @Test
+    public void testGetFieldMissingCached() {
+        assertNull(FieldUtils.getField(PublicChild.class, "doesNotExist", true));
+        assertNull(FieldUtils.getField(PublicChild.class, "doesNotExist", true));
+        assertNull(FieldUtils.getDeclaredField(PublicChild.class, "doesNotExist"));
+        assertNull(FieldUtils.getDeclaredField(PublicChild.class, "doesNotExist"));
+    }
+
+    @Test
+    public void testGetAllFieldsCopied() {
+        final Field[] fields = FieldUtils.getAllFields(PublicChild.class);
+        fields[0] = null;
+        assertNotNull(FieldUtils.getAllFields(PublicChild.class)[0]);
+        final List<Field> list = FieldUtils.getAllFieldsList(PublicChild.class);
+        list.clear();
+        assertEquals(5, FieldUtils.getAllFieldsList(PublicChild.class).size());
+    }
+
+    @Test
+    public void testGetAllFieldsNotShared() {
+        final Field field = FieldUtils.getAllFields(PublicChild.class)[0];
+        assertFalse(field.isAccessible());
+        field.setAccessible(true);
+        final Field again = FieldUtils.getAllFields(PublicChild.class)[0];
+        assertEquals(field, again);
+        assertNotSame(field, again);
+        assertFalse(again.isAccessible());
+        final Field fromList = FieldUtils.getAllFieldsList(PublicChild.class).get(0);
+        assertNotSame(field, fromList);
+        assertFalse(fromList.isAccessible());
+    }
 }
@@ -24,6 +24,7 @@ import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -399,6 +400,115 @@ public class MethodUtilsTest {
         return result;
     }
 
+    public static class InvokeBean {
+        public long twice(final long l) {
+            return l * 2;
+        }
+
+        public void nothing() {
+            // empty
+        }
+
+        public String fail(final String message) {
+            throw new IllegalStateException(message);
+        }
+
+        public static String twiceStatic(final String s) {
+            return s + s;
+        }
+
+        public String join(final String... strings) {
+            return Arrays.toString(strings);
+        }
+
+        public static int count(final Object... objects) {
+            return objects.length;
+        }
+    }
+
+    @Test
+    public void testMatchingMethodCached() throws Exception {
+        final Class<?>[] types = new Class<?>[] { Integer.class };
+        final Method m = MethodUtils.getMatchingAccessibleMethod(TestBean.class, "foo", types);
+        // changing the array must not disturb the cache
+        types[0] = String.class;
+        assertSame(m, MethodUtils.getMatchingAccessibleMethod(TestBean.class, "foo", Integer.class));
+        assertEquals("foo(String)", MethodUtils.getMatchingAccessibleMethod(TestBean.class, "foo", types).invoke(testBean, ""));
+        assertNull(MethodUtils.getMatchingAccessibleMethod(TestBean.class, "noSuchMethod", Integer.class));
+        assertNull(MethodUtils.getMatchingAccessibleMethod(TestBean.class, "noSuchMethod", Integer.class));
+
+        MethodUtils.clearCache();
+        final Method again = MethodUtils.getMatchingAccessibleMethod(TestBean.class, "foo", Integer.class);
+        assertNotSame(m, again);
+        assertEquals(m, again);
+    }
+
+    @Test
+    public void testClearCacheByClassLoader() throws Exception {
+        final Method m = MethodUtils.getMatchingAccessibleMethod(TestBean.class, "foo", Integer.class);
+        final Method system = MethodUtils.getMatchingAccessibleMethod(String.class, "length");
+        MethodUtils.clearCache(TestBean.class.getClassLoader());
+        assertNotSame(m, MethodUtils.getMatchingAccessibleMethod(TestBean.class, "foo", Integer.class));
+        assertSame(system, MethodUtils.getMatchingAccessibleMethod(String.class, "length"));
+        MethodUtils.clearCache(String.class.getClassLoader());
+        assertNotSame(system, MethodUtils.getMatchingAccessibleMethod(String.class, "length"));
+    }
+
+    @Test
+    public void testInvokeThroughHandle() throws Exception {
+        final InvokeBean bean = new InvokeBean();
+        assertEquals(Long.valueOf(6), MethodUtils.invokeMethod(bean, "twice", Long.valueOf(3)));
+        // widening, as Method.invoke allows
+        assertEquals(Long.valueOf(6), MethodUtils.invokeMethod(bean, "twice",
+                new Object[] { Integer.valueOf(3) }, new Class<?>[] { long.class }));
+        assertNull(MethodUtils.invokeMethod(bean, "nothing"));
+        assertEquals("abab", MethodUtils.invokeStaticMethod(InvokeBean.class, "twiceStatic", "ab"));
+        try {
+            MethodUtils.invokeMethod(bean, "fail", "boom");
+            fail("Expected InvocationTargetException");
+        } catch (final InvocationTargetException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+            assertEquals("boom", e.getCause().getMessage());
+        }
+    }
+
+    @Test
+    public void testInvokeVarArgsThroughHandle() throws Exception {
+        final InvokeBean bean = new InvokeBean();
+        for (int i = 0; i < 2; i++) {
+            assertEquals("[a, b]", MethodUtils.invokeMethod(bean, "join",
+                    new Object[] { new String[] { "a", "b" } }));
+            assertEquals("[]", MethodUtils.invokeMethod(bean, "join", new Object[] { new String[0] }));
+            assertEquals(Integer.valueOf(3), MethodUtils.invokeStaticMethod(InvokeBean.class, "count",
+                    new Object[] { new Object[] { "x", "y", "z" } }));
+            assertEquals(Integer.valueOf(2), MethodUtils.invokeStaticMethod(InvokeBean.class, "count",
+                    new Object[] { new String[] { "x", "y" } }));
+        }
+    }
+
+    @Test
+    public void testInvokeBadArguments() throws Exception {
+        final InvokeBean bean = new InvokeBean();
+        try {
+            MethodUtils.invokeMethod(bean, "twice", new Object[] { "x" }, new Class<?>[] { long.class });
+            fail("Expected IllegalArgumentException");
+        } catch (final IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            MethodUtils.invokeMethod(bean, "twice", new Object[] { null }, new Class<?>[] { long.class });
+            fail("Expected IllegalArgumentException");
+        } catch (final IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            MethodUtils.invokeMethod(bean, "twice", new Object[0], new Class<?>[] { long.class });
+            fail("Expected IllegalArgumentException");
+        } catch (final IllegalArgumentException e) {
+            // expected
+        }
+    }
+
     public static class InheritanceBean {
         public void testOne(final Object obj) {}
         public void testOne(final GrandParentObject obj) {}
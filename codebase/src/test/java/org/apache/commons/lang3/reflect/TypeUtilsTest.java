@@ -22,12 +22,18 @@ import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.net.URI;
+import java.util.AbstractMap;
+import java.util.AbstractMap.SimpleEntry;
+import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.WeakHashMap;
 
 import org.apache.commons.lang3.StringEscapeUtils;
 import org.apache.commons.lang3.reflect.testbed.Foo;
@@ -685,6 +691,110 @@ public class TypeUtilsTest<B> {
     public static <T extends Comparable<? extends T>> T stub3() {
         return null;
     }
+
+    public static Map.Entry<String, Integer> stringIntegerEntry;
+
+    @Test
+    public void testParameterize() throws Exception {
+        final ParameterizedType comparable = TypeUtils.parameterize(Comparable.class, String.class);
+        final Type reflected = getClass().getField("stringComparable").getGenericType();
+        Assert.assertEquals(reflected, comparable);
+        Assert.assertEquals(comparable, reflected);
+        Assert.assertEquals(reflected.hashCode(), comparable.hashCode());
+        Assert.assertEquals(reflected.toString(), comparable.toString());
+        Assert.assertEquals(Comparable.class, comparable.getRawType());
+        Assert.assertNull(comparable.getOwnerType());
+        Assert.assertArrayEquals(new Type[] { String.class }, comparable.getActualTypeArguments());
+
+        final ParameterizedType entry = TypeUtils.parameterize(Map.Entry.class, String.class, Integer.class);
+        final Type reflectedEntry = getClass().getField("stringIntegerEntry").getGenericType();
+        Assert.assertEquals(reflectedEntry, entry);
+        Assert.assertEquals(entry, reflectedEntry);
+        Assert.assertEquals(reflectedEntry.hashCode(), entry.hashCode());
+        Assert.assertEquals(Map.class, entry.getOwnerType());
+        Assert.assertEquals(entry, TypeUtils.parameterizeWithOwner(Map.class, Map.Entry.class, String.class,
+                Integer.class));
+    }
+
+    @Test
+    public void testParameterizeInterned() {
+        final ParameterizedType type = TypeUtils.parameterize(List.class, String.class);
+        Assert.assertSame(type, TypeUtils.parameterize(List.class, String.class));
+        Assert.assertNotSame(type, TypeUtils.parameterize(List.class, Integer.class));
+        type.getActualTypeArguments()[0] = Integer.class;
+        Assert.assertEquals(String.class, type.getActualTypeArguments()[0]);
+        TypeUtils.clearCache();
+        final ParameterizedType again = TypeUtils.parameterize(List.class, String.class);
+        Assert.assertNotSame(type, again);
+        Assert.assertEquals(type, again);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParameterizeWrongArgumentCount() {
+        TypeUtils.parameterize(Map.class, String.class);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParameterizeNullArgument() {
+        TypeUtils.parameterize(List.class, (Type) null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParameterizeWrongOwner() {
+        TypeUtils.parameterizeWithOwner(String.class, Map.Entry.class, String.class, Integer.class);
+    }
+
+    @Test
+    public void testCachedResults() {
+        final ParameterizedType listOfString = TypeUtils.parameterize(List.class, String.class);
+        final ParameterizedType collectionOfString = TypeUtils.parameterize(Collection.class, String.class);
+        final ParameterizedType collectionOfInteger = TypeUtils.parameterize(Collection.class, Integer.class);
+        for (int i = 0; i < 2; i++) {
+            Assert.assertTrue(TypeUtils.isAssignable(listOfString, collectionOfString));
+            Assert.assertFalse(TypeUtils.isAssignable(listOfString, collectionOfInteger));
+            Assert.assertNull(TypeUtils.getTypeArguments(String.class, List.class));
+        }
+        final Map<TypeVariable<?>, Type> typeArguments = TypeUtils.getTypeArguments(listOfString, Collection.class);
+        Assert.assertEquals(String.class, typeArguments.get(Collection.class.getTypeParameters()[0]));
+        typeArguments.clear();
+        Assert.assertEquals(String.class, TypeUtils.getTypeArguments(listOfString, Collection.class)
+                .get(Collection.class.getTypeParameters()[0]));
+    }
+
+    @Test
+    public void testClearCacheClassLoader() {
+        final ParameterizedType listOfString = TypeUtils.parameterize(List.class, String.class);
+        final ParameterizedType listOfTest = TypeUtils.parameterize(List.class, TypeUtilsTest.class);
+        final ParameterizedType listOfArray = TypeUtils.parameterize(List.class, TypeUtilsTest[][].class);
+        TypeUtils.clearCache(TypeUtilsTest.class.getClassLoader());
+        Assert.assertSame(listOfString, TypeUtils.parameterize(List.class, String.class));
+        Assert.assertNotSame(listOfTest, TypeUtils.parameterize(List.class, TypeUtilsTest.class));
+        Assert.assertNotSame(listOfArray, TypeUtils.parameterize(List.class, TypeUtilsTest[][].class));
+        TypeUtils.clearCache(String.class.getClassLoader());
+        Assert.assertNotSame(listOfString, TypeUtils.parameterize(List.class, String.class));
+        Assert.assertEquals(listOfString, TypeUtils.parameterize(List.class, String.class));
+    }
+
+    @Test
+    public void testManyParameterizedTypes() {
+        // more pairs than the cache holds
+        final Class<?>[] classes = {
+            String.class, Integer.class, Long.class, Short.class, Byte.class, Double.class, Float.class,
+            Character.class, Boolean.class, Number.class, Object.class, Class.class, Thread.class,
+            StringBuilder.class, List.class, Map.class, Set.class, Collection.class, TreeSet.class,
+            HashMap.class, Arrays.class, Type.class, TypeUtils.class, TypeUtilsTest.class
+        };
+        for (final Class<?> key : classes) {
+            for (final Class<?> value : classes) {
+                for (final Class<?> raw : new Class<?>[] {Map.class, HashMap.class, AbstractMap.class, Map.Entry.class,
+                        SimpleEntry.class, SimpleImmutableEntry.class, TreeMap.class, WeakHashMap.class}) {
+                    final ParameterizedType type = TypeUtils.parameterize(raw, key, value);
+                    Assert.assertEquals(type, TypeUtils.parameterize(raw, key, value));
+                    Assert.assertTrue(TypeUtils.isAssignable(type, raw));
+                }
+            }
+        }
+    }
 }
 
 class AAClass<T> {
@@ -0,0 +1,233 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.text;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ParallelStrTokenizer}.
+ *
+ * @version $Id$
+ */
+public class ParallelStrTokenizerTest {
+
+    private static final int[] CHUNK_SIZES = {1, 2, 3, 7, 64, 1000, Integer.MAX_VALUE};
+
+    /**
+     * Creates CSV records whose fields contain delimiters, quotes and line ends.
+     */
+    private static List<List<String>> createRecords(final Random random, final int count) {
+        final String alphabet = "ab ,\"\n\r\u00e9";
+        final List<List<String>> records = new ArrayList<List<String>>();
+        for (int r = 0; r < count; r++) {
+            final List<String> record = new ArrayList<String>();
+            for (int f = random.nextInt(5) + 1; f > 0; f--) {
+                final StringBuilder field = new StringBuilder();
+                for (int i = random.nextInt(12); i > 0; i--) {
+                    field.append(alphabet.charAt(random.nextInt(alphabet.length())));
+                }
+                field.append('x');
+                record.add(field.toString());
+            }
+            records.add(record);
+        }
+        return records;
+    }
+
+    private static String toCsv(final List<List<String>> records, final String lineEnd) {
+        final StrBuilder buf = new StrBuilder();
+        for (final List<String> record : records) {
+            for (int i = 0; i < record.size(); i++) {
+                if (i > 0) {
+                    buf.append(',');
+                }
+                buf.append('"').append(record.get(i).replace("\"", "\"\"")).append('"');
+            }
+            buf.append(lineEnd);
+        }
+        return buf.toString();
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void testCsvRoundTrip() {
+        final List<List<String>> records = createRecords(new Random(1), 500);
+        for (final String lineEnd : new String[] {"\n", "\r\n", "\r"}) {
+            final String csv = toCsv(records, lineEnd);
+            for (final int chunkSize : CHUNK_SIZES) {
+                final ParallelStrTokenizer parallel = new ParallelStrTokenizer(StrTokenizer.getCSVInstance())
+                    .setChunkSize(chunkSize);
+                assertEquals(lineEnd + chunkSize, records, parallel.tokenize(csv.toCharArray()));
+                assertEquals(lineEnd + chunkSize, records, parallel.tokenize(csv));
+            }
+        }
+    }
+
+    @Test
+    public void testSameRecordsForAnyChunkSize() {
+        final Random random = new Random(2);
+        final String alphabet = "ab,;'\"\n\r\t ";
+        final StrTokenizer singleQuotes = StrTokenizer.getCSVInstance();
+        singleQuotes.setQuoteMatcher(StrMatcher.quoteMatcher());
+        final StrTokenizer doubledQuotes = new StrTokenizer();
+        doubledQuotes.setDelimiterChar(';');
+        doubledQuotes.setQuoteMatcher(StrMatcher.stringMatcher("''"));
+        final StrTokenizer[] tokenizers = {
+            StrTokenizer.getCSVInstance(), StrTokenizer.getTSVInstance(), singleQuotes, doubledQuotes
+        };
+        for (int n = 0; n < 20; n++) {
+            final StringBuilder text = new StringBuilder();
+            for (int i = random.nextInt(3000); i > 0; i--) {
+                text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            for (final StrTokenizer tokenizer : tokenizers) {
+                final List<List<String>> expected = new ParallelStrTokenizer(tokenizer)
+                    .setChunkSize(Integer.MAX_VALUE).tokenize(text);
+                for (final int chunkSize : CHUNK_SIZES) {
+                    assertEquals(text.toString(), expected,
+                        new ParallelStrTokenizer(tokenizer).setChunkSize(chunkSize).tokenize(text));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testRecords() {
+        final ParallelStrTokenizer parallel = new ParallelStrTokenizer(StrTokenizer.getCSVInstance());
+        assertEquals(Collections.emptyList(), parallel.tokenize((char[]) null));
+        assertEquals(Collections.emptyList(), parallel.tokenize((CharSequence) null));
+        assertEquals(Collections.emptyList(), parallel.tokenize(""));
+        assertEquals(Arrays.asList(Arrays.asList("a", "b"), Collections.<String>emptyList(), Arrays.asList("c\nd", "e")),
+            parallel.tokenize("a,b\n\n\"c\nd\",e\n"));
+        assertEquals(Arrays.asList(Arrays.asList("a"), Arrays.asList("b")), parallel.tokenize("a\r\nb"));
+    }
+
+    @Test
+    public void testRecordDelimiter() {
+        final ParallelStrTokenizer parallel = new ParallelStrTokenizer(StrTokenizer.getCSVInstance(),
+            StrMatcher.charMatcher('|')).setChunkSize(2);
+        assertEquals(Arrays.asList(Arrays.asList("a", "b"), Arrays.asList("c|d"), Arrays.asList("e\nf")),
+            parallel.tokenize(CharBuffer.wrap("a,b|\"c|d\"|e\nf")));
+    }
+
+    @Test
+    public void testHandlerOrdered() {
+        final List<List<String>> records = createRecords(new Random(3), 2000);
+        final String csv = toCsv(records, "\n");
+        final List<List<String>> received = new ArrayList<List<String>>();
+        new ParallelStrTokenizer(StrTokenizer.getCSVInstance()).setChunkSize(100).tokenize(csv.toCharArray(),
+            new ParallelStrTokenizer.RecordHandler() {
+                @Override
+                public void handleRecord(final List<String> tokens) {
+                    received.add(tokens);
+                }
+            }, true);
+        assertEquals(records, received);
+    }
+
+    @Test
+    public void testHandlerOrderedSingleThread() {
+        // many more segments than are kept in flight
+        final List<List<String>> records = createRecords(new Random(5), 2000);
+        final String csv = toCsv(records, "\n");
+        final List<List<String>> received = new ArrayList<List<String>>();
+        final ForkJoinPool pool = new ForkJoinPool(1);
+        try {
+            new ParallelStrTokenizer(StrTokenizer.getCSVInstance()).setChunkSize(50).setPool(pool).tokenize(csv,
+                new ParallelStrTokenizer.RecordHandler() {
+                    @Override
+                    public void handleRecord(final List<String> tokens) {
+                        received.add(tokens);
+                    }
+                }, true);
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(records, received);
+    }
+
+    @Test
+    public void testHandlerUnordered() {
+        final List<List<String>> records = createRecords(new Random(4), 2000);
+        final String csv = toCsv(records, "\n");
+        final List<List<String>> received = Collections.synchronizedList(new ArrayList<List<String>>());
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            final ParallelStrTokenizer parallel = new ParallelStrTokenizer(StrTokenizer.getCSVInstance())
+                .setChunkSize(100).setPool(pool);
+            assertSame(pool, parallel.getPool());
+            parallel.tokenize(csv, new ParallelStrTokenizer.RecordHandler() {
+                @Override
+                public void handleRecord(final List<String> tokens) {
+                    received.add(tokens);
+                }
+            }, false);
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(records.size(), received.size());
+        assertTrue(received.containsAll(records));
+    }
+
+    @Test
+    public void testSettingsCaptured() {
+        final StrTokenizer tokenizer = StrTokenizer.getCSVInstance();
+        final ParallelStrTokenizer parallel = new ParallelStrTokenizer(tokenizer);
+        tokenizer.setDelimiterChar(';');
+        assertEquals(Arrays.asList(Arrays.asList("a;b", "c")), parallel.tokenize("a;b,c"));
+    }
+
+    @Test
+    public void testChunkSize() {
+        final ParallelStrTokenizer parallel = new ParallelStrTokenizer(StrTokenizer.getCSVInstance());
+        assertEquals(1 << 20, parallel.getChunkSize());
+        assertSame(parallel, parallel.setChunkSize(10));
+        assertEquals(10, parallel.getChunkSize());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidChunkSize() {
+        new ParallelStrTokenizer(StrTokenizer.getCSVInstance()).setChunkSize(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullTokenizer() {
+        new ParallelStrTokenizer(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullRecordDelimiter() {
+        new ParallelStrTokenizer(StrTokenizer.getCSVInstance(), null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullHandler() {
+        new ParallelStrTokenizer(StrTokenizer.getCSVInstance()).tokenize("a", null, true);
+    }
+}
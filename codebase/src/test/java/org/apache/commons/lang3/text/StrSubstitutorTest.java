@@ -21,10 +21,17 @@ import org.junit.After;
 import org.junit.Test;
 import org.junit.Before;
 import static org.junit.Assert.*;
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
 
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.mutable.MutableObject;
 
 /**
@@ -522,6 +529,236 @@ public class StrSubstitutorTest {
         assertEquals("Hello there commons!", StrSubstitutor.replace("@greeting@ there @name@!", map, "@", "@"));
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Tests default values after the value delimiter.
+     */
+    @Test
+    public void testReplaceDefaultValue() {
+        final StrSubstitutor sub = new StrSubstitutor(values);
+        assertNull(sub.getValueDelimiterMatcher());
+        assertEquals("The ${color:-red} fox.", sub.replace("The ${color:-red} fox."));
+
+        assertSame(sub, sub.setValueDelimiter(":-"));
+        assertEquals("The red fox.", sub.replace("The ${color:-red} fox."));
+        assertEquals("The quick brown fox fox.", sub.replace("The ${animal:-red} fox."));
+        assertEquals("The  fox.", sub.replace("The ${color:-} fox."));
+        assertEquals("The ${color} fox.", sub.replace("The ${color} fox."));
+        sub.setEnableSubstitutionInVariables(true);
+        assertEquals("The lazy dog fox.", sub.replace("The ${color:-${target}} fox."));
+        sub.setEnableSubstitutionInVariables(false);
+
+        sub.setValueDelimiter('|');
+        assertEquals("The red fox.", sub.replace("The ${color|red} fox."));
+        sub.setValueDelimiterMatcher(StrSubstitutor.DEFAULT_VALUE_DELIMITER);
+        assertSame(StrSubstitutor.DEFAULT_VALUE_DELIMITER, sub.getValueDelimiterMatcher());
+        assertEquals("The red fox.", sub.replace("The ${color:-red} fox."));
+
+        sub.setValueDelimiter((String) null);
+        assertNull(sub.getValueDelimiterMatcher());
+        sub.setValueDelimiter(":-");
+        sub.setValueDelimiter("");
+        assertNull(sub.getValueDelimiterMatcher());
+    }
+
+    /**
+     * Tests that compiled templates render the same as replace.
+     */
+    @Test
+    public void testCompile() {
+        values.put("recursive", "the ${target}");
+        values.put("outer", "${recursive} and ${animal}");
+        values.put("animal.name", "fox");
+        values.put("kind", "name");
+        final StrSubstitutor sub = new StrSubstitutor(values);
+        sub.setValueDelimiter(":-");
+        final String[] templates = {
+            "", "plain text", "${animal}", "$${animal}", "$$${animal}", "${animal}${target}",
+            "${animal}$${target}", "${unknown}", "${unknown:-default}", "${animal:-default}",
+            "${outer}!", "${unterminated", "$}{animal}", "x${}y", "${animal.${kind}}",
+            "${unknown:-${target}}", "$", "${"
+        };
+        for (final String template : templates) {
+            final CompiledTemplate compiled = sub.compile(template);
+            assertEquals(template, compiled.getSource());
+            assertEquals(template, compiled.toString());
+            assertEquals(template, sub.replace(template), compiled.render());
+        }
+
+        sub.setEnableSubstitutionInVariables(true);
+        for (final String template : templates) {
+            assertEquals(template, sub.replace(template), sub.compile(template).render());
+        }
+    }
+
+    /**
+     * Tests that a compiled template looks up its variables each time it is rendered.
+     */
+    @Test
+    public void testCompileRendersCurrentValues() {
+        final StrSubstitutor sub = new StrSubstitutor(values);
+        final CompiledTemplate compiled = sub.compile("The ${animal} jumps over the ${target}.");
+        assertEquals("The quick brown fox jumps over the lazy dog.", compiled.render());
+        values.put("target", "moon");
+        assertEquals("The quick brown fox jumps over the moon.", compiled.render());
+    }
+
+    /**
+     * Tests that changing the settings of the substitutor does not affect a compiled template.
+     */
+    @Test
+    public void testCompileKeepsSettings() {
+        values.put("a", "<${b}|%b%>");
+        values.put("b", "B");
+        final StrSubstitutor sub = new StrSubstitutor(values);
+        sub.setValueDelimiter(":-");
+        final CompiledTemplate compiled = sub.compile("x ${a} y ${c:-z}");
+        assertEquals("x <B|%b%> y z", compiled.render());
+        sub.setVariablePrefix("%");
+        sub.setVariableSuffix("%");
+        sub.setValueDelimiterMatcher(null);
+        sub.setVariableResolver(null);
+        assertEquals("x <B|%b%> y z", compiled.render());
+    }
+
+    /**
+     * Tests that cycles are detected when rendering a compiled template.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void testCompileCyclic() {
+        values.put("animal", "${critter}");
+        values.put("critter", "${animal}");
+        new StrSubstitutor(values).compile("The ${animal} jumps.").render();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCompileNull() {
+        new StrSubstitutor(values).compile(null);
+    }
+
+    /**
+     * Tests rendering a compiled template to other destinations.
+     */
+    @Test
+    public void testCompileRenderTo() throws IOException {
+        final CompiledTemplate compiled = new StrSubstitutor(values).compile("The ${animal} jumps.");
+        final StringWriter writer = new StringWriter();
+        compiled.renderTo(writer);
+        assertEquals("The quick brown fox jumps.", writer.toString());
+
+        final StringBuilder builder = new StringBuilder("1: ");
+        compiled.renderTo(builder);
+        assertEquals("1: The quick brown fox jumps.", builder.toString());
+
+        final StrBuilder strBuilder = new StrBuilder("2: ");
+        compiled.renderTo(strBuilder);
+        assertEquals("2: The quick brown fox jumps.", strBuilder.toString());
+    }
+
+    /**
+     * Tests that a compiled template keeps the behaviour of an overridden resolveVariable.
+     */
+    @Test
+    public void testCompileSubclass() {
+        final StrSubstitutor sub = new StrSubstitutor(values) {
+            @Override
+            protected String resolveVariable(final String variableName, final StrBuilder buf,
+                    final int startPos, final int endPos) {
+                return variableName.toUpperCase();
+            }
+        };
+        assertEquals("The ANIMAL jumps.", sub.compile("The ${animal} jumps.").render());
+    }
+
+    /**
+     * Tests substitution from a reader to a writer.
+     */
+    @Test
+    public void testReplaceStream() {
+        values.put("recursive", "the ${target}");
+        values.put("animal.name", "fox");
+        values.put("kind", "name");
+        final StrSubstitutor sub = new StrSubstitutor(values);
+        sub.setValueDelimiter(":-");
+        final String[] templates = {
+            "", "plain text", "${animal}", "$${animal}", "$$${animal}", "${animal}${target}",
+            "${animal}$${target}", "${unknown}", "${unknown:-default}", "${recursive}!",
+            "${unterminated ${animal}", "$}{animal}", "x${}y", "${animal.${kind}}", "$", "${"
+        };
+        for (final String template : templates) {
+            assertEquals(template, sub.replace(template), replaceStream(sub, new StringReader(template)));
+            assertEquals(template, sub.replace(template), replaceStream(sub, new TrickleReader(template)));
+        }
+        sub.setEnableSubstitutionInVariables(true);
+        for (final String template : templates) {
+            assertEquals(template, sub.replace(template), replaceStream(sub, new TrickleReader(template)));
+        }
+    }
+
+    /**
+     * Tests substitution of a stream longer than the buffer, with variables and
+     * escapes falling on every position relative to the buffer boundaries.
+     */
+    @Test
+    public void testReplaceStreamLarge() {
+        values.put("recursive", "${animal} and ${target}");
+        final StrSubstitutor sub = new StrSubstitutor(values);
+        final StrBuilder template = new StrBuilder();
+        for (int i = 0; template.length() < 50000; i++) {
+            template.append("line ").append(i).append(": ");
+            switch (i % 4) {
+                case 0:
+                    template.append("${animal}");
+                    break;
+                case 1:
+                    template.append("$${target}");
+                    break;
+                case 2:
+                    template.append("${recursive}${unknown}");
+                    break;
+                default:
+                    template.append("no variables");
+                    break;
+            }
+            template.append('\n');
+        }
+        final String source = template.toString();
+        assertEquals(sub.replace(source), replaceStream(sub, new StringReader(source)));
+        assertEquals(sub.replace(source), replaceStream(sub, new TrickleReader(source)));
+    }
+
+    /**
+     * Tests that stream substitution does not look for a suffix indefinitely.
+     */
+    @Test
+    public void testReplaceStreamLongVariable() {
+        final StrSubstitutor sub = new StrSubstitutor(values);
+        final String padding = StringUtils.repeat('x', StrSubstitutor.STREAM_MAX_VARIABLE_LENGTH);
+        final String source = "${" + padding + " ${animal}";
+        assertEquals(source, sub.replace(source));
+        assertEquals("${" + padding + " quick brown fox", replaceStream(sub, new StringReader(source)));
+    }
+
+    /**
+     * Tests that cycles are detected when substituting a stream.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void testReplaceStreamCyclic() {
+        values.put("animal", "${critter}");
+        values.put("critter", "${animal}");
+        replaceStream(new StrSubstitutor(values), new StringReader("The ${animal} jumps."));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testReplaceStreamNullReader() throws IOException {
+        new StrSubstitutor(values).replace((Reader) null, new StringWriter());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testReplaceStreamNullWriter() throws IOException {
+        new StrSubstitutor(values).replace(new StringReader(""), (Writer) null);
+    }
+
     //-----------------------------------------------------------------------
     private void doTestReplace(final String expectedResult, final String replaceTemplate, final boolean substring) {
         final String expectedShortResult = expectedResult.substring(1, expectedResult.length() - 1);
@@ -533,6 +770,12 @@ public class StrSubstitutorTest {
             assertEquals(expectedShortResult, sub.replace(replaceTemplate, 1, replaceTemplate.length() - 2));
         }
 
+        // replace using a compiled template
+        assertEquals(expectedResult, sub.compile(replaceTemplate).render());
+
+        // replace using a stream
+        assertEquals(expectedResult, replaceStream(sub, new StringReader(replaceTemplate)));
+
         // replace using char[]
         final char[] chars = replaceTemplate.toCharArray();
         assertEquals(expectedResult, sub.replace(chars));
@@ -596,6 +839,30 @@ public class StrSubstitutorTest {
         }
     }
 
+    private String replaceStream(final StrSubstitutor sub, final Reader reader) {
+        final StringWriter writer = new StringWriter();
+        try {
+            sub.replace(reader, writer);
+        } catch (final IOException e) {
+            throw new AssertionError(e);
+        }
+        return writer.toString();
+    }
+
+    /**
+     * A reader returning a single character at a time.
+     */
+    private static class TrickleReader extends FilterReader {
+        TrickleReader(final String text) {
+            super(new StringReader(text));
+        }
+
+        @Override
+        public int read(final char[] cbuf, final int off, final int len) throws IOException {
+            return super.read(cbuf, off, Math.min(len, 1));
+        }
+    }
+
     private void doTestNoReplace(final String replaceTemplate) {
         final StrSubstitutor sub = new StrSubstitutor(values);
 
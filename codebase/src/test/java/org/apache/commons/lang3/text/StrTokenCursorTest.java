@@ -0,0 +1,217 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.text;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link StrTokenCursor}.
+ *
+ * @version $Id$
+ */
+public class StrTokenCursorTest {
+
+    private static final String[] INPUTS = {
+        "", " ", "a", "a,b,c", "a,b,c,", ",", ",,", " a , b ,c ", "\"a,b\",c", "\"a\"\"b\",c",
+        "a\"b,c\"d,e", "\"unterminated,a", "  \"a\"  ,b", "\"\"", "\"\",\"\"", "a\tb\tc", "a\t\tb\t",
+        "a;b;c;\"d;\"\"e\";f; ; ;  ", "\"multi\nline\",x\ny,z", "  \t ", "a  b   c"
+    };
+
+    private static List<String> tokens(final StrTokenCursor cursor) throws IOException {
+        final List<String> list = new ArrayList<String>();
+        while (cursor.next()) {
+            list.add(cursor.getTokenString());
+        }
+        assertFalse(cursor.next());
+        return list;
+    }
+
+    private static void assertSameTokens(final StrTokenizer tokenizer, final String input) throws IOException {
+        final List<String> expected = tokenizer.reset(input).getTokenList();
+        assertEquals(input, expected, tokens(tokenizer.cursor(input)));
+        assertEquals(input, expected, tokens(tokenizer.cursor(new StringReader(input))));
+        assertEquals(input, expected, tokens(tokenizer.cursor(new TrickleReader(input))));
+        assertEquals(input, expected, tokens(tokenizer.cursor(new StringBuilder(input))));
+    }
+
+    private static StrTokenizer[] tokenizers() {
+        final StrTokenizer semicolon = new StrTokenizer();
+        semicolon.setDelimiterChar(';');
+        semicolon.setQuoteChar('"');
+        semicolon.setIgnoredMatcher(StrMatcher.trimMatcher());
+        semicolon.setIgnoreEmptyTokens(false);
+        final StrTokenizer nulls = StrTokenizer.getCSVInstance();
+        nulls.setEmptyTokenAsNull(true);
+        final StrTokenizer multiCharQuote = new StrTokenizer();
+        multiCharQuote.setDelimiterString("||");
+        multiCharQuote.setQuoteMatcher(StrMatcher.stringMatcher("''"));
+        multiCharQuote.setIgnoreEmptyTokens(false);
+        return new StrTokenizer[] {
+            new StrTokenizer(), StrTokenizer.getCSVInstance(), StrTokenizer.getTSVInstance(),
+            semicolon, nulls, multiCharQuote
+        };
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void testSameTokensAsTokenizer() throws IOException {
+        for (final StrTokenizer tokenizer : tokenizers()) {
+            for (final String input : INPUTS) {
+                assertSameTokens(tokenizer, input);
+            }
+            assertSameTokens(tokenizer, "a||b||''x||y''''z''||");
+        }
+    }
+
+    @Test
+    public void testLargeInput() throws IOException {
+        final Random random = new Random(42);
+        final StrBuilder buf = new StrBuilder();
+        while (buf.length() < 100000) {
+            switch (random.nextInt(6)) {
+                case 0:
+                    buf.append('"');
+                    for (int i = random.nextInt(20000); i > 0; i--) {
+                        buf.append(",\"\n ab".charAt(random.nextInt(6)));
+                    }
+                    buf.append("\",");
+                    break;
+                case 1:
+                    buf.append("  spaced  ,");
+                    break;
+                case 2:
+                    buf.append(',');
+                    break;
+                case 3:
+                    buf.append("\"\"\"\",");
+                    break;
+                default:
+                    buf.append(random.nextInt()).append(',');
+                    break;
+            }
+        }
+        final String input = buf.toString();
+        for (final StrTokenizer tokenizer : tokenizers()) {
+            final List<String> expected = tokenizer.reset(input).getTokenList();
+            assertEquals(expected, tokens(tokenizer.cursor(new StringReader(input))));
+            assertEquals(expected, tokens(tokenizer.cursor(new TrickleReader(input))));
+            assertEquals(expected, tokens(tokenizer.cursor(input)));
+        }
+    }
+
+    @Test
+    public void testNullInput() throws IOException {
+        assertFalse(StrTokenizer.getCSVInstance().cursor((Reader) null).next());
+        assertFalse(StrTokenizer.getCSVInstance().cursor((CharSequence) null).next());
+    }
+
+    @Test
+    public void testTokenViews() throws IOException {
+        final StrTokenCursor cursor = StrTokenizer.getCSVInstance().cursor(" a , \"b\"\"c\" ,,d");
+        assertNull(cursor.getToken());
+        assertNull(cursor.getTokenString());
+
+        assertTrue(cursor.next());
+        final CharSequence view = cursor.getToken();
+        assertEquals("a", view.toString());
+        assertEquals('a', view.charAt(0));
+        assertEquals("a", new String(cursor.getBuffer(), cursor.getTokenStart(), cursor.getTokenLength()));
+
+        assertTrue(cursor.next());
+        assertSame(view, cursor.getToken());
+        assertEquals(3, view.length());
+        assertEquals("\"c", view.subSequence(1, 3).toString());
+        assertEquals("b\"c", new String(cursor.getBuffer(), cursor.getTokenStart(), cursor.getTokenLength()));
+
+        assertTrue(cursor.next());
+        assertEquals(0, cursor.getToken().length());
+        assertEquals("", cursor.getTokenString());
+
+        assertTrue(cursor.next());
+        assertEquals("d", cursor.getTokenString());
+        assertEquals("StrTokenCursor[d]", cursor.toString());
+
+        assertFalse(cursor.next());
+        assertNull(cursor.getToken());
+        assertEquals(0, cursor.getTokenLength());
+    }
+
+    @Test
+    public void testEmptyTokenAsNull() throws IOException {
+        final StrTokenizer tokenizer = StrTokenizer.getCSVInstance();
+        tokenizer.setEmptyTokenAsNull(true);
+        final StrTokenCursor cursor = tokenizer.cursor("a,,b");
+        assertTrue(cursor.next());
+        assertTrue(cursor.next());
+        assertNull(cursor.getToken());
+        assertNull(cursor.getTokenString());
+        assertTrue(cursor.next());
+        assertEquals("b", cursor.getToken().toString());
+    }
+
+    @Test
+    public void testSettingsCaptured() throws IOException {
+        final StrTokenizer tokenizer = StrTokenizer.getCSVInstance();
+        final StrTokenCursor cursor = tokenizer.cursor("a;b,c");
+        tokenizer.setDelimiterChar(';');
+        assertTrue(cursor.next());
+        assertEquals("a;b", cursor.getTokenString());
+    }
+
+    @Test(expected = StringIndexOutOfBoundsException.class)
+    public void testCharAtOutOfBounds() throws IOException {
+        final StrTokenCursor cursor = StrTokenizer.getCSVInstance().cursor("a,b");
+        cursor.next();
+        cursor.getToken().charAt(1);
+    }
+
+    @Test(expected = StringIndexOutOfBoundsException.class)
+    public void testSubSequenceOutOfBounds() throws IOException {
+        final StrTokenCursor cursor = StrTokenizer.getCSVInstance().cursor("a,b");
+        cursor.next();
+        cursor.getToken().subSequence(0, 2);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * A reader returning a single character at a time.
+     */
+    private static class TrickleReader extends FilterReader {
+        TrickleReader(final String text) {
+            super(new StringReader(text));
+        }
+
+        @Override
+        public int read(final char[] cbuf, final int off, final int len) throws IOException {
+            return super.read(cbuf, off, Math.min(len, 1));
+        }
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.text.translate;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+
+import org.apache.commons.lang3.StringEscapeUtils;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link org.apache.commons.lang3.text.translate.CharSequenceTranslator}.
+ * @version $Id$
+ */
+public class CharSequenceTranslatorTest  {
+
+    /** Translates 'x' to "[x]" and counts how often it is asked to translate. */
+    private static class CountingTranslator extends CharSequenceTranslator {
+        private final boolean skipOthers;
+        int calls;
+
+        CountingTranslator(final boolean skipOthers) {
+            this.skipOthers = skipOthers;
+        }
+
+        @Override
+        public int translate(final CharSequence input, final int index, final Writer out) throws IOException {
+            calls++;
+            if (input.charAt(index) == 'x') {
+                out.write("[x]");
+                return 1;
+            }
+            return 0;
+        }
+
+        @Override
+        protected boolean mayTranslate(final char c) {
+            return !skipOthers || c == 'x';
+        }
+    }
+
+    @Test
+    public void testRunsAreCopied() {
+        final CountingTranslator translator = new CountingTranslator(true);
+        assertEquals("ab[x]cd[x][x]", translator.translate("abxcdxx"));
+        assertEquals(3, translator.calls);
+    }
+
+    @Test
+    public void testRunsAreCopiedFromBuilder() {
+        final CountingTranslator translator = new CountingTranslator(true);
+        assertEquals("ab[x]cd", translator.translate(new StringBuilder("abxcd")));
+        assertEquals(1, translator.calls);
+    }
+
+    @Test
+    public void testDefaultOffersEveryCharacter() {
+        final CountingTranslator translator = new CountingTranslator(false);
+        assertEquals("ab[x]cd", translator.translate("abxcd"));
+        assertEquals(5, translator.calls);
+    }
+
+    @Test
+    public void testNonAsciiIsOffered() {
+        final CountingTranslator translator = new CountingTranslator(true);
+        assertEquals("a\u00e9[x]\ud83d\ude00b", translator.translate("a\u00e9x\ud83d\ude00b"));
+        // \u00e9, x and the surrogate pair
+        assertEquals(3, translator.calls);
+    }
+
+    @Test
+    public void testAggregate() {
+        final CharSequenceTranslator translator = new AggregateTranslator(
+                new CountingTranslator(true), new NumericEntityUnescaper());
+        assertEquals("a[x]b&c", translator.translate("ax&#98;&c"));
+    }
+
+    @Test
+    public void testSubclassOverridingTranslateIsOfferedEveryCharacter() {
+        // written against translate alone, so its superclass's mayTranslate must not be used
+        final CountingTranslator translator = new CountingTranslator(true) {
+            @Override
+            public int translate(final CharSequence input, final int index, final Writer out) throws IOException {
+                if (input.charAt(index) == 'a') {
+                    out.write("[a]");
+                    return 1;
+                }
+                return super.translate(input, index, out);
+            }
+        };
+        assertEquals("[a]b[x]", translator.translate("abx"));
+        assertEquals(2, translator.calls);
+    }
+
+    @Test
+    public void testCodePointSubclassIsOfferedEveryCharacter() {
+        // escapes only non-ASCII, and also 'a'
+        final UnicodeEscaper escapeA = new UnicodeEscaper(0, 127, false) {
+            @Override
+            public boolean translate(final int codepoint, final Writer out) throws IOException {
+                if (codepoint == 'a') {
+                    out.write("\\u0061");
+                    return true;
+                }
+                return super.translate(codepoint, out);
+            }
+        };
+        assertEquals("\\u0061b", escapeA.translate("ab"));
+        assertEquals("\\u0061b", new AggregateTranslator(escapeA).translate("ab"));
+        assertEquals("ab", UnicodeEscaper.above(127).translate("ab"));
+    }
+
+    @Test
+    public void testWriter() throws IOException {
+        final StringWriter out = new StringWriter();
+        new LookupTranslator(EntityArrays.BASIC_ESCAPE()).translate("say <\"hi\"> & bye", out);
+        assertEquals("say &lt;&quot;hi&quot;&gt; &amp; bye", out.toString());
+    }
+
+    /** A Reader that returns at most one character per read, so every boundary is exercised. */
+    private static class TrickleReader extends StringReader {
+        TrickleReader(final String s) {
+            super(s);
+        }
+
+        @Override
+        public int read(final char[] cbuf, final int off, final int len) throws IOException {
+            return super.read(cbuf, off, Math.min(len, 1));
+        }
+    }
+
+    private static String translate(final CharSequenceTranslator translator, final Reader in, final int windowSize)
+            throws IOException {
+        final StringWriter out = new StringWriter();
+        translator.translateStream(in, out, windowSize);
+        return out.toString();
+    }
+
+    @Test
+    public void testReaderMatchesCharSequence() throws IOException {
+        final String xml = "<a href=\"x&y\">caf\u00e9 &amp; 'bar'</a>";
+        final String html = StringEscapeUtils.ESCAPE_HTML4.translate(xml);
+        for (int windowSize = 2; windowSize <= 40; windowSize++) {
+            assertEquals(StringEscapeUtils.ESCAPE_XML.translate(xml),
+                    translate(StringEscapeUtils.ESCAPE_XML, new StringReader(xml), windowSize));
+            assertEquals(StringEscapeUtils.ESCAPE_JAVA.translate(xml),
+                    translate(StringEscapeUtils.ESCAPE_JAVA, new TrickleReader(xml), windowSize));
+        }
+        // entities of up to 8 characters need a window of 16
+        for (int windowSize = 16; windowSize <= 40; windowSize++) {
+            assertEquals(xml, translate(StringEscapeUtils.UNESCAPE_HTML4, new StringReader(html), windowSize));
+            assertEquals(xml, translate(StringEscapeUtils.UNESCAPE_HTML4, new TrickleReader(html), windowSize));
+        }
+    }
+
+    @Test
+    public void testReaderSplitSequences() throws IOException {
+        final String java = "ab\\u00e9cd\\t\\u20ac";
+        for (int windowSize = 12; windowSize <= 20; windowSize++) {
+            assertEquals("ab\u00e9cd\t\u20ac", translate(StringEscapeUtils.UNESCAPE_JAVA, new TrickleReader(java), windowSize));
+        }
+        assertEquals("x&y&\u3039", translate(StringEscapeUtils.UNESCAPE_XML,
+                new TrickleReader("x&amp;y&#38;&#12345;"), 16));
+        assertEquals("\ud83d\ude00&lt;\ud83d\ude00", translate(StringEscapeUtils.ESCAPE_XML,
+                new TrickleReader("\ud83d\ude00<\ud83d\ude00"), 2));
+    }
+
+    @Test
+    public void testReaderLargeInput() throws IOException {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            sb.append("line ").append(i).append(" <&> \"quoted\"\n");
+        }
+        final String text = sb.toString();
+        final StringWriter out = new StringWriter();
+        StringEscapeUtils.ESCAPE_XML.translateStream(new StringReader(text), out);
+        assertEquals(StringEscapeUtils.ESCAPE_XML.translate(text), out.toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testReaderNull() throws IOException {
+        StringEscapeUtils.ESCAPE_XML.translateStream(null, new StringWriter());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testReaderWindowTooSmall() throws IOException {
+        StringEscapeUtils.ESCAPE_XML.translateStream(new StringReader("a"), new StringWriter(), 1);
+    }
+}
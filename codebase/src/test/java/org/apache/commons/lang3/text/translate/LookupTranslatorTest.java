@@ -49,4 +49,48 @@ public class LookupTranslatorTest  {
         assertEquals("Incorrect value", "two", out.toString());
     }
 
+    @Test
+    public void testLongestMatch() throws IOException {
+        final LookupTranslator lt = new LookupTranslator(new CharSequence[][] {
+                { "a", "1" }, { "abc", "3" }, { "abcde", "5" } });
+        StringWriter out = new StringWriter();
+        assertEquals("Incorrect codepoint consumption", 5, lt.translate("abcdef", 0, out));
+        assertEquals("Incorrect value", "5", out.toString());
+
+        // "abcd" is a prefix of a key but not a key itself
+        out = new StringWriter();
+        assertEquals("Incorrect codepoint consumption", 3, lt.translate("xabcdx", 1, out));
+        assertEquals("Incorrect value", "3", out.toString());
+
+        // input ends in the middle of a longer key
+        out = new StringWriter();
+        assertEquals("Incorrect codepoint consumption", 1, lt.translate("ab", 0, out));
+        assertEquals("Incorrect value", "1", out.toString());
+    }
+
+    @Test
+    public void testNoMatch() throws IOException {
+        final LookupTranslator lt = new LookupTranslator(new CharSequence[][] {
+                { "ab", "x" }, { "\u00e9", "&eacute;" }, { "\u20ac", "&euro;" } });
+        final StringWriter out = new StringWriter();
+        assertEquals(0, lt.translate("a", 0, out));
+        assertEquals(0, lt.translate("ba", 0, out));
+        assertEquals(0, lt.translate("ab", 2, out));
+        assertEquals(0, lt.translate("\u20ad", 0, out));
+        assertEquals("", out.toString());
+        assertEquals("x&eacute;&euro;b", lt.translate("ab\u00e9\u20acb"));
+    }
+
+    @Test
+    public void testLastValueWins() {
+        final LookupTranslator lt = new LookupTranslator(new CharSequence[][] { { "a", "1" }, { "a", "2" } });
+        assertEquals("2b", lt.translate("ab"));
+    }
+
+    @Test
+    public void testNullLookup() {
+        final LookupTranslator lt = new LookupTranslator((CharSequence[][]) null);
+        assertEquals("abc", lt.translate("abc"));
+    }
+
 }
@@ -56,6 +56,31 @@ public class FastDateFormatTest {
         assertSame(format1, format2);
     }
 
+    @Test
+    public void test_getSecondCachingInstance() {
+        final TimeZone zone = TimeZone.getTimeZone("America/New_York");
+        final FastDateFormat format1 = FastDateFormat.getSecondCachingInstance("yyyy-MM-dd HH:mm:ss.SSS", zone, Locale.US);
+        final FastDateFormat format2 = FastDateFormat.getSecondCachingInstance("yyyy-MM-dd HH:mm:ss.SSS", zone, Locale.US);
+        final FastDateFormat format3 = FastDateFormat.getInstance("yyyy-MM-dd HH:mm:ss.SSS", zone, Locale.US);
+        assertSame(format1, format2);
+        assertTrue(format1 != format3);
+        assertEquals(format3.format(1364819302123L), format1.format(1364819302123L));
+        assertEquals(format3.format(1364819302999L), format1.format(1364819302999L));
+    }
+
+    @Test
+    public void test_preloadCache() {
+        final TimeZone zone = TimeZone.getTimeZone("Europe/Paris");
+        FastDateFormat.preloadCache(zone, Locale.FRANCE, "yyyy-MM-dd 'preloaded'");
+        final long misses = FastDateFormat.getCacheMissCount();
+        final long hits = FastDateFormat.getCacheHitCount();
+        FastDateFormat.getInstance("yyyy-MM-dd 'preloaded'", zone, Locale.FRANCE);
+        assertEquals(misses, FastDateFormat.getCacheMissCount());
+        assertTrue(FastDateFormat.getCacheHitCount() > hits);
+        assertTrue(FastDateFormat.getCacheEvictionCount() >= 0);
+        assertEquals(FormatCache.DEFAULT_MAX_SIZE, FastDateFormat.getCacheMaxSize());
+    }
+
     @Test
     public void test_getInstance_String() {
         final FastDateFormat format1 = FastDateFormat.getInstance("MM/DD/yyyy");
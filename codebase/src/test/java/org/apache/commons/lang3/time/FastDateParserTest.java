@@ -314,6 +314,85 @@ public class FastDateParserTest {
                 +"\n",expectedTime, actualTime);
     }
 
+    @Test
+    public void testParseMillis() throws ParseException {
+        final String[][] patternsAndDates = {
+            {"yyyy GGGG MMMM dddd aaaa EEEE HHHH mmmm ssss SSSS ZZZZ", "2003 AD February 0010 PM Monday 0015 0033 0020 0989 GMT-05:00"},
+            {"yyyy GGGG MMMM dddd aaaa EEEE HHHH mmmm ssss SSSS ZZZZ", "2003 BC February 0010 PM Saturday 0015 0033 0020 0989 GMT-05:00"},
+            {"y G M d a E H m s S Z", "03 BC 2 10 PM Sat 15 33 20 989 -0500"},
+            {"y G M d a E H m s S Z", "03 AD 2 10 PM Saturday 15 33 20 989 +0530"},
+            {"yyyy-MM-dd hh a mm:ss", "2010-08-01 12 AM 33:20"},
+            {"yyyy-MM-dd KK a mm:ss", "2010-08-01 0 PM 33:20"},
+            {"yyyyMMddHHmmssSSS", "20030210153320989"},
+            {"''yyyyMMdd'A''B'HHmmssSSS''", "'20030210A'B153320989'"},
+            {yMdHmsSZ, "2003-02-10T15:33:20.989 -0500"},
+            {yMdHmsSZ, "2003-02-10T15:33:20.989 +01:00"},
+            {"dd/MMM/yyyy:HH:mm:ss Z", "10/Feb/2003:15:33:20 -0800"},
+            {"EEE, dd MMM yyyy HH:mm:ss zzz", "Mon, 10 Feb 2003 15:33:20 EST"},
+            {"EEE, dd MMM yyyy HH:mm:ss zzz", "Sun, 10 Aug 2003 15:33:20 Eastern Daylight Time"},
+            {"EEE, dd MMM yyyy HH:mm:ss zzz", "Mon, 10 Feb 2003 15:33:20 GMT+01:00"},
+            {"D 'day of' yyyy", "41 day of 2003"},
+        };
+        for (final String[] patternAndDate : patternsAndDates) {
+            final FastDateParser parser = new FastDateParser(patternAndDate[0], NEW_YORK, Locale.US);
+            final String date = patternAndDate[1];
+            assertEquals(patternAndDate[0], parser.parse(date).getTime(), parser.parseMillis(date, 0, date.length()));
+        }
+    }
+
+    @Test
+    public void testParseMillisRegion() throws ParseException {
+        final FastDateParser parser = new FastDateParser("dd/MMM/yyyy:HH:mm:ss Z", NEW_YORK, Locale.US);
+        final StringBuilder line = new StringBuilder("127.0.0.1 - - [10/Feb/2003:15:33:20 -0800] \"GET / HTTP/1.0\" 200");
+        final int from = line.indexOf("[") + 1;
+        final int to = line.indexOf("]");
+        assertEquals(parser.parse("10/Feb/2003:15:33:20 -0800").getTime(), parser.parseMillis(line, from, to));
+    }
+
+    @Test
+    public void testParseMillisLocales() throws ParseException {
+        final Calendar cal= Calendar.getInstance(GMT);
+        cal.clear();
+        cal.set(2003, 1, 10);
+        for(final Locale locale : Locale.getAvailableLocales()) {
+            for(final String format : new String[]{LONG_FORMAT_NOERA, SHORT_FORMAT_NOERA}) {
+                final SimpleDateFormat sdf = new SimpleDateFormat(format, locale);
+                final FastDateParser fdp = new FastDateParser(format, TimeZone.getDefault(), locale);
+                final String formattedDate= sdf.format(cal.getTime());
+                assertEquals(locale.toString()+" "+formattedDate, sdf.parse(formattedDate).getTime(),
+                        fdp.parseMillis(formattedDate, 0, formattedDate.length()));
+            }
+        }
+    }
+
+    @Test
+    public void testParseMillisFailures() {
+        final FastDateParser parser = new FastDateParser(yMdHmsSZ, NEW_YORK, Locale.US);
+        assertParseMillisFails(parser, "2003-02-10 15:33:20.989 -0500", 10);
+        assertParseMillisFails(parser, "2003-02-10T15:33:20.989 -0500 trailing", 29);
+        assertParseMillisFails(parser, "2003-02-10T15:33:20.989", 23);
+        assertParseMillisFails(parser, "2003-02-10T15:33:20.989 XYZ", 24);
+        assertParseMillisFails(parser, "99999999999-02-10T15:33:20.989 -0500", 0);
+        assertParseMillisFails(parser, "", 0);
+        final FastDateParser fixedWidth = new FastDateParser("yyyyMMdd", NEW_YORK, Locale.US);
+        assertParseMillisFails(fixedWidth, "200302", 6);
+        assertParseMillisFails(fixedWidth, "20030x10", 5);
+    }
+
+    private void assertParseMillisFails(final FastDateParser parser, final String date, final int errorOffset) {
+        try {
+            parser.parseMillis(date, 0, date.length());
+            Assert.fail("Expected ParseException for " + date);
+        } catch (final ParseException e) {
+            assertEquals(date, errorOffset, e.getErrorOffset());
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testParseMillisBadRegion() throws ParseException {
+        new FastDateParser(YMD_SLASH, NEW_YORK, Locale.US).parseMillis("2003/02/10", 2, 11);
+    }
+
     @Test
     public void testParseNumerics() throws ParseException {
         final Calendar cal= Calendar.getInstance(NEW_YORK, Locale.US);
@@ -21,13 +21,16 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.io.IOException;
 import java.io.Serializable;
+import java.io.StringWriter;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.Locale;
 import java.util.TimeZone;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.lang3.SerializationUtils;
 import org.junit.Test;
@@ -39,6 +42,7 @@ import org.junit.Test;
  */
 public class FastDatePrinterTest {
     
+    private static final TimeZone INDIA = TimeZone.getTimeZone("Asia/Calcutta");
     private static final String YYYY_MM_DD = "yyyy/MM/dd";
     private static final TimeZone NEW_YORK = TimeZone.getTimeZone("America/New_York");
     private static final Locale SWEDEN = new Locale("sv", "SE");
@@ -262,6 +266,131 @@ public class FastDatePrinterTest {
         assertEquals(NEW_YORK, printer.getTimeZone());
     }
     
+    @Test
+    public void testFormatToBuilderAndArray() throws IOException {
+        final String[] patterns = {"yyyy-MM-dd'T'HH:mm:ss.SSSZZ", "EEE, dd MMM yyyy HH:mm:ss zzz", "G yy M d h K k a S zzzz Z W w D F"};
+        final long[] times = {0L, 1364819302123L, -62135769600000L, 1370000000000L + 999};
+        for (final String pattern : patterns) {
+            final FastDatePrinter printer = new FastDatePrinter(pattern, NEW_YORK, Locale.US);
+            final SimpleDateFormat sdf = new SimpleDateFormat(pattern.replace("ZZ", "XXX"), Locale.US);
+            sdf.setTimeZone(NEW_YORK);
+            for (final long time : times) {
+                final String expected = printer.format(new Date(time), new StringBuffer()).toString();
+                assertEquals(pattern, sdf.format(new Date(time)), expected);
+                assertEquals(expected, printer.format(time));
+                assertEquals("x" + expected, printer.format(time, new StringBuilder("x")).toString());
+                assertEquals(expected, printer.format(new Date(time), new StringBuilder()).toString());
+                assertEquals(expected, printer.format(time, (Appendable) new StringWriter()).toString());
+
+                final char[] dest = new char[expected.length() + 4];
+                assertEquals(expected.length(), printer.format(time, dest, 2));
+                assertEquals(expected, new String(dest, 2, expected.length()));
+            }
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testFormatToArrayTooSmall() {
+        new FastDatePrinter(YYYY_MM_DD, NEW_YORK, Locale.US).format(0L, new char[12], 4);
+    }
+
+    @Test
+    public void testFormatCalendarToBuilder() {
+        final Calendar cal = Calendar.getInstance(INDIA, Locale.US);
+        cal.clear();
+        cal.set(2013, 0, 2, 3, 4, 5);
+        final FastDatePrinter printer = new FastDatePrinter("yyyy/MM/dd HH:mm:ss zzz", NEW_YORK, Locale.US);
+        assertEquals(printer.format(cal), printer.format(cal, new StringBuilder()).toString());
+        assertEquals("2013/01/02 03:04:05 IST", printer.format(cal));
+    }
+
+    @Test
+    public void testSecondCache() {
+        final String[] patterns = {"yyyy-MM-dd'T'HH:mm:ss.SSSZZ", "SSSS 'at' EEEE HH:mm:ss.SSS zzzz", "yyyy-MM-dd HH:mm:ss", "HH:mm:ss.S", "ss.SS"};
+        for (final String pattern : patterns) {
+            final FastDatePrinter plain = new FastDatePrinter(pattern, NEW_YORK, Locale.US);
+            final FastDatePrinter cached = new FastDatePrinter(pattern, NEW_YORK, Locale.US, true);
+            // around a daylight saving change, and before the epoch
+            for (final long start : new long[] {1362898790000L, -5000L}) {
+                for (long time = start; time < start + 20000L; time += 37L) {
+                    final String expected = plain.format(time);
+                    assertEquals(pattern, expected, cached.format(time));
+                    assertEquals(pattern, expected, cached.format(new Date(time)));
+                    assertEquals(pattern, expected, cached.format(time, new StringBuffer()).toString());
+                    assertEquals(pattern, "x" + expected, cached.format(time, new StringBuilder("x")).toString());
+                    final char[] dest = new char[expected.length()];
+                    cached.format(time, dest, 0);
+                    assertEquals(pattern, expected, new String(dest));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testSecondCacheThreads() throws InterruptedException {
+        final String pattern = "yyyy-MM-dd HH:mm:ss.SSS";
+        final FastDatePrinter plain = new FastDatePrinter(pattern, NEW_YORK, Locale.US);
+        final FastDatePrinter cached = new FastDatePrinter(pattern, NEW_YORK, Locale.US, true);
+        final AtomicInteger failures = new AtomicInteger();
+        final Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            final long start = 1364819302123L + t * 1500L;
+            threads[t] = new Thread() {
+                @Override
+                public void run() {
+                    for (long time = start; time < start + 10000L; time += 3L) {
+                        if (!plain.format(time).equals(cached.format(time))) {
+                            failures.incrementAndGet();
+                        }
+                    }
+                }
+            };
+            threads[t].start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(0, failures.get());
+    }
+
+    @Test
+    public void testApplyRulesOverridden() {
+        for (final boolean cacheSecond : new boolean[] {false, true}) {
+            final FastDatePrinter printer = new FastDatePrinter("yyyy.SSS", NEW_YORK, Locale.US, cacheSecond) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected StringBuffer applyRules(final Calendar calendar, final StringBuffer buf) {
+                    return buf.append("HOOK");
+                }
+            };
+            final Calendar cal = Calendar.getInstance(NEW_YORK, Locale.US);
+            assertEquals("HOOK", printer.format(0L));
+            assertEquals("HOOK", printer.format(new Date(0L)));
+            assertEquals("HOOK", printer.format(cal));
+            assertEquals("xHOOK", printer.format(0L, new StringBuffer("x")).toString());
+            assertEquals("xHOOK", printer.format(new Date(0L), new StringBuffer("x")).toString());
+            assertEquals("xHOOK", printer.format(cal, new StringBuffer("x")).toString());
+            assertEquals("xHOOK", printer.format(0L, new StringBuilder("x")).toString());
+            assertEquals("xHOOK", printer.format(cal, new StringBuilder("x")).toString());
+        }
+    }
+
+    @Test
+    public void testApplyRulesToBuilderOverridden() {
+        final FastDatePrinter printer = new FastDatePrinter("yyyy.SSS", NEW_YORK, Locale.US, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected StringBuilder applyRules(final Calendar calendar, final StringBuilder buf) {
+                return buf.append("HOOK");
+            }
+        };
+        assertEquals("HOOK", printer.format(0L));
+        assertEquals("HOOK", printer.format(Calendar.getInstance(NEW_YORK, Locale.US)));
+        assertEquals("xHOOK", printer.format(0L, new StringBuffer("x")).toString());
+    }
+
     @Test
     public void testCalendarTimezoneRespected() {}
 // Defects4J: flaky method
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.time;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.text.SimpleDateFormat;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests {@link FormatCache}.
+ */
+public class FormatCacheTest {
+
+    private static final TimeZone NEW_YORK = TimeZone.getTimeZone("America/New_York");
+
+    private FormatCache<SimpleDateFormat> cache;
+
+    @Before
+    public void setUp() {
+        cache = new FormatCache<SimpleDateFormat>() {
+            @Override
+            protected SimpleDateFormat createInstance(final String pattern, final TimeZone timeZone, final Locale locale) {
+                final SimpleDateFormat format = new SimpleDateFormat(pattern, locale);
+                format.setTimeZone(timeZone);
+                return format;
+            }
+        };
+    }
+
+    @Test
+    public void testStatistics() {
+        assertEquals(FormatCache.DEFAULT_MAX_SIZE, cache.getMaxSize());
+        final SimpleDateFormat format = cache.getInstance("yyyy", NEW_YORK, Locale.US);
+        assertSame(format, cache.getInstance("yyyy", NEW_YORK, Locale.US));
+        assertSame(format, cache.getInstance("yyyy", NEW_YORK, Locale.US));
+        cache.getInstance("yyyy", NEW_YORK, Locale.GERMANY);
+        assertEquals(2, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(0, cache.getEvictionCount());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsed() {
+        cache.setMaxSize(2);
+        final SimpleDateFormat first = cache.getInstance("yyyy", NEW_YORK, Locale.US);
+        final SimpleDateFormat second = cache.getInstance("MM", NEW_YORK, Locale.US);
+        assertSame(first, cache.getInstance("yyyy", NEW_YORK, Locale.US));
+        cache.getInstance("dd", NEW_YORK, Locale.US);
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        assertSame(first, cache.getInstance("yyyy", NEW_YORK, Locale.US));
+        assertNotSame(second, cache.getInstance("MM", NEW_YORK, Locale.US));
+        assertEquals(2, cache.getEvictionCount());
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsedTenth() {
+        cache.setMaxSize(20);
+        final SimpleDateFormat first = cache.getInstance("y'0'", NEW_YORK, Locale.US);
+        for (int i = 1; i <= 20; i++) {
+            cache.getInstance("y'" + i + "'", NEW_YORK, Locale.US);
+        }
+        // formats 0 to 2 go at once, and format 0 was the least recently used
+        assertEquals(18, cache.size());
+        assertEquals(3, cache.getEvictionCount());
+        cache.getInstance("y'21'", NEW_YORK, Locale.US);
+        cache.getInstance("y'22'", NEW_YORK, Locale.US);
+        assertEquals(3, cache.getEvictionCount());
+        assertNotSame(first, cache.getInstance("y'0'", NEW_YORK, Locale.US));
+        assertEquals(18, cache.size());
+        assertEquals(6, cache.getEvictionCount());
+    }
+
+    @Test
+    public void testShrink() {
+        for (int i = 1; i <= 10; i++) {
+            cache.getInstance("y'" + i + "'", NEW_YORK, Locale.US);
+        }
+        cache.setMaxSize(3);
+        assertEquals(3, cache.size());
+        assertEquals(7, cache.getEvictionCount());
+        final long misses = cache.getMissCount();
+        cache.getInstance("y'10'", NEW_YORK, Locale.US);
+        assertEquals(misses, cache.getMissCount());
+    }
+
+    @Test
+    public void testPreload() {
+        cache.preload(NEW_YORK, Locale.US, "yyyy", "MM", "dd");
+        assertEquals(3, cache.size());
+        final long misses = cache.getMissCount();
+        cache.getInstance("MM", NEW_YORK, Locale.US);
+        assertEquals(misses, cache.getMissCount());
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMaxSizeTooSmall() {
+        cache.setMaxSize(0);
+    }
+}